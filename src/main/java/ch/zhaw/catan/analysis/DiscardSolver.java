@@ -0,0 +1,199 @@
+package ch.zhaw.catan.analysis;
+
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Chooses the cards a player discards when the thief is executed, minimising the expected number of rolls until the
+ * player can afford the next {@link Config.Structure}.
+ * <p>
+ * The number of rolls until a structure is affordable is estimated from the expected income per roll, as tracked by
+ * an {@link IncomeTracker}: the missing cards of each {@link Resource} divided by the income of that resource, and the
+ * maximum over the resources. Trades with the bank are not taken into account. Among discards with the same estimate
+ * the solver keeps the cards with the lowest income, which are the hardest to get back.
+ * </p>
+ * <p>
+ * Cards beyond the most expensive cost of a resource do not change the estimate, so the estimate of a hand only
+ * depends on the hand with every resource capped at its most expensive cost. There are fewer than a hundred such
+ * hands; their estimates are memoized until the income changes. A discard is found by enumerating the kept hands,
+ * which takes microseconds for the hands of a real game and does not allocate.
+ * </p>
+ */
+public final class DiscardSolver {
+
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final Config.Structure[] STRUCTURES = Config.Structure.values();
+    private static final int[][] COSTS = new int[STRUCTURES.length][RESOURCES.length];
+    private static final int[] MAX_COSTS = new int[RESOURCES.length];
+    private static final int[] STRIDES = new int[RESOURCES.length];
+    private static final int STATES;
+
+    static {
+        for (Config.Structure structure : STRUCTURES) {
+            for (Resource resource : structure.getCosts()) {
+                COSTS[structure.ordinal()][resource.ordinal()]++;
+            }
+            for (Resource resource : RESOURCES) {
+                MAX_COSTS[resource.ordinal()] = Math.max(MAX_COSTS[resource.ordinal()],
+                        COSTS[structure.ordinal()][resource.ordinal()]);
+            }
+        }
+        int states = 1;
+        for (Resource resource : RESOURCES) {
+            STRIDES[resource.ordinal()] = states;
+            states *= MAX_COSTS[resource.ordinal()] + 1;
+        }
+        STATES = states;
+    }
+
+    private final int[] incomePips = new int[RESOURCES.length];
+    private final boolean[] available = new boolean[STRUCTURES.length];
+    private final double[] rollsPerState = new double[STATES];
+    private final int[] hand = new int[RESOURCES.length];
+    private final int[] discard = new int[RESOURCES.length];
+    private final int[] bestDiscard = new int[RESOURCES.length];
+    private double bestRolls;
+    private double bestRarity;
+
+    /**
+     * Creates a solver for a player without income who can build every {@link Config.Structure}.
+     */
+    public DiscardSolver() {
+        Arrays.fill(available, true);
+        Arrays.fill(rollsPerState, Double.NaN);
+    }
+
+    /**
+     * Sets the expected income of the player.
+     *
+     * @param incomePips the income in pips per {@link Resource}, indexed by its ordinal, see
+     *                   {@link IncomeTracker#getIncomePips(int, Resource)}
+     */
+    public void setIncome(final int[] incomePips) {
+        requireNonNull(incomePips, "incomePips must not be null");
+        if (!Arrays.equals(this.incomePips, incomePips)) {
+            System.arraycopy(incomePips, 0, this.incomePips, 0, RESOURCES.length);
+            Arrays.fill(rollsPerState, Double.NaN);
+        }
+    }
+
+    /**
+     * Sets whether the player can still build a {@link Config.Structure}, e.g. because there are some left in stock.
+     *
+     * @param structure the structure
+     * @param canBuild  whether the player can build the structure
+     */
+    public void setAvailable(final Config.Structure structure, final boolean canBuild) {
+        if (available[structure.ordinal()] != canBuild) {
+            available[structure.ordinal()] = canBuild;
+            Arrays.fill(rollsPerState, Double.NaN);
+        }
+    }
+
+    /**
+     * Returns the expected number of rolls until the player can afford the cheapest available {@link Config.Structure}
+     * with the given hand.
+     *
+     * @param cards the number of cards per {@link Resource}, indexed by its ordinal
+     * @return the number of rolls or {@link Double#POSITIVE_INFINITY} if no structure can be afforded without trades
+     */
+    public double getExpectedRolls(final int[] cards) {
+        int state = 0;
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            state += Math.min(cards[resource], MAX_COSTS[resource]) * STRIDES[resource];
+        }
+        return getExpectedRolls(state);
+    }
+
+    /**
+     * Chooses the cards to discard.
+     *
+     * @param cards  the number of cards per {@link Resource} of the player, indexed by its ordinal
+     * @param count  the number of cards to discard
+     * @param result receives the number of cards to discard per {@link Resource}, indexed by its ordinal
+     */
+    public void solve(final int[] cards, final int count, final int[] result) {
+        int total = 0;
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            hand[resource] = cards[resource];
+            total += cards[resource];
+        }
+        if (count < 0 || count > total) {
+            throw new IllegalArgumentException("count must be between 0 and the number of cards");
+        }
+        bestRolls = Double.NaN;
+        bestRarity = Double.NEGATIVE_INFINITY;
+        search(0, count, total, 0, 0);
+        System.arraycopy(bestDiscard, 0, result, 0, RESOURCES.length);
+    }
+
+    /**
+     * Assigns the number of discarded cards of one {@link Resource} after the other.
+     *
+     * @param resource  the resource to assign
+     * @param remaining the number of cards still to discard
+     * @param cardsLeft the number of cards of this and the following resources
+     * @param state     the capped kept hand of the preceding resources
+     * @param rarity    the rarity of the kept cards of the preceding resources
+     */
+    private void search(final int resource, final int remaining, final int cardsLeft, final int state,
+                        final double rarity) {
+        if (resource == RESOURCES.length) {
+            evaluate(state, rarity);
+            return;
+        }
+        final int cards = hand[resource];
+        final int minDiscard = Math.max(0, remaining - (cardsLeft - cards));
+        final int maxDiscard = Math.min(cards, remaining);
+        for (int discarded = minDiscard; discarded <= maxDiscard; discarded++) {
+            final int kept = cards - discarded;
+            discard[resource] = discarded;
+            search(resource + 1, remaining - discarded, cardsLeft - cards,
+                    state + Math.min(kept, MAX_COSTS[resource]) * STRIDES[resource],
+                    rarity + (double) kept / (incomePips[resource] + 1));
+        }
+    }
+
+    private void evaluate(final int state, final double rarity) {
+        final double rolls = getExpectedRolls(state);
+        if (Double.isNaN(bestRolls) || rolls < bestRolls || (rolls == bestRolls && rarity > bestRarity)) {
+            bestRolls = rolls;
+            bestRarity = rarity;
+            System.arraycopy(discard, 0, bestDiscard, 0, RESOURCES.length);
+        }
+    }
+
+    private double getExpectedRolls(final int state) {
+        double rolls = rollsPerState[state];
+        if (Double.isNaN(rolls)) {
+            rolls = computeExpectedRolls(state);
+            rollsPerState[state] = rolls;
+        }
+        return rolls;
+    }
+
+    private double computeExpectedRolls(final int state) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int structure = 0; structure < STRUCTURES.length; structure++) {
+            if (!available[structure]) {
+                continue;
+            }
+            double rolls = 0;
+            for (int resource = 0; resource < RESOURCES.length; resource++) {
+                final int kept = state / STRIDES[resource] % (MAX_COSTS[resource] + 1);
+                final int missing = COSTS[structure][resource] - kept;
+                if (missing > 0) {
+                    rolls = Math.max(rolls, incomePips[resource] == 0 ? Double.POSITIVE_INFINITY
+                            : (double) missing * IncomeTable.OUTCOMES / incomePips[resource]);
+                }
+            }
+            best = Math.min(best, rolls);
+        }
+        return best;
+    }
+
+}
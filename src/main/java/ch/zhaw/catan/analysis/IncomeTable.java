@@ -0,0 +1,185 @@
+package ch.zhaw.catan.analysis;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.Field;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Expected production of the fields and corners of a board, computed once per board from the distribution of the sum
+ * of two dice.
+ * <p>
+ * Production is measured in pips: the number of the 36 equally likely outcomes of two dice which make a field
+ * produce. A field with the number 6 or 8 has five pips, a field with the number 2 or 12 has one pip. The expected
+ * number of cards a field yields per roll for a settlement is its pips divided by {@link #OUTCOMES}, so all values are
+ * kept as exact integers. The pips of a corner are the sums of the pips of its fields per {@link Resource}.
+ * Instances are immutable and can be shared by all games on boards with the same layout.
+ * </p>
+ */
+public final class IncomeTable {
+
+    /**
+     * The number of equally likely outcomes of two dice.
+     */
+    public static final int OUTCOMES = 36;
+
+    private static final int THIEF_DICE_NUMBER = 7;
+    private static final int MIN_DICE_NUMBER = 2;
+    private static final int MAX_DICE_NUMBER = 12;
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final IncomeTable STANDARD = of(new SiedlerBoard());
+
+    private final BoardTopology topology;
+    private final BoardLayout layout;
+    private final int[] fieldPips;
+    private final int[] fieldResources;
+    private final int[] cornerPips;
+    private final int[] cornerTotalPips;
+
+    private IncomeTable(final BoardLayout layout) {
+        this.layout = layout;
+        topology = layout.getTopology();
+        fieldPips = new int[topology.getFieldCount()];
+        fieldResources = new int[topology.getFieldCount()];
+        cornerPips = new int[topology.getCornerCount() * RESOURCES.length];
+        cornerTotalPips = new int[topology.getCornerCount()];
+    }
+
+    /**
+     * Computes the table of a board from the dice numbers of its fields. Only the layout of the board is used, not its
+     * structures or the position of the thief. Boards with the standard {@link BoardLayout} share the
+     * {@link #getStandard() standard table}.
+     *
+     * @param board the board
+     * @return the table
+     */
+    public static IncomeTable of(final SiedlerBoard board) {
+        requireNonNull(board, "board must not be null");
+        if (STANDARD != null && board.getLayout() == BoardLayout.getStandard()) {
+            return STANDARD;
+        }
+        final IncomeTable table = new IncomeTable(board.getLayout());
+        final BoardTopology topology = table.topology;
+        Arrays.fill(table.fieldResources, -1);
+        for (int diceNumber = MIN_DICE_NUMBER; diceNumber <= MAX_DICE_NUMBER; diceNumber++) {
+            if (diceNumber == THIEF_DICE_NUMBER) {
+                continue;
+            }
+            for (Field field : board.getFieldsForDiceValue(diceNumber)) {
+                final Resource resource = field.getLand().getResource();
+                if (resource == null) {
+                    continue;
+                }
+                final int fieldIndex = topology.getFieldIndex(field.getPosition());
+                final int pips = getPips(diceNumber);
+                table.fieldPips[fieldIndex] = pips;
+                table.fieldResources[fieldIndex] = resource.ordinal();
+                for (int corner : topology.getCornersOfField(fieldIndex)) {
+                    table.cornerPips[corner * RESOURCES.length + resource.ordinal()] += pips;
+                    table.cornerTotalPips[corner] += pips;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the shared table of the standard board.
+     *
+     * @return the standard table
+     */
+    public static IncomeTable getStandard() {
+        return STANDARD;
+    }
+
+    /**
+     * Returns the number of the 36 outcomes of two dice whose sum is the given dice number, or 0 for the number of the
+     * thief, which never produces.
+     *
+     * @param diceNumber the dice number between 2 and 12
+     * @return the pips
+     */
+    public static int getPips(final int diceNumber) {
+        if (diceNumber < MIN_DICE_NUMBER || diceNumber > MAX_DICE_NUMBER) {
+            throw new IllegalArgumentException("diceNumber must be between 2 and 12");
+        }
+        return diceNumber == THIEF_DICE_NUMBER ? 0 : THIEF_DICE_NUMBER - Math.abs(THIEF_DICE_NUMBER - diceNumber) - 1;
+    }
+
+    /**
+     * Returns the {@link BoardLayout} this table has been computed from.
+     *
+     * @return the layout
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the {@link BoardTopology} whose indices this table uses.
+     *
+     * @return the topology
+     */
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the pips of a field, which are 0 for fields without a {@link Resource}.
+     *
+     * @param field the {@link BoardTopology} index of the field
+     * @return the pips
+     */
+    public int getFieldPips(final int field) {
+        return fieldPips[field];
+    }
+
+    /**
+     * Returns the {@link Resource} a field produces.
+     *
+     * @param field the {@link BoardTopology} index of the field
+     * @return the resource or null if the field produces nothing
+     */
+    public Resource getFieldResource(final int field) {
+        return fieldResources[field] < 0 ? null : RESOURCES[fieldResources[field]];
+    }
+
+    /**
+     * Returns the pips of a corner for one {@link Resource}.
+     *
+     * @param corner   the {@link BoardTopology} index of the corner
+     * @param resource the resource
+     * @return the pips
+     */
+    public int getCornerPips(final int corner, final Resource resource) {
+        return cornerPips[corner * RESOURCES.length + resource.ordinal()];
+    }
+
+    /**
+     * Returns the pips of a corner summed over all {@link Resource}s.
+     *
+     * @param corner the {@link BoardTopology} index of the corner
+     * @return the pips
+     */
+    public int getCornerPips(final int corner) {
+        return cornerTotalPips[corner];
+    }
+
+    /**
+     * Returns the expected number of cards of a {@link Resource} a settlement on the corner receives per roll while
+     * the thief is on none of its fields.
+     *
+     * @param corner   the {@link BoardTopology} index of the corner
+     * @param resource the resource
+     * @return the expected number of cards per roll
+     */
+    public double getExpectedIncome(final int corner, final Resource resource) {
+        return (double) getCornerPips(corner, resource) / OUTCOMES;
+    }
+
+}
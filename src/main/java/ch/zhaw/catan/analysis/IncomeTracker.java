@@ -0,0 +1,204 @@
+package ch.zhaw.catan.analysis;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.GameLog;
+import ch.zhaw.catan.game.GameLogEntry;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+import ch.zhaw.catan.structure.Structure;
+
+import java.awt.Point;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks the expected income per roll of every {@link Player} of a {@link SiedlerGame}: the pips of the corners with
+ * their settlements and cities, where a city counts twice, minus the pips of the field blocked by the thief.
+ * <p>
+ * The income is computed once from the board and then kept up to date incrementally: every query first reads the
+ * entries appended to the {@link GameLog} since the previous query, and each new structure or thief move changes only
+ * the values of the affected corners. A query without changes in between costs an array access. Like with the
+ * {@link IncomeTable}, values are exact pips out of {@link IncomeTable#OUTCOMES}. Cards the {@link ch.zhaw.catan.game.Bank}
+ * cannot pay out are not taken into account. The tracker must be used by the thread that changes the game or while
+ * the game is not changed.
+ * </p>
+ */
+public final class IncomeTracker {
+
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final SiedlerBoard board;
+    private final IncomeTable table;
+    private final GameLog.Reader reader;
+    private final int[] cornerAmounts;
+    private final byte[] cornerOwners;
+    private final int[] incomePips;
+    private int thiefField;
+
+    /**
+     * Creates a tracker computing the {@link IncomeTable} of the board of the game.
+     *
+     * @param game the game
+     */
+    public IncomeTracker(final SiedlerGame game) {
+        this(game, IncomeTable.of(requireNonNull(game, "game must not be null").getBoard()));
+    }
+
+    /**
+     * Creates a tracker using a shared {@link IncomeTable}, which must have been computed for a board with the same
+     * layout as the board of the game.
+     *
+     * @param game  the game
+     * @param table the table
+     */
+    public IncomeTracker(final SiedlerGame game, final IncomeTable table) {
+        requireNonNull(game, "game must not be null");
+        this.table = requireNonNull(table, "table must not be null");
+        board = game.getBoard();
+        if (board.getTopology() != table.getTopology()) {
+            throw new IllegalArgumentException("table must have been computed for the board of the game");
+        }
+        reader = game.getLog().reader();
+        reader.skipToEnd();
+
+        final BoardTopology topology = board.getTopology();
+        cornerAmounts = new int[topology.getCornerCount()];
+        cornerOwners = new byte[topology.getCornerCount()];
+        incomePips = new int[game.getCurrentPlayers().size() * RESOURCES.length];
+        thiefField = board.getThiefField();
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            final Structure structure = board.getCorner(corner);
+            if (structure != null) {
+                changeAmount(corner, structure.getFaction().ordinal(), structure.getAmountPerResource());
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link IncomeTable} of the board.
+     *
+     * @return the table
+     */
+    public IncomeTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the number of the 36 outcomes of two dice weighted by the cards of a {@link Resource} a player receives.
+     *
+     * @param player   the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @param resource the resource
+     * @return the income in pips
+     */
+    public int getIncomePips(final int player, final Resource resource) {
+        update();
+        return incomePips[player * RESOURCES.length + resource.ordinal()];
+    }
+
+    /**
+     * Returns the income in pips of a player summed over all {@link Resource}s.
+     *
+     * @param player the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @return the income in pips
+     */
+    public int getTotalIncomePips(final int player) {
+        update();
+        int total = 0;
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            total += incomePips[player * RESOURCES.length + resource];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the expected number of cards of a {@link Resource} a player receives per roll.
+     *
+     * @param player   the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @param resource the resource
+     * @return the expected number of cards per roll
+     */
+    public double getExpectedIncome(final int player, final Resource resource) {
+        return (double) getIncomePips(player, resource) / IncomeTable.OUTCOMES;
+    }
+
+    /**
+     * Returns the expected number of cards per roll of a player for all {@link Resource}s, indexed by their ordinal.
+     *
+     * @param player the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @return the expected numbers of cards per roll
+     */
+    public double[] getExpectedIncome(final int player) {
+        update();
+        final double[] income = new double[RESOURCES.length];
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            income[resource] = (double) incomePips[player * RESOURCES.length + resource] / IncomeTable.OUTCOMES;
+        }
+        return income;
+    }
+
+    private void update() {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case INITIAL_SETTLEMENT_PLACED, SETTLEMENT_BUILT, CITY_BUILT -> structureBuilt();
+                case THIEF_MOVED -> thiefMoved();
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void structureBuilt() {
+        final int corner = board.getTopology().getCornerIndex(new Point(reader.getArgument(1), reader.getArgument(2)));
+        final Structure structure = board.getCorner(corner);
+        changeAmount(corner, reader.getArgument(0), structure.getAmountPerResource() - cornerAmounts[corner]);
+    }
+
+    private void thiefMoved() {
+        final int field = board.getTopology().getFieldIndex(new Point(reader.getArgument(0), reader.getArgument(1)));
+        changeThiefIncome(1);
+        thiefField = field;
+        changeThiefIncome(-1);
+    }
+
+    private void changeAmount(final int corner, final int owner, final int amount) {
+        cornerAmounts[corner] += amount;
+        cornerOwners[corner] = (byte) owner;
+        final int offset = owner * RESOURCES.length;
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            incomePips[offset + resource] += amount * table.getCornerPips(corner, RESOURCES[resource]);
+        }
+        if (thiefField >= 0 && isCornerOfField(corner, thiefField)) {
+            addFieldIncome(thiefField, owner, -amount);
+        }
+    }
+
+    private void changeThiefIncome(final int sign) {
+        if (thiefField < 0) {
+            return;
+        }
+        for (int corner : board.getTopology().getCornersOfField(thiefField)) {
+            if (cornerAmounts[corner] > 0) {
+                addFieldIncome(thiefField, cornerOwners[corner], sign * cornerAmounts[corner]);
+            }
+        }
+    }
+
+    private void addFieldIncome(final int field, final int owner, final int amount) {
+        final Resource resource = table.getFieldResource(field);
+        if (resource != null) {
+            incomePips[owner * RESOURCES.length + resource.ordinal()] += amount * table.getFieldPips(field);
+        }
+    }
+
+    private boolean isCornerOfField(final int corner, final int field) {
+        for (int fieldCorner : board.getTopology().getCornersOfField(field)) {
+            if (fieldCorner == corner) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,348 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Land;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link Land} and the dice number of every field of a board.
+ * <p>
+ * Fields are identified by their index in the {@link BoardTopology}. Fields without a dice number, like water, have the
+ * number 0. The desert has the number of the thief, like in {@link Config#getStandardDiceNumberPlacement()}, and is
+ * where the thief starts. Each field is stored as a single byte with the ordinal of its {@link Land} in the upper and
+ * its dice number in the lower four bits, which is also the serialized format. Instances are immutable and can be
+ * shared by any number of boards, together with the {@link Field}s they create.
+ * </p>
+ */
+public final class BoardLayout {
+
+    static final int THIEF_DICE_NUMBER = 7;
+    static final int MAX_DICE_NUMBER = 12;
+
+    private static final int NUMBER_BITS = 4;
+    private static final int NUMBER_MASK = 0x0F;
+    private static final Land[] LANDS = Land.values();
+    private static final int[] NO_FIELDS = new int[0];
+    private static final BoardLayout STANDARD = new BoardLayout(Config.getStandardLandPlacement(),
+            Config.getStandardDiceNumberPlacement());
+
+    private final BoardTopology topology;
+    private final byte[] fields;
+    private final int thiefField;
+    private final int[][] fieldsPerDiceNumber;
+    private final SharedFields sharedFields;
+
+    /**
+     * Creates a layout from the {@link Land} and dice number per field position.
+     *
+     * @param lands       the {@link Land} of every field
+     * @param diceNumbers the dice number of every field with a number
+     * @throws IllegalArgumentException if the layout does not have exactly one desert, the dice numbers are not
+     *                                  between 2 and 12 or belong to positions without {@link Land}
+     */
+    public BoardLayout(final Map<Point, Land> lands, final Map<Point, Integer> diceNumbers) {
+        requireNonNull(lands, "lands must not be null");
+        requireNonNull(diceNumbers, "diceNumbers must not be null");
+        topology = lands.keySet().equals(Config.getStandardLandPlacement().keySet())
+                ? BoardTopology.getStandard() : new BoardTopology(lands.keySet());
+        fields = new byte[topology.getFieldCount()];
+        for (int field = 0; field < fields.length; field++) {
+            final Point position = topology.getField(field);
+            final int diceNumber = diceNumbers.getOrDefault(position, 0);
+            if (diceNumber != 0 && (diceNumber < 2 || diceNumber > 12)) {
+                throw new IllegalArgumentException("Invalid dice number " + diceNumber + " at " + position);
+            }
+            fields[field] = encode(requireNonNull(lands.get(position), "land must not be null"), diceNumber);
+        }
+        if (!lands.keySet().containsAll(diceNumbers.keySet())) {
+            throw new IllegalArgumentException("Dice numbers must belong to fields");
+        }
+        thiefField = findDesert(topology, fields);
+        fieldsPerDiceNumber = indexDiceNumbers(fields);
+        sharedFields = new SharedFields(topology, fields, fieldsPerDiceNumber);
+    }
+
+    /**
+     * Creates a layout from encoded fields, which must not be modified afterwards.
+     *
+     * @param topology the {@link BoardTopology}
+     * @param fields   the encoded field per {@link BoardTopology} index
+     */
+    BoardLayout(final BoardTopology topology, final byte[] fields) {
+        this.topology = topology;
+        this.fields = fields;
+        thiefField = findDesert(topology, fields);
+        fieldsPerDiceNumber = indexDiceNumbers(fields);
+        sharedFields = new SharedFields(topology, fields, fieldsPerDiceNumber);
+    }
+
+    /**
+     * Returns the shared layout of the standard board defined by {@link Config#getStandardLandPlacement()} and
+     * {@link Config#getStandardDiceNumberPlacement()}.
+     *
+     * @return the standard layout
+     */
+    public static BoardLayout getStandard() {
+        return STANDARD;
+    }
+
+    /**
+     * Returns the {@link BoardTopology} whose indices this layout uses.
+     *
+     * @return the topology
+     */
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the {@link Land} of a field.
+     *
+     * @param field the {@link BoardTopology} index of the field
+     * @return the {@link Land}
+     */
+    public Land getLand(final int field) {
+        return LANDS[(fields[field] & 0xFF) >>> NUMBER_BITS];
+    }
+
+    /**
+     * Returns the dice number of a field.
+     *
+     * @param field the {@link BoardTopology} index of the field
+     * @return the dice number or 0 if the field has none
+     */
+    public int getDiceNumber(final int field) {
+        return fields[field] & NUMBER_MASK;
+    }
+
+    /**
+     * Returns the fields with the given dice number in the order of their indices. The returned array is shared and
+     * must not be modified.
+     *
+     * @param diceNumber the dice number
+     * @return the {@link BoardTopology} indices of the fields, which are none for numbers without fields
+     */
+    public int[] getFieldsWithDiceNumber(final int diceNumber) {
+        return diceNumber > 0 && diceNumber <= MAX_DICE_NUMBER ? fieldsPerDiceNumber[diceNumber] : NO_FIELDS;
+    }
+
+    /**
+     * Returns the {@link Field} with the given index. The {@link Field}s are created once per layout and shared by
+     * all boards using it.
+     *
+     * @param field the {@link BoardTopology} index of the field
+     * @return the {@link Field}
+     */
+    Field getField(final int field) {
+        return sharedFields.fields[field];
+    }
+
+    /**
+     * Returns the {@link Field}s with the given dice number in the order of their indices. The returned list is shared
+     * and cannot be modified.
+     *
+     * @param diceNumber the dice number
+     * @return the {@link Field}s, which are none for numbers without fields
+     */
+    List<Field> getFieldsForDiceNumber(final int diceNumber) {
+        return diceNumber > 0 && diceNumber <= MAX_DICE_NUMBER
+                ? sharedFields.fieldsPerDiceNumber.get(diceNumber) : List.of();
+    }
+
+    /**
+     * Returns the field of the desert, where the thief starts.
+     *
+     * @return the {@link BoardTopology} index of the field
+     */
+    public int getThiefField() {
+        return thiefField;
+    }
+
+    /**
+     * Returns the {@link Land} per field position.
+     *
+     * @return the unmodifiable mapping
+     */
+    public Map<Point, Land> getLandPlacement() {
+        final Map<Point, Land> lands = new HashMap<>();
+        for (int field = 0; field < fields.length; field++) {
+            lands.put(topology.getField(field), getLand(field));
+        }
+        return Collections.unmodifiableMap(lands);
+    }
+
+    /**
+     * Returns the dice number per field position of all fields with a dice number.
+     *
+     * @return the unmodifiable mapping
+     */
+    public Map<Point, Integer> getDiceNumberPlacement() {
+        final Map<Point, Integer> diceNumbers = new HashMap<>();
+        for (int field = 0; field < fields.length; field++) {
+            if (getDiceNumber(field) != 0) {
+                diceNumbers.put(topology.getField(field), getDiceNumber(field));
+            }
+        }
+        return Collections.unmodifiableMap(diceNumbers);
+    }
+
+    /**
+     * Writes this layout to the given {@link ByteBuffer}: one byte per field.
+     *
+     * @param buffer the {@link ByteBuffer} to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put(fields);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} writes, which is the number of fields.
+     *
+     * @return the number of bytes
+     */
+    public int getSerializedSize() {
+        return fields.length;
+    }
+
+    /**
+     * Reads a layout previously written with {@link #writeTo(ByteBuffer)} from the given {@link ByteBuffer}.
+     *
+     * @param buffer   the {@link ByteBuffer} to read from
+     * @param topology the {@link BoardTopology} of the board
+     * @return the layout
+     * @throws IllegalArgumentException if the buffer does not contain a valid layout
+     */
+    public static BoardLayout readFrom(final ByteBuffer buffer, final BoardTopology topology) {
+        requireNonNull(topology, "topology must not be null");
+        final byte[] fields = new byte[topology.getFieldCount()];
+        try {
+            buffer.get(fields);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Board layout is truncated", e);
+        }
+        for (byte field : fields) {
+            final int number = field & NUMBER_MASK;
+            if ((field & 0xFF) >>> NUMBER_BITS >= LANDS.length || number == 1 || number > 12) {
+                throw new IllegalArgumentException("Invalid board layout field: " + field);
+            }
+        }
+        return Arrays.equals(fields, STANDARD.fields) && topology == STANDARD.topology
+                ? STANDARD : new BoardLayout(topology, fields);
+    }
+
+    /**
+     * Returns whether the other object is a layout with the same fields.
+     *
+     * @param other the other object
+     * @return true if the layouts are equal
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BoardLayout)) {
+            return false;
+        }
+        final BoardLayout layout = (BoardLayout) other;
+        return Arrays.equals(fields, layout.fields) && (topology == layout.topology
+                || topology.getFieldCount() == layout.topology.getFieldCount()
+                && Arrays.equals(getPositions(topology), getPositions(layout.topology)));
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fields);
+    }
+
+    static byte encode(final Land land, final int diceNumber) {
+        return (byte) (land.ordinal() << NUMBER_BITS | diceNumber);
+    }
+
+    private static Point[] getPositions(final BoardTopology topology) {
+        final Point[] positions = new Point[topology.getFieldCount()];
+        for (int field = 0; field < positions.length; field++) {
+            positions[field] = topology.getField(field);
+        }
+        return positions;
+    }
+
+    private static int[][] indexDiceNumbers(final byte[] fields) {
+        final int[] counts = new int[MAX_DICE_NUMBER + 1];
+        for (byte field : fields) {
+            counts[field & NUMBER_MASK]++;
+        }
+        final int[][] index = new int[MAX_DICE_NUMBER + 1][];
+        for (int number = 0; number <= MAX_DICE_NUMBER; number++) {
+            index[number] = counts[number] == 0 ? NO_FIELDS : new int[counts[number]];
+            counts[number] = 0;
+        }
+        for (int field = 0; field < fields.length; field++) {
+            final int number = fields[field] & NUMBER_MASK;
+            index[number][counts[number]++] = field;
+        }
+        return index;
+    }
+
+    private static int findDesert(final BoardTopology topology, final byte[] fields) {
+        int desert = -1;
+        for (int field = 0; field < fields.length; field++) {
+            if ((fields[field] & 0xFF) >>> NUMBER_BITS == Land.DESERT.ordinal()) {
+                if (desert >= 0) {
+                    throw new IllegalArgumentException("Board layout must have exactly one desert");
+                }
+                desert = field;
+            }
+        }
+        if (desert < 0) {
+            throw new IllegalArgumentException("Board layout must have exactly one desert");
+        }
+        return desert;
+    }
+
+    /**
+     * The {@link Field}s of a layout, indexed by field and by dice number. They are created with the layout, so all
+     * boards using it share the same instances.
+     */
+    private static final class SharedFields {
+
+        private final Field[] fields;
+        private final List<List<Field>> fieldsPerDiceNumber;
+
+        private SharedFields(final BoardTopology topology, final byte[] encodedFields,
+                             final int[][] fieldsPerDiceNumberIndex) {
+            fields = new Field[encodedFields.length];
+            for (int field = 0; field < fields.length; field++) {
+                fields[field] = new Field(LANDS[(encodedFields[field] & 0xFF) >>> NUMBER_BITS],
+                        topology.getField(field));
+            }
+            final Field[][] fieldsPerDiceNumber = new Field[MAX_DICE_NUMBER + 1][];
+            for (int number = 0; number <= MAX_DICE_NUMBER; number++) {
+                final int[] numberFields = fieldsPerDiceNumberIndex[number];
+                fieldsPerDiceNumber[number] = new Field[numberFields.length];
+                for (int i = 0; i < numberFields.length; i++) {
+                    fieldsPerDiceNumber[number][i] = fields[numberFields[i]];
+                }
+            }
+            this.fieldsPerDiceNumber = Arrays.stream(fieldsPerDiceNumber).map(List::of).toList();
+        }
+
+    }
+
+}
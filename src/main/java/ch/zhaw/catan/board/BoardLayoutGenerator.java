@@ -0,0 +1,321 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config.Land;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates random {@link BoardLayout}s which keep the game fair.
+ * <p>
+ * A layout is generated by shuffling the {@link Land}s of a template layout over its land fields and its dice numbers
+ * over the land fields except the desert, which keeps the number of the thief and where the thief starts. Only layouts
+ * which satisfy two constraints are returned:
+ * </p>
+ * <ul>
+ * <li>No two fields with a 6 or an 8, the numbers that are rolled most often, are adjacent.</li>
+ * <li>Every {@link Resource} gets its fair share of pips, the number of the 36 outcomes of two dice which make a field
+ * produce, up to a maximum deviation: a resource with a quarter of the producing fields gets a quarter of the pips.</li>
+ * </ul>
+ * <p>
+ * The first constraint only depends on the field of the desert and the fields of the numbers, the second one only on
+ * which {@link Land} is paired with which number. A layout is therefore drawn in two independent steps, each repeated
+ * until its constraint holds: first the desert and the numbers are placed, then the other lands are paired with the
+ * numbers. This returns every valid layout with the same probability, like rejecting whole layouts would, but needs
+ * far fewer shuffles. The adjacency of the land fields is stored as one bit mask per field, so a generator produces
+ * several hundred thousand layouts per second. The sequence of layouts only depends on the seed.
+ * </p>
+ */
+public final class BoardLayoutGenerator {
+
+    /**
+     * The default maximum deviation in pips of the pips of a {@link Resource} from its fair share.
+     */
+    public static final int DEFAULT_MAX_PIP_DEVIATION = 2;
+
+    /**
+     * The smallest number of rows and columns of a map generated by {@link #generateMap(int, int, long)}: one row or
+     * column of land surrounded by water.
+     */
+    public static final int MIN_MAP_SIZE = 3;
+
+    /**
+     * The maximum number of shuffles of each step of {@link #next()}. The standard layout needs a few dozen, so
+     * reaching it means that the template or the maximum deviation cannot be satisfied.
+     */
+    public static final int MAX_ATTEMPTS = 100_000;
+
+    private static final int SHARED_CORNERS_OF_NEIGHBOURS = 2;
+    private static final int FIELD_ROW_DISTANCE = 3;
+    private static final int FIELD_COLUMN_DISTANCE = 2;
+    private static final int MOST_FREQUENT_BELOW_THIEF = 6;
+    private static final int MOST_FREQUENT_ABOVE_THIEF = 8;
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final BoardLayout template;
+    private final int maxPipDeviation;
+    private final SplittableRandom random;
+    private final int[] landFields;
+    private final long[] neighbours;
+    private final Land[] lands;
+    private final int[] numbers;
+    private final int desertNumber;
+    private final int totalPips;
+    private final int[] pipsPerResource = new int[RESOURCES.length];
+    private final int[] fieldsPerResource = new int[RESOURCES.length];
+    private int desertSlot;
+
+    /**
+     * Creates a generator shuffling the standard layout with {@link #DEFAULT_MAX_PIP_DEVIATION}.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public BoardLayoutGenerator(final long seed) {
+        this(BoardLayout.getStandard(), seed, DEFAULT_MAX_PIP_DEVIATION);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param template        the layout whose {@link Land}s and dice numbers are shuffled
+     * @param seed            the seed of the random number generator
+     * @param maxPipDeviation the maximum deviation in pips of the pips of a {@link Resource} from its fair share
+     * @throws IllegalArgumentException if the deviation is negative or the template has more than 64 land fields or
+     *                                  a land field without a {@link Resource} other than the desert
+     */
+    public BoardLayoutGenerator(final BoardLayout template, final long seed, final int maxPipDeviation) {
+        this.template = requireNonNull(template, "template must not be null");
+        if (maxPipDeviation < 0) {
+            throw new IllegalArgumentException("maxPipDeviation must not be negative");
+        }
+        this.maxPipDeviation = maxPipDeviation;
+        random = new SplittableRandom(seed);
+
+        final BoardTopology topology = template.getTopology();
+        int landFieldCount = 0;
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            if (template.getLand(field) != Land.WATER) {
+                landFieldCount++;
+            }
+        }
+        if (landFieldCount > Long.SIZE) {
+            throw new IllegalArgumentException("template must not have more than " + Long.SIZE + " land fields");
+        }
+        landFields = new int[landFieldCount];
+        lands = new Land[landFieldCount - 1];
+        numbers = new int[landFieldCount - 1];
+        int slot = 0;
+        int producing = 0;
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            if (template.getLand(field) == Land.WATER) {
+                continue;
+            }
+            landFields[slot++] = field;
+            if (field != template.getThiefField()) {
+                final Resource resource = template.getLand(field).getResource();
+                if (resource == null) {
+                    throw new IllegalArgumentException("Only the desert may produce no resource");
+                }
+                fieldsPerResource[resource.ordinal()]++;
+                lands[producing] = template.getLand(field);
+                numbers[producing++] = template.getDiceNumber(field);
+            }
+        }
+        desertNumber = template.getDiceNumber(template.getThiefField());
+
+        neighbours = new long[landFieldCount];
+        for (int first = 0; first < landFieldCount; first++) {
+            for (int second = first + 1; second < landFieldCount; second++) {
+                if (areNeighbours(topology, landFields[first], landFields[second])) {
+                    neighbours[first] |= 1L << second;
+                    neighbours[second] |= 1L << first;
+                }
+            }
+        }
+
+        int pips = 0;
+        for (int number : numbers) {
+            pips += getPips(number);
+        }
+        totalPips = pips;
+    }
+
+    /**
+     * Generates the next layout satisfying the constraints.
+     *
+     * @return the layout
+     * @throws IllegalStateException if a step does not satisfy its constraint within {@link #MAX_ATTEMPTS} shuffles,
+     *                               because the template or the maximum deviation does not allow it
+     */
+    public BoardLayout next() {
+        int attempts = 0;
+        do {
+            if (attempts++ == MAX_ATTEMPTS) {
+                throw new IllegalStateException("No placement separating the most frequent numbers found in "
+                        + MAX_ATTEMPTS + " attempts");
+            }
+            desertSlot = random.nextInt(landFields.length);
+            shuffle(numbers);
+        } while (!separatesMostFrequentNumbers());
+        attempts = 0;
+        do {
+            if (attempts++ == MAX_ATTEMPTS) {
+                throw new IllegalStateException("No pairing of lands and numbers within a deviation of "
+                        + maxPipDeviation + " pips found in " + MAX_ATTEMPTS + " attempts");
+            }
+            shuffle(lands);
+        } while (!balancesPips());
+
+        final byte[] fields = new byte[template.getTopology().getFieldCount()];
+        for (int field = 0; field < fields.length; field++) {
+            fields[field] = BoardLayout.encode(template.getLand(field), template.getDiceNumber(field));
+        }
+        for (int slot = 0; slot < landFields.length; slot++) {
+            if (slot == desertSlot) {
+                fields[landFields[slot]] = BoardLayout.encode(Land.DESERT, desertNumber);
+            } else {
+                final int producing = slot < desertSlot ? slot : slot - 1;
+                fields[landFields[slot]] = BoardLayout.encode(lands[producing], numbers[producing]);
+            }
+        }
+        return new BoardLayout(template.getTopology(), fields);
+    }
+
+    /**
+     * Generates a layout of a rectangular map of any size, e.g. to run the game or benchmarks on boards with thousands
+     * of fields. The border of the map is water, the desert lies in its centre. Every other field gets a {@link Land}
+     * and a dice number drawn independently from those of the standard layout, so the map has the standard proportions
+     * of lands and numbers on average. The constraints of {@link #next()} are not enforced.
+     * <p>
+     * The rows are {@value #FIELD_ROW_DISTANCE} apart in y-direction and every other row is shifted by one in
+     * x-direction, so a map of {@code rows} by {@code columns} fields reaches the coordinates up to
+     * {@code (2 * columns + 1, 3 * rows + 1)}.
+     * </p>
+     *
+     * @param rows    the number of rows of fields
+     * @param columns the number of fields per row
+     * @param seed    the seed of the random number generator
+     * @return the layout
+     * @throws IllegalArgumentException if there are less than {@link #MIN_MAP_SIZE} rows or columns
+     */
+    public static BoardLayout generateMap(final int rows, final int columns, final long seed) {
+        if (rows < MIN_MAP_SIZE || columns < MIN_MAP_SIZE) {
+            throw new IllegalArgumentException("A map needs at least " + MIN_MAP_SIZE + " rows and columns");
+        }
+        final BoardLayout standard = BoardLayout.getStandard();
+        final List<Land> lands = new ArrayList<>();
+        final List<Integer> numbers = new ArrayList<>();
+        for (int field = 0; field < standard.getTopology().getFieldCount(); field++) {
+            if (standard.getLand(field).getResource() != null) {
+                lands.add(standard.getLand(field));
+                numbers.add(standard.getDiceNumber(field));
+            }
+        }
+
+        final List<Point> positions = new ArrayList<>(rows * columns);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                positions.add(getMapPosition(row, column));
+            }
+        }
+        final BoardTopology topology = new BoardTopology(positions);
+        final SplittableRandom random = new SplittableRandom(seed);
+        final byte[] fields = new byte[positions.size()];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final int field = topology.getFieldIndex(getMapPosition(row, column));
+                if (row == 0 || column == 0 || row == rows - 1 || column == columns - 1) {
+                    fields[field] = BoardLayout.encode(Land.WATER, 0);
+                } else if (row == rows / 2 && column == columns / 2) {
+                    fields[field] = BoardLayout.encode(Land.DESERT, BoardLayout.THIEF_DICE_NUMBER);
+                } else {
+                    fields[field] = BoardLayout.encode(lands.get(random.nextInt(lands.size())),
+                            numbers.get(random.nextInt(numbers.size())));
+                }
+            }
+        }
+        return new BoardLayout(topology, fields);
+    }
+
+    /**
+     * Returns whether no two fields with a 6 or an 8 are adjacent. The numbers are placed on the land fields in order,
+     * skipping the desert.
+     */
+    private boolean separatesMostFrequentNumbers() {
+        long mostFrequent = 0;
+        for (int producing = 0; producing < numbers.length; producing++) {
+            if (numbers[producing] == MOST_FREQUENT_BELOW_THIEF || numbers[producing] == MOST_FREQUENT_ABOVE_THIEF) {
+                final int slot = producing < desertSlot ? producing : producing + 1;
+                if ((neighbours[slot] & mostFrequent) != 0) {
+                    return false;
+                }
+                mostFrequent |= 1L << slot;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether every {@link Resource} gets its fair share of pips up to the maximum deviation. Each land is
+     * paired with the number at the same index.
+     */
+    private boolean balancesPips() {
+        for (int resource = 0; resource < pipsPerResource.length; resource++) {
+            pipsPerResource[resource] = 0;
+        }
+        for (int producing = 0; producing < lands.length; producing++) {
+            pipsPerResource[lands[producing].getResource().ordinal()] += getPips(numbers[producing]);
+        }
+        for (int resource = 0; resource < RESOURCES.length; resource++) {
+            final int deviation = pipsPerResource[resource] * lands.length - fieldsPerResource[resource] * totalPips;
+            if (Math.abs(deviation) > maxPipDeviation * lands.length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void shuffle(final Object[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private void shuffle(final int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static Point getMapPosition(final int row, final int column) {
+        return new Point((row % 2 == 0 ? 2 : 1) + column * FIELD_COLUMN_DISTANCE, 2 + row * FIELD_ROW_DISTANCE);
+    }
+
+    private static int getPips(final int diceNumber) {
+        return BoardLayout.THIEF_DICE_NUMBER - Math.abs(BoardLayout.THIEF_DICE_NUMBER - diceNumber) - 1;
+    }
+
+    private static boolean areNeighbours(final BoardTopology topology, final int first, final int second) {
+        int shared = 0;
+        for (int firstCorner : topology.getCornersOfField(first)) {
+            for (int secondCorner : topology.getCornersOfField(second)) {
+                if (firstCorner == secondCorner) {
+                    shared++;
+                }
+            }
+        }
+        return shared >= SHARED_CORNERS_OF_NEIGHBOURS;
+    }
+
+}
@@ -0,0 +1,428 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns stable indices to the fields, corners and edges of a board and stores how they are connected.
+ * <p>
+ * Fields and corners are ordered by their y and then their x coordinate. Edges are ordered by their start corner and
+ * then their end corner, where the start corner is the one with the smaller x (or, if equal, y) coordinate, like in
+ * {@link ch.zhaw.hexboard.HexBoard}. The indices allow to store the state of a board in plain arrays, e.g. for
+ * snapshots. Instances are immutable and can be shared by any number of boards with the same fields: a
+ * {@link SiedlerBoard} answers all questions about its fields, corners and edges with its topology and only stores
+ * what is built on them, so the topology of the standard board exists once however many games are played.
+ * </p>
+ */
+public final class BoardTopology {
+
+    /**
+     * The number of corners of a field, which is the length of {@link #getCornersOfField(int)}.
+     */
+    public static final int CORNERS_PER_FIELD = 6;
+
+    static final int MAX_EDGES_PER_CORNER = 3;
+
+    /**
+     * The order in which the corners returned by {@link #getCornerPositionsOfField(Point)} follow each other
+     * around the field.
+     */
+    private static final int[] RING_ORDER = {0, 1, 2, 3, 5, 4};
+
+    private static final Comparator<Point> POINT_ORDER = Comparator.<Point>comparingInt(point -> point.y)
+            .thenComparingInt(point -> point.x);
+    private static final BoardTopology STANDARD = new BoardTopology(Config.getStandardLandPlacement().keySet());
+
+    private final Point[] fields;
+    private final Point[] corners;
+    private final int[] edgeStarts;
+    private final int[] edgeEnds;
+    private final int[][] cornersOfFields;
+    private final int[][] edgesOfCorners;
+    private final int[][] fieldsOfCorners;
+    private final List<Point> fieldPositions;
+    private final int maxCoordinateX;
+    private final int maxCoordinateY;
+    private final Map<Point, Integer> fieldIndices;
+    private final Map<Point, Integer> cornerIndices;
+
+    /**
+     * Creates the topology of a board consisting of the fields at the given positions.
+     *
+     * @param fieldPositions the positions of all fields of the board
+     */
+    public BoardTopology(final Collection<Point> fieldPositions) {
+        fields = fieldPositions.toArray(new Point[0]);
+        Arrays.sort(fields, POINT_ORDER);
+        fieldIndices = indexOf(fields);
+
+        final Set<Point> cornerSet = new LinkedHashSet<>();
+        for (Point field : fields) {
+            cornerSet.addAll(getCornerPositionsOfField(field));
+        }
+        corners = cornerSet.toArray(new Point[0]);
+        Arrays.sort(corners, POINT_ORDER);
+        cornerIndices = indexOf(corners);
+
+        cornersOfFields = new int[fields.length][CORNERS_PER_FIELD];
+        final Set<Long> edgeKeys = new LinkedHashSet<>();
+        for (int field = 0; field < fields.length; field++) {
+            final List<Point> fieldCorners = getCornerPositionsOfField(fields[field]);
+            for (int i = 0; i < CORNERS_PER_FIELD; i++) {
+                cornersOfFields[field][i] = cornerIndices.get(fieldCorners.get(i));
+            }
+            for (int i = 0; i < CORNERS_PER_FIELD; i++) {
+                final int first = cornersOfFields[field][RING_ORDER[i]];
+                final int second = cornersOfFields[field][RING_ORDER[(i + 1) % CORNERS_PER_FIELD]];
+                edgeKeys.add(edgeKey(first, second));
+            }
+        }
+
+        final List<int[]> edges = new ArrayList<>();
+        for (long key : edgeKeys) {
+            edges.add(new int[]{(int) (key >>> Integer.SIZE), (int) key});
+        }
+        edges.sort(Comparator.<int[]>comparingInt(edge -> edge[0]).thenComparingInt(edge -> edge[1]));
+        edgeStarts = new int[edges.size()];
+        edgeEnds = new int[edges.size()];
+        final int[] edgeCountPerCorner = new int[corners.length];
+        edgesOfCorners = new int[corners.length][];
+        for (int corner = 0; corner < corners.length; corner++) {
+            edgesOfCorners[corner] = new int[MAX_EDGES_PER_CORNER];
+        }
+        for (int edge = 0; edge < edges.size(); edge++) {
+            edgeStarts[edge] = edges.get(edge)[0];
+            edgeEnds[edge] = edges.get(edge)[1];
+            edgesOfCorners[edgeStarts[edge]][edgeCountPerCorner[edgeStarts[edge]]++] = edge;
+            edgesOfCorners[edgeEnds[edge]][edgeCountPerCorner[edgeEnds[edge]]++] = edge;
+        }
+        for (int corner = 0; corner < corners.length; corner++) {
+            edgesOfCorners[corner] = Arrays.copyOf(edgesOfCorners[corner], edgeCountPerCorner[corner]);
+        }
+
+        fieldsOfCorners = new int[corners.length][];
+        int maxX = 0;
+        int maxY = 0;
+        for (int corner = 0; corner < corners.length; corner++) {
+            fieldsOfCorners[corner] = getFieldPositionsOfCorner(corners[corner]).stream()
+                    .mapToInt(this::getFieldIndex).filter(field -> field >= 0).toArray();
+            maxX = Math.max(maxX, corners[corner].x);
+            maxY = Math.max(maxY, corners[corner].y);
+        }
+        maxCoordinateX = maxX;
+        maxCoordinateY = maxY;
+        this.fieldPositions = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * Returns the shared topology of the standard board defined by {@link Config#getStandardLandPlacement()}.
+     *
+     * @return the standard topology
+     */
+    public static BoardTopology getStandard() {
+        return STANDARD;
+    }
+
+    /**
+     * Returns the number of fields.
+     *
+     * @return the number of fields
+     */
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Returns the number of corners.
+     *
+     * @return the number of corners
+     */
+    public int getCornerCount() {
+        return corners.length;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount() {
+        return edgeStarts.length;
+    }
+
+    /**
+     * Returns the position of the field with the given index. The returned {@link Point} is shared and must not be
+     * modified.
+     *
+     * @param fieldIndex the index of the field
+     * @return the position of the field
+     */
+    public Point getField(final int fieldIndex) {
+        return fields[fieldIndex];
+    }
+
+    /**
+     * Returns the positions of all fields in the order of their indices. The returned list and its {@link Point}s are
+     * shared and must not be modified.
+     *
+     * @return the unmodifiable list of positions
+     */
+    public List<Point> getFieldPositions() {
+        return fieldPositions;
+    }
+
+    /**
+     * Returns the largest x-coordinate of a corner.
+     *
+     * @return the largest x-coordinate
+     */
+    public int getMaxCoordinateX() {
+        return maxCoordinateX;
+    }
+
+    /**
+     * Returns the largest y-coordinate of a corner.
+     *
+     * @return the largest y-coordinate
+     */
+    public int getMaxCoordinateY() {
+        return maxCoordinateY;
+    }
+
+    /**
+     * Returns the position of the corner with the given index. The returned {@link Point} is shared and must not be
+     * modified.
+     *
+     * @param cornerIndex the index of the corner
+     * @return the position of the corner
+     */
+    public Point getCorner(final int cornerIndex) {
+        return corners[cornerIndex];
+    }
+
+    /**
+     * Returns the position of the start corner of the edge with the given index. The returned {@link Point} is shared
+     * and must not be modified.
+     *
+     * @param edgeIndex the index of the edge
+     * @return the position of the start corner
+     */
+    public Point getEdgeStart(final int edgeIndex) {
+        return corners[edgeStarts[edgeIndex]];
+    }
+
+    /**
+     * Returns the position of the end corner of the edge with the given index. The returned {@link Point} is shared
+     * and must not be modified.
+     *
+     * @param edgeIndex the index of the edge
+     * @return the position of the end corner
+     */
+    public Point getEdgeEnd(final int edgeIndex) {
+        return corners[edgeEnds[edgeIndex]];
+    }
+
+    /**
+     * Returns the index of the start corner of the edge with the given index.
+     *
+     * @param edgeIndex the index of the edge
+     * @return the index of the start corner
+     */
+    public int getEdgeStartIndex(final int edgeIndex) {
+        return edgeStarts[edgeIndex];
+    }
+
+    /**
+     * Returns the index of the end corner of the edge with the given index.
+     *
+     * @param edgeIndex the index of the edge
+     * @return the index of the end corner
+     */
+    public int getEdgeEndIndex(final int edgeIndex) {
+        return edgeEnds[edgeIndex];
+    }
+
+    /**
+     * Returns the index of the field at the given position.
+     *
+     * @param position the position of the field
+     * @return the index of the field or -1 if there is no such field
+     */
+    public int getFieldIndex(final Point position) {
+        return fieldIndices.getOrDefault(position, -1);
+    }
+
+    /**
+     * Returns the index of the corner at the given position.
+     *
+     * @param position the position of the corner
+     * @return the index of the corner or -1 if there is no such corner
+     */
+    public int getCornerIndex(final Point position) {
+        return cornerIndices.getOrDefault(position, -1);
+    }
+
+    /**
+     * Returns the index of the edge between the given corners.
+     *
+     * @param start the position of one corner of the edge
+     * @param end   the position of the other corner of the edge
+     * @return the index of the edge or -1 if there is no such edge
+     */
+    public int getEdgeIndex(final Point start, final Point end) {
+        final int startIndex = getCornerIndex(start);
+        final int endIndex = getCornerIndex(end);
+        if (startIndex < 0 || endIndex < 0 || startIndex == endIndex) {
+            return -1;
+        }
+        for (int edge : edgesOfCorners[startIndex]) {
+            if (edgeStarts[edge] == endIndex || edgeEnds[edge] == endIndex) {
+                return edge;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the indices of the six corners of the field with the given index. The returned array is shared and must
+     * not be modified.
+     *
+     * @param fieldIndex the index of the field
+     * @return the indices of the corners
+     */
+    public int[] getCornersOfField(final int fieldIndex) {
+        return cornersOfFields[fieldIndex];
+    }
+
+    /**
+     * Returns the indices of the edges connected to the corner with the given index. The returned array is shared and
+     * must not be modified.
+     *
+     * @param cornerIndex the index of the corner
+     * @return the indices of the edges
+     */
+    public int[] getEdgesOfCorner(final int cornerIndex) {
+        return edgesOfCorners[cornerIndex];
+    }
+
+    /**
+     * Returns the indices of the one to three fields touching the corner with the given index, in the same order as
+     * {@link ch.zhaw.hexboard.HexBoard#getFields(Point)}. The returned array is shared and must not be modified.
+     *
+     * @param cornerIndex the index of the corner
+     * @return the indices of the fields
+     */
+    public int[] getFieldsOfCorner(final int cornerIndex) {
+        return fieldsOfCorners[cornerIndex];
+    }
+
+    /**
+     * Writes the positions of the fields of this topology to the given {@link ByteBuffer}: the number of fields
+     * followed by the x and y coordinate of every field in the order of their indices.
+     *
+     * @param buffer the {@link ByteBuffer} to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(fields.length);
+        for (Point field : fields) {
+            buffer.putInt(field.x);
+            buffer.putInt(field.y);
+        }
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the number of bytes
+     */
+    public int getSerializedSize() {
+        return Integer.BYTES + fields.length * 2 * Integer.BYTES;
+    }
+
+    /**
+     * Reads a topology previously written with {@link #writeTo(ByteBuffer)} from the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the topology
+     * @throws IllegalArgumentException if the buffer does not contain a valid topology
+     */
+    public static BoardTopology readFrom(final ByteBuffer buffer) {
+        try {
+            final int fieldCount = buffer.getInt();
+            if (fieldCount <= 0 || fieldCount > buffer.remaining() / (2 * Integer.BYTES)) {
+                throw new IllegalArgumentException("Invalid board topology field count: " + fieldCount);
+            }
+            final Set<Point> positions = new LinkedHashSet<>();
+            for (int field = 0; field < fieldCount; field++) {
+                final Point position = new Point(buffer.getInt(), buffer.getInt());
+                if (position.x < 0 || position.y < 0 || !positions.add(position)) {
+                    throw new IllegalArgumentException("Invalid board topology field: " + position);
+                }
+            }
+            return new BoardTopology(positions);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Board topology is truncated", e);
+        }
+    }
+
+    /**
+     * Returns the positions of the six corners of the field at the given position, in the same order as
+     * {@link ch.zhaw.hexboard.HexBoard} uses them.
+     *
+     * @param field the position of the field
+     * @return the positions of the corners
+     */
+    private static List<Point> getCornerPositionsOfField(final Point field) {
+        return List.of(new Point(field.x, field.y - 2), new Point(field.x + 1, field.y - 1),
+                new Point(field.x + 1, field.y + 1), new Point(field.x, field.y + 2),
+                new Point(field.x - 1, field.y - 1), new Point(field.x - 1, field.y + 1));
+    }
+
+    /**
+     * Returns the positions of the three fields touching the corner at the given position, in the same order as
+     * {@link ch.zhaw.hexboard.HexBoard} uses them.
+     *
+     * @param corner the position of the corner
+     * @return the positions of the fields
+     */
+    private static List<Point> getFieldPositionsOfCorner(final Point corner) {
+        return corner.y % 3 == 0
+                ? List.of(new Point(corner.x, corner.y + 2), new Point(corner.x + 1, corner.y - 1),
+                new Point(corner.x - 1, corner.y - 1))
+                : List.of(new Point(corner.x, corner.y - 2), new Point(corner.x + 1, corner.y + 1),
+                new Point(corner.x - 1, corner.y + 1));
+    }
+
+    private long edgeKey(final int firstCorner, final int secondCorner) {
+        final int start = isBefore(corners[firstCorner], corners[secondCorner]) ? firstCorner : secondCorner;
+        final int end = start == firstCorner ? secondCorner : firstCorner;
+        return ((long) start << Integer.SIZE) | end;
+    }
+
+    private static boolean isBefore(final Point first, final Point second) {
+        return first.x < second.x || (first.x == second.x && first.y < second.y);
+    }
+
+    private static Map<Point, Integer> indexOf(final Point[] points) {
+        final Map<Point, Integer> indices = new HashMap<>();
+        for (int i = 0; i < points.length; i++) {
+            indices.put(points[i], i);
+        }
+        return indices;
+    }
+
+}
@@ -4,19 +4,19 @@ import ch.zhaw.catan.game.Config.Land;
 
 import java.awt.Point;
 
-import static ch.zhaw.catan.game.Config.INITIAL_THIEF_POSITION;
 import static java.util.Objects.requireNonNull;
 
 /**
  * A class representing a Field on the game board of Siedler.
+ * <p>
+ * Fields are immutable. Whether the thief occupies a field is part of the state of the {@link SiedlerBoard}, so the
+ * fields of a {@link BoardLayout} are created once and shared by all boards of that layout.
+ * </p>
  */
-public class Field {
-
-    static final String THIEF_IDENTIFIER = "XX";
+public final class Field {
 
     private final Land land;
     private final Point position;
-    private boolean occupiedByThief;
 
     /**
      * Constructs a new Field with the given {@link Land} type and position.
@@ -26,8 +26,7 @@ public class Field {
      */
     public Field(final Land land, final Point position) {
         this.land = requireNonNull(land, "land must not be null");
-        this.position = requireNonNull(position, "position must not be null");
-        occupiedByThief = position.equals(INITIAL_THIEF_POSITION);
+        this.position = new Point(requireNonNull(position, "position must not be null"));
     }
 
     /**
@@ -40,7 +39,8 @@ public class Field {
     }
 
     /**
-     * Returns the position of this Field on the game board.
+     * Returns the position of this Field on the game board. The returned {@link Point} is shared and must not be
+     * modified.
      *
      * @return the position of this Field on the game board
      */
@@ -49,32 +49,13 @@ public class Field {
     }
 
     /**
-     * Returns whether this Field is occupied by a thief.
-     *
-     * @return true if this Field is occupied by a thief, false otherwise
-     */
-    public boolean isOccupiedByThief() {
-        return occupiedByThief;
-    }
-
-    /**
-     * Sets whether this Field is occupied by a thief.
-     *
-     * @param occupiedByThief true if this Field is occupied by a thief, false otherwise
-     */
-    public void setOccupiedByThief(final boolean occupiedByThief) {
-        this.occupiedByThief = occupiedByThief;
-    }
-
-    /**
-     * Returns a {@link String} representation of this Field. If this Field is occupied by a thief, the THIEF_IDENTIFIER is returned.
-     * Otherwise, the toString() method of the {@link Land} type is returned.
+     * Returns a {@link String} representation of this Field, which is the toString() method of the {@link Land} type.
      *
      * @return a {@link String} representation of this Field
      */
     @Override
     public String toString() {
-        return isOccupiedByThief() ? THIEF_IDENTIFIER : getLand().toString();
+        return getLand().toString();
     }
 
 }
@@ -0,0 +1,51 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config.Land;
+import ch.zhaw.hexboard.Label;
+import ch.zhaw.hexboard.LabelProvider;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides the upper {@link Label}s of the {@link Field}s of a {@link SiedlerBoard}. The {@link Label}s are created
+ * once per {@link Land} type and shared afterwards, so that rendering the board does not need to build any strings or
+ * labels.
+ */
+public class FieldLabelProvider implements LabelProvider<Field> {
+
+    static final String THIEF_IDENTIFIER = "XX";
+
+    private static final Label THIEF_LABEL = new Label(THIEF_IDENTIFIER.charAt(0), THIEF_IDENTIFIER.charAt(1));
+    private static final Label[] LAND_LABELS = new Label[Land.values().length];
+
+    static {
+        for (Land land : Land.values()) {
+            final String representation = land.toString();
+            LAND_LABELS[land.ordinal()] = new Label(representation.charAt(0), representation.charAt(1));
+        }
+    }
+
+    private final SiedlerBoard board;
+
+    /**
+     * Creates a label provider for the {@link Field}s of the given board, which tells where the thief is.
+     *
+     * @param board the {@link SiedlerBoard}
+     */
+    public FieldLabelProvider(final SiedlerBoard board) {
+        this.board = requireNonNull(board, "board must not be null");
+    }
+
+    /**
+     * Returns the cached {@link Label} of the given {@link Field}. If the {@link Field} is occupied by the thief on the board,
+     * the thief {@link Label} is returned.
+     *
+     * @param field the {@link Field} to get the {@link Label} for
+     * @return the {@link Label} of the {@link Field}
+     */
+    @Override
+    public Label getLabel(final Field field) {
+        return board.isOccupiedByThief(field) ? THIEF_LABEL : LAND_LABELS[field.getLand().ordinal()];
+    }
+
+}
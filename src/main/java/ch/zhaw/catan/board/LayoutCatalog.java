@@ -0,0 +1,149 @@
+package ch.zhaw.catan.board;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A read-only catalog of {@link BoardLayout}s of the standard {@link BoardTopology} stored in a memory-mapped file.
+ * <p>
+ * The file starts with a header of {@link #HEADER_SIZE} bytes: the magic number {@link #MAGIC}, the format version, the
+ * number of fields per layout and the number of layouts. The layouts follow as fixed-size records in the format of
+ * {@link BoardLayout#writeTo(ByteBuffer)}, one byte per field, so the standard board takes 37 bytes per layout and the
+ * layout with a given index is read from a computed offset without reading any other part of the file. Opening a
+ * catalog only maps the file; the operating system loads the pages which are actually used.
+ * </p>
+ */
+public final class LayoutCatalog implements AutoCloseable {
+
+    /**
+     * The magic number at the start of every catalog file: the ASCII characters "CTLC".
+     */
+    public static final int MAGIC = 0x43544C43;
+
+    /**
+     * The number of bytes of the header.
+     */
+    public static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES + Integer.BYTES;
+
+    static final int FORMAT_VERSION = 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final BoardTopology topology;
+    private final int recordSize;
+    private final int size;
+
+    private LayoutCatalog(final FileChannel channel, final MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        topology = BoardTopology.getStandard();
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a layout catalog");
+        }
+        final int version = buffer.get(Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported layout catalog version: " + version);
+        }
+        recordSize = buffer.getInt(Integer.BYTES + 1);
+        size = buffer.getInt(Integer.BYTES + 1 + Integer.BYTES);
+        if (recordSize != topology.getFieldCount()) {
+            throw new IllegalArgumentException("Layout catalog does not match the board");
+        }
+        if (size < 0 || (long) size * recordSize > buffer.capacity() - HEADER_SIZE) {
+            throw new IllegalArgumentException("Layout catalog is truncated");
+        }
+    }
+
+    /**
+     * Maps a catalog file previously written with {@link #write(Path, List)}.
+     *
+     * @param path the path of the file
+     * @return the catalog, which must be closed
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a catalog of a supported version for the standard board
+     */
+    public static LayoutCatalog open(final Path path) throws IOException {
+        requireNonNull(path, "path must not be null");
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new LayoutCatalog(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a catalog file, replacing an existing file.
+     *
+     * @param path    the path of the file
+     * @param layouts the layouts in the order of their indices
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if a layout does not use the standard {@link BoardTopology}
+     */
+    public static void write(final Path path, final List<BoardLayout> layouts) throws IOException {
+        requireNonNull(path, "path must not be null");
+        requireNonNull(layouts, "layouts must not be null");
+        final int recordSize = BoardTopology.getStandard().getFieldCount();
+        final ByteBuffer content = ByteBuffer.allocate(HEADER_SIZE + layouts.size() * recordSize);
+        content.putInt(MAGIC);
+        content.put((byte) FORMAT_VERSION);
+        content.putInt(recordSize);
+        content.putInt(layouts.size());
+        for (BoardLayout layout : layouts) {
+            if (layout.getTopology() != BoardTopology.getStandard()) {
+                throw new IllegalArgumentException("layouts must use the standard topology");
+            }
+            layout.writeTo(content);
+        }
+        content.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of layouts in this catalog.
+     *
+     * @return the number of layouts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the layout with the given index.
+     *
+     * @param index the index of the layout
+     * @return the layout
+     * @throws IndexOutOfBoundsException if the index is not within 0 and {@link #size()}
+     * @throws IllegalArgumentException  if the record of the layout is not valid
+     */
+    public BoardLayout getLayout(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Layout index " + index + " is not within 0 and " + size);
+        }
+        return BoardLayout.readFrom(buffer.slice(HEADER_SIZE + index * recordSize, recordSize), topology);
+    }
+
+    /**
+     * Closes the file. The mapping itself is released by the garbage collector.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -9,62 +9,111 @@ import ch.zhaw.catan.structure.Road;
 import ch.zhaw.catan.structure.Settlement;
 import ch.zhaw.catan.structure.Structure;
 import ch.zhaw.hexboard.HexBoard;
+import ch.zhaw.hexboard.HexBoardView;
 
 import java.awt.Point;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
-import static ch.zhaw.catan.game.Config.INITIAL_THIEF_POSITION;
 import static ch.zhaw.catan.game.Config.Land.WATER;
 import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
-import static ch.zhaw.catan.game.Config.getStandardDiceNumberPlacement;
-import static ch.zhaw.catan.game.Config.getStandardLandPlacement;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Class representing the Board of the game. Class holds information of the board and provides methods to fetch
  * data about the various fields, corners and edges and to assert if certain structures can be built.
+ * <p>
+ * Which fields, corners and edges exist and how they are connected is answered by the shared, immutable
+ * {@link BoardTopology} and the {@link Land}s, dice numbers and immutable {@link Field}s by the shared
+ * {@link BoardLayout}. A board only stores the {@link Structure} per corner and the {@link Road} per edge in arrays
+ * indexed by the topology and the index of the thief field, so the many games of a server share everything that
+ * does not change during a game.
+ * </p>
+ * <p>
+ * The board uses the coordinate system of {@link HexBoard} and is shown by a
+ * {@link SiedlerBoardTextView} through the {@link HexBoardView} it implements. Field annotations are only stored once
+ * one is added.
+ * </p>
  */
-public class SiedlerBoard extends HexBoard<Field, Structure, Road, String> {
+public class SiedlerBoard implements HexBoardView<Field, Structure, Road, String> {
 
     public static final int MIN_COORDINATE = 0;
+
+    /**
+     * The largest x-coordinate of the standard board. Boards of other layouts report theirs with
+     * {@link #getMaxCoordinateX()}.
+     */
     public static final int MAX_X_COORDINATE = 14;
+
+    /**
+     * The largest y-coordinate of the standard board. Boards of other layouts report theirs with
+     * {@link #getMaxCoordinateY()}.
+     */
     public static final int MAX_Y_COORDINATE = 22;
 
-    private final SiedlerBoardTextView view;
+    private final BoardLayout layout;
+    private final BoardTopology topology;
+    private final Structure[] cornerStructures;
+    private final Road[] edgeRoads;
 
-    private Field currentThiefField;
+    private int thiefField;
+    private String[][] fieldAnnotations;
+    private SiedlerBoardTextView view;
 
     /**
      * Constructs a new SiedlerBoard with the standard {@link Land} placement.
      * The initial thief field is also set to the initial thief position.
      */
     public SiedlerBoard() {
-        for (Map.Entry<Point, Land> entry : getStandardLandPlacement().entrySet()) {
-            super.addField(entry.getKey(), new Field(entry.getValue(), entry.getKey()));
-        }
-        setCurrentThiefField(getField(INITIAL_THIEF_POSITION));
-        view = new SiedlerBoardTextView(this);
+        this(BoardLayout.getStandard());
     }
 
     /**
-     * Returns the {@link Field}s associated with the specified dice value.
+     * Constructs a new SiedlerBoard with the {@link Land}s and dice numbers of the given {@link BoardLayout}, e.g. one
+     * created by a {@link BoardLayoutGenerator}. The thief starts on the desert.
+     *
+     * @param layout the {@link BoardLayout}
+     */
+    public SiedlerBoard(final BoardLayout layout) {
+        this.layout = requireNonNull(layout, "layout must not be null");
+        topology = layout.getTopology();
+        cornerStructures = new Structure[topology.getCornerCount()];
+        edgeRoads = new Road[topology.getEdgeCount()];
+        thiefField = layout.getThiefField();
+    }
+
+    /**
+     * Constructs a new SiedlerBoard with the {@link BoardLayout} at the given index of a {@link LayoutCatalog}. Only
+     * this layout is read from the catalog.
+     *
+     * @param catalog the {@link LayoutCatalog}
+     * @param index   the index of the layout in the catalog
+     */
+    public SiedlerBoard(final LayoutCatalog catalog, final int index) {
+        this(requireNonNull(catalog, "catalog must not be null").getLayout(index));
+    }
+
+    /**
+     * Returns the {@link Field}s associated with the specified dice value, ordered by their {@link BoardTopology}
+     * index. The returned list is shared and cannot be modified.
      *
      * @param dice the dice value
      * @return the fields associated with the dice value
      */
     public List<Field> getFieldsForDiceValue(final int dice) {
-        final List<Field> rolledFields = new ArrayList<>();
-
-        for (Map.Entry<Point, Integer> diceValuePerPoint : getStandardDiceNumberPlacement().entrySet()) {
-            if (diceValuePerPoint.getValue() == dice) {
-                rolledFields.add(getField(diceValuePerPoint.getKey()));
-            }
-        }
+        return layout.getFieldsForDiceNumber(dice);
+    }
 
-        return rolledFields;
+    /**
+     * Returns the {@link BoardLayout} of this board.
+     *
+     * @return the {@link BoardLayout}
+     */
+    public BoardLayout getLayout() {
+        return layout;
     }
 
 
@@ -96,24 +145,357 @@ public class SiedlerBoard extends HexBoard<Field, Structure, Road, String> {
      * @return the current thief {@link Field}
      */
     public Field getCurrentThiefField() {
-        return currentThiefField;
+        return layout.getField(thiefField);
+    }
+
+    /**
+     * Returns the {@link BoardTopology} index of the current thief {@link Field}.
+     *
+     * @return the index of the current thief {@link Field}
+     */
+    public int getThiefField() {
+        return thiefField;
+    }
+
+    /**
+     * Returns whether the thief occupies the {@link Field} at the specified position.
+     *
+     * @param position the position of the {@link Field}
+     * @return true if the thief occupies the {@link Field}, false otherwise
+     */
+    public boolean isOccupiedByThief(final Point position) {
+        return topology.getFieldIndex(position) == thiefField;
+    }
+
+    /**
+     * Returns whether the thief occupies the specified {@link Field} of this board. The {@link Field} is identified by
+     * its position, so an equal {@link Field} of another layout with the same topology also matches.
+     *
+     * @param field the {@link Field}
+     * @return true if the thief occupies the {@link Field}, false otherwise
+     */
+    public boolean isOccupiedByThief(final Field field) {
+        return isOccupiedByThief(field.getPosition());
+    }
+
+    /**
+     * Returns the {@link BoardTopology} assigning indices to the fields, corners and edges of this board.
+     *
+     * @return the {@link BoardTopology}
+     */
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the {@link Structure} on the corner with the given {@link BoardTopology} index without looking up its
+     * position.
+     *
+     * @param cornerIndex the index of the corner
+     * @return the {@link Structure} or null if the corner is empty
+     */
+    public Structure getCorner(final int cornerIndex) {
+        return cornerStructures[cornerIndex];
+    }
+
+    /**
+     * Returns the {@link Road} on the edge with the given {@link BoardTopology} index without looking up its
+     * position.
+     *
+     * @param edgeIndex the index of the edge
+     * @return the {@link Road} or null if the edge is empty
+     */
+    public Road getEdge(final int edgeIndex) {
+        return edgeRoads[edgeIndex];
+    }
+
+    /**
+     * Checks whether there is a field at the specified location.
+     *
+     * @param center the location to check
+     * @return true, if there is a field at this location
+     */
+    @Override
+    public boolean hasField(final Point center) {
+        return topology.getFieldIndex(center) >= 0;
+    }
+
+    /**
+     * Returns the {@link Field} at the specified location.
+     *
+     * @param center the location of the field
+     * @return the {@link Field}
+     * @throws IllegalArgumentException if the requested field does not exist
+     */
+    @Override
+    public Field getField(final Point center) {
+        final int fieldIndex = topology.getFieldIndex(center);
+        if (fieldIndex < 0) {
+            throw new IllegalArgumentException("No field exists at these coordinates: " + center);
+        }
+        return layout.getField(fieldIndex);
     }
 
     /**
-     * Sets the current thief {@link Field}.
+     * Returns the positions of all fields in the order of their {@link BoardTopology} indices.
      *
-     * @param currentThiefField the current thief {@link Field}
+     * @return the unmodifiable list of positions
      */
-    public void setCurrentThiefField(final Field currentThiefField) {
-        this.currentThiefField = currentThiefField;
+    public List<Point> getFields() {
+        return topology.getFieldPositions();
     }
 
     /**
-     * Returns the text view of the game board.
+     * Returns the {@link Field}s touching the specified corner.
+     *
+     * @param corner the location of the corner
+     * @return the unmodifiable list of {@link Field}s, which is empty if there is no such corner
+     */
+    public List<Field> getFields(final Point corner) {
+        final int cornerIndex = topology.getCornerIndex(corner);
+        if (cornerIndex < 0) {
+            return List.of();
+        }
+        final List<Field> result = new ArrayList<>(3);
+        for (int fieldIndex : topology.getFieldsOfCorner(cornerIndex)) {
+            result.add(layout.getField(fieldIndex));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Checks whether there is a corner at the specified location.
+     *
+     * @param location the location to check
+     * @return true, if there is a corner at this location
+     */
+    @Override
+    public boolean hasCorner(final Point location) {
+        return topology.getCornerIndex(location) >= 0;
+    }
+
+    /**
+     * Returns the {@link Structure} on the corner at the specified location.
+     *
+     * @param location the location of the corner
+     * @return the {@link Structure} or null if the corner is empty
+     * @throws IllegalArgumentException if the requested corner does not exist
+     */
+    @Override
+    public Structure getCorner(final Point location) {
+        return cornerStructures[requireCorner(location)];
+    }
+
+    /**
+     * Returns all {@link Structure}s on the board in the order of the {@link BoardTopology} indices of their corners.
+     *
+     * @return the unmodifiable list of {@link Structure}s
+     */
+    public List<Structure> getCorners() {
+        final List<Structure> result = new ArrayList<>();
+        for (Structure structure : cornerStructures) {
+            if (structure != null) {
+                result.add(structure);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Stores the {@link Structure} for the corner.
+     *
+     * @param location the location of the corner
+     * @param data     the {@link Structure} to be stored
+     * @return the old {@link Structure} (or null)
+     * @throws IllegalArgumentException if there is no corner at this location
+     */
+    public Structure setCorner(final Point location, final Structure data) {
+        final int cornerIndex = requireCorner(location);
+        final Structure old = cornerStructures[cornerIndex];
+        cornerStructures[cornerIndex] = data;
+        return old;
+    }
+
+    /**
+     * Returns the {@link Structure}s on the corners of the specified field.
+     *
+     * @param center the location of the field
+     * @return the list of {@link Structure}s
+     * @throws IllegalArgumentException if the requested field does not exist
+     */
+    public List<Structure> getCornersOfField(final Point center) {
+        final int fieldIndex = topology.getFieldIndex(center);
+        if (fieldIndex < 0) {
+            throw new IllegalArgumentException("No field exists at these coordinates: " + center);
+        }
+        final List<Structure> result = new ArrayList<>();
+        for (int cornerIndex : topology.getCornersOfField(fieldIndex)) {
+            if (cornerStructures[cornerIndex] != null) {
+                result.add(cornerStructures[cornerIndex]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link Structure}s on the corners connected to the specified corner by an edge.
+     *
+     * @param center the location of the corner
+     * @return the list of {@link Structure}s, which is empty if there is no such corner
+     */
+    public List<Structure> getNeighboursOfCorner(final Point center) {
+        final int cornerIndex = topology.getCornerIndex(center);
+        final List<Structure> result = new ArrayList<>();
+        if (cornerIndex >= 0) {
+            for (int edgeIndex : topology.getEdgesOfCorner(cornerIndex)) {
+                final int other = topology.getEdgeStartIndex(edgeIndex) == cornerIndex
+                        ? topology.getEdgeEndIndex(edgeIndex) : topology.getEdgeStartIndex(edgeIndex);
+                if (cornerStructures[other] != null) {
+                    result.add(cornerStructures[other]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether there is an edge between the two points.
+     *
+     * @param p1 first point
+     * @param p2 second point
+     * @return true, if there is an edge between the two points
+     */
+    @Override
+    public boolean hasEdge(final Point p1, final Point p2) {
+        return topology.getEdgeIndex(p1, p2) >= 0;
+    }
+
+    /**
+     * Returns the {@link Road} on the edge between the two points.
+     *
+     * @param p1 first point
+     * @param p2 second point
+     * @return the {@link Road} or null if the edge is empty or does not exist
+     * @throws IllegalArgumentException if the two points cannot be the corners of an edge
+     */
+    @Override
+    public Road getEdge(final Point p1, final Point p2) {
+        final int edgeIndex = topology.getEdgeIndex(p1, p2);
+        if (edgeIndex < 0 && !HexBoard.isEdgeCoordinate(p1, p2)) {
+            throw new IllegalArgumentException("Coordinates " + p1 + " and " + p2 + " are not coordinates of an edge.");
+        }
+        return edgeIndex < 0 ? null : edgeRoads[edgeIndex];
+    }
+
+    /**
+     * Stores the {@link Road} for the edge.
+     *
+     * @param p1   first point
+     * @param p2   second point
+     * @param data the {@link Road} to be stored
+     * @throws IllegalArgumentException if the two points do not identify an existing edge
+     */
+    public void setEdge(final Point p1, final Point p2, final Road data) {
+        final int edgeIndex = topology.getEdgeIndex(p1, p2);
+        if (edgeIndex < 0) {
+            throw new IllegalArgumentException("Edge does not exist => no data can be stored: " + p1 + " " + p2);
+        }
+        edgeRoads[edgeIndex] = data;
+    }
+
+    /**
+     * Returns the {@link Road}s on the edges connected to the specified corner.
+     *
+     * @param corner the location of the corner
+     * @return the list of {@link Road}s, which is empty if there is no such corner
+     */
+    public List<Road> getAdjacentEdges(final Point corner) {
+        final int cornerIndex = topology.getCornerIndex(corner);
+        final List<Road> result = new ArrayList<>();
+        if (cornerIndex >= 0) {
+            for (int edgeIndex : topology.getEdgesOfCorner(cornerIndex)) {
+                if (edgeRoads[edgeIndex] != null) {
+                    result.add(edgeRoads[edgeIndex]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds an annotation for the specified field and corner, e.g. to mark a harbour in the {@link SiedlerBoardTextView}.
+     *
+     * @param center the center of the field
+     * @param corner the corner of the field
+     * @param data   the annotation
+     * @throws IllegalArgumentException if the field does not exist, the corner is not a corner of the field or the
+     *                                  annotation already exists
+     */
+    public void addFieldAnnotation(final Point center, final Point corner, final String data) {
+        final int fieldIndex = topology.getFieldIndex(center);
+        final int slot = fieldIndex < 0 ? -1 : getCornerSlot(fieldIndex, corner);
+        if (slot < 0) {
+            throw new IllegalArgumentException("No corner " + corner + " exists for field " + center);
+        }
+        if (fieldAnnotations == null) {
+            fieldAnnotations = new String[topology.getFieldCount()][];
+        }
+        if (fieldAnnotations[fieldIndex] == null) {
+            fieldAnnotations[fieldIndex] = new String[BoardTopology.CORNERS_PER_FIELD];
+        }
+        if (fieldAnnotations[fieldIndex][slot] != null) {
+            throw new IllegalArgumentException("Annotation: " + fieldAnnotations[fieldIndex][slot]
+                    + " already exists for field " + center + " and position " + corner);
+        }
+        fieldAnnotations[fieldIndex][slot] = data;
+    }
+
+    /**
+     * Returns the annotation for the specified field and corner.
+     *
+     * @param center the center of the field
+     * @param corner the corner of the field
+     * @return the annotation or null if there is none, the field does not exist or the corner is not one of its corners
+     */
+    @Override
+    public String getFieldAnnotation(final Point center, final Point corner) {
+        final int fieldIndex = topology.getFieldIndex(center);
+        if (fieldAnnotations == null || fieldIndex < 0 || fieldAnnotations[fieldIndex] == null) {
+            return null;
+        }
+        final int slot = getCornerSlot(fieldIndex, corner);
+        return slot < 0 ? null : fieldAnnotations[fieldIndex][slot];
+    }
+
+    /**
+     * Returns the largest x-coordinate of a corner of the board.
+     *
+     * @return the largest x-coordinate
+     */
+    @Override
+    public int getMaxCoordinateX() {
+        return topology.getMaxCoordinateX();
+    }
+
+    /**
+     * Returns the largest y-coordinate of a corner of the board.
+     *
+     * @return the largest y-coordinate
+     */
+    @Override
+    public int getMaxCoordinateY() {
+        return topology.getMaxCoordinateY();
+    }
+
+    /**
+     * Returns the text view of the game board, which is created when it is first needed.
      *
      * @return the text view of the game board
      */
     public SiedlerBoardTextView getView() {
+        if (view == null) {
+            view = new SiedlerBoardTextView(this);
+        }
         return view;
     }
 
@@ -133,12 +515,14 @@ public class SiedlerBoard extends HexBoard<Field, Structure, Road, String> {
      * Moves the thief to the specified {@link Field} on the game board.
      *
      * @param fieldPosition the position of the {@link Field} to move the thief to
+     * @throws IllegalArgumentException if there is no field at the position
      */
     public void switchThiefPosition(final Point fieldPosition) {
-        getCurrentThiefField().setOccupiedByThief(false);
-        final Field field = getField(fieldPosition);
-        field.setOccupiedByThief(true);
-        setCurrentThiefField(field);
+        final int field = topology.getFieldIndex(fieldPosition);
+        if (field < 0) {
+            throw new IllegalArgumentException("No field exists at these coordinates: " + fieldPosition);
+        }
+        thiefField = field;
     }
 
 
@@ -147,10 +531,11 @@ public class SiedlerBoard extends HexBoard<Field, Structure, Road, String> {
      * belong to a different {@link Faction} than the current {@link Player}'s {@link Faction}.
      *
      * @param currentPlayerFaction the {@link Faction} of the current {@link Player}
-     * @return a {@link Set} of {@link Faction}s of the {@link Player}s on the corners of the current thief {@link Field}
+     * @return a {@link Set} of {@link Faction}s of the {@link Player}s on the corners of the current thief {@link Field},
+     * which iterates in the order of the {@link Faction}s so that a seeded game always picks the same victim
      */
     public Set<Faction> getOtherFieldCornerFactions(final Faction currentPlayerFaction) {
-        final Set<Faction> factions = new HashSet<>();
+        final Set<Faction> factions = EnumSet.noneOf(Faction.class);
 
         for (Structure structure : getCornersOfField(getCurrentThiefField().getPosition())) {
             if (structure.getFaction() != currentPlayerFaction) {
@@ -224,6 +609,25 @@ public class SiedlerBoard extends HexBoard<Field, Structure, Road, String> {
                 || isOwnRoadAdjacent(endPosition, currentPlayerFaction);
     }
 
+    private int getCornerSlot(final int fieldIndex, final Point corner) {
+        final int cornerIndex = topology.getCornerIndex(corner);
+        final int[] corners = topology.getCornersOfField(fieldIndex);
+        for (int slot = 0; slot < corners.length; slot++) {
+            if (corners[slot] == cornerIndex) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int requireCorner(final Point location) {
+        final int cornerIndex = topology.getCornerIndex(location);
+        if (cornerIndex < 0) {
+            throw new IllegalArgumentException("No corner exists at the coordinates: " + location);
+        }
+        return cornerIndex;
+    }
+
     /**
      * Returns whether the given position has no neighbours with a {@link Faction}.
      *
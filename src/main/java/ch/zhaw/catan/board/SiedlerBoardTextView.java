@@ -2,15 +2,13 @@ package ch.zhaw.catan.board;
 
 import ch.zhaw.catan.structure.Road;
 import ch.zhaw.catan.structure.Structure;
+import ch.zhaw.catan.structure.StructureLabelProvider;
 import ch.zhaw.hexboard.HexBoardTextView;
 import ch.zhaw.hexboard.Label;
 
 import java.awt.Point;
 import java.util.Map;
 
-import static ch.zhaw.catan.board.SiedlerBoard.MAX_X_COORDINATE;
-import static ch.zhaw.catan.board.SiedlerBoard.MAX_Y_COORDINATE;
-import static ch.zhaw.catan.game.Config.getStandardDiceNumberPlacement;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 
@@ -20,18 +18,27 @@ import static java.lang.System.lineSeparator;
 public class SiedlerBoardTextView extends HexBoardTextView<Field, Structure, Road, String> {
 
     private static final String WHITE_SPACE = " ";
-    private static final int ZERO_DIGIT_CHANGE = 10;
+    private static final int MIN_LABEL_WIDTH = 2;
+    private static final int X_LABEL_SPACING = 8;
+
+    private final SiedlerBoard board;
 
     /**
      * Creates a new SiedlerBoardTextView object and initializes it with a {@link SiedlerBoard} object.
      * It also sets the lower field labels of the board to the corresponding dice numbers.
      * For example, if a field has a dice number of 7, the lower field label will be "07".
+     * The labels of {@link Field}s and {@link Structure}s are taken from cached {@link Label}s.
      *
      * @param board The {@link SiedlerBoard} object to be used for the SiedlerBoardTextView.
      */
     public SiedlerBoardTextView(final SiedlerBoard board) {
         super(board);
-        for (Map.Entry<Point, Integer> entry : getStandardDiceNumberPlacement().entrySet()) {
+        this.board = board;
+        final StructureLabelProvider structureLabelProvider = new StructureLabelProvider();
+        setCornerLabelProvider(structureLabelProvider);
+        setEdgeLabelProvider(structureLabelProvider);
+        setFieldLabelProvider(new FieldLabelProvider(board));
+        for (Map.Entry<Point, Integer> entry : board.getLayout().getDiceNumberPlacement().entrySet()) {
             String label = format("%02d", entry.getValue());
             setLowerFieldLabel(entry.getKey(), new Label(label.charAt(0), label.charAt(1)));
         }
@@ -44,7 +51,23 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Structure, Roa
      */
     @Override
     public String toString() {
-        return getBoardWithCoordinateSystem(super.toString());
+        return toString(0, 0, board.getMaxCoordinateX(), board.getMaxCoordinateY());
+    }
+
+    /**
+     * Returns a string representation of a rectangular window of the board with a coordinate system which starts at
+     * the first coordinates of the window, see {@link HexBoardTextView#toString(int, int, int, int)}.
+     *
+     * @param minX the smallest x-coordinate of the window
+     * @param minY the smallest y-coordinate of the window
+     * @param maxX the largest x-coordinate of the window
+     * @param maxY the largest y-coordinate of the window
+     * @return a string representation of the window
+     */
+    @Override
+    public String toString(final int minX, final int minY, final int maxX, final int maxY) {
+        return getBoardWithCoordinateSystem(super.toString(minX, minY, maxX, maxY), getViewportStartX(minX),
+                getViewportStartY(minY), Math.min(maxX, board.getMaxCoordinateX()));
     }
 
     /**
@@ -52,19 +75,25 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Structure, Roa
      * It adds the x and y coordinates to the edges of the board, with the x coordinates
      * at the top and the y coordinates at the left.
      *
-     * @param board String representation of the board
+     * @param board  String representation of the board
+     * @param startX the first x-coordinate of the board
+     * @param startY the first y-coordinate of the board
+     * @param endX   the last x-coordinate of the board
      * @return String representation of the board with the coordinate system
      */
-    private String getBoardWithCoordinateSystem(final String board) {
+    private String getBoardWithCoordinateSystem(final String board, final int startX, final int startY,
+                                                final int endX) {
         final StringBuilder sb = new StringBuilder();
+        final String[] lines = board.split(lineSeparator());
+        final int lastY = Math.min(this.board.getMaxCoordinateY(), startY + lines.length);
+        final int labelWidth = Math.max(MIN_LABEL_WIDTH, String.valueOf(lastY).length());
 
         sb.append(lineSeparator());
-        sb.append(WHITE_SPACE.repeat(4));
-        appendXCoordinates(sb);
+        sb.append(WHITE_SPACE.repeat(labelWidth + 2));
+        appendXCoordinates(sb, startX, endX);
         sb.append(lineSeparator().repeat(2));
 
-        final String[] lines = board.split(lineSeparator());
-        appendYCoordinates(sb, lines);
+        appendYCoordinates(sb, lines, startY, labelWidth);
 
         return sb.toString();
     }
@@ -72,30 +101,30 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Structure, Roa
     /**
      * Appends the y-coordinates to the given {@link StringBuilder} for each line in the given array of lines.
      *
-     * @param sb    the {@link StringBuilder} to append the y-coordinates to
-     * @param lines the array of lines to append y-coordinates for
+     * @param sb         the {@link StringBuilder} to append the y-coordinates to
+     * @param lines      the array of lines to append y-coordinates for
+     * @param startY     the y-coordinate of the first line
+     * @param labelWidth the number of characters of every y-coordinate
      */
-    private void appendYCoordinates(final StringBuilder sb, final String[] lines) {
+    private void appendYCoordinates(final StringBuilder sb, final String[] lines, final int startY,
+                                    final int labelWidth) {
+        final String labelFormat = "%" + labelWidth + "d";
         int currentBoardLine = 0;
-        int y = 0;
+        int y = startY;
         while (currentBoardLine < lines.length) {
-            if (y < ZERO_DIGIT_CHANGE) {
-                sb.append(WHITE_SPACE);
-            }
-
             if (currentBoardLine % 5 == 0) {
-                sb.append(y++);
+                sb.append(format(labelFormat, y++));
                 sb.append(WHITE_SPACE);
                 sb.append(lines[currentBoardLine]);
 
                 currentBoardLine++;
 
                 sb.append(lineSeparator());
-                sb.append(WHITE_SPACE.repeat(2));
-            } else if (y <= MAX_Y_COORDINATE) {
-                sb.append(currentBoardLine % 5 == 3 ? y : y++);
+                sb.append(WHITE_SPACE.repeat(labelWidth));
+            } else if (y <= board.getMaxCoordinateY()) {
+                sb.append(format(labelFormat, currentBoardLine % 5 == 3 ? y : y++));
             } else {
-                sb.append(WHITE_SPACE.repeat(2));
+                sb.append(WHITE_SPACE.repeat(labelWidth));
             }
 
             sb.append(WHITE_SPACE);
@@ -109,18 +138,17 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Structure, Roa
     /**
      * Appends the X coordinates to the given {@link StringBuilder}.
      *
-     * @param sb the {@link StringBuilder} to append the coordinates to
+     * @param sb     the {@link StringBuilder} to append the coordinates to
+     * @param startX the first x-coordinate
+     * @param endX   the last x-coordinate
      */
-    private void appendXCoordinates(final StringBuilder sb) {
-        for (int x = 0; x <= MAX_X_COORDINATE; x++) {
-            if (x < ZERO_DIGIT_CHANGE) {
-                sb.append(WHITE_SPACE);
-            }
-
-            sb.append(x);
+    private void appendXCoordinates(final StringBuilder sb, final int startX, final int endX) {
+        for (int x = startX; x <= endX; x++) {
+            final String label = format("%" + MIN_LABEL_WIDTH + "d", x);
+            sb.append(label);
 
-            if (x < MAX_X_COORDINATE) {
-                sb.append(WHITE_SPACE.repeat(6));
+            if (x < endX) {
+                sb.append(WHITE_SPACE.repeat(X_LABEL_SPACING - label.length()));
             }
         }
     }
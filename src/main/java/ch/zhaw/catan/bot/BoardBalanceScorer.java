@@ -0,0 +1,354 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardLayoutGenerator;
+import ch.zhaw.catan.board.LayoutCatalog;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Scores {@link BoardLayout}s for balance by simulating bot games on them on a fixed pool of worker threads.
+ * <p>
+ * Every game of a layout is played by the same {@link PlayerPolicy} on every seat, so a layout is balanced if every
+ * seat wins equally often, see {@link LayoutScore#getSeatImbalance()}. The games of a layout are split into tasks of
+ * {@link #GAMES_PER_TASK} games which run in parallel, with a bounded number of tasks in flight like the matches of a
+ * {@link Tournament}. Only the wins per seat of a task are kept; they are added to the tally of their layout as soon
+ * as the task completes, and a layout is reported as soon as all its games and all earlier layouts are done. Scoring
+ * millions of layouts therefore needs memory for the layouts in flight only, and the scores do not depend on the
+ * number of workers.
+ * </p>
+ */
+public class BoardBalanceScorer implements AutoCloseable {
+
+    /**
+     * The default number of games per layout.
+     */
+    public static final int DEFAULT_GAMES_PER_LAYOUT = 64;
+
+    static final int GAMES_PER_TASK = 8;
+    static final int TASKS_IN_FLIGHT_PER_WORKER = 4;
+
+    /**
+     * Orders scores from the most to the least balanced layout, earlier layouts first among equally balanced ones.
+     */
+    static final Comparator<LayoutScore> BY_BALANCE = Comparator.comparingDouble(LayoutScore::getSeatImbalance)
+            .thenComparingLong(LayoutScore::getIndex);
+
+    private static final int DEFAULT_LAYOUTS = 1_000;
+    private static final int DEFAULT_CATALOG_SIZE = 100;
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final LongFunction<? extends PlayerPolicy> policyFactory;
+    private final int numberOfPlayers;
+    private final int gamesPerLayout;
+    private final int winPoints;
+    private final int maxTurns;
+    private final int workerThreads;
+    private final ExecutorService workers;
+
+    /**
+     * Creates a scorer with one worker per core, {@link Tournament#DEFAULT_WIN_POINTS} and
+     * {@link Tournament#DEFAULT_MAX_TURNS}.
+     *
+     * @param policyFactory   creates the {@link PlayerPolicy} of a seat from a seed
+     * @param numberOfPlayers the number of players of a game
+     * @param gamesPerLayout  the number of games per layout
+     */
+    public BoardBalanceScorer(final LongFunction<? extends PlayerPolicy> policyFactory, final int numberOfPlayers,
+                              final int gamesPerLayout) {
+        this(policyFactory, numberOfPlayers, gamesPerLayout, Tournament.DEFAULT_WIN_POINTS,
+                Tournament.DEFAULT_MAX_TURNS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a scorer.
+     *
+     * @param policyFactory   creates the {@link PlayerPolicy} of a seat from a seed; policies which are
+     *                        {@link AutoCloseable} are closed after the game
+     * @param numberOfPlayers the number of players of a game
+     * @param gamesPerLayout  the number of games per layout
+     * @param winPoints       the number of points required to win a game
+     * @param maxTurns        the maximum number of turns of a game
+     * @param workerThreads   the number of worker threads playing games
+     */
+    public BoardBalanceScorer(final LongFunction<? extends PlayerPolicy> policyFactory, final int numberOfPlayers,
+                              final int gamesPerLayout, final int winPoints, final int maxTurns,
+                              final int workerThreads) {
+        this.policyFactory = requireNonNull(policyFactory, "policyFactory must not be null");
+        if (numberOfPlayers < 2 || numberOfPlayers > Faction.values().length) {
+            throw new IllegalArgumentException("numberOfPlayers must be between 2 and " + Faction.values().length);
+        }
+        if (gamesPerLayout < 1 || maxTurns < 1 || workerThreads < 1) {
+            throw new IllegalArgumentException("gamesPerLayout, maxTurns and workerThreads must be positive");
+        }
+        this.numberOfPlayers = numberOfPlayers;
+        this.gamesPerLayout = gamesPerLayout;
+        this.winPoints = winPoints;
+        this.maxTurns = maxTurns;
+        this.workerThreads = workerThreads;
+        final AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "catan-balance-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Scores a single layout.
+     *
+     * @param layout the layout
+     * @param seed   the seed from which the seeds of all games are derived
+     * @return the score
+     * @throws InterruptedException if the thread is interrupted while waiting for games
+     */
+    public LayoutScore score(final BoardLayout layout, final long seed) throws InterruptedException {
+        final List<LayoutScore> scores = new ArrayList<>(1);
+        scoreAll(List.of(layout).iterator(), seed, scores::add);
+        return scores.get(0);
+    }
+
+    /**
+     * Scores a sequence of layouts and reports their scores in the order of the layouts. The layouts are taken from the
+     * iterator only as workers become free, so it may generate them lazily.
+     *
+     * @param layouts the layouts
+     * @param seed    the seed from which the seeds of all games are derived
+     * @param scores  receives the score of every layout on the calling thread
+     * @throws InterruptedException  if the thread is interrupted while waiting for games
+     * @throws IllegalStateException if a game fails; the games still running or queued are cancelled
+     */
+    public void scoreAll(final Iterator<BoardLayout> layouts, final long seed,
+                         final Consumer<? super LayoutScore> scores) throws InterruptedException {
+        requireNonNull(layouts, "layouts must not be null");
+        requireNonNull(scores, "scores must not be null");
+        final Schedule schedule = new Schedule(scores);
+        final SplittableRandom seeds = new SplittableRandom(seed);
+        long index = 0;
+        try {
+            while (layouts.hasNext()) {
+                final BoardLayout layout = requireNonNull(layouts.next(), "layout must not be null");
+                final long layoutSeed = seeds.nextLong();
+                schedule.add(index, layout);
+                for (int firstGame = 0; firstGame < gamesPerLayout; firstGame += GAMES_PER_TASK) {
+                    schedule.submit(index, layout, layoutSeed, firstGame,
+                            Math.min(firstGame + GAMES_PER_TASK, gamesPerLayout));
+                }
+                index++;
+            }
+            schedule.awaitAll();
+        } finally {
+            schedule.cancelRemaining();
+        }
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Generates layouts, scores them with the pip-greedy bot and writes the most balanced ones, most balanced first,
+     * to a {@link LayoutCatalog}. Arguments: the catalog file, the number of layouts (default 1'000), the number of
+     * games per layout (default 64), the size of the catalog (default 100) and the number of players (default 4).
+     *
+     * @param args the command line arguments
+     * @throws IOException          if writing the catalog fails
+     * @throws InterruptedException if interrupted while waiting for games
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: BoardBalanceScorer <catalog> [layouts] [games per layout] [catalog size] "
+                    + "[players]");
+            return;
+        }
+        final Path catalog = Path.of(args[0]);
+        final int layouts = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LAYOUTS;
+        final int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES_PER_LAYOUT;
+        final int catalogSize = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_CATALOG_SIZE;
+        final int players = args.length > 4 ? Integer.parseInt(args[4]) : Faction.values().length;
+
+        final long start = System.nanoTime();
+        final BoardLayoutGenerator generator = new BoardLayoutGenerator(start);
+        final Iterator<BoardLayout> generated = Stream.generate(generator::next).limit(layouts).iterator();
+        final PriorityQueue<LayoutScore> best = new PriorityQueue<>(BY_BALANCE.reversed());
+        try (BoardBalanceScorer scorer = new BoardBalanceScorer(seed -> new ThiefTargetsLeaderPolicy(
+                new PipPlacementPolicy(new GreedyBuildPolicy(new Random(seed)))), players, games)) {
+            scorer.scoreAll(generated, start, score -> {
+                best.add(score);
+                if (best.size() > catalogSize) {
+                    best.poll();
+                }
+            });
+        }
+        final List<LayoutScore> sorted = new ArrayList<>(best);
+        sorted.sort(BY_BALANCE);
+        final List<BoardLayout> bestLayouts = new ArrayList<>();
+        for (LayoutScore score : sorted) {
+            bestLayouts.add(score.getLayout());
+        }
+        LayoutCatalog.write(catalog, bestLayouts);
+        System.out.printf("Scored %d layouts with %d games each in %d ms, best seat imbalance %.3f%n", layouts,
+                games, (System.nanoTime() - start) / 1_000_000,
+                sorted.isEmpty() ? Double.NaN : sorted.get(0).getSeatImbalance());
+    }
+
+    /**
+     * Plays games of a layout on the calling thread.
+     *
+     * @param index      the index of the layout
+     * @param layout     the layout
+     * @param layoutSeed the seed of the layout
+     * @param firstGame  the index of the first game to play
+     * @param endGame    the index after the last game to play
+     * @return the tally of the games
+     */
+    Tally play(final long index, final BoardLayout layout, final long layoutSeed, final int firstGame,
+               final int endGame) {
+        final Tally tally = new Tally(index, numberOfPlayers);
+        final List<PlayerPolicy> policies = new ArrayList<>(numberOfPlayers);
+        for (int game = firstGame; game < endGame; game++) {
+            final long seed = layoutSeed + (game + 1) * SEED_MIX;
+            final SiedlerGame siedlerGame = new SiedlerGame(winPoints, numberOfPlayers, seed, layout);
+            try {
+                for (int seat = 0; seat < numberOfPlayers; seat++) {
+                    policies.add(policyFactory.apply(seed ^ (seat + 1) * SEED_MIX));
+                }
+                final Faction winner = BotGameDriver.playGame(siedlerGame, policies, new Dice(new Random(seed)),
+                        maxTurns);
+                if (winner != null) {
+                    tally.winsPerSeat[siedlerGame.getPlayerFactions().indexOf(winner)]++;
+                }
+                tally.games++;
+            } finally {
+                for (PlayerPolicy policy : policies) {
+                    Tournament.closePolicy(policy);
+                }
+                policies.clear();
+            }
+        }
+        return tally;
+    }
+
+    /**
+     * The wins per seat of some games of a layout.
+     */
+    static final class Tally {
+
+        private final long index;
+        private final int[] winsPerSeat;
+        private int games;
+
+        private Tally(final long index, final int numberOfSeats) {
+            this.index = index;
+            winsPerSeat = new int[numberOfSeats];
+        }
+
+        private void add(final Tally other) {
+            for (int seat = 0; seat < winsPerSeat.length; seat++) {
+                winsPerSeat[seat] += other.winsPerSeat[seat];
+            }
+            games += other.games;
+        }
+
+    }
+
+    /**
+     * Submits tasks with a bounded number in flight, adds their wins to the tally of their layout and reports the
+     * layouts in order. If scoring stops early, the tasks still in flight are cancelled so that they do not keep the
+     * workers busy.
+     */
+    private final class Schedule {
+
+        private final CompletionService<Tally> completionService = new ExecutorCompletionService<>(workers);
+        private final Map<Long, BoardLayout> pendingLayouts = new HashMap<>();
+        private final Map<Long, Tally> tallies = new HashMap<>();
+        private final Set<Future<Tally>> inFlight = new HashSet<>();
+        private final Consumer<? super LayoutScore> scores;
+        private long reported;
+
+        private Schedule(final Consumer<? super LayoutScore> scores) {
+            this.scores = scores;
+        }
+
+        private void add(final long index, final BoardLayout layout) {
+            pendingLayouts.put(index, layout);
+            tallies.put(index, new Tally(index, numberOfPlayers));
+        }
+
+        private void submit(final long index, final BoardLayout layout, final long layoutSeed, final int firstGame,
+                            final int endGame) throws InterruptedException {
+            while (inFlight.size() >= workerThreads * TASKS_IN_FLIGHT_PER_WORKER) {
+                awaitOne();
+            }
+            inFlight.add(completionService.submit(() -> play(index, layout, layoutSeed, firstGame, endGame)));
+        }
+
+        private void awaitAll() throws InterruptedException {
+            while (!inFlight.isEmpty()) {
+                awaitOne();
+            }
+        }
+
+        private void awaitOne() throws InterruptedException {
+            final Future<Tally> completed = completionService.take();
+            inFlight.remove(completed);
+            final Tally result;
+            try {
+                result = completed.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Game failed", e.getCause());
+            }
+            tallies.get(result.index).add(result);
+            Tally next;
+            while ((next = tallies.get(reported)) != null && next.games == gamesPerLayout) {
+                tallies.remove(reported);
+                scores.accept(new LayoutScore(reported, pendingLayouts.remove(reported), next.winsPerSeat,
+                        next.games));
+                reported++;
+            }
+        }
+
+        /**
+         * Cancels the tasks still in flight, interrupting those already running.
+         */
+        private void cancelRemaining() {
+            for (Future<Tally> task : inFlight) {
+                task.cancel(true);
+            }
+            inFlight.clear();
+        }
+
+    }
+
+}
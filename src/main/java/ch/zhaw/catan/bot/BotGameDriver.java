@@ -0,0 +1,141 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.List;
+
+/**
+ * Plays a {@link SiedlerGame} with a {@link PlayerPolicy} per {@link ch.zhaw.catan.game.Player}, following the same
+ * sequence as {@link ch.zhaw.catan.game.App}: after the initial placement each turn consists of rolling the dice,
+ * moving the thief after a seven and letting the {@link ch.zhaw.catan.game.Player} build and trade.
+ */
+public final class BotGameDriver {
+
+    private BotGameDriver() {
+    }
+
+    /**
+     * Plays a new game: places the initial structures in the same order as {@link ch.zhaw.catan.game.App} and plays
+     * turns until there is a winner or the maximum number of turns has been played.
+     *
+     * @param game     the new game
+     * @param policies the {@link PlayerPolicy} per {@link ch.zhaw.catan.game.Player}, in playing order
+     * @param dice     the {@link Dice} to roll
+     * @param maxTurns the maximum number of turns to play
+     * @return the winner or null if nobody won within the maximum number of turns
+     */
+    public static Faction playGame(final SiedlerGame game, final List<? extends PlayerPolicy> policies,
+                                   final Dice dice, final int maxTurns) {
+        letPoliciesDiscard(game, policies);
+        placeInitialStructures(game, policies);
+        final Faction winner = playTurn(game, policies.get(game.getCurrentPlayerIndex()), dice);
+        return winner != null || maxTurns <= 1 ? winner : playTurns(game, policies, dice, maxTurns - 1);
+    }
+
+    /**
+     * Places the first settlement and road of every {@link ch.zhaw.catan.game.Player} in playing order and then the
+     * second ones, with payout, in reverse order.
+     *
+     * @param game     the new game
+     * @param policies the {@link PlayerPolicy} per {@link ch.zhaw.catan.game.Player}, in playing order
+     */
+    public static void placeInitialStructures(final SiedlerGame game, final List<? extends PlayerPolicy> policies) {
+        final int numberOfPlayers = game.getCurrentPlayers().size();
+        for (int i = 0; i < numberOfPlayers; i++) {
+            placeInitialStructures(game, policies.get(game.getCurrentPlayerIndex()), false);
+            game.switchToNextPlayer();
+        }
+        for (int i = 0; i < numberOfPlayers; i++) {
+            game.switchToPreviousPlayer();
+            placeInitialStructures(game, policies.get(game.getCurrentPlayerIndex()), true);
+        }
+    }
+
+    /**
+     * Plays the turn of the current {@link ch.zhaw.catan.game.Player}, starting with rolling the dice.
+     *
+     * @param game   the game
+     * @param policy the {@link PlayerPolicy} of the current {@link ch.zhaw.catan.game.Player}
+     * @param dice   the {@link Dice} to roll
+     * @return the winner or null if the game is not finished yet
+     */
+    public static Faction playTurn(final SiedlerGame game, final PlayerPolicy policy, final Dice dice) {
+        if (game.processDiceRoll(dice.roll()).isThiefExecuted()) {
+            moveThief(game, policy);
+        }
+        policy.playTurn(game);
+        return game.getWinner();
+    }
+
+    /**
+     * Lets the current {@link ch.zhaw.catan.game.Player} place an initial settlement and road.
+     *
+     * @param game   the game
+     * @param policy the {@link PlayerPolicy} of the current {@link ch.zhaw.catan.game.Player}
+     * @param payout whether the {@link ch.zhaw.catan.game.Player} receives the resources next to the settlement
+     */
+    private static void placeInitialStructures(final SiedlerGame game, final PlayerPolicy policy,
+                                               final boolean payout) {
+        final BoardTopology topology = game.getBoard().getTopology();
+        final int corner = policy.chooseInitialSettlement(game);
+        if (!game.placeInitialSettlement(topology.getCorner(corner), payout)) {
+            throw new IllegalStateException("Policy chose an invalid initial settlement");
+        }
+        final int edge = policy.chooseInitialRoad(game, corner);
+        if (!game.placeInitialRoad(topology.getEdgeStart(edge), topology.getEdgeEnd(edge))) {
+            throw new IllegalStateException("Policy chose an invalid initial road");
+        }
+    }
+
+    /**
+     * Lets the current {@link ch.zhaw.catan.game.Player} move the thief.
+     *
+     * @param game   the game
+     * @param policy the {@link PlayerPolicy} of the current {@link ch.zhaw.catan.game.Player}
+     */
+    public static void moveThief(final SiedlerGame game, final PlayerPolicy policy) {
+        final BoardTopology topology = game.getBoard().getTopology();
+        if (!game.placeThiefAndStealCard(topology.getField(policy.chooseThiefField(game)))) {
+            throw new IllegalStateException("Policy chose an invalid thief field");
+        }
+    }
+
+    /**
+     * Switches to the next {@link ch.zhaw.catan.game.Player} and plays turns until there is a winner or the maximum
+     * number of turns has been played.
+     *
+     * @param game     the game
+     * @param policies the {@link PlayerPolicy} per {@link ch.zhaw.catan.game.Player}, in playing order
+     * @param dice     the {@link Dice} to roll
+     * @param maxTurns the maximum number of turns to play
+     * @return the winner or null if nobody won within the maximum number of turns
+     */
+    public static Faction playTurns(final SiedlerGame game, final List<? extends PlayerPolicy> policies,
+                                    final Dice dice, final int maxTurns) {
+        letPoliciesDiscard(game, policies);
+        for (int turn = 0; turn < maxTurns; turn++) {
+            game.switchToNextPlayer();
+            final Faction winner = playTurn(game, policies.get(game.getCurrentPlayerIndex()), dice);
+            if (winner != null) {
+                return winner;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lets the {@link PlayerPolicy}s choose the cards their {@link ch.zhaw.catan.game.Player}s discard when the thief
+     * is executed.
+     *
+     * @param game     the game
+     * @param policies the {@link PlayerPolicy} per {@link ch.zhaw.catan.game.Player}, in playing order
+     */
+    public static void letPoliciesDiscard(final SiedlerGame game, final List<? extends PlayerPolicy> policies) {
+        game.setDiscardChooser((state, playerIndex, count) ->
+                policies.get(playerIndex).chooseDiscard(state, playerIndex, count));
+    }
+
+}
@@ -0,0 +1,64 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.game.SiedlerGame;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link PlayerPolicy} forwarding all decisions to another policy. Subclasses override the decisions they make
+ * themselves, so heuristics for the setup, the thief and the turns can be combined freely.
+ */
+public abstract class DelegatingPolicy implements PlayerPolicy {
+
+    private final PlayerPolicy delegate;
+
+    /**
+     * Creates a policy forwarding to the given policy.
+     *
+     * @param delegate the policy to forward to
+     */
+    protected DelegatingPolicy(final PlayerPolicy delegate) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialSettlement(final SiedlerGame game) {
+        return delegate.chooseInitialSettlement(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialRoad(final SiedlerGame game, final int settlementCorner) {
+        return delegate.chooseInitialRoad(game, settlementCorner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseThiefField(final SiedlerGame game) {
+        return delegate.chooseThiefField(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn(final SiedlerGame game) {
+        delegate.playTurn(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] chooseDiscard(final SiedlerGame game, final int playerIndex, final int count) {
+        return delegate.chooseDiscard(game, playerIndex, count);
+    }
+
+}
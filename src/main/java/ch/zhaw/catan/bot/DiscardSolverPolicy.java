@@ -0,0 +1,57 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.analysis.DiscardSolver;
+import ch.zhaw.catan.analysis.IncomeTracker;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+
+/**
+ * {@link PlayerPolicy} discarding the cards chosen by a {@link DiscardSolver}: the discard which keeps the player
+ * closest to the next affordable {@link Config.Structure} given the expected income of the player. All other
+ * decisions are forwarded.
+ */
+public class DiscardSolverPolicy extends DelegatingPolicy {
+
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final DiscardSolver solver = new DiscardSolver();
+    private final int[] cards = new int[RESOURCES.length];
+    private final int[] incomePips = new int[RESOURCES.length];
+    private SiedlerGame trackedGame;
+    private IncomeTracker tracker;
+
+    /**
+     * Creates a policy forwarding all decisions except the discard to the given policy.
+     *
+     * @param delegate the policy to forward to
+     */
+    public DiscardSolverPolicy(final PlayerPolicy delegate) {
+        super(delegate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] chooseDiscard(final SiedlerGame game, final int playerIndex, final int count) {
+        if (game != trackedGame) {
+            trackedGame = game;
+            tracker = new IncomeTracker(game);
+        }
+        final Player player = game.getCurrentPlayers().get(playerIndex);
+        for (Resource resource : RESOURCES) {
+            cards[resource.ordinal()] = player.getAmountOfResource(resource);
+            incomePips[resource.ordinal()] = tracker.getIncomePips(playerIndex, resource);
+        }
+        for (Config.Structure structure : Config.Structure.values()) {
+            solver.setAvailable(structure, player.hasNotReachedMaxStockOf(structure));
+        }
+        solver.setIncome(incomePips);
+        final int[] discard = new int[RESOURCES.length];
+        solver.solve(cards, count, discard);
+        return discard;
+    }
+
+}
@@ -0,0 +1,170 @@
+package ch.zhaw.catan.bot;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Elo ratings of the entrants of a {@link Tournament}, updated incrementally after every match.
+ * <p>
+ * A match of more than two players counts as a match between every pair of its players: the winner beats everybody
+ * else and the other players draw among each other. If nobody wins, all players draw. The factor K is divided by the
+ * number of opponents, so a match moves a rating by at most K regardless of the number of players.
+ * </p>
+ */
+public class EloRatings {
+
+    /**
+     * The rating of an entrant without any match.
+     */
+    public static final double INITIAL_RATING = 1500;
+
+    /**
+     * The default maximum change of a rating per match.
+     */
+    public static final double DEFAULT_K_FACTOR = 16;
+
+    private static final double SCALE = 400;
+    private static final double WIN = 1;
+    private static final double DRAW = 0.5;
+    private static final double LOSS = 0;
+
+    private final List<String> names;
+    private final double kFactor;
+    private final double[] ratings;
+    private final long[] games;
+    private final long[] wins;
+
+    /**
+     * Creates ratings with {@link #DEFAULT_K_FACTOR}.
+     *
+     * @param names the names of the entrants
+     */
+    public EloRatings(final List<String> names) {
+        this(names, DEFAULT_K_FACTOR);
+    }
+
+    /**
+     * Creates ratings.
+     *
+     * @param names   the names of the entrants
+     * @param kFactor the maximum change of a rating per match
+     */
+    public EloRatings(final List<String> names, final double kFactor) {
+        this.names = List.copyOf(requireNonNull(names, "names must not be null"));
+        if (kFactor <= 0) {
+            throw new IllegalArgumentException("kFactor must be positive");
+        }
+        this.kFactor = kFactor;
+        ratings = new double[names.size()];
+        games = new long[names.size()];
+        wins = new long[names.size()];
+        Arrays.fill(ratings, INITIAL_RATING);
+    }
+
+    /**
+     * Updates the ratings with the result of a match.
+     *
+     * @param result the result
+     */
+    public void update(final MatchResult result) {
+        final int seats = result.getNumberOfSeats();
+        final double k = kFactor / (seats - 1);
+        final double[] changes = new double[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            for (int opponent = seat + 1; opponent < seats; opponent++) {
+                final double score = getScore(result.getWinnerSeat(), seat, opponent);
+                final double change = k * (score - getExpectedScore(result.getEntrant(seat),
+                        result.getEntrant(opponent)));
+                changes[seat] += change;
+                changes[opponent] -= change;
+            }
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            final int entrant = result.getEntrant(seat);
+            ratings[entrant] += changes[seat];
+            games[entrant]++;
+            if (seat == result.getWinnerSeat()) {
+                wins[entrant]++;
+            }
+        }
+    }
+
+    /**
+     * Returns the probability that the first entrant beats the second one according to their current ratings.
+     *
+     * @param entrant  the index of the first entrant
+     * @param opponent the index of the second entrant
+     * @return the expected score between 0 and 1
+     */
+    public double getExpectedScore(final int entrant, final int opponent) {
+        return 1 / (1 + Math.pow(10, (ratings[opponent] - ratings[entrant]) / SCALE));
+    }
+
+    /**
+     * Returns the current rating of an entrant.
+     *
+     * @param entrant the index of the entrant
+     * @return the rating
+     */
+    public double getRating(final int entrant) {
+        return ratings[entrant];
+    }
+
+    /**
+     * Returns the number of matches an entrant has played.
+     *
+     * @param entrant the index of the entrant
+     * @return the number of matches
+     */
+    public long getGames(final int entrant) {
+        return games[entrant];
+    }
+
+    /**
+     * Returns the number of matches an entrant has won.
+     *
+     * @param entrant the index of the entrant
+     * @return the number of wins
+     */
+    public long getWins(final int entrant) {
+        return wins[entrant];
+    }
+
+    /**
+     * Returns the number of entrants.
+     *
+     * @return the number of entrants
+     */
+    public int getNumberOfEntrants() {
+        return ratings.length;
+    }
+
+    /**
+     * Writes the ratings as CSV with a header line: name, rating, games and wins.
+     *
+     * @param writer the {@link Writer} to write to
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(final Writer writer) throws IOException {
+        writer.write("name,rating,games,wins\n");
+        for (int entrant = 0; entrant < ratings.length; entrant++) {
+            writer.write(Tournament.toCsvField(names.get(entrant)) + ","
+                    + String.format(Locale.ROOT, "%.1f", ratings[entrant]) + "," + games[entrant] + ","
+                    + wins[entrant] + "\n");
+        }
+        writer.flush();
+    }
+
+    private static double getScore(final int winnerSeat, final int seat, final int opponent) {
+        if (winnerSeat == seat) {
+            return WIN;
+        }
+        return winnerSeat == opponent ? LOSS : DRAW;
+    }
+
+}
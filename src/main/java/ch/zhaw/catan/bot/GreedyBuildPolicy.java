@@ -0,0 +1,107 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.Random;
+
+import static ch.zhaw.catan.game.Config.Structure.CITY;
+import static ch.zhaw.catan.game.Config.Structure.ROAD;
+import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
+
+/**
+ * {@link PlayerPolicy} building as much as possible each turn: cities before settlements before roads, each on the
+ * position with the most pips. It trades with the bank only if the trade makes a structure affordable. The setup and
+ * the thief are chosen randomly like by {@link RandomPolicy}.
+ * <p>
+ * An instance reuses its buffers and must therefore be used by one thread at a time.
+ * </p>
+ */
+public class GreedyBuildPolicy extends RandomPolicy {
+
+    private static final int CITY_PRIORITY = 300;
+    private static final int SETTLEMENT_PRIORITY = 200;
+    private static final int ROAD_PRIORITY = 100;
+    private static final int TRADE_PRIORITY = 50;
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final int[] moves = new int[Moves.MAX_MOVES];
+    private final int[] hand = new int[RESOURCES.length];
+
+    /**
+     * Creates a policy using the given random number generator for the setup and the thief.
+     *
+     * @param random the random number generator
+     */
+    public GreedyBuildPolicy(final Random random) {
+        super(random);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn(final SiedlerGame game) {
+        while (game.getWinner() == null) {
+            final int count = Moves.generate(game, moves);
+            int best = moves[0];
+            int bestPriority = 0;
+            for (int i = 1; i < count; i++) {
+                final int priority = getPriority(game, moves[i]);
+                if (priority > bestPriority) {
+                    best = moves[i];
+                    bestPriority = priority;
+                }
+            }
+            if (Moves.getType(best) == Moves.END_TURN) {
+                return;
+            }
+            Moves.apply(game, best);
+        }
+    }
+
+    private int getPriority(final SiedlerGame game, final int move) {
+        final int argument = Moves.getArgument(move);
+        final BoardTopology topology = game.getBoard().getTopology();
+        final IncomeTable pips = PipTable.of(game.getBoard());
+        return switch (Moves.getType(move)) {
+            case Moves.BUILD_CITY -> CITY_PRIORITY + pips.getCornerPips(argument);
+            case Moves.BUILD_SETTLEMENT -> SETTLEMENT_PRIORITY + pips.getCornerPips(argument);
+            case Moves.BUILD_ROAD -> ROAD_PRIORITY + Math.max(pips.getCornerPips(topology.getEdgeStartIndex(argument)),
+                    pips.getCornerPips(topology.getEdgeEndIndex(argument)));
+            case Moves.TRADE -> makesAffordable(game.getCurrentPlayer(), argument) ? TRADE_PRIORITY : 0;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns whether the trade with the given argument makes a structure affordable that is not affordable now.
+     */
+    private boolean makesAffordable(final Player player, final int tradeArgument) {
+        for (Resource resource : RESOURCES) {
+            hand[resource.ordinal()] = player.getAmountOfResource(resource);
+        }
+        final boolean affordableBefore = canAffordAny();
+        hand[tradeArgument / RESOURCES.length] -= Moves.TRADE_OFFER;
+        hand[tradeArgument % RESOURCES.length]++;
+        return !affordableBefore && canAffordAny();
+    }
+
+    private boolean canAffordAny() {
+        return canAfford(CITY) || canAfford(SETTLEMENT) || canAfford(ROAD);
+    }
+
+    private boolean canAfford(final Config.Structure structure) {
+        for (int i = 0; i < hand.length; i++) {
+            if (hand[i] < Moves.getCost(structure, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
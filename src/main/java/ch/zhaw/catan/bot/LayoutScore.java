@@ -0,0 +1,126 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.game.Config;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable result of scoring a {@link BoardLayout} with a {@link BoardBalanceScorer}: how many of the simulated games
+ * were won from which seat.
+ * <p>
+ * Every seat plays the same {@link Config.Faction faction} in every game, so the dependence on the seat and the
+ * dependence on the faction are measured together. The balance of a layout is summarised by its
+ * {@link #getSeatImbalance() seat imbalance}.
+ * </p>
+ */
+public final class LayoutScore {
+
+    private final long index;
+    private final BoardLayout layout;
+    private final int[] winsPerSeat;
+    private final int games;
+
+    /**
+     * Creates a score.
+     *
+     * @param index       the index of the layout in the scored sequence
+     * @param layout      the layout
+     * @param winsPerSeat the number of games won per seat
+     * @param games       the number of games played, including games without winner
+     */
+    public LayoutScore(final long index, final BoardLayout layout, final int[] winsPerSeat, final int games) {
+        this.index = index;
+        this.layout = requireNonNull(layout, "layout must not be null");
+        this.winsPerSeat = winsPerSeat.clone();
+        this.games = games;
+    }
+
+    /**
+     * Returns the index of the layout in the scored sequence.
+     *
+     * @return the index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the scored layout.
+     *
+     * @return the layout
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the number of games played, including games without winner.
+     *
+     * @return the number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games with a winner.
+     *
+     * @return the number of games with a winner
+     */
+    public int getDecidedGames() {
+        int decided = 0;
+        for (int wins : winsPerSeat) {
+            decided += wins;
+        }
+        return decided;
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of seats
+     */
+    public int getNumberOfSeats() {
+        return winsPerSeat.length;
+    }
+
+    /**
+     * Returns the number of games won from a seat.
+     *
+     * @param seat the seat
+     * @return the number of wins
+     */
+    public int getWins(final int seat) {
+        return winsPerSeat[seat];
+    }
+
+    /**
+     * Returns the share of the games with a winner which were won from a seat.
+     *
+     * @param seat the seat
+     * @return the win rate between 0 and 1, or 0 if no game had a winner
+     */
+    public double getWinRate(final int seat) {
+        final int decided = getDecidedGames();
+        return decided == 0 ? 0 : (double) winsPerSeat[seat] / decided;
+    }
+
+    /**
+     * Returns how much the win rate depends on the seat: the total variation distance between the win rates and equal
+     * win rates for all seats. 0 means every seat won equally often, 1 - 1 / seats means one seat won every game.
+     *
+     * @return the imbalance, or 1 if no game had a winner
+     */
+    public double getSeatImbalance() {
+        if (getDecidedGames() == 0) {
+            return 1;
+        }
+        double distance = 0;
+        for (int seat = 0; seat < winsPerSeat.length; seat++) {
+            distance += Math.abs(getWinRate(seat) - 1.0 / winsPerSeat.length);
+        }
+        return distance / 2;
+    }
+
+}
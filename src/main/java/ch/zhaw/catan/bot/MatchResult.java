@@ -0,0 +1,113 @@
+package ch.zhaw.catan.bot;
+
+import java.util.Arrays;
+
+/**
+ * Immutable result of a match of a {@link Tournament}: which entrants played on which seat, who won and how many turns
+ * it took.
+ */
+public final class MatchResult {
+
+    /**
+     * The winner seat of a match without a winner within the maximum number of turns.
+     */
+    public static final int NO_WINNER = -1;
+
+    private final long index;
+    private final int round;
+    private final long seed;
+    private final int[] entrants;
+    private final int winnerSeat;
+    private final int turns;
+
+    /**
+     * Creates a match result.
+     *
+     * @param index      the index of the match in the tournament
+     * @param round      the round of the tournament
+     * @param seed       the seed of the game and the dice
+     * @param entrants   the indices of the entrants by seat
+     * @param winnerSeat the seat of the winner or {@link #NO_WINNER}
+     * @param turns      the number of turns played
+     */
+    public MatchResult(final long index, final int round, final long seed, final int[] entrants,
+                       final int winnerSeat, final int turns) {
+        this.index = index;
+        this.round = round;
+        this.seed = seed;
+        this.entrants = entrants.clone();
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+    }
+
+    /**
+     * Returns the index of the match in the tournament.
+     *
+     * @return the index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the round of the tournament the match was played in.
+     *
+     * @return the round
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Returns the seed of the game and the dice.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of seats
+     */
+    public int getNumberOfSeats() {
+        return entrants.length;
+    }
+
+    /**
+     * Returns the index of the entrant on the given seat.
+     *
+     * @param seat the seat, where 0 places the first settlement
+     * @return the index of the entrant
+     */
+    public int getEntrant(final int seat) {
+        return entrants[seat];
+    }
+
+    /**
+     * Returns the seat of the winner.
+     *
+     * @return the seat of the winner or {@link #NO_WINNER}
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Returns the number of turns played.
+     *
+     * @return the number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    @Override
+    public String toString() {
+        return "Match " + index + " " + Arrays.toString(entrants) + " winner seat " + winnerSeat + " after " + turns
+                + " turns";
+    }
+
+}
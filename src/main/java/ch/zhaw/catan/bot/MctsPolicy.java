@@ -0,0 +1,285 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.game.GameLog;
+import ch.zhaw.catan.game.GameLogEntry;
+import ch.zhaw.catan.game.GameSnapshot;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link PlayerPolicy} choosing its moves with a Monte Carlo Tree Search.
+ * <p>
+ * Each decision is searched root-parallel: every thread of the policy builds its own tree from the current state
+ * (see {@link MctsSearch}) and the move visited most often over all trees is played. Playouts are finished with a
+ * {@link RandomPolicy}. The search stops when its {@link Budget} of iterations or time is used up. The initial
+ * placement is delegated to a setup policy.
+ * </p>
+ * <p>
+ * The policy owns a thread pool and must be {@link #close() closed} when it is no longer needed.
+ * </p>
+ */
+public class MctsPolicy implements PlayerPolicy, AutoCloseable {
+
+    private static final AtomicInteger POLICY_COUNT = new AtomicInteger();
+
+    private final Budget budget;
+    private final int threads;
+    private final PlayerPolicy setupPolicy;
+    private final Random random;
+    private final ExecutorService executor;
+    private final int[] moves = new int[Moves.MAX_MOVES];
+
+    private MctsStatistics lastStatistics = MctsStatistics.EMPTY;
+    private MctsStatistics totalStatistics = MctsStatistics.EMPTY;
+
+    /**
+     * Creates a policy placing its initial structures with a {@link PipPlacementPolicy}.
+     *
+     * @param budget  the {@link Budget} of each search
+     * @param threads the number of threads searching in parallel
+     * @param seed    the seed of the random number generator
+     */
+    public MctsPolicy(final Budget budget, final int threads, final long seed) {
+        this(budget, threads, seed, new PipPlacementPolicy(new RandomPolicy(new Random(seed))));
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param budget      the {@link Budget} of each search
+     * @param threads     the number of threads searching in parallel
+     * @param seed        the seed of the random number generator
+     * @param setupPolicy the {@link PlayerPolicy} choosing the initial settlements and roads
+     */
+    public MctsPolicy(final Budget budget, final int threads, final long seed, final PlayerPolicy setupPolicy) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        this.budget = requireNonNull(budget, "budget must not be null");
+        this.threads = threads;
+        this.setupPolicy = requireNonNull(setupPolicy, "setupPolicy must not be null");
+        random = new Random(seed);
+        final int policyNumber = POLICY_COUNT.incrementAndGet();
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "catan-mcts-" + policyNumber + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialSettlement(final SiedlerGame game) {
+        return setupPolicy.chooseInitialSettlement(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialRoad(final SiedlerGame game, final int settlementCorner) {
+        return setupPolicy.chooseInitialRoad(game, settlementCorner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseThiefField(final SiedlerGame game) {
+        return Moves.getArgument(search(game, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn(final SiedlerGame game) {
+        while (game.getWinner() == null) {
+            final int move = search(game, false);
+            if (Moves.getType(move) == Moves.END_TURN) {
+                return;
+            }
+            if (!Moves.apply(game, move)) {
+                throw new IllegalStateException("Search chose an illegal move: " + move);
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of the last search.
+     *
+     * @return the statistics of the last search
+     */
+    public MctsStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    /**
+     * Returns the statistics of all searches so far.
+     *
+     * @return the statistics of all searches
+     */
+    public MctsStatistics getTotalStatistics() {
+        return totalStatistics;
+    }
+
+    /**
+     * Stops the threads of this policy.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Searches the best move of the current {@link Player}. Decisions with a single legal move are not searched.
+     *
+     * @param game         the game
+     * @param thiefPending whether the current {@link Player} has to move the thief
+     * @return the best move
+     */
+    private int search(final SiedlerGame game, final boolean thiefPending) {
+        final int count = thiefPending ? Moves.generateThiefMoves(game, moves) : Moves.generate(game, moves);
+        if (count == 1) {
+            return moves[0];
+        }
+
+        final long start = System.nanoTime();
+        final GameSnapshot root = GameSnapshot.of(game);
+        final int[] hiddenCards = countHiddenCards(game);
+        final long iterationsPerThread = budget.iterations == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : (budget.iterations + threads - 1) / threads;
+        final long deadline = start + budget.nanos;
+
+        final List<Future<MctsSearch>> searches = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final MctsSearch search = new MctsSearch(root, thiefPending, hiddenCards, random.nextLong());
+            searches.add(executor.submit(() -> search.run(iterationsPerThread, deadline)));
+        }
+
+        final Map<Integer, Long> visitsPerMove = new HashMap<>();
+        long playouts = 0;
+        for (Future<MctsSearch> search : searches) {
+            final MctsSearch finished = await(search);
+            finished.addRootVisits(visitsPerMove);
+            playouts += finished.getPlayouts();
+        }
+        lastStatistics = new MctsStatistics(playouts, System.nanoTime() - start, 1);
+        totalStatistics = totalStatistics.plus(lastStatistics);
+
+        int best = moves[0];
+        long bestVisits = -1;
+        for (int i = 0; i < count; i++) {
+            final long visits = visitsPerMove.getOrDefault(moves[i], 0L);
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts per {@link Player} index the cards whose type the current {@link Player} cannot know: those stolen by
+     * another {@link Player} from a third one.
+     */
+    private static int[] countHiddenCards(final SiedlerGame game) {
+        final List<Player> players = game.getCurrentPlayers();
+        final int observer = game.getCurrentPlayerFaction().ordinal();
+        final int[] hiddenCards = new int[players.size()];
+        final GameLog.Reader reader = game.getLog().reader();
+        while (reader.hasNext()) {
+            if (reader.next() == GameLogEntry.CARD_STOLEN) {
+                final int victim = reader.getArgument(0);
+                final int thief = reader.getArgument(1);
+                if (victim != observer && thief != observer) {
+                    for (int i = 0; i < players.size(); i++) {
+                        if (players.get(i).getFaction().ordinal() == thief) {
+                            hiddenCards[i]++;
+                        }
+                    }
+                }
+            }
+        }
+        return hiddenCards;
+    }
+
+    private static MctsSearch await(final Future<MctsSearch> search) {
+        try {
+            return search.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search has been interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        }
+    }
+
+    /**
+     * Limits the iterations and the time of a single search. A search stops at whichever limit it reaches first.
+     */
+    public static final class Budget {
+
+        private final long iterations;
+        private final long nanos;
+
+        private Budget(final long iterations, final long nanos) {
+            if (iterations < 1 || nanos < 1) {
+                throw new IllegalArgumentException("budget must be positive");
+            }
+            this.iterations = iterations;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Creates a budget of a number of iterations over all threads.
+         *
+         * @param iterations the number of iterations
+         * @return the budget
+         */
+        public static Budget iterations(final long iterations) {
+            return new Budget(iterations, Long.MAX_VALUE);
+        }
+
+        /**
+         * Creates a budget of wall clock time.
+         *
+         * @param millis the time in milliseconds
+         * @return the budget
+         */
+        public static Budget millis(final long millis) {
+            return new Budget(Long.MAX_VALUE, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        /**
+         * Creates a budget of a number of iterations over all threads and wall clock time.
+         *
+         * @param iterations the number of iterations
+         * @param millis     the time in milliseconds
+         * @return the budget
+         */
+        public static Budget of(final long iterations, final long millis) {
+            return new Budget(iterations, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+    }
+
+}
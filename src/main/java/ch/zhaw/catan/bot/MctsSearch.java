@@ -0,0 +1,294 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.game.Bank;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.GameSnapshot;
+import ch.zhaw.catan.game.InventoryOwner;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A single search tree of a {@link MctsPolicy}, searched by one thread.
+ * <p>
+ * Every iteration starts from a determinization of the root state: a copy of the game in which the cards other
+ * players have stolen out of sight of the searching player are replaced by random cards. Decision nodes only consider
+ * the moves that are legal in the current determinization. Ending the turn leads to a chance node whose children are
+ * the outcomes of the next dice roll, sampled with their real probabilities. Random steals are not branched on; they
+ * are resolved by the random number generator of the copied game.
+ * </p>
+ */
+class MctsSearch {
+
+    static final int MAX_PLAYOUT_TURNS = 200;
+    static final double EXPLORATION = Math.sqrt(2);
+
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final GameSnapshot root;
+    private final boolean rootThiefPending;
+    private final int[] hiddenCards;
+    private final Random random;
+    private final Dice dice;
+    private final RandomPolicy playoutPolicy;
+    private final List<RandomPolicy> playoutPolicies;
+    private final int[] moves = new int[Moves.MAX_MOVES];
+    private final double[] rewards;
+    private final List<Node> path = new ArrayList<>();
+    private final Node rootNode = new Node(-1, -1, false);
+
+    private long playouts;
+
+    /**
+     * Creates a search.
+     *
+     * @param root             the state to search from
+     * @param rootThiefPending whether the current {@link Player} has to move the thief first
+     * @param hiddenCards      the number of hidden cards per {@link Player} index
+     * @param seed             the seed of the random number generator of this search
+     */
+    MctsSearch(final GameSnapshot root, final boolean rootThiefPending, final int[] hiddenCards, final long seed) {
+        this.root = root;
+        this.rootThiefPending = rootThiefPending;
+        this.hiddenCards = hiddenCards;
+        random = new Random(seed);
+        dice = new Dice(random);
+        playoutPolicy = new RandomPolicy(random);
+        playoutPolicies = Collections.nCopies(root.getNumberOfPlayers(), playoutPolicy);
+        rewards = new double[root.getNumberOfPlayers()];
+    }
+
+    /**
+     * Runs iterations until the maximum number of iterations or the deadline is reached.
+     *
+     * @param maxIterations  the maximum number of iterations
+     * @param deadlineNanos  the {@link System#nanoTime()} after which no more iterations are started
+     * @return this search
+     */
+    MctsSearch run(final long maxIterations, final long deadlineNanos) {
+        while (playouts < maxIterations && System.nanoTime() - deadlineNanos < 0) {
+            iterate();
+            playouts++;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of playouts run so far.
+     *
+     * @return the number of playouts
+     */
+    long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Adds the number of visits of each move at the root to the given map.
+     *
+     * @param visitsPerMove the number of visits per move
+     */
+    void addRootVisits(final Map<Integer, Long> visitsPerMove) {
+        for (Node child : rootNode.children.values()) {
+            visitsPerMove.merge(child.move, (long) child.visits, Long::sum);
+        }
+    }
+
+    private void iterate() {
+        final SiedlerGame state = determinize();
+        boolean thiefPending = rootThiefPending;
+        boolean rollPending = false;
+        Node node = rootNode;
+        path.clear();
+        path.add(node);
+
+        while (state.getWinner() == null) {
+            if (node.chance) {
+                final int roll = dice.roll();
+                thiefPending = state.processDiceRoll(roll).isThiefExecuted();
+                rollPending = false;
+                node = node.getChanceChild(roll);
+                path.add(node);
+                continue;
+            }
+            final int count = thiefPending ? Moves.generateThiefMoves(state, moves) : Moves.generate(state, moves);
+            node = node.select(moves, count, state.getCurrentPlayerIndex(), random);
+            path.add(node);
+
+            if (Moves.getType(node.move) == Moves.END_TURN) {
+                state.switchToNextPlayer();
+                rollPending = true;
+            } else {
+                Moves.apply(state, node.move);
+                thiefPending = false;
+            }
+            if (node.visits == 0) {
+                break;
+            }
+        }
+
+        playout(state, rollPending, thiefPending);
+        for (Node visited : path) {
+            visited.visits++;
+            if (visited.mover >= 0) {
+                visited.reward += rewards[visited.mover];
+            }
+        }
+    }
+
+    private void playout(final SiedlerGame state, final boolean rollPending, final boolean thiefPending) {
+        if (state.getWinner() == null) {
+            if (rollPending) {
+                BotGameDriver.playTurn(state, playoutPolicy, dice);
+            } else {
+                if (thiefPending) {
+                    BotGameDriver.moveThief(state, playoutPolicy);
+                }
+                playoutPolicy.playTurn(state);
+            }
+        }
+        Faction winner = state.getWinner();
+        if (winner == null) {
+            winner = BotGameDriver.playTurns(state, playoutPolicies, dice, MAX_PLAYOUT_TURNS);
+        }
+        scoreResult(state, winner);
+    }
+
+    /**
+     * Rewards the winner with 1. Without a winner, the {@link Player}s with the highest score share the reward.
+     */
+    private void scoreResult(final SiedlerGame state, final Faction winner) {
+        final List<Player> players = state.getCurrentPlayers();
+        int bestScore = -1;
+        int leaders = 0;
+        for (int i = 0; i < players.size(); i++) {
+            final int score = winner == null ? players.get(i).getScore() : players.get(i).getFaction() == winner ? 1 : 0;
+            if (score > bestScore) {
+                bestScore = score;
+                leaders = 1;
+            } else if (score == bestScore) {
+                leaders++;
+            }
+            rewards[i] = score;
+        }
+        for (int i = 0; i < rewards.length; i++) {
+            rewards[i] = rewards[i] == bestScore ? 1.0 / leaders : 0;
+        }
+    }
+
+    /**
+     * Restores the root state and replaces the hidden cards of the other {@link Player}s by random cards from the
+     * {@link Bank}, keeping the number of cards of everybody the same.
+     */
+    private SiedlerGame determinize() {
+        final SiedlerGame state = root.toGame(random.nextLong());
+        final Bank bank = state.getBank();
+        final List<Player> players = state.getCurrentPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            final int cards = Math.min(hiddenCards[i], player.getTotalAmountOfResources());
+            for (int card = 0; card < cards; card++) {
+                moveRandomCard(player, bank);
+            }
+            for (int card = 0; card < cards; card++) {
+                moveRandomCard(bank, player);
+            }
+        }
+        return state;
+    }
+
+    private void moveRandomCard(final InventoryOwner from, final InventoryOwner to) {
+        int total = 0;
+        for (Resource resource : RESOURCES) {
+            total += from.getAmountOfResource(resource);
+        }
+        if (total == 0) {
+            return;
+        }
+        int card = random.nextInt(total);
+        for (Resource resource : RESOURCES) {
+            card -= from.getAmountOfResource(resource);
+            if (card < 0) {
+                from.decreaseInventoryItemIfApplicable(resource, 1);
+                to.increaseInventoryItem(resource, 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * A node of the search tree.
+     */
+    private static final class Node {
+
+        private final int move;
+        private final int mover;
+        private final boolean chance;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private int visits;
+        private double reward;
+
+        /**
+         * Creates a node.
+         *
+         * @param move   the move leading to this node
+         * @param mover  the index of the {@link Player} who made the move or -1
+         * @param chance whether this node is followed by a dice roll
+         */
+        private Node(final int move, final int mover, final boolean chance) {
+            this.move = move;
+            this.mover = mover;
+            this.chance = chance;
+        }
+
+        /**
+         * Returns the child for the given dice roll, creating it if necessary.
+         */
+        private Node getChanceChild(final int roll) {
+            return children.computeIfAbsent(roll, key -> new Node(key, -1, false));
+        }
+
+        /**
+         * Returns the child of an untried legal move if there is one, otherwise the child of the legal move with the
+         * highest upper confidence bound.
+         */
+        private Node select(final int[] legalMoves, final int count, final int mover, final Random random) {
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                if (!children.containsKey(legalMoves[i])) {
+                    final int swap = legalMoves[untried];
+                    legalMoves[untried++] = legalMoves[i];
+                    legalMoves[i] = swap;
+                }
+            }
+            if (untried > 0) {
+                final int move = legalMoves[random.nextInt(untried)];
+                final Node child = new Node(move, mover, Moves.getType(move) == Moves.END_TURN);
+                children.put(move, child);
+                return child;
+            }
+
+            final double logVisits = Math.log(Math.max(1, visits));
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                final Node child = children.get(legalMoves[i]);
+                final double value = child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package ch.zhaw.catan.bot;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable measurement of one or more searches of a {@link MctsPolicy}: how many playouts were run and how long it
+ * took. The playouts per second of a single search are the figure to size the hardware of bot filled lobbies with.
+ */
+public final class MctsStatistics {
+
+    /**
+     * Statistics without any search.
+     */
+    public static final MctsStatistics EMPTY = new MctsStatistics(0, 0, 0);
+
+    private final long playouts;
+    private final long elapsedNanos;
+    private final int searches;
+
+    /**
+     * Creates statistics.
+     *
+     * @param playouts     the number of playouts
+     * @param elapsedNanos the wall clock time the searches took in nanoseconds
+     * @param searches     the number of searches
+     */
+    public MctsStatistics(final long playouts, final long elapsedNanos, final int searches) {
+        this.playouts = playouts;
+        this.elapsedNanos = elapsedNanos;
+        this.searches = searches;
+    }
+
+    /**
+     * Returns the number of playouts.
+     *
+     * @return the number of playouts
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Returns the wall clock time the searches took in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of searches.
+     *
+     * @return the number of searches
+     */
+    public int getSearches() {
+        return searches;
+    }
+
+    /**
+     * Returns the number of playouts per second of wall clock time, summed over all threads.
+     *
+     * @return the playouts per second or 0 if no time has elapsed
+     */
+    public double getPlayoutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : playouts * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the statistics of these and the given searches together.
+     *
+     * @param other the other statistics
+     * @return the combined statistics
+     */
+    public MctsStatistics plus(final MctsStatistics other) {
+        return new MctsStatistics(playouts + other.playouts, elapsedNanos + other.elapsedNanos,
+                searches + other.searches);
+    }
+
+    /**
+     * Returns a human-readable summary.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%d playouts in %d searches, %.0f playouts/s", playouts, searches,
+                getPlayoutsPerSecond());
+    }
+
+}
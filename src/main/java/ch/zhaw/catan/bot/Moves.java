@@ -0,0 +1,249 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+import ch.zhaw.catan.structure.Structure;
+
+import static ch.zhaw.catan.game.Config.Land.WATER;
+import static ch.zhaw.catan.game.Config.Structure.CITY;
+import static ch.zhaw.catan.game.Config.Structure.ROAD;
+import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
+
+/**
+ * Encodes the actions of a turn as plain integers and generates the legal ones without allocating.
+ * <p>
+ * The upper bits of a move hold its type, the lower {@link #ARGUMENT_BITS} bits its argument: the
+ * {@link BoardTopology} index of a corner, edge or field, or the offered and wanted {@link Resource} of a trade.
+ * </p>
+ */
+public final class Moves {
+
+    public static final int END_TURN = 0;
+    public static final int BUILD_SETTLEMENT = 1;
+    public static final int BUILD_CITY = 2;
+    public static final int BUILD_ROAD = 3;
+    public static final int TRADE = 4;
+    public static final int MOVE_THIEF = 5;
+
+    /**
+     * The maximum number of moves that can be legal at the same time on the standard board.
+     */
+    public static final int MAX_MOVES = 512;
+
+    static final int TRADE_OFFER = 4;
+
+    private static final int ARGUMENT_BITS = 16;
+    private static final int ARGUMENT_MASK = (1 << ARGUMENT_BITS) - 1;
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final int[][] COSTS = new int[Config.Structure.values().length][RESOURCES.length];
+
+    static {
+        for (Config.Structure structure : Config.Structure.values()) {
+            for (Resource resource : structure.getCosts()) {
+                COSTS[structure.ordinal()][resource.ordinal()]++;
+            }
+        }
+    }
+
+    private Moves() {
+    }
+
+    /**
+     * Creates a move.
+     *
+     * @param type     the type of the move
+     * @param argument the argument of the move
+     * @return the move
+     */
+    public static int of(final int type, final int argument) {
+        return type << ARGUMENT_BITS | argument;
+    }
+
+    /**
+     * Creates a trade move.
+     *
+     * @param offer the offered {@link Resource}
+     * @param want  the wanted {@link Resource}
+     * @return the move
+     */
+    public static int trade(final Resource offer, final Resource want) {
+        return of(TRADE, offer.ordinal() * RESOURCES.length + want.ordinal());
+    }
+
+    /**
+     * Returns the type of a move.
+     *
+     * @param move the move
+     * @return the type
+     */
+    public static int getType(final int move) {
+        return move >>> ARGUMENT_BITS;
+    }
+
+    /**
+     * Returns the argument of a move.
+     *
+     * @param move the move
+     * @return the argument
+     */
+    public static int getArgument(final int move) {
+        return move & ARGUMENT_MASK;
+    }
+
+    /**
+     * Fills the given array with the legal moves of the current {@link Player} after the dice have been rolled.
+     * {@link #END_TURN} is always the first move.
+     *
+     * @param game  the game
+     * @param moves the array to fill, at least {@link #MAX_MOVES} long
+     * @return the number of moves
+     */
+    public static int generate(final SiedlerGame game, final int[] moves) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final Player player = game.getCurrentPlayer();
+        final Faction faction = player.getFaction();
+        int count = 0;
+        moves[count++] = of(END_TURN, 0);
+
+        if (canAfford(player, SETTLEMENT)) {
+            for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+                if (board.getCorner(corner) == null && hasOwnRoad(board, corner, faction)
+                        && board.canPlaceSettlementOnPosition(topology.getCorner(corner), false, faction)) {
+                    moves[count++] = of(BUILD_SETTLEMENT, corner);
+                }
+            }
+        }
+        if (canAfford(player, CITY)) {
+            for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+                final Structure structure = board.getCorner(corner);
+                if (structure != null && structure.getFaction() == faction
+                        && structure.getStructureType() == SETTLEMENT) {
+                    moves[count++] = of(BUILD_CITY, corner);
+                }
+            }
+        }
+        if (canAfford(player, ROAD)) {
+            for (int edge = 0; edge < topology.getEdgeCount(); edge++) {
+                if (board.getEdge(edge) == null && isConnected(board, edge, faction)
+                        && board.canPlaceRoadOnPosition(topology.getEdgeStart(edge), topology.getEdgeEnd(edge), faction)) {
+                    moves[count++] = of(BUILD_ROAD, edge);
+                }
+            }
+        }
+        for (Resource offer : RESOURCES) {
+            if (player.getAmountOfResource(offer) >= TRADE_OFFER) {
+                for (Resource want : RESOURCES) {
+                    if (want != offer && game.getBank().getAmountOfResource(want) > 0) {
+                        moves[count++] = trade(offer, want);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Fills the given array with the fields the thief can be moved to.
+     *
+     * @param game  the game
+     * @param moves the array to fill, at least {@link #MAX_MOVES} long
+     * @return the number of moves
+     */
+    public static int generateThiefMoves(final SiedlerGame game, final int[] moves) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        int count = 0;
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            if (board.getField(topology.getField(field)).getLand() != WATER) {
+                moves[count++] = of(MOVE_THIEF, field);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Applies a move to the game using its public actions. {@link #END_TURN} does not change the game.
+     *
+     * @param game the game
+     * @param move the move
+     * @return true if the move has been applied, false if it is not legal
+     */
+    public static boolean apply(final SiedlerGame game, final int move) {
+        final BoardTopology topology = game.getBoard().getTopology();
+        final int argument = getArgument(move);
+        return switch (getType(move)) {
+            case END_TURN -> true;
+            case BUILD_SETTLEMENT -> game.buildSettlement(topology.getCorner(argument));
+            case BUILD_CITY -> game.buildCity(topology.getCorner(argument));
+            case BUILD_ROAD -> game.buildRoad(topology.getEdgeStart(argument), topology.getEdgeEnd(argument));
+            case TRADE -> game.tradeWithBankFourToOne(RESOURCES[argument / RESOURCES.length],
+                    RESOURCES[argument % RESOURCES.length]);
+            case MOVE_THIEF -> game.placeThiefAndStealCard(topology.getField(argument));
+            default -> throw new IllegalArgumentException("Unknown move: " + move);
+        };
+    }
+
+    /**
+     * Returns whether a road of the {@link Faction} ends at the corner. Cheap precondition of building a settlement,
+     * checked before the rules of the board.
+     */
+    private static boolean hasOwnRoad(final SiedlerBoard board, final int corner, final Faction faction) {
+        for (int edge : board.getTopology().getEdgesOfCorner(corner)) {
+            final Structure road = board.getEdge(edge);
+            if (road != null && road.getFaction() == faction) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a structure of the {@link Faction} touches an end of the edge. Cheap precondition of building a
+     * road, checked before the rules of the board.
+     */
+    private static boolean isConnected(final SiedlerBoard board, final int edge, final Faction faction) {
+        final BoardTopology topology = board.getTopology();
+        return isOwnCorner(board, topology.getEdgeStartIndex(edge), faction)
+                || isOwnCorner(board, topology.getEdgeEndIndex(edge), faction);
+    }
+
+    private static boolean isOwnCorner(final SiedlerBoard board, final int corner, final Faction faction) {
+        final Structure structure = board.getCorner(corner);
+        return structure != null && structure.getFaction() == faction || hasOwnRoad(board, corner, faction);
+    }
+
+    /**
+     * Returns how many cards of a {@link Resource} a structure costs.
+     *
+     * @param structure       the type of the structure
+     * @param resourceOrdinal the ordinal of the {@link Resource}
+     * @return the number of cards
+     */
+    static int getCost(final Config.Structure structure, final int resourceOrdinal) {
+        return COSTS[structure.ordinal()][resourceOrdinal];
+    }
+
+    /**
+     * Returns whether the {@link Player} owns the {@link Resource}s for a structure and has a piece left.
+     *
+     * @param player    the {@link Player}
+     * @param structure the type of the structure
+     * @return true if the structure is affordable, false otherwise
+     */
+    public static boolean canAfford(final Player player, final Config.Structure structure) {
+        final int[] costs = COSTS[structure.ordinal()];
+        for (Resource resource : RESOURCES) {
+            if (player.getAmountOfResource(resource) < costs[resource.ordinal()]) {
+                return false;
+            }
+        }
+        return player.hasNotReachedMaxStockOf(structure);
+    }
+
+}
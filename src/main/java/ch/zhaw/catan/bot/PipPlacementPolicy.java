@@ -0,0 +1,68 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.SiedlerGame;
+
+/**
+ * {@link PlayerPolicy} placing each initial settlement on the free corner with the most pips and its road towards the
+ * neighbouring corner with the most pips. All other decisions are forwarded.
+ */
+public class PipPlacementPolicy extends DelegatingPolicy {
+
+    /**
+     * Creates a policy forwarding the decisions after the setup to the given policy.
+     *
+     * @param delegate the policy to forward to
+     */
+    public PipPlacementPolicy(final PlayerPolicy delegate) {
+        super(delegate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialSettlement(final SiedlerGame game) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final IncomeTable pips = PipTable.of(board);
+        final Faction faction = game.getCurrentPlayerFaction();
+        int best = -1;
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            if ((best < 0 || pips.getCornerPips(corner) > pips.getCornerPips(best))
+                    && board.getCorner(corner) == null
+                    && board.canPlaceSettlementOnPosition(topology.getCorner(corner), true, faction)) {
+                best = corner;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialRoad(final SiedlerGame game, final int settlementCorner) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final IncomeTable pips = PipTable.of(board);
+        final Faction faction = game.getCurrentPlayerFaction();
+        int best = -1;
+        int bestPips = -1;
+        for (int edge : topology.getEdgesOfCorner(settlementCorner)) {
+            final int otherCorner = topology.getEdgeStartIndex(edge) == settlementCorner
+                    ? topology.getEdgeEndIndex(edge)
+                    : topology.getEdgeStartIndex(edge);
+            if (pips.getCornerPips(otherCorner) > bestPips
+                    && board.canPlaceRoadOnPosition(topology.getEdgeStart(edge), topology.getEdgeEnd(edge), faction)) {
+                best = edge;
+                bestPips = pips.getCornerPips(otherCorner);
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,39 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.SiedlerBoard;
+
+/**
+ * Provides the pips of the fields and corners of a board to the policies: the number of the 36 outcomes of two dice
+ * which make a field produce. The pips of a corner are the sum of the pips of its fields.
+ * <p>
+ * Boards with the standard {@link BoardLayout} share the {@link IncomeTable#getStandard() standard IncomeTable}. The
+ * table of another layout is computed once and cached per thread until a board with a different layout is asked for,
+ * so a policy playing many turns on the same generated board computes it only once.
+ * </p>
+ */
+final class PipTable {
+
+    private static final ThreadLocal<IncomeTable> LAST_TABLE = ThreadLocal.withInitial(IncomeTable::getStandard);
+
+    private PipTable() {
+    }
+
+    /**
+     * Returns the {@link IncomeTable} of a board.
+     *
+     * @param board the board
+     * @return the table
+     */
+    static IncomeTable of(final SiedlerBoard board) {
+        final BoardLayout layout = board.getLayout();
+        IncomeTable table = LAST_TABLE.get();
+        if (table.getLayout() != layout && !table.getLayout().equals(layout)) {
+            table = IncomeTable.of(board);
+            LAST_TABLE.set(table);
+        }
+        return table;
+    }
+
+}
@@ -0,0 +1,67 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.game.SiedlerGame;
+
+/**
+ * Decides the actions of a computer controlled {@link ch.zhaw.catan.game.Player}.
+ * <p>
+ * Corners, edges and fields are identified by their index in the {@link BoardTopology} of the board of the game.
+ * All methods except {@link #chooseDiscard(SiedlerGame, int, int)} are called for the current
+ * {@link ch.zhaw.catan.game.Player} of the given game.
+ * </p>
+ */
+public interface PlayerPolicy {
+
+    /**
+     * Chooses the corner of an initial settlement. The corner must be valid for
+     * {@link SiedlerGame#placeInitialSettlement(java.awt.Point, boolean)}.
+     *
+     * @param game the game
+     * @return the index of the corner
+     */
+    int chooseInitialSettlement(SiedlerGame game);
+
+    /**
+     * Chooses the edge of the initial road next to the initial settlement placed before. The edge must be valid for
+     * {@link SiedlerGame#placeInitialRoad(java.awt.Point, java.awt.Point)}.
+     *
+     * @param game             the game
+     * @param settlementCorner the index of the corner of the initial settlement
+     * @return the index of the edge
+     */
+    int chooseInitialRoad(SiedlerGame game, int settlementCorner);
+
+    /**
+     * Chooses the field to move the thief to after a seven has been rolled. The field must be valid for
+     * {@link SiedlerGame#placeThiefAndStealCard(java.awt.Point)}.
+     *
+     * @param game the game
+     * @return the index of the field
+     */
+    int chooseThiefField(SiedlerGame game);
+
+    /**
+     * Plays the rest of the turn after the dice have been rolled by building and trading. The policy must not switch
+     * to the next player and must stop as soon as {@link SiedlerGame#getWinner()} returns a winner.
+     *
+     * @param game the game
+     */
+    void playTurn(SiedlerGame game);
+
+    /**
+     * Chooses the cards to discard when the thief is executed, if the game lets players choose, see
+     * {@link SiedlerGame#setDiscardChooser(ch.zhaw.catan.game.DiscardChooser)}. The player is not necessarily the
+     * current player. By default the cards are discarded at random.
+     *
+     * @param game        the game
+     * @param playerIndex the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @param count       the number of cards to discard
+     * @return the number of cards to discard per {@link ch.zhaw.catan.game.Config.Resource}, indexed by its ordinal,
+     * or null to discard at random
+     */
+    default int[] chooseDiscard(final SiedlerGame game, final int playerIndex, final int count) {
+        return null;
+    }
+
+}
@@ -0,0 +1,90 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.Random;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link PlayerPolicy} choosing uniformly among the legal moves, including ending the turn. Used as the playout policy
+ * of {@link MctsPolicy}.
+ * <p>
+ * An instance reuses its move buffer and must therefore be used by one thread at a time.
+ * </p>
+ */
+public class RandomPolicy implements PlayerPolicy {
+
+    private final Random random;
+    private final int[] moves = new int[Moves.MAX_MOVES];
+
+    /**
+     * Creates a policy using the given random number generator.
+     *
+     * @param random the random number generator
+     */
+    public RandomPolicy(final Random random) {
+        this.random = requireNonNull(random, "random must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialSettlement(final SiedlerGame game) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final Faction faction = game.getCurrentPlayerFaction();
+        int count = 0;
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            if (board.canPlaceSettlementOnPosition(topology.getCorner(corner), true, faction)) {
+                moves[count++] = corner;
+            }
+        }
+        return moves[random.nextInt(count)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseInitialRoad(final SiedlerGame game, final int settlementCorner) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final Faction faction = game.getCurrentPlayerFaction();
+        int count = 0;
+        for (int edge : topology.getEdgesOfCorner(settlementCorner)) {
+            if (board.canPlaceRoadOnPosition(topology.getEdgeStart(edge), topology.getEdgeEnd(edge), faction)) {
+                moves[count++] = edge;
+            }
+        }
+        return moves[random.nextInt(count)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseThiefField(final SiedlerGame game) {
+        final int count = Moves.generateThiefMoves(game, moves);
+        return Moves.getArgument(moves[random.nextInt(count)]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn(final SiedlerGame game) {
+        while (game.getWinner() == null) {
+            final int move = moves[random.nextInt(Moves.generate(game, moves))];
+            if (Moves.getType(move) == Moves.END_TURN) {
+                return;
+            }
+            Moves.apply(game, move);
+        }
+    }
+
+}
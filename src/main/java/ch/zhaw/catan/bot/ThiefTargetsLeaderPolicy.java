@@ -0,0 +1,82 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+import ch.zhaw.catan.structure.Structure;
+
+import java.util.List;
+
+import static ch.zhaw.catan.game.Config.Land.WATER;
+
+/**
+ * {@link PlayerPolicy} moving the thief to the field that costs the leading opponent the most production: the pips of
+ * the field weighted by the {@link Structure}s of the leader on its corners. Fields with own {@link Structure}s are
+ * avoided. All other decisions are forwarded.
+ */
+public class ThiefTargetsLeaderPolicy extends DelegatingPolicy {
+
+    private static final int OWN_STRUCTURE_PENALTY = 1000;
+
+    /**
+     * Creates a policy forwarding all decisions except the thief to the given policy.
+     *
+     * @param delegate the policy to forward to
+     */
+    public ThiefTargetsLeaderPolicy(final PlayerPolicy delegate) {
+        super(delegate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseThiefField(final SiedlerGame game) {
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final IncomeTable pips = PipTable.of(board);
+        final Faction own = game.getCurrentPlayerFaction();
+        final Faction leader = getLeadingOpponent(game);
+        final int currentField = board.getThiefField();
+
+        int best = -1;
+        int bestValue = Integer.MIN_VALUE;
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            if (field == currentField || board.getField(topology.getField(field)).getLand() == WATER) {
+                continue;
+            }
+            int value = 0;
+            for (int corner : topology.getCornersOfField(field)) {
+                final Structure structure = board.getCorner(corner);
+                if (structure != null && structure.getFaction() == own) {
+                    value -= OWN_STRUCTURE_PENALTY;
+                } else if (structure != null && structure.getFaction() == leader) {
+                    value += structure.getAmountPerResource() * pips.getFieldPips(field);
+                }
+            }
+            if (value > bestValue) {
+                best = field;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    private static Faction getLeadingOpponent(final SiedlerGame game) {
+        final List<Player> players = game.getCurrentPlayers();
+        Faction leader = null;
+        int leaderScore = -1;
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            if (i != game.getCurrentPlayerIndex() && player.getScore() > leaderScore) {
+                leader = player.getFaction();
+                leaderScore = player.getScore();
+            }
+        }
+        return leader;
+    }
+
+}
@@ -0,0 +1,459 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.GameLog;
+import ch.zhaw.catan.game.GameLogEntry;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Plays matches between {@link PlayerPolicy}s on a fixed pool of worker threads and rates the entrants with
+ * {@link EloRatings}.
+ * <p>
+ * A round either pairs every combination of entrants ({@link Format#ROUND_ROBIN}) or groups entrants with similar
+ * ratings ({@link Format#SWISS}). Every group plays one match per seat rotation with the same seed, so every entrant
+ * places the first settlement once and the advantage of the turn order as well as the luck of the dice cancel out.
+ * </p>
+ * <p>
+ * Matches run in parallel, with a bounded number of matches in flight so that tournaments of hundreds of thousands of
+ * games do not queue all of them at once. Results are applied to the ratings and written as CSV in the order the
+ * matches were scheduled, so a tournament with the same seed always produces the same ratings, no matter how many
+ * workers it uses.
+ * </p>
+ */
+public class Tournament implements AutoCloseable {
+
+    /**
+     * The default number of points required to win a match.
+     */
+    public static final int DEFAULT_WIN_POINTS = 7;
+
+    /**
+     * The default maximum number of turns of a match, after which it ends without winner.
+     */
+    public static final int DEFAULT_MAX_TURNS = 1_000;
+
+    static final int MATCHES_IN_FLIGHT_PER_WORKER = 4;
+
+    private static final int DEFAULT_ROUNDS = 10;
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final List<Entrant> entrants;
+    private final int playersPerMatch;
+    private final int winPoints;
+    private final int maxTurns;
+    private final int workerThreads;
+    private final ExecutorService workers;
+
+    /**
+     * The formats of a tournament.
+     */
+    public enum Format {
+
+        /**
+         * Every round plays every combination of entrants.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Every round sorts the entrants by rating and groups neighbours. Entrants left over play no match that round.
+         */
+        SWISS
+
+    }
+
+    /**
+     * Creates a tournament with one worker per core, {@link #DEFAULT_WIN_POINTS} and {@link #DEFAULT_MAX_TURNS}.
+     *
+     * @param entrants        the entrants
+     * @param playersPerMatch the number of players of a match
+     */
+    public Tournament(final List<Entrant> entrants, final int playersPerMatch) {
+        this(entrants, playersPerMatch, DEFAULT_WIN_POINTS, DEFAULT_MAX_TURNS,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param entrants        the entrants
+     * @param playersPerMatch the number of players of a match
+     * @param winPoints       the number of points required to win a match
+     * @param maxTurns        the maximum number of turns of a match
+     * @param workerThreads   the number of worker threads playing matches
+     */
+    public Tournament(final List<Entrant> entrants, final int playersPerMatch, final int winPoints,
+                      final int maxTurns, final int workerThreads) {
+        this.entrants = List.copyOf(requireNonNull(entrants, "entrants must not be null"));
+        if (playersPerMatch < 2 || playersPerMatch > Faction.values().length) {
+            throw new IllegalArgumentException("playersPerMatch must be between 2 and " + Faction.values().length);
+        }
+        if (entrants.size() < playersPerMatch) {
+            throw new IllegalArgumentException("At least " + playersPerMatch + " entrants are required");
+        }
+        if (maxTurns < 1 || workerThreads < 1) {
+            throw new IllegalArgumentException("maxTurns and workerThreads must be positive");
+        }
+        this.playersPerMatch = playersPerMatch;
+        this.winPoints = winPoints;
+        this.maxTurns = maxTurns;
+        this.workerThreads = workerThreads;
+        final AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "catan-tournament-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plays a tournament of the given number of rounds and returns the ratings of the entrants.
+     *
+     * @param format  the format of the tournament
+     * @param rounds  the number of rounds
+     * @param seed    the seed from which the seeds of all matches are derived
+     * @param results the {@link Writer} to write one CSV line per match to, or null
+     * @return the ratings after the last match
+     * @throws IOException          if writing the results fails
+     * @throws InterruptedException if the thread is interrupted while waiting for matches
+     */
+    public EloRatings run(final Format format, final int rounds, final long seed, final Writer results)
+            throws IOException, InterruptedException {
+        requireNonNull(format, "format must not be null");
+        final List<String> names = new ArrayList<>();
+        for (Entrant entrant : entrants) {
+            names.add(entrant.getName());
+        }
+        final EloRatings ratings = new EloRatings(names);
+        final Schedule schedule = new Schedule(ratings, results);
+        if (results != null) {
+            writeHeader(results);
+        }
+
+        final SplittableRandom seeds = new SplittableRandom(seed);
+        final List<int[]> combinations = format == Format.ROUND_ROBIN ? getCombinations() : null;
+        for (int round = 0; round < rounds; round++) {
+            final List<int[]> groups = format == Format.ROUND_ROBIN ? combinations : getSwissGroups(ratings);
+            for (int[] group : groups) {
+                final long groupSeed = seeds.nextLong();
+                for (int rotation = 0; rotation < playersPerMatch; rotation++) {
+                    schedule.submit(round, groupSeed, rotate(group, rotation));
+                }
+            }
+            if (format == Format.SWISS) {
+                schedule.awaitAll();
+            }
+        }
+        schedule.awaitAll();
+        if (results != null) {
+            results.flush();
+        }
+        return ratings;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Plays a tournament between the built-in bots and prints the ratings. Arguments: number of rounds (default 10),
+     * players per match (default 4) and an optional CSV file for the results of all matches.
+     *
+     * @param args the command line arguments
+     * @throws IOException          if writing the results fails
+     * @throws InterruptedException if interrupted while waiting for matches
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        final int players = args.length > 1 ? Integer.parseInt(args[1]) : Faction.values().length;
+        final List<Entrant> entrants = List.of(
+                new Entrant("random", seed -> new RandomPolicy(new Random(seed))),
+                new Entrant("greedy", seed -> new GreedyBuildPolicy(new Random(seed))),
+                new Entrant("pip-greedy", seed -> new PipPlacementPolicy(new GreedyBuildPolicy(new Random(seed)))),
+                new Entrant("pip-greedy-thief", seed -> new ThiefTargetsLeaderPolicy(
+                        new PipPlacementPolicy(new GreedyBuildPolicy(new Random(seed))))));
+
+        final long start = System.nanoTime();
+        try (Tournament tournament = new Tournament(entrants, players);
+             Writer results = args.length > 2
+                     ? Files.newBufferedWriter(Path.of(args[2]), StandardCharsets.UTF_8) : null) {
+            final EloRatings ratings = tournament.run(Format.ROUND_ROBIN, rounds, start, results);
+            final Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            ratings.writeCsv(out);
+            long games = 0;
+            for (int entrant = 0; entrant < ratings.getNumberOfEntrants(); entrant++) {
+                games += ratings.getGames(entrant);
+            }
+            out.write((games / players) + " matches in " + (System.nanoTime() - start) / 1_000_000 + " ms on "
+                    + tournament.workerThreads + " workers\n");
+            out.flush();
+        }
+    }
+
+    /**
+     * Plays a single match on the calling thread.
+     *
+     * @param index the index of the match
+     * @param round the round of the match
+     * @param seed  the seed of the game, the dice and the policies
+     * @param seats the indices of the entrants by seat
+     * @return the result
+     */
+    MatchResult play(final long index, final int round, final long seed, final int[] seats) {
+        final SiedlerGame game = new SiedlerGame(winPoints, seats.length, seed);
+        final Dice dice = new Dice(new Random(seed));
+        final List<PlayerPolicy> policies = new ArrayList<>();
+        try {
+            for (int entrant : seats) {
+                policies.add(entrants.get(entrant).createPolicy(seed ^ (entrant + 1) * SEED_MIX));
+            }
+            final Faction winner = BotGameDriver.playGame(game, policies, dice, maxTurns);
+            return new MatchResult(index, round, seed, seats,
+                    winner == null ? MatchResult.NO_WINNER : game.getPlayerFactions().indexOf(winner),
+                    countTurns(game.getLog()));
+        } finally {
+            for (PlayerPolicy policy : policies) {
+                closePolicy(policy);
+            }
+        }
+    }
+
+    /**
+     * Returns all combinations of {@link #playersPerMatch} entrants in lexicographic order.
+     */
+    List<int[]> getCombinations() {
+        final List<int[]> combinations = new ArrayList<>();
+        final int[] combination = new int[playersPerMatch];
+        for (int i = 0; i < playersPerMatch; i++) {
+            combination[i] = i;
+        }
+        while (true) {
+            combinations.add(combination.clone());
+            int position = playersPerMatch - 1;
+            while (position >= 0 && combination[position] == entrants.size() - playersPerMatch + position) {
+                position--;
+            }
+            if (position < 0) {
+                return combinations;
+            }
+            combination[position]++;
+            for (int i = position + 1; i < playersPerMatch; i++) {
+                combination[i] = combination[i - 1] + 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts the entrants by rating, best first, and groups them in that order.
+     */
+    private List<int[]> getSwissGroups(final EloRatings ratings) {
+        final List<Integer> order = new ArrayList<>();
+        for (int entrant = 0; entrant < entrants.size(); entrant++) {
+            order.add(entrant);
+        }
+        order.sort(Comparator.comparingDouble((Integer entrant) -> -ratings.getRating(entrant))
+                .thenComparingInt(entrant -> entrant));
+        final List<int[]> groups = new ArrayList<>();
+        for (int start = 0; start + playersPerMatch <= order.size(); start += playersPerMatch) {
+            final int[] group = new int[playersPerMatch];
+            for (int i = 0; i < playersPerMatch; i++) {
+                group[i] = order.get(start + i);
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private static int[] rotate(final int[] group, final int rotation) {
+        final int[] seats = new int[group.length];
+        for (int seat = 0; seat < group.length; seat++) {
+            seats[seat] = group[(seat + rotation) % group.length];
+        }
+        return seats;
+    }
+
+    private static int countTurns(final GameLog log) {
+        int turns = 0;
+        final GameLog.Reader reader = log.reader();
+        while (reader.hasNext()) {
+            if (reader.next() == GameLogEntry.DICE_ROLLED) {
+                turns++;
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Closes a policy after a match if it is {@link AutoCloseable}.
+     *
+     * @param policy the policy
+     */
+    static void closePolicy(final PlayerPolicy policy) {
+        if (policy instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not close policy", e);
+            }
+        }
+    }
+
+    private void writeHeader(final Writer results) throws IOException {
+        final StringBuilder header = new StringBuilder("match,round,seed");
+        for (int seat = 1; seat <= playersPerMatch; seat++) {
+            header.append(",seat").append(seat);
+        }
+        results.write(header.append(",winner,turns\n").toString());
+    }
+
+    private void writeResult(final Writer results, final MatchResult result) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        line.append(result.getIndex()).append(',').append(result.getRound()).append(',').append(result.getSeed());
+        for (int seat = 0; seat < result.getNumberOfSeats(); seat++) {
+            line.append(',').append(toCsvField(entrants.get(result.getEntrant(seat)).getName()));
+        }
+        line.append(',');
+        if (result.getWinnerSeat() != MatchResult.NO_WINNER) {
+            line.append(toCsvField(entrants.get(result.getEntrant(result.getWinnerSeat())).getName()));
+        }
+        results.write(line.append(',').append(result.getTurns()).append('\n').toString());
+    }
+
+    /**
+     * Quotes a CSV field if it contains a separator, a quote or a line break.
+     *
+     * @param value the value of the field
+     * @return the field
+     */
+    static String toCsvField(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * An entrant of a tournament: a name and a factory creating a new {@link PlayerPolicy} for every match.
+     */
+    public static final class Entrant {
+
+        private final String name;
+        private final LongFunction<? extends PlayerPolicy> factory;
+
+        /**
+         * Creates an entrant.
+         *
+         * @param name    the name written to the results
+         * @param factory creates the {@link PlayerPolicy} of a match from a seed; policies which are
+         *                {@link AutoCloseable} are closed after the match
+         */
+        public Entrant(final String name, final LongFunction<? extends PlayerPolicy> factory) {
+            this.name = requireNonNull(name, "name must not be null");
+            this.factory = requireNonNull(factory, "factory must not be null");
+        }
+
+        /**
+         * Returns the name of the entrant.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Creates the {@link PlayerPolicy} of a match.
+         *
+         * @param seed the seed for the random decisions of the policy
+         * @return the new policy
+         */
+        public PlayerPolicy createPolicy(final long seed) {
+            return factory.apply(seed);
+        }
+
+    }
+
+    /**
+     * Submits matches with a bounded number in flight and applies their results in submission order.
+     */
+    private final class Schedule {
+
+        private final CompletionService<MatchResult> completionService = new ExecutorCompletionService<>(workers);
+        private final Map<Long, MatchResult> completed = new HashMap<>();
+        private final EloRatings ratings;
+        private final Writer results;
+        private long submitted;
+        private long applied;
+        private int inFlight;
+
+        private Schedule(final EloRatings ratings, final Writer results) {
+            this.ratings = ratings;
+            this.results = results;
+        }
+
+        private void submit(final int round, final long seed, final int[] seats)
+                throws IOException, InterruptedException {
+            while (inFlight >= workerThreads * MATCHES_IN_FLIGHT_PER_WORKER) {
+                awaitOne();
+            }
+            final long index = submitted++;
+            completionService.submit(() -> play(index, round, seed, seats));
+            inFlight++;
+        }
+
+        private void awaitAll() throws IOException, InterruptedException {
+            while (inFlight > 0) {
+                awaitOne();
+            }
+        }
+
+        private void awaitOne() throws IOException, InterruptedException {
+            final MatchResult result;
+            try {
+                result = completionService.take().get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Match failed", e.getCause());
+            }
+            inFlight--;
+            completed.put(result.getIndex(), result);
+            MatchResult next;
+            while ((next = completed.remove(applied)) != null) {
+                ratings.update(next);
+                if (results != null) {
+                    writeResult(results, next);
+                }
+                applied++;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+package ch.zhaw.catan.game;
+
+import java.awt.Color;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static ch.zhaw.catan.game.Console.QUIT_SHORTCUT;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link ConsoleBackend} that writes to a raw character stream (usually stdout) using ANSI escape codes for colors.
+ * <p>
+ * Output is buffered and only flushed when input is requested, when the background color changes or when the backend
+ * is closed. This makes it suitable for sessions over SSH or in containers where no graphical environment is available.
+ * Entering the {@link Console#QUIT_SHORTCUT} or closing the input stream exits the game.
+ * </p>
+ */
+public class AnsiConsoleBackend implements ConsoleBackend {
+
+    static final String ESCAPE = "\u001B[";
+    static final String RESET = ESCAPE + "0m";
+    static final String PROMPT_STYLE = ESCAPE + "97m";
+    static final String INPUT_STYLE = ESCAPE + "1;38;2;255;200;0m";
+    private static final String OPERATING_SYSTEM_COMMAND = "\u001B]";
+    private static final String BELL = "\u0007";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private final Writer writer;
+
+    /**
+     * Constructs a new AnsiConsoleBackend reading from stdin and writing to stdout.
+     */
+    public AnsiConsoleBackend() {
+        this(System.in, System.out);
+    }
+
+    /**
+     * Constructs a new AnsiConsoleBackend reading from and writing to the given streams.
+     *
+     * @param input  the stream to read input from
+     * @param output the stream to write output to
+     */
+    public AnsiConsoleBackend(final InputStream input, final OutputStream output) {
+        reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+        writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8), OUTPUT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void print(final String message) {
+        write(message);
+    }
+
+    @Override
+    public void printLine(final String message) {
+        write(message);
+        write(lineSeparator());
+    }
+
+    @Override
+    public Integer readInteger(final String prompt, final int minValue, final int maxValue) {
+        while (true) {
+            final String input = readLine(prompt);
+            try {
+                final int value = Integer.parseInt(input);
+                if (value >= minValue && value <= maxValue) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // handled below by repeating the prompt
+            }
+            printLine("Invalid value. Expected an integer value between " + minValue + " and " + maxValue + ".");
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> E readEnum(final String prompt, final Class<E> enumClass) {
+        final E[] constants = enumClass.getEnumConstants();
+        for (int i = 0; i < constants.length; i++) {
+            printLine("  " + (i + 1) + ": " + constants[i].name());
+        }
+
+        while (true) {
+            final String input = readLine(prompt);
+            for (int i = 0; i < constants.length; i++) {
+                if (input.equals(String.valueOf(i + 1)) || input.equalsIgnoreCase(constants[i].name())) {
+                    return constants[i];
+                }
+            }
+            printLine("Invalid value. Enter a value between 1 and " + constants.length + " or the name of the option.");
+        }
+    }
+
+    /**
+     * Changes the default background color of the terminal using the xterm operating system command 11, which keeps
+     * the text that is already displayed.
+     *
+     * @param color the new background color
+     */
+    @Override
+    public void setBackgroundColor(final Color color) {
+        write(OPERATING_SYSTEM_COMMAND + "11;" + String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue()) + BELL);
+        flush();
+    }
+
+    /**
+     * Restores the default background color and flushes all pending output.
+     */
+    @Override
+    public void close() {
+        write(OPERATING_SYSTEM_COMMAND + "111" + BELL);
+        flush();
+    }
+
+    /**
+     * Prints the prompt and reads the next line of input. Exits the game if the {@link Console#QUIT_SHORTCUT} was
+     * entered or the input stream has been closed.
+     *
+     * @param prompt the prompt to display
+     * @return the trimmed input line
+     */
+    private String readLine(final String prompt) {
+        write(PROMPT_STYLE + prompt + ": " + INPUT_STYLE);
+        flush();
+        final String line;
+        try {
+            line = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(RESET);
+
+        if (line == null || line.trim().equalsIgnoreCase(QUIT_SHORTCUT)) {
+            close();
+            System.exit(0);
+        }
+
+        return line.trim();
+    }
+
+    private void write(final String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -13,8 +13,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
-import static ch.zhaw.catan.board.SiedlerBoard.MAX_X_COORDINATE;
-import static ch.zhaw.catan.board.SiedlerBoard.MAX_Y_COORDINATE;
 import static ch.zhaw.catan.board.SiedlerBoard.MIN_COORDINATE;
 import static ch.zhaw.catan.game.Config.Faction;
 import static ch.zhaw.catan.game.Config.MAX_CARDS_IN_HAND_NO_DROP;
@@ -24,7 +22,6 @@ import static ch.zhaw.catan.game.Console.QUIT_SHORTCUT;
 import static ch.zhaw.catan.game.SiedlerGame.FOUR_TO_ONE_TRADE_OFFER;
 import static ch.zhaw.catan.game.SiedlerGame.FOUR_TO_ONE_TRADE_WANT;
 import static java.lang.String.format;
-import static java.lang.Thread.sleep;
 import static java.util.EnumSet.allOf;
 
 /**
@@ -33,6 +30,7 @@ import static java.util.EnumSet.allOf;
 public class App {
 
     static final int REQUIRED_WINNING_SCORE = 7;
+    static final long QUIT_DELAY_MILLIS = 3000;
     static final Random RANDOM = new Random();
 
     private static final String SETTLEMENT_NAME = Settlement.class.getSimpleName();
@@ -42,6 +40,7 @@ public class App {
 
     private final Console console;
     private final Dice dice;
+    private final Random random;
 
     private SiedlerGame game;
 
@@ -49,30 +48,76 @@ public class App {
      * Constructs a new App object.
      */
     public App() {
-        console = new Console("Catan");
-        dice = new Dice();
+        this(new Console("Catan"), RANDOM);
+    }
+
+    /**
+     * Constructs a new App object reading from and writing to the given {@link Console} and rolling the given
+     * {@link Dice}. This allows to run games from scripts, see {@link ScriptedConsoleBackend}. The {@link SiedlerGame}
+     * is seeded from the shared random number generator.
+     *
+     * @param console the {@link Console} to use
+     * @param dice    the {@link Dice} to roll
+     */
+    public App(final Console console, final Dice dice) {
+        this(console, dice, RANDOM);
+    }
+
+    /**
+     * Constructs a new App object reading from and writing to the given {@link Console} whose {@link Dice} and
+     * {@link SiedlerGame} both draw from the given random number generator. A script run with a generator of the same
+     * seed plays exactly the same game, including the rolls of the thief and the cards it steals.
+     *
+     * @param console the {@link Console} to use
+     * @param random  the random number generator to use
+     */
+    public App(final Console console, final Random random) {
+        this(console, new Dice(random), random);
+    }
+
+    /**
+     * Constructs a new App object reading from and writing to the given {@link Console} with a new random number
+     * generator of the given seed, see {@link #App(Console, Random)}.
+     *
+     * @param console the {@link Console} to use
+     * @param seed    the seed of the random number generator
+     */
+    public App(final Console console, final long seed) {
+        this(console, new Random(seed));
+    }
+
+    /**
+     * Constructs a new App object with the given {@link Console}, {@link Dice} and random number generator.
+     *
+     * @param console the {@link Console} to use
+     * @param dice    the {@link Dice} to roll
+     * @param random  the random number generator to seed the {@link SiedlerGame} from
+     */
+    private App(final Console console, final Dice dice, final Random random) {
+        this.console = console;
+        this.dice = dice;
+        this.random = random;
     }
 
     /**
      * Main method to start a new game of Siedler.
      *
      * @param args command line arguments
-     * @throws InterruptedException if thread is interrupted while sleeping
      */
-    public static void main(final String[] args) throws InterruptedException {
-        new App().runGame();
+    public static void main(final String[] args) {
+        final App app = new App();
+        app.runGame();
+        app.console.awaitPendingAnimations();
     }
 
     /**
-     * Runs the game of Siedler.
-     *
-     * @throws InterruptedException if thread is interrupted while sleeping
+     * Runs the game of Siedler. Animations and the delayed closing of the {@link Console} do not block this method.
      */
-    public void runGame() throws InterruptedException {
+    public void runGame() {
         printIntro();
 
         final int numberOfPlayers = console.readInteger("Please enter the number of players", MIN_NUMBER_OF_PLAYERS, allOf(Faction.class).size());
-        game = new SiedlerGame(REQUIRED_WINNING_SCORE, numberOfPlayers);
+        game = new SiedlerGame(REQUIRED_WINNING_SCORE, numberOfPlayers, random.nextLong());
 
         printBoardView();
         runInitiationPhase(numberOfPlayers);
@@ -175,18 +220,16 @@ public class App {
      */
     private Point readCoordinates(final String prompt) {
         final int xCoordinate = console.readInteger(game.getCurrentPlayerFaction() + " please enter the x-coordinate "
-                + prompt, MIN_COORDINATE, MAX_X_COORDINATE);
+                + prompt, MIN_COORDINATE, game.getBoard().getMaxCoordinateX());
         final int yCoordinate = console.readInteger(game.getCurrentPlayerFaction() + " please enter the y-coordinate "
-                + prompt, MIN_COORDINATE, MAX_Y_COORDINATE);
+                + prompt, MIN_COORDINATE, game.getBoard().getMaxCoordinateY());
         return new Point(xCoordinate, yCoordinate);
     }
 
     /**
      * Runs the game turns, where {@link Player}s take their actions in turn until the game ends.
-     *
-     * @throws InterruptedException if thread is interrupted while sleeping
      */
-    private void runGameTurns() throws InterruptedException {
+    private void runGameTurns() {
         boolean isGameFinished = false;
         processDiceRoll(dice.roll());
         while (!isGameFinished) {
@@ -211,8 +254,7 @@ public class App {
                 }
                 case QUIT -> {
                     console.printLine("Thanks for playing, see you next game!");
-                    sleep(3000);
-                    console.close();
+                    console.closeAfter(QUIT_DELAY_MILLIS);
                     isGameFinished = true;
                 }
             }
@@ -360,9 +402,8 @@ public class App {
      * Lets the current {@link Player} build a {@link Settlement}.
      *
      * @return boolean to indicate if the current {@link Player} has won the game
-     * @throws InterruptedException if thread is interrupted while sleeping
      */
-    private boolean buildSettlement() throws InterruptedException {
+    private boolean buildSettlement() {
         if (game.buildSettlement(readCoordinates("for the " + SETTLEMENT_NAME))) {
             printBoardView();
             printValidPlacement(SETTLEMENT_NAME);
@@ -390,9 +431,8 @@ public class App {
      * Lets the current {@link Player} build a {@link City}.
      *
      * @return boolean to indicate if the current {@link Player} has won the game
-     * @throws InterruptedException if thread is interrupted while sleeping
      */
-    private boolean buildCity() throws InterruptedException {
+    private boolean buildCity() {
         if (game.buildCity(readCoordinates("for the " + CITY_NAME))) {
             printBoardView();
             printValidPlacement(CITY_NAME);
@@ -408,7 +448,7 @@ public class App {
      *
      * @return true if the current {@link Player} has won the game, false otherwise
      */
-    private boolean hasPlayerWon() throws InterruptedException {
+    private boolean hasPlayerWon() {
         final Faction winner = game.getWinner();
         if (winner != null) {
             console.printLine(winner + " has won the game. Congratulations!");
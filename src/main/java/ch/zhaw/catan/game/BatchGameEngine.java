@@ -0,0 +1,314 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.Field;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static ch.zhaw.catan.game.Config.MAX_CARDS_IN_HAND_NO_DROP;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Simulates the dice rolls of many games on the same board at once.
+ * <p>
+ * The state of all games is stored in a struct-of-arrays layout: one array each for the corner and edge codes of all
+ * games (using the codes of {@link GameSnapshot}), the inventories of all {@link Player}s and {@link Bank}s, the thief
+ * fields and the current {@link Player}s. The rules of {@link SiedlerGame#processDiceRoll(int)} are applied to every
+ * game in one loop over these arrays: a roll pays out the {@link Resource}s of the fields with the rolled number in the
+ * same order and with the same {@link Bank} check as {@link SiedlerGame}, and a {@link SiedlerGame#THIEF_DICE_NUMBER}
+ * lets every {@link Player} holding more than {@link Config#MAX_CARDS_IN_HAND_NO_DROP} cards discard half of them
+ * like {@link Player#processThief()}. The fields per dice value, their {@link Resource}s and corners are looked up once
+ * from the {@link SiedlerBoard} and its {@link BoardTopology}, so the loop neither allocates nor hashes.
+ * </p>
+ * <p>
+ * Dice rolls neither change the structures nor move the thief, so the payouts of every dice value are tabulated when a
+ * game is loaded: one row per field with the number, a {@link Resource} and at least one structure that is not blocked
+ * by the thief, holding the {@link Resource}, the amount the {@link Bank} must have and the amount each {@link Player}
+ * receives. A payout then only walks the rows of the rolled number instead of the corners of its fields.
+ * </p>
+ * <p>
+ * Games are loaded from and exported to {@link GameSnapshot}s, so they can be continued with the object based engine.
+ * </p>
+ */
+public class BatchGameEngine {
+
+    private static final int NUMBER_OF_RESOURCES = Resource.values().length;
+    private static final int NUMBER_OF_FACTIONS = Faction.values().length;
+    private static final int MAX_DICE_VALUE = 12;
+    private static final int NO_RESOURCE = -1;
+    private static final int EMPTY = 0;
+    private static final int[] AMOUNT_PER_CORNER_CODE = new int[2 * NUMBER_OF_FACTIONS + 1];
+
+    static {
+        for (int code = 1; code < AMOUNT_PER_CORNER_CODE.length; code++) {
+            AMOUNT_PER_CORNER_CODE[code] = GameSnapshot.decodeCorner(code).getAmountPerResource();
+        }
+    }
+
+    private final BoardTopology topology;
+    private final BoardLayout layout;
+    private final int numberOfGames;
+    private final int numberOfPlayers;
+    private final int numberOfOwners;
+    private final int winPoints;
+    private final int[][] fieldsPerDiceValue;
+    private final int[] fieldResources;
+    private final int[] fieldCorners;
+    private final int rowsPerDiceValue;
+    private final int rowSize;
+
+    private final byte[] cornerCodes;
+    private final byte[] edgeCodes;
+    private final byte[] payoutRows;
+    private final byte[] payoutRowCounts;
+    private final int[] inventories;
+    private final int[] thiefFields;
+    private final byte[] currentPlayers;
+    private final SplittableRandom random;
+    private final int[] discarded = new int[NUMBER_OF_RESOURCES];
+
+    /**
+     * Creates an engine for the given number of games, all in the initial state of a new {@link SiedlerGame}.
+     *
+     * @param board           the board all games are played on, which provides the dice numbers and lands
+     * @param numberOfGames   the number of games
+     * @param numberOfPlayers the number of {@link Player}s per game
+     * @param winPoints       the number of points required to win
+     * @param seed            the seed of the random discards after a {@link SiedlerGame#THIEF_DICE_NUMBER}
+     */
+    public BatchGameEngine(final SiedlerBoard board, final int numberOfGames, final int numberOfPlayers,
+                           final int winPoints, final long seed) {
+        requireNonNull(board, "board must not be null");
+        if (numberOfGames < 1) {
+            throw new IllegalArgumentException("numberOfGames must be positive");
+        }
+        if (numberOfPlayers < Config.MIN_NUMBER_OF_PLAYERS || numberOfPlayers > NUMBER_OF_FACTIONS) {
+            throw new IllegalArgumentException("Invalid number of players: " + numberOfPlayers);
+        }
+        topology = board.getTopology();
+        layout = board.getLayout();
+        this.numberOfGames = numberOfGames;
+        this.numberOfPlayers = numberOfPlayers;
+        this.winPoints = winPoints;
+        numberOfOwners = numberOfPlayers + 1;
+        rowSize = 2 + numberOfPlayers;
+
+        fieldResources = new int[topology.getFieldCount()];
+        fieldCorners = new int[topology.getFieldCount() * BoardTopology.CORNERS_PER_FIELD];
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            final Resource resource = board.getField(topology.getField(field)).getLand().getResource();
+            fieldResources[field] = resource == null ? NO_RESOURCE : resource.ordinal();
+            System.arraycopy(topology.getCornersOfField(field), 0, fieldCorners,
+                    field * BoardTopology.CORNERS_PER_FIELD, BoardTopology.CORNERS_PER_FIELD);
+        }
+        fieldsPerDiceValue = new int[MAX_DICE_VALUE + 1][];
+        for (int diceValue = 0; diceValue <= MAX_DICE_VALUE; diceValue++) {
+            fieldsPerDiceValue[diceValue] = board.getFieldsForDiceValue(diceValue).stream()
+                    .map(Field::getPosition).mapToInt(topology::getFieldIndex).toArray();
+        }
+
+        cornerCodes = new byte[numberOfGames * topology.getCornerCount()];
+        edgeCodes = new byte[numberOfGames * topology.getEdgeCount()];
+        rowsPerDiceValue = Arrays.stream(fieldsPerDiceValue).mapToInt(fields -> fields.length).max().orElse(0);
+        payoutRows = new byte[numberOfGames * (MAX_DICE_VALUE + 1) * rowsPerDiceValue * rowSize];
+        payoutRowCounts = new byte[numberOfGames * (MAX_DICE_VALUE + 1)];
+        inventories = new int[numberOfGames * numberOfOwners * NUMBER_OF_RESOURCES];
+        thiefFields = new int[numberOfGames];
+        currentPlayers = new byte[numberOfGames];
+        random = new SplittableRandom(seed);
+
+        final GameSnapshot initial = GameSnapshot.of(new SiedlerGame(winPoints, numberOfPlayers, seed, layout));
+        for (int game = 0; game < numberOfGames; game++) {
+            load(game, initial);
+        }
+    }
+
+    /**
+     * Replaces the state of a game by the state of a snapshot.
+     *
+     * @param game     the index of the game
+     * @param snapshot the snapshot of a game with the same number of {@link Player}s
+     */
+    public void load(final int game, final GameSnapshot snapshot) {
+        if (snapshot.getNumberOfPlayers() != numberOfPlayers) {
+            throw new IllegalArgumentException("Snapshot has " + snapshot.getNumberOfPlayers() + " players");
+        }
+        final int cornerOffset = game * topology.getCornerCount();
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            cornerCodes[cornerOffset + corner] = (byte) snapshot.getCornerCode(corner);
+        }
+        final int edgeOffset = game * topology.getEdgeCount();
+        for (int edge = 0; edge < topology.getEdgeCount(); edge++) {
+            edgeCodes[edgeOffset + edge] = (byte) snapshot.getEdgeCode(edge);
+        }
+        for (int owner = 0; owner < numberOfOwners; owner++) {
+            for (Resource resource : Resource.values()) {
+                inventories[inventoryIndex(game, owner, resource.ordinal())] =
+                        snapshot.getAmountOfResource(owner, resource);
+            }
+        }
+        thiefFields[game] = snapshot.getThiefFieldIndex();
+        currentPlayers[game] = (byte) snapshot.getCurrentPlayerIndex();
+        tabulatePayouts(game);
+    }
+
+    /**
+     * Returns a snapshot of the state of a game.
+     *
+     * @param game the index of the game
+     * @return the snapshot
+     */
+    public GameSnapshot toSnapshot(final int game) {
+        final int cornerOffset = game * topology.getCornerCount();
+        final int edgeOffset = game * topology.getEdgeCount();
+        final int[][] amounts = new int[numberOfOwners][];
+        for (int owner = 0; owner < numberOfOwners; owner++) {
+            final int offset = inventoryIndex(game, owner, 0);
+            amounts[owner] = Arrays.copyOfRange(inventories, offset, offset + NUMBER_OF_RESOURCES);
+        }
+        return new GameSnapshot(topology, layout, winPoints, numberOfPlayers, currentPlayers[game], thiefFields[game],
+                Arrays.copyOfRange(cornerCodes, cornerOffset, cornerOffset + topology.getCornerCount()),
+                Arrays.copyOfRange(edgeCodes, edgeOffset, edgeOffset + topology.getEdgeCount()), amounts);
+    }
+
+    /**
+     * Applies one dice roll to every game.
+     *
+     * @param diceValues the dice value per game
+     */
+    public void processDiceRolls(final int[] diceValues) {
+        if (diceValues.length != numberOfGames) {
+            throw new IllegalArgumentException("Expected " + numberOfGames + " dice values");
+        }
+        for (int game = 0; game < numberOfGames; game++) {
+            final int diceValue = diceValues[game];
+            if (diceValue == SiedlerGame.THIEF_DICE_NUMBER) {
+                discardResources(game);
+            } else {
+                payoutResources(game, diceValue);
+            }
+        }
+    }
+
+    /**
+     * Rolls two dice for every game with the given random number generator and applies the rolls.
+     *
+     * @param dice       the random number generator
+     * @param diceValues receives the dice value per game
+     */
+    public void rollDice(final SplittableRandom dice, final int[] diceValues) {
+        for (int game = 0; game < numberOfGames; game++) {
+            diceValues[game] = dice.nextInt(1, 7) + dice.nextInt(1, 7);
+        }
+        processDiceRolls(diceValues);
+    }
+
+    /**
+     * Returns the amount of a {@link Resource} owned by a {@link Player} or, for the index {@code numberOfPlayers},
+     * by the {@link Bank} of a game.
+     *
+     * @param game       the index of the game
+     * @param ownerIndex the index of the {@link Player} or the {@link Bank}
+     * @param resource   the {@link Resource}
+     * @return the amount
+     */
+    public int getAmountOfResource(final int game, final int ownerIndex, final Resource resource) {
+        return inventories[inventoryIndex(game, ownerIndex, resource.ordinal())];
+    }
+
+    /**
+     * Returns the number of games.
+     *
+     * @return the number of games
+     */
+    public int getNumberOfGames() {
+        return numberOfGames;
+    }
+
+    /**
+     * Tabulates the payout rows of every dice value of a game: the {@link Resource}, the amount the {@link Bank} must
+     * have and the amount per {@link Player}, in the order in which {@link SiedlerGame} pays out the fields.
+     */
+    private void tabulatePayouts(final int game) {
+        final int cornerOffset = game * topology.getCornerCount();
+        for (int diceValue = 0; diceValue <= MAX_DICE_VALUE; diceValue++) {
+            final int rows = game * (MAX_DICE_VALUE + 1) + diceValue;
+            int row = rows * rowsPerDiceValue * rowSize;
+            int count = 0;
+            for (int field : fieldsPerDiceValue[diceValue]) {
+                if (field == thiefFields[game] || fieldResources[field] == NO_RESOURCE) {
+                    continue;
+                }
+                Arrays.fill(payoutRows, row, row + rowSize, (byte) 0);
+                for (int i = field * BoardTopology.CORNERS_PER_FIELD;
+                     i < (field + 1) * BoardTopology.CORNERS_PER_FIELD; i++) {
+                    final int code = cornerCodes[cornerOffset + fieldCorners[i]];
+                    if (code != EMPTY) {
+                        payoutRows[row + 1] += (byte) AMOUNT_PER_CORNER_CODE[code];
+                        payoutRows[row + 2 + (code - 1) % NUMBER_OF_FACTIONS] += (byte) AMOUNT_PER_CORNER_CODE[code];
+                    }
+                }
+                if (payoutRows[row + 1] > 0) {
+                    payoutRows[row] = (byte) fieldResources[field];
+                    row += rowSize;
+                    count++;
+                }
+            }
+            payoutRowCounts[rows] = (byte) count;
+        }
+    }
+
+    /**
+     * Pays out the fields with the dice value like {@link SiedlerGame}: a field is paid out only if the {@link Bank}
+     * has enough cards for all of its structures.
+     */
+    private void payoutResources(final int game, final int diceValue) {
+        final int rows = game * (MAX_DICE_VALUE + 1) + diceValue;
+        final int playersIndex = inventoryIndex(game, 0, 0);
+        final int bankIndex = inventoryIndex(game, numberOfPlayers, 0);
+        int row = rows * rowsPerDiceValue * rowSize;
+        for (int count = payoutRowCounts[rows]; count > 0; count--, row += rowSize) {
+            final int resource = payoutRows[row];
+            final int required = payoutRows[row + 1];
+            if (inventories[bankIndex + resource] >= required) {
+                for (int player = 0; player < numberOfPlayers; player++) {
+                    inventories[playersIndex + player * NUMBER_OF_RESOURCES + resource] += payoutRows[row + 2 + player];
+                }
+                inventories[bankIndex + resource] -= required;
+            }
+        }
+    }
+
+    /**
+     * Lets every {@link Player} holding too many cards discard half of them to the {@link Bank}, drawn with the
+     * {@link DiscardSampler} like {@link Player#processThief()}.
+     */
+    private void discardResources(final int game) {
+        final int bankIndex = inventoryIndex(game, numberOfPlayers, 0);
+        for (int player = 0; player < numberOfPlayers; player++) {
+            final int playerIndex = inventoryIndex(game, player, 0);
+            int total = 0;
+            for (int resource = 0; resource < NUMBER_OF_RESOURCES; resource++) {
+                total += inventories[playerIndex + resource];
+            }
+            if (total <= MAX_CARDS_IN_HAND_NO_DROP) {
+                continue;
+            }
+            DiscardSampler.sample(random, inventories, playerIndex, NUMBER_OF_RESOURCES, total / 2, discarded);
+            for (int resource = 0; resource < NUMBER_OF_RESOURCES; resource++) {
+                inventories[playerIndex + resource] -= discarded[resource];
+                inventories[bankIndex + resource] += discarded[resource];
+            }
+        }
+    }
+
+    private int inventoryIndex(final int game, final int owner, final int resource) {
+        return (game * numberOfOwners + owner) * NUMBER_OF_RESOURCES + resource;
+    }
+
+}
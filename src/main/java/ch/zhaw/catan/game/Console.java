@@ -1,60 +1,73 @@
 package ch.zhaw.catan.game;
 
-import org.beryx.textio.TerminalProperties;
-import org.beryx.textio.TextIO;
-import org.beryx.textio.swing.SwingTextTerminal;
-
 import java.awt.Color;
+import java.awt.GraphicsEnvironment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.awt.Color.BLACK;
 import static java.awt.Color.BLUE;
 import static java.awt.Color.CYAN;
 import static java.awt.Color.GREEN;
-import static java.awt.Color.ORANGE;
 import static java.awt.Color.PINK;
 import static java.awt.Color.RED;
-import static java.awt.Color.WHITE;
 import static java.awt.Color.YELLOW;
-import static java.lang.Thread.sleep;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * Represents a console that provides input and output capabilities for the game.
+ * <p>
+ * The actual terminal is provided by a {@link ConsoleBackend}. By default, a {@link SwingConsoleBackend} is used. If no
+ * graphical environment is available or the system property {@value #BACKEND_PROPERTY} is set to
+ * {@value #ANSI_BACKEND}, an {@link AnsiConsoleBackend} writing to stdout is used instead.
+ * </p>
  */
 public class Console {
 
     static final String QUIT_SHORTCUT = "Q";
+    static final String BACKEND_PROPERTY = "catan.console";
+    static final String ANSI_BACKEND = "ansi";
+    static final String SWING_BACKEND = "swing";
+    static final long CELEBRATION_FRAME_MILLIS = 75;
+    static final int CELEBRATION_ROUNDS = 10;
+
+    private static final List<Color> CELEBRATION_COLORS = List.of(GREEN, RED, BLUE, YELLOW, CYAN, PINK);
 
-    private final TextIO textIO;
-    private final SwingTextTerminal textTerminal;
+    private final ConsoleBackend backend;
+    private CompletableFuture<Void> pendingAnimations = completedFuture(null);
 
     /**
-     * Constructs a new Console with the given pane title.
+     * Constructs a new Console with the given pane title and the backend chosen at startup.
      *
      * @param paneTitle the title of the terminal pane
      */
     public Console(final String paneTitle) {
-        textIO = new TextIO(new SwingTextTerminal());
-        textTerminal = (SwingTextTerminal) textIO.getTextTerminal();
-        initProperties(paneTitle);
+        this(createBackend(paneTitle));
     }
 
     /**
-     * Initializes the properties of the {@link org.beryx.textio.TextTerminal}.
+     * Constructs a new Console using the given {@link ConsoleBackend}.
      *
-     * @param paneTitle the title of the terminal pane
+     * @param backend the {@link ConsoleBackend} to read from and write to
      */
-    private void initProperties(final String paneTitle) {
-        textTerminal.setUserInterruptKey(QUIT_SHORTCUT);
-        textTerminal.setPaneTitle(paneTitle);
-        final TerminalProperties<SwingTextTerminal> properties = getProperties();
-        properties.setPromptColor(WHITE);
-        properties.setInputBold(true);
-        properties.setInputColor(ORANGE);
-        properties.setPaneDimension(1300, 1000);
+    public Console(final ConsoleBackend backend) {
+        this.backend = backend;
     }
 
-    private TerminalProperties<SwingTextTerminal> getProperties() {
-        return textTerminal.getProperties();
+    /**
+     * Creates the {@link ConsoleBackend} based on the system property {@value #BACKEND_PROPERTY} and the availability
+     * of a graphical environment.
+     *
+     * @param paneTitle the title of the terminal pane
+     * @return the {@link ConsoleBackend} to use
+     */
+    private static ConsoleBackend createBackend(final String paneTitle) {
+        final String defaultBackend = GraphicsEnvironment.isHeadless() ? ANSI_BACKEND : SWING_BACKEND;
+        final String backend = System.getProperty(BACKEND_PROPERTY, defaultBackend);
+        return ANSI_BACKEND.equalsIgnoreCase(backend)
+                ? new AnsiConsoleBackend()
+                : new SwingConsoleBackend(paneTitle);
     }
 
     /**
@@ -63,7 +76,7 @@ public class Console {
      * @param message the message to print
      */
     public void print(final String message) {
-        textTerminal.print(message);
+        backend.print(message);
     }
 
     /**
@@ -72,7 +85,7 @@ public class Console {
      * @param message the message to print
      */
     public void printLine(final String message) {
-        textTerminal.println(message);
+        backend.printLine(message);
     }
 
     /**
@@ -91,10 +104,7 @@ public class Console {
      * @return the {@link Integer} that was read from the console
      */
     public Integer readInteger(final String prompt, final int minValue, final int maxValue) {
-        return textIO.newIntInputReader()
-                .withMinVal(minValue)
-                .withMaxVal(maxValue)
-                .read(prompt);
+        return backend.readInteger(prompt, minValue, maxValue);
     }
 
     /**
@@ -106,53 +116,70 @@ public class Console {
      * @return the {@link Enum} that was read from the console
      */
     public <E extends Enum<E>> E readEnum(final String prompt, final Class<E> enumClass) {
-        return textIO.newEnumInputReader(enumClass)
-                .read(prompt);
+        return backend.readEnum(prompt, enumClass);
     }
 
     /**
-     * Disposes the {@link TextIO} and {@link org.beryx.textio.TextTerminal} instances.
+     * Closes the {@link ConsoleBackend}.
      */
     public void close() {
-        textIO.dispose();
-        textTerminal.dispose();
+        backend.close();
     }
 
     /**
-     * Changes the background color of the console to indicate that a {@link Player} has won. Celebration time!
+     * Closes the {@link ConsoleBackend} once the given delay has elapsed without blocking the calling thread.
      *
-     * @throws InterruptedException if thread is interrupted while sleeping
+     * @param delayMillis the delay in milliseconds
+     * @return a {@link CompletableFuture} that completes after the console has been closed
      */
-    public void celebrate() throws InterruptedException {
-        for (int i = 0; i < 10; i++) {
-            colorChange();
+    public CompletableFuture<Void> closeAfter(final long delayMillis) {
+        if (!backend.isAnimated()) {
+            close();
+            return completedFuture(null);
         }
-        getProperties().setPaneBackgroundColor(BLACK);
+        return track(FrameScheduler.runAfter(this::close, delayMillis));
     }
 
     /**
-     * Changes the color of the pane in a sequence of colors.
+     * Changes the background color of the console to indicate that a {@link Player} has won. Celebration time!
+     * <p>The animation is played by the {@link FrameScheduler}, so this method returns immediately.</p>
      *
-     * @throws InterruptedException if the thread is interrupted while sleeping
+     * @return a {@link CompletableFuture} that completes after the animation has been played
+     */
+    public CompletableFuture<Void> celebrate() {
+        if (!backend.isAnimated()) {
+            backend.setBackgroundColor(BLACK);
+            return completedFuture(null);
+        }
+
+        final List<Runnable> frames = new ArrayList<>();
+        for (int i = 0; i < CELEBRATION_ROUNDS; i++) {
+            for (Color color : CELEBRATION_COLORS) {
+                frames.add(() -> backend.setBackgroundColor(color));
+            }
+        }
+        frames.add(() -> backend.setBackgroundColor(BLACK));
+
+        return track(FrameScheduler.playFrames(frames, CELEBRATION_FRAME_MILLIS));
+    }
+
+    /**
+     * Waits until all animations and delayed actions started by this console have finished. This is meant to be
+     * called once the game loop has ended, e.g. to keep the application alive until the console has been closed.
      */
-    private void colorChange() throws InterruptedException {
-        changePaneColor(GREEN);
-        changePaneColor(RED);
-        changePaneColor(BLUE);
-        changePaneColor(YELLOW);
-        changePaneColor(CYAN);
-        changePaneColor(PINK);
+    public void awaitPendingAnimations() {
+        pendingAnimations.join();
     }
 
     /**
-     * Changes the background color of the pane to the specified color.
+     * Registers the given animation as pending.
      *
-     * @param color the color to set the pane's background color to
-     * @throws InterruptedException if the current thread is interrupted while sleeping
+     * @param animation the animation to register
+     * @return the given animation
      */
-    private void changePaneColor(final Color color) throws InterruptedException {
-        getProperties().setPaneBackgroundColor(color);
-        sleep(75);
+    private synchronized CompletableFuture<Void> track(final CompletableFuture<Void> animation) {
+        pendingAnimations = CompletableFuture.allOf(pendingAnimations, animation);
+        return animation;
     }
 
 }
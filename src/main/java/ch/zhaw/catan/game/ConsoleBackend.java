@@ -0,0 +1,66 @@
+package ch.zhaw.catan.game;
+
+import java.awt.Color;
+
+/**
+ * Represents the terminal a {@link Console} writes to and reads from.
+ */
+public interface ConsoleBackend {
+
+    /**
+     * Prints the given message without any line break.
+     *
+     * @param message the message to print
+     */
+    void print(String message);
+
+    /**
+     * Prints the given message and inserts a line break afterwards.
+     *
+     * @param message the message to print
+     */
+    void printLine(String message);
+
+    /**
+     * Reads an {@link Integer} within the given bounds. Invalid input is rejected and the prompt is repeated.
+     *
+     * @param prompt   the prompt to display
+     * @param minValue the minimum value that is required
+     * @param maxValue the maximum value that is allowed
+     * @return the {@link Integer} that was read
+     */
+    Integer readInteger(String prompt, int minValue, int maxValue);
+
+    /**
+     * Reads a constant of the given {@link Enum} class. Invalid input is rejected and the prompt is repeated.
+     *
+     * @param prompt    the prompt to display
+     * @param enumClass the {@link Enum} class to read
+     * @param <E>       the {@link Enum} class
+     * @return the {@link Enum} constant that was read
+     */
+    <E extends Enum<E>> E readEnum(String prompt, Class<E> enumClass);
+
+    /**
+     * Changes the background color of the terminal.
+     *
+     * @param color the new background color
+     */
+    void setBackgroundColor(Color color);
+
+    /**
+     * Returns whether someone is watching the terminal, so animations and pauses are worth playing. If not, the
+     * {@link Console} skips them.
+     *
+     * @return true if animations should be played, false otherwise
+     */
+    default boolean isAnimated() {
+        return true;
+    }
+
+    /**
+     * Releases all resources held by the terminal.
+     */
+    void close();
+
+}
@@ -1,5 +1,7 @@
 package ch.zhaw.catan.game;
 
+import java.util.Random;
+
 import static ch.zhaw.catan.game.App.RANDOM;
 
 /**
@@ -10,6 +12,24 @@ public class Dice {
     static final int LOWER_DICE_LIMIT = 1;
     static final int UPPER_DICE_LIMIT = 6;
 
+    private final Random random;
+
+    /**
+     * Creates a new dice using the shared random number generator of the {@link App}.
+     */
+    public Dice() {
+        this(RANDOM);
+    }
+
+    /**
+     * Creates a new dice using the given random number generator, e.g. a seeded one to get reproducible rolls.
+     *
+     * @param random the random number generator to use
+     */
+    public Dice(final Random random) {
+        this.random = random;
+    }
+
     /**
      * Rolls the dice and returns the result.
      *
@@ -25,7 +45,7 @@ public class Dice {
      * @return The result of rolling a single dice.
      */
     private int getSingleDiceRoll() {
-        return RANDOM.nextInt(UPPER_DICE_LIMIT) + LOWER_DICE_LIMIT;
+        return random.nextInt(UPPER_DICE_LIMIT) + LOWER_DICE_LIMIT;
     }
 
 }
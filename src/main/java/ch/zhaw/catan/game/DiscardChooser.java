@@ -0,0 +1,25 @@
+package ch.zhaw.catan.game;
+
+/**
+ * This interface defines the optional rule that players choose the cards they discard when the thief is executed.
+ * <p>
+ * Without a chooser set with {@link SiedlerGame#setDiscardChooser(DiscardChooser)}, the discarded cards are drawn at
+ * random by {@link Player#processThief()}. The chooser is asked for every {@link Player} holding more than
+ * {@link Config#MAX_CARDS_IN_HAND_NO_DROP} cards, including players other than the current one.
+ * </p>
+ */
+@FunctionalInterface
+public interface DiscardChooser {
+
+    /**
+     * Chooses the cards a player discards.
+     *
+     * @param game        the game
+     * @param playerIndex the index of the {@link Player} in {@link SiedlerGame#getCurrentPlayers()}
+     * @param count       the number of cards to discard
+     * @return the number of cards to discard per {@link Config.Resource}, indexed by its ordinal and adding up to
+     * {@code count}, or null to discard at random
+     */
+    int[] chooseDiscard(SiedlerGame game, int playerIndex, int count);
+
+}
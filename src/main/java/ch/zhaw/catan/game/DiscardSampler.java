@@ -0,0 +1,104 @@
+package ch.zhaw.catan.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws the cards a player discards when the thief is executed.
+ * <p>
+ * Every subset of the hand with the required number of cards is equally likely, so the number of cards discarded per
+ * {@link Config.Resource} follows the multivariate hypergeometric distribution. It is sampled in one pass over the
+ * resource types: the count of each type is drawn from the hypergeometric distribution of the cards not yet
+ * assigned, by inversion with a single random number. This takes one random number per resource type instead of one
+ * per card and does not allocate.
+ * </p>
+ */
+final class DiscardSampler {
+
+    private DiscardSampler() {
+    }
+
+    /**
+     * Draws cards without replacement from a hand.
+     *
+     * @param random the random number generator
+     * @param hand   the number of cards per type, starting at {@code offset}
+     * @param offset the index of the first type in {@code hand}
+     * @param types  the number of types
+     * @param draws  the number of cards to draw, at most the number of cards in the hand
+     * @param drawn  receives the number of drawn cards per type, starting at index 0
+     */
+    static void sample(final RandomGenerator random, final int[] hand, final int offset, final int types,
+                       final int draws, final int[] drawn) {
+        int population = 0;
+        for (int type = 0; type < types; type++) {
+            population += hand[offset + type];
+        }
+        if (draws < 0 || draws > population) {
+            throw new IllegalArgumentException("draws must be between 0 and the number of cards");
+        }
+        int remaining = draws;
+        for (int type = 0; type < types - 1; type++) {
+            final int cards = hand[offset + type];
+            drawn[type] = hypergeometric(random, population, cards, remaining);
+            population -= cards;
+            remaining -= drawn[type];
+        }
+        drawn[types - 1] = remaining;
+    }
+
+    /**
+     * Returns the number of successes when drawing without replacement from a population.
+     *
+     * @param random     the random number generator
+     * @param population the size of the population
+     * @param successes  the number of successes in the population
+     * @param draws      the number of draws
+     * @return the number of drawn successes
+     */
+    static int hypergeometric(final RandomGenerator random, final int population, final int successes,
+                              final int draws) {
+        if (draws == 0 || successes == 0) {
+            return 0;
+        }
+        if (successes == population) {
+            return draws;
+        }
+        if (draws > population / 2) {
+            return successes - hypergeometric(random, population, successes, population - draws);
+        }
+        if (successes > population / 2) {
+            return draws - hypergeometric(random, population, population - successes, draws);
+        }
+
+        // With at most half of the population drawn and at most half of it successes, zero successes are possible.
+        double probability = 1;
+        for (int i = 0; i < draws; i++) {
+            probability *= (double) (population - successes - i) / (population - i);
+        }
+        if (probability == 0) {
+            return drawSequentially(random, population, successes, draws);
+        }
+        final int maximum = Math.min(successes, draws);
+        double u = random.nextDouble();
+        int drawnSuccesses = 0;
+        while (u >= probability && drawnSuccesses < maximum) {
+            u -= probability;
+            probability *= (double) (successes - drawnSuccesses) * (draws - drawnSuccesses)
+                    / ((double) (drawnSuccesses + 1) * (population - successes - draws + drawnSuccesses + 1));
+            drawnSuccesses++;
+        }
+        return drawnSuccesses;
+    }
+
+    private static int drawSequentially(final RandomGenerator random, final int population, final int successes,
+                                        final int draws) {
+        int drawnSuccesses = 0;
+        for (int i = 0; i < draws; i++) {
+            if (random.nextInt(population - i) < successes - drawnSuccesses) {
+                drawnSuccesses++;
+            }
+        }
+        return drawnSuccesses;
+    }
+
+}
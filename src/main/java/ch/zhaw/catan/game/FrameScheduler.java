@@ -0,0 +1,87 @@
+package ch.zhaw.catan.game;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs animations and timed pauses on a small pool of daemon threads shared by all game sessions, so that the thread
+ * running the game loop never has to sleep.
+ * <p>
+ * Animations are driven by frames: each frame is a short action that is executed at a fixed rate. The returned
+ * {@link CompletableFuture}s complete once the last frame or the delayed action has been executed.
+ * </p>
+ */
+public final class FrameScheduler {
+
+    static final int SCHEDULER_THREADS = 2;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(SCHEDULER_THREADS, runnable -> {
+        final Thread thread = new Thread(runnable, "catan-frame-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FrameScheduler() {
+    }
+
+    /**
+     * Plays the given frames one after another, starting immediately and waiting the given duration between two frames.
+     *
+     * @param frames              the frames to play
+     * @param frameDurationMillis the duration of a single frame in milliseconds
+     * @return a {@link CompletableFuture} that completes after the last frame has been played
+     */
+    public static CompletableFuture<Void> playFrames(final List<Runnable> frames, final long frameDurationMillis) {
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        if (frames.isEmpty()) {
+            finished.complete(null);
+            return finished;
+        }
+
+        final AtomicInteger nextFrame = new AtomicInteger();
+        final ScheduledFuture<?> playback = SCHEDULER.scheduleAtFixedRate(() -> {
+            final int frame = nextFrame.getAndIncrement();
+            if (frame < frames.size() && !finished.isDone()) {
+                try {
+                    frames.get(frame).run();
+                } catch (RuntimeException e) {
+                    finished.completeExceptionally(e);
+                }
+                if (frame == frames.size() - 1) {
+                    finished.complete(null);
+                }
+            }
+        }, 0, frameDurationMillis, MILLISECONDS);
+        finished.whenComplete((result, error) -> playback.cancel(false));
+
+        return finished;
+    }
+
+    /**
+     * Runs the given action once the given delay has elapsed.
+     *
+     * @param action      the action to run
+     * @param delayMillis the delay in milliseconds
+     * @return a {@link CompletableFuture} that completes after the action has been run
+     */
+    public static CompletableFuture<Void> runAfter(final Runnable action, final long delayMillis) {
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        SCHEDULER.schedule(() -> {
+            try {
+                action.run();
+                finished.complete(null);
+            } catch (RuntimeException e) {
+                finished.completeExceptionally(e);
+            }
+        }, delayMillis, MILLISECONDS);
+
+        return finished;
+    }
+
+}
@@ -0,0 +1,21 @@
+package ch.zhaw.catan.game;
+
+/**
+ * This interface defines the observer hook of a {@link SiedlerGame}.
+ * <p>
+ * Listeners registered with {@link SiedlerGame#addChangeListener(GameChangeListener)} are notified on the thread that
+ * changed the game, after every public operation that appended to its {@link GameLog}. The changes since the previous
+ * notification can be computed with a {@link GameDeltaEncoder}. Listeners must not change the game themselves.
+ * </p>
+ */
+@FunctionalInterface
+public interface GameChangeListener {
+
+    /**
+     * Called after the state of the game has changed.
+     *
+     * @param game the changed game
+     */
+    void gameChanged(SiedlerGame game);
+
+}
@@ -0,0 +1,393 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.structure.Road;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable description of everything that changed in a {@link SiedlerGame} between two versions of its state, which
+ * can be written to and read from a compact binary format.
+ * <p>
+ * A version of a game is the number of entries in its {@link GameLog}. A delta is computed from the entries that were
+ * appended after its start version, so its cost depends on the number of changes and not on the size of the board. It
+ * contains the new values of the changed corners and edges, the changed inventories, the thief field if it moved and
+ * the current player if it changed. Applying the delta to a {@link GameSnapshot} of the start version with
+ * {@link #applyTo(GameSnapshot)} yields a snapshot of the end version.
+ * </p>
+ * <p>
+ * The format starts with a version byte, followed by the start and end version, a byte of flags, the thief field and
+ * the current player if they changed, and the changed corners, edges and inventories. Corner and edge indices are
+ * stored as the difference to the previous index, so they usually take a single byte.
+ * </p>
+ */
+public final class GameDelta {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int THIEF_CHANGED = 1;
+    private static final int CURRENT_PLAYER_CHANGED = 2;
+    private static final int UNCHANGED = -1;
+    private static final int NUMBER_OF_FACTIONS = Faction.values().length;
+    private static final int NUMBER_OF_RESOURCES = Resource.values().length;
+
+    private final int fromVersion;
+    private final int toVersion;
+    private final int currentPlayerIndex;
+    private final int thiefFieldIndex;
+    private final int[] cornerIndices;
+    private final byte[] cornerCodes;
+    private final int[] edgeIndices;
+    private final byte[] edgeCodes;
+    private final int[] ownerIndices;
+    private final int[][] inventories;
+
+    private GameDelta(final int fromVersion, final int toVersion, final int currentPlayerIndex,
+                      final int thiefFieldIndex, final int[] cornerIndices, final byte[] cornerCodes,
+                      final int[] edgeIndices, final byte[] edgeCodes, final int[] ownerIndices,
+                      final int[][] inventories) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.thiefFieldIndex = thiefFieldIndex;
+        this.cornerIndices = cornerIndices;
+        this.cornerCodes = cornerCodes;
+        this.edgeIndices = edgeIndices;
+        this.edgeCodes = edgeCodes;
+        this.ownerIndices = ownerIndices;
+        this.inventories = inventories;
+    }
+
+    /**
+     * Computes the changes of the given game since the given version up to its current version.
+     * <p>
+     * Only changes recorded in the {@link GameLog} are detected, which are all changes made through the methods of
+     * {@link SiedlerGame}. Use a {@link GameDeltaEncoder} to compute consecutive deltas without reading the entries
+     * before the start version again.
+     * </p>
+     *
+     * @param game        the game
+     * @param fromVersion the version to start from
+     * @return the delta
+     * @throws IllegalArgumentException if the version is negative or newer than the current version of the game
+     */
+    public static GameDelta between(final SiedlerGame game, final int fromVersion) {
+        requireNonNull(game, "game must not be null");
+        final GameLog.Reader reader = game.getLog().reader();
+        if (fromVersion < 0 || fromVersion > game.getLog().getEntryCount()) {
+            throw new IllegalArgumentException("Invalid version: " + fromVersion);
+        }
+        while (reader.getEntryIndex() < fromVersion) {
+            reader.next();
+        }
+        return collect(game, reader);
+    }
+
+    /**
+     * Reads the remaining entries of the given reader and computes the changes they describe.
+     *
+     * @param game   the game whose log is read
+     * @param reader the reader positioned at the start version
+     * @return the delta
+     */
+    static GameDelta collect(final SiedlerGame game, final GameLog.Reader reader) {
+        final int fromVersion = reader.getEntryIndex();
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+        final int numberOfPlayers = game.getCurrentPlayers().size();
+        final BitSet corners = new BitSet();
+        final BitSet edges = new BitSet();
+        final BitSet owners = new BitSet();
+        boolean thiefMoved = false;
+        boolean playerSwitched = false;
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case RESOURCES_PAID, RESOURCES_DISCARDED, TRADED -> {
+                    owners.set(reader.getArgument(0));
+                    owners.set(numberOfPlayers);
+                }
+                case INITIAL_SETTLEMENT_PLACED -> corners.set(cornerIndex(topology, reader));
+                case SETTLEMENT_BUILT, CITY_BUILT -> {
+                    corners.set(cornerIndex(topology, reader));
+                    owners.set(reader.getArgument(0));
+                    owners.set(numberOfPlayers);
+                }
+                case INITIAL_ROAD_PLACED -> edges.set(edgeIndex(topology, reader));
+                case ROAD_BUILT -> {
+                    edges.set(edgeIndex(topology, reader));
+                    owners.set(reader.getArgument(0));
+                    owners.set(numberOfPlayers);
+                }
+                case THIEF_MOVED -> thiefMoved = true;
+                case CARD_STOLEN -> {
+                    owners.set(reader.getArgument(0));
+                    owners.set(reader.getArgument(1));
+                }
+                case PLAYER_SWITCHED -> playerSwitched = true;
+                default -> {
+                }
+            }
+        }
+
+        final int[] cornerIndices = corners.stream().toArray();
+        final byte[] cornerCodes = new byte[cornerIndices.length];
+        for (int i = 0; i < cornerIndices.length; i++) {
+            cornerCodes[i] = (byte) GameSnapshot.encodeCorner(board.getCorner(cornerIndices[i]));
+        }
+        final int[] edgeIndices = edges.stream().toArray();
+        final byte[] edgeCodes = new byte[edgeIndices.length];
+        for (int i = 0; i < edgeIndices.length; i++) {
+            final Road road = board.getEdge(edgeIndices[i]);
+            edgeCodes[i] = (byte) (road == null ? 0 : road.getFaction().ordinal() + 1);
+        }
+        final List<Player> players = game.getCurrentPlayers();
+        final int[] ownerIndices = owners.stream().toArray();
+        final int[][] inventories = new int[ownerIndices.length][];
+        for (int i = 0; i < ownerIndices.length; i++) {
+            final InventoryOwner owner = ownerIndices[i] == numberOfPlayers
+                    ? game.getBank() : players.get(ownerIndices[i]);
+            inventories[i] = GameSnapshot.toAmounts(owner);
+        }
+
+        return new GameDelta(fromVersion, reader.getEntryIndex(),
+                playerSwitched ? game.getCurrentPlayerIndex() : UNCHANGED,
+                thiefMoved ? board.getThiefField() : UNCHANGED,
+                cornerIndices, cornerCodes, edgeIndices, edgeCodes, ownerIndices, inventories);
+    }
+
+    /**
+     * Writes this delta to the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put((byte) FORMAT_VERSION);
+        GameSnapshot.putVarInt(buffer, fromVersion);
+        GameSnapshot.putVarInt(buffer, toVersion);
+        buffer.put((byte) getFlags());
+        if (thiefFieldIndex != UNCHANGED) {
+            GameSnapshot.putVarInt(buffer, thiefFieldIndex);
+        }
+        if (currentPlayerIndex != UNCHANGED) {
+            buffer.put((byte) currentPlayerIndex);
+        }
+        putCodes(buffer, cornerIndices, cornerCodes);
+        putCodes(buffer, edgeIndices, edgeCodes);
+        GameSnapshot.putVarInt(buffer, ownerIndices.length);
+        for (int i = 0; i < ownerIndices.length; i++) {
+            buffer.put((byte) ownerIndices[i]);
+            for (int amount : inventories[i]) {
+                GameSnapshot.putVarInt(buffer, amount);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the number of bytes
+     */
+    public int getSerializedSize() {
+        int size = 2 + GameSnapshot.varIntSize(fromVersion) + GameSnapshot.varIntSize(toVersion)
+                + codesSize(cornerIndices) + codesSize(edgeIndices)
+                + GameSnapshot.varIntSize(ownerIndices.length) + ownerIndices.length;
+        if (thiefFieldIndex != UNCHANGED) {
+            size += GameSnapshot.varIntSize(thiefFieldIndex);
+        }
+        if (currentPlayerIndex != UNCHANGED) {
+            size++;
+        }
+        for (int[] amounts : inventories) {
+            for (int amount : amounts) {
+                size += GameSnapshot.varIntSize(amount);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Reads a delta previously written with {@link #writeTo(ByteBuffer)} from the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the delta
+     * @throws IllegalArgumentException if the buffer does not contain a valid delta of a supported version
+     */
+    public static GameDelta readFrom(final ByteBuffer buffer) {
+        try {
+            final int version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported game delta version: " + version);
+            }
+            final int fromVersion = GameSnapshot.getVarInt(buffer);
+            final int toVersion = GameSnapshot.getVarInt(buffer);
+            if (toVersion < fromVersion) {
+                throw new IllegalArgumentException("Invalid game delta versions: " + fromVersion + ".." + toVersion);
+            }
+            final int flags = buffer.get();
+            final int thiefFieldIndex = (flags & THIEF_CHANGED) != 0 ? GameSnapshot.getVarInt(buffer) : UNCHANGED;
+            final int currentPlayerIndex = (flags & CURRENT_PLAYER_CHANGED) != 0 ? buffer.get() : UNCHANGED;
+
+            final int[] cornerIndices = new int[GameSnapshot.getVarInt(buffer)];
+            final byte[] cornerCodes = new byte[cornerIndices.length];
+            getCodes(buffer, cornerIndices, cornerCodes, 2 * NUMBER_OF_FACTIONS);
+            final int[] edgeIndices = new int[GameSnapshot.getVarInt(buffer)];
+            final byte[] edgeCodes = new byte[edgeIndices.length];
+            getCodes(buffer, edgeIndices, edgeCodes, NUMBER_OF_FACTIONS);
+
+            final int[] ownerIndices = new int[GameSnapshot.getVarInt(buffer)];
+            final int[][] inventories = new int[ownerIndices.length][NUMBER_OF_RESOURCES];
+            for (int i = 0; i < ownerIndices.length; i++) {
+                ownerIndices[i] = buffer.get();
+                for (int j = 0; j < NUMBER_OF_RESOURCES; j++) {
+                    inventories[i][j] = GameSnapshot.getVarInt(buffer);
+                }
+            }
+            return new GameDelta(fromVersion, toVersion, currentPlayerIndex, thiefFieldIndex,
+                    cornerIndices, cornerCodes, edgeIndices, edgeCodes, ownerIndices, inventories);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Game delta is truncated", e);
+        }
+    }
+
+    /**
+     * Applies this delta to a snapshot of the game at the start version of this delta.
+     *
+     * @param snapshot the snapshot at the start version
+     * @return the snapshot at the end version
+     * @throws IllegalArgumentException if the delta refers to corners, edges or owners the snapshot does not have
+     */
+    public GameSnapshot applyTo(final GameSnapshot snapshot) {
+        requireNonNull(snapshot, "snapshot must not be null");
+        return snapshot.withChanges(this);
+    }
+
+    /**
+     * Returns the version this delta starts from.
+     *
+     * @return the start version
+     */
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * Returns the version this delta leads to.
+     *
+     * @return the end version
+     */
+    public int getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * Returns whether this delta does not change anything.
+     *
+     * @return true if nothing changed, false otherwise
+     */
+    public boolean isEmpty() {
+        return currentPlayerIndex == UNCHANGED && thiefFieldIndex == UNCHANGED && cornerIndices.length == 0
+                && edgeIndices.length == 0 && ownerIndices.length == 0;
+    }
+
+    int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    int getThiefFieldIndex() {
+        return thiefFieldIndex;
+    }
+
+    int[] getCornerIndices() {
+        return cornerIndices;
+    }
+
+    byte[] getCornerCodes() {
+        return cornerCodes;
+    }
+
+    int[] getEdgeIndices() {
+        return edgeIndices;
+    }
+
+    byte[] getEdgeCodes() {
+        return edgeCodes;
+    }
+
+    int[] getOwnerIndices() {
+        return ownerIndices;
+    }
+
+    int[][] getInventories() {
+        return inventories;
+    }
+
+    private int getFlags() {
+        int flags = 0;
+        if (thiefFieldIndex != UNCHANGED) {
+            flags |= THIEF_CHANGED;
+        }
+        if (currentPlayerIndex != UNCHANGED) {
+            flags |= CURRENT_PLAYER_CHANGED;
+        }
+        return flags;
+    }
+
+    private static int cornerIndex(final BoardTopology topology, final GameLog.Reader reader) {
+        return topology.getCornerIndex(new Point(reader.getArgument(1), reader.getArgument(2)));
+    }
+
+    private static int edgeIndex(final BoardTopology topology, final GameLog.Reader reader) {
+        return topology.getEdgeIndex(new Point(reader.getArgument(1), reader.getArgument(2)),
+                new Point(reader.getArgument(3), reader.getArgument(4)));
+    }
+
+    /**
+     * Writes the number of indices followed by each index as difference to the previous one and its code.
+     */
+    private static void putCodes(final ByteBuffer buffer, final int[] indices, final byte[] codes) {
+        GameSnapshot.putVarInt(buffer, indices.length);
+        int previous = 0;
+        for (int i = 0; i < indices.length; i++) {
+            GameSnapshot.putVarInt(buffer, indices[i] - previous);
+            buffer.put(codes[i]);
+            previous = indices[i];
+        }
+    }
+
+    private static int codesSize(final int[] indices) {
+        int size = GameSnapshot.varIntSize(indices.length) + indices.length;
+        int previous = 0;
+        for (int index : indices) {
+            size += GameSnapshot.varIntSize(index - previous);
+            previous = index;
+        }
+        return size;
+    }
+
+    /**
+     * Reads the indices and codes written by {@link #putCodes(ByteBuffer, int[], byte[])} after their number.
+     */
+    private static void getCodes(final ByteBuffer buffer, final int[] indices, final byte[] codes, final int maxCode) {
+        int previous = 0;
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = previous + GameSnapshot.getVarInt(buffer);
+            codes[i] = buffer.get();
+            if (codes[i] < 0 || codes[i] > maxCode) {
+                throw new IllegalArgumentException("Invalid structure code: " + codes[i]);
+            }
+            previous = indices[i];
+        }
+    }
+
+}
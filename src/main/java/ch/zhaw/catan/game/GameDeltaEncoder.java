@@ -0,0 +1,48 @@
+package ch.zhaw.catan.game;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Computes consecutive {@link GameDelta}s of a {@link SiedlerGame}.
+ * <p>
+ * The encoder keeps its position in the {@link GameLog} of the game, so each call of {@link #next()} only reads the
+ * entries appended since the previous call. It must be used by the thread that changes the game or while the game is
+ * not changed.
+ * </p>
+ */
+public final class GameDeltaEncoder {
+
+    private final SiedlerGame game;
+    private final GameLog.Reader reader;
+
+    /**
+     * Constructs a GameDeltaEncoder whose first delta starts at the current version of the given game.
+     *
+     * @param game the game
+     */
+    public GameDeltaEncoder(final SiedlerGame game) {
+        this.game = requireNonNull(game, "game must not be null");
+        this.reader = game.getLog().reader();
+        reader.skipToEnd();
+    }
+
+    /**
+     * Returns the version the next delta starts from.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return reader.getEntryIndex();
+    }
+
+    /**
+     * Returns the changes of the game since the previous call or, for the first call, since the construction of this
+     * encoder.
+     *
+     * @return the delta
+     */
+    public GameDelta next() {
+        return GameDelta.collect(game, reader);
+    }
+
+}
@@ -0,0 +1,179 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.awt.Point;
+
+/**
+ * Immutable event describing a change of a {@link SiedlerGame}, published by {@link SiedlerGame#getEvents()}.
+ * <p>
+ * Which of the properties are set depends on the {@link GameEventType}; the others are null respectively 0.
+ * </p>
+ */
+public final class GameEvent {
+
+    private final GameEventType type;
+    private final Faction faction;
+    private final Faction otherFaction;
+    private final Resource resource;
+    private final Resource otherResource;
+    private final Config.Structure structure;
+    private final int amount;
+    private final Point position;
+    private final Point endPosition;
+
+    private GameEvent(final GameEventType type, final Faction faction, final Faction otherFaction,
+                      final Resource resource, final Resource otherResource, final Config.Structure structure,
+                      final int amount, final Point position, final Point endPosition) {
+        this.type = type;
+        this.faction = faction;
+        this.otherFaction = otherFaction;
+        this.resource = resource;
+        this.otherResource = otherResource;
+        this.structure = structure;
+        this.amount = amount;
+        this.position = position;
+        this.endPosition = endPosition;
+    }
+
+    static GameEvent ofAmount(final GameEventType type, final Faction faction, final int amount) {
+        return new GameEvent(type, faction, null, null, null, null, amount, null, null);
+    }
+
+    static GameEvent ofResources(final GameEventType type, final Faction faction, final Resource resource,
+                                 final int amount) {
+        return new GameEvent(type, faction, null, resource, null, null, amount, null, null);
+    }
+
+    static GameEvent ofThiefMoved(final Point position) {
+        return new GameEvent(GameEventType.THIEF_MOVED, null, null, null, null, null, 0, position, null);
+    }
+
+    static GameEvent ofCardStolen(final Faction thief, final Faction victim, final Resource resource) {
+        return new GameEvent(GameEventType.CARD_STOLEN, thief, victim, resource, null, null, 1, null, null);
+    }
+
+    static GameEvent ofStructure(final Faction faction, final Config.Structure structure, final Point position,
+                                 final Point endPosition) {
+        return new GameEvent(GameEventType.STRUCTURE_BUILT, faction, null, null, null, structure, 0, position,
+                endPosition);
+    }
+
+    static GameEvent ofTrade(final Faction faction, final Resource offer, final Resource want) {
+        return new GameEvent(GameEventType.TRADE_DONE, faction, null, offer, want, null,
+                SiedlerGame.FOUR_TO_ONE_TRADE_OFFER, null, null);
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @return the type
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the {@link Faction} of the {@link Player} the event is about.
+     *
+     * @return the {@link Faction} or null
+     */
+    public Faction getFaction() {
+        return faction;
+    }
+
+    /**
+     * Returns the {@link Faction} of the victim of a {@link GameEventType#CARD_STOLEN} event.
+     *
+     * @return the {@link Faction} or null
+     */
+    public Faction getOtherFaction() {
+        return otherFaction;
+    }
+
+    /**
+     * Returns the {@link Resource} paid, discarded, stolen or offered in a trade.
+     *
+     * @return the {@link Resource} or null
+     */
+    public Resource getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the {@link Resource} wanted in a trade.
+     *
+     * @return the {@link Resource} or null
+     */
+    public Resource getOtherResource() {
+        return otherResource;
+    }
+
+    /**
+     * Returns the type of structure built.
+     *
+     * @return the type of structure or null
+     */
+    public Config.Structure getStructure() {
+        return structure;
+    }
+
+    /**
+     * Returns the dice value, the number of cards or the index of the new current {@link Player}.
+     *
+     * @return the amount
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns the position of the structure built or of the field the thief has been moved to.
+     *
+     * @return the position or null
+     */
+    public Point getPosition() {
+        return position == null ? null : new Point(position);
+    }
+
+    /**
+     * Returns the end position of a road built.
+     *
+     * @return the end position or null
+     */
+    public Point getEndPosition() {
+        return endPosition == null ? null : new Point(endPosition);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(type.name());
+        if (faction != null) {
+            builder.append(' ').append(faction);
+        }
+        if (structure != null) {
+            builder.append(' ').append(structure);
+        }
+        if (resource != null) {
+            builder.append(' ').append(resource);
+        }
+        if (otherResource != null) {
+            builder.append("->").append(otherResource);
+        }
+        if (otherFaction != null) {
+            builder.append(" from ").append(otherFaction);
+        }
+        if (position != null) {
+            builder.append(" at ").append(position.x).append(',').append(position.y);
+        }
+        if (endPosition != null) {
+            builder.append('-').append(endPosition.x).append(',').append(endPosition.y);
+        }
+        if (amount != 0) {
+            builder.append(' ').append(amount);
+        }
+        return builder.toString();
+    }
+
+}
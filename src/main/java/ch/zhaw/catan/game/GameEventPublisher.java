@@ -0,0 +1,131 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.awt.Point;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * Publishes the {@link GameEvent}s of a {@link SiedlerGame}.
+ * <p>
+ * The events are derived from the entries of the {@link GameLog} appended since the previous change, so the game
+ * itself only has to notify its {@link GameChangeListener}s. While nobody is subscribed, the publisher skips the new
+ * entries without reading them or creating events. Events are delivered asynchronously by a
+ * {@link SubmissionPublisher}, each subscriber with its own bounded buffer. The game thread never waits for a
+ * subscriber: events which do not fit into the buffer of a slow subscriber are dropped for that subscriber and counted.
+ * Subscribers which must not miss any event can read the {@link GameLog} instead.
+ * </p>
+ */
+final class GameEventPublisher implements Flow.Publisher<GameEvent>, GameChangeListener {
+
+    private static final Faction[] FACTIONS = Faction.values();
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final SubmissionPublisher<GameEvent> publisher;
+    private final GameLog.Reader reader;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final BiPredicate<Flow.Subscriber<? super GameEvent>, GameEvent> onDrop = (subscriber, event) -> {
+        droppedEvents.incrementAndGet();
+        return false;
+    };
+
+    private boolean winnerPublished;
+
+    /**
+     * Creates a publisher for the given game. Must be called by the thread that changes the game.
+     *
+     * @param game       the game
+     * @param executor   the {@link Executor} delivering the events
+     * @param bufferSize the maximum number of events buffered per subscriber
+     */
+    GameEventPublisher(final SiedlerGame game, final Executor executor, final int bufferSize) {
+        publisher = new SubmissionPublisher<>(executor, bufferSize);
+        reader = game.getLog().reader();
+        reader.skipToEnd();
+    }
+
+    /**
+     * Subscribes to the events of all changes made after the next notification of the game.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super GameEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Publishes the events of the entries appended since the previous change. Called by the game.
+     *
+     * @param game the changed game
+     */
+    @Override
+    public void gameChanged(final SiedlerGame game) {
+        if (!publisher.hasSubscribers()) {
+            reader.skipToEnd();
+            return;
+        }
+        while (reader.hasNext()) {
+            publishEntry(reader.next());
+        }
+        final Faction winner = game.getWinner();
+        if (winner != null && !winnerPublished) {
+            winnerPublished = true;
+            publish(GameEvent.ofAmount(GameEventType.WINNER, winner, 0));
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer of a subscriber was full.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    private void publishEntry(final GameLogEntry entry) {
+        switch (entry) {
+            case DICE_ROLLED -> {
+                final int diceValue = reader.getArgument(0);
+                publish(GameEvent.ofAmount(GameEventType.DICE_ROLLED, null, diceValue));
+                if (diceValue == SiedlerGame.THIEF_DICE_NUMBER) {
+                    publish(GameEvent.ofAmount(GameEventType.THIEF_EXECUTED, null, 0));
+                }
+            }
+            case RESOURCES_PAID -> publishResources(GameEventType.RESOURCES_PAID);
+            case RESOURCES_DISCARDED -> publishResources(GameEventType.RESOURCES_DISCARDED);
+            case INITIAL_SETTLEMENT_PLACED, SETTLEMENT_BUILT -> publishStructure(Config.Structure.SETTLEMENT, false);
+            case CITY_BUILT -> publishStructure(Config.Structure.CITY, false);
+            case INITIAL_ROAD_PLACED, ROAD_BUILT -> publishStructure(Config.Structure.ROAD, true);
+            case TRADED -> publish(GameEvent.ofTrade(FACTIONS[reader.getArgument(0)],
+                    RESOURCES[reader.getArgument(1)], RESOURCES[reader.getArgument(2)]));
+            case THIEF_MOVED -> publish(GameEvent.ofThiefMoved(new Point(reader.getArgument(0), reader.getArgument(1))));
+            case CARD_STOLEN -> publish(GameEvent.ofCardStolen(FACTIONS[reader.getArgument(1)],
+                    FACTIONS[reader.getArgument(0)], RESOURCES[reader.getArgument(2)]));
+            case PLAYER_SWITCHED -> publish(GameEvent.ofAmount(GameEventType.TURN_SWITCHED,
+                    FACTIONS[reader.getArgument(0)], reader.getArgument(0)));
+        }
+    }
+
+    private void publishResources(final GameEventType type) {
+        publish(GameEvent.ofResources(type, FACTIONS[reader.getArgument(0)], RESOURCES[reader.getArgument(1)],
+                reader.getArgument(2)));
+    }
+
+    private void publishStructure(final Config.Structure structure, final boolean road) {
+        publish(GameEvent.ofStructure(FACTIONS[reader.getArgument(0)], structure,
+                new Point(reader.getArgument(1), reader.getArgument(2)),
+                road ? new Point(reader.getArgument(3), reader.getArgument(4)) : null));
+    }
+
+    private void publish(final GameEvent event) {
+        publisher.offer(event, onDrop);
+    }
+
+}
@@ -0,0 +1,62 @@
+package ch.zhaw.catan.game;
+
+/**
+ * Represents the types of {@link GameEvent}s published by a {@link SiedlerGame}.
+ */
+public enum GameEventType {
+
+    /**
+     * The dice have been rolled. The amount is the dice value.
+     */
+    DICE_ROLLED,
+
+    /**
+     * The {@link Bank} has paid out {@link Config.Resource} cards to the {@link Player} of the faction.
+     */
+    RESOURCES_PAID,
+
+    /**
+     * The thief has been executed because a {@link SiedlerGame#THIEF_DICE_NUMBER} has been rolled.
+     */
+    THIEF_EXECUTED,
+
+    /**
+     * The {@link Player} of the faction has discarded {@link Config.Resource} cards to the {@link Bank} because of the
+     * thief.
+     */
+    RESOURCES_DISCARDED,
+
+    /**
+     * The thief has been moved to the field at the position.
+     */
+    THIEF_MOVED,
+
+    /**
+     * The {@link Player} of the faction has stolen a {@link Config.Resource} card from the {@link Player} of the other
+     * faction.
+     */
+    CARD_STOLEN,
+
+    /**
+     * The {@link Player} of the faction has built or placed a structure at the position. For a road, the end position
+     * is set as well.
+     */
+    STRUCTURE_BUILT,
+
+    /**
+     * The {@link Player} of the faction has traded four cards of the {@link Config.Resource} with the {@link Bank} for
+     * one card of the other {@link Config.Resource}.
+     */
+    TRADE_DONE,
+
+    /**
+     * The {@link Player} of the faction is now the current {@link Player}. The amount is the index of the player.
+     */
+    TURN_SWITCHED,
+
+    /**
+     * The {@link Player} of the faction has won the game.
+     */
+    WINNER
+
+}
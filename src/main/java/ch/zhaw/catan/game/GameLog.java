@@ -0,0 +1,415 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static ch.zhaw.catan.game.GameSnapshot.VARINT_CONTINUATION_BIT;
+import static ch.zhaw.catan.game.GameSnapshot.VARINT_PAYLOAD_BITS;
+import static ch.zhaw.catan.game.GameSnapshot.VARINT_PAYLOAD_MASK;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An append-only log of everything that changed the state of a {@link SiedlerGame}.
+ * <p>
+ * The log stores the seed of the random number generator, the number of win points and players and the
+ * {@link BoardLayout} of the game, followed by the entries described by {@link GameLogEntry}. The standard layout only
+ * takes a single byte, a layout of a board with other fields than the standard board also stores its
+ * {@link BoardTopology}. Entries are encoded as the ordinal of their type followed by their
+ * arguments as unsigned variable-length integers (seven bits per byte), so most entries take three to six bytes.
+ * </p>
+ * <p>
+ * A log can be written to and read from a {@link ByteBuffer} and can be replayed with a {@link GameLogReplayer}.
+ * </p>
+ */
+public class GameLog {
+
+    static final int FORMAT_VERSION = 2;
+    static final int STANDARD_LAYOUT_FORMAT_VERSION = 1;
+    static final int INITIAL_CAPACITY = 256;
+
+    private static final byte STANDARD_LAYOUT = 0;
+    private static final byte CUSTOM_LAYOUT = 1;
+    private static final byte CUSTOM_TOPOLOGY_LAYOUT = 2;
+    private static final int NUMBER_OF_RESOURCES = Resource.values().length;
+
+    private final long seed;
+    private final int winPoints;
+    private final int numberOfPlayers;
+    private final BoardLayout layout;
+
+    private byte[] data;
+    private int size;
+    private int entryCount;
+
+    /**
+     * Constructs an empty GameLog for a game with the given parameters.
+     *
+     * @param seed            the seed of the random number generator of the game
+     * @param winPoints       the number of points required to win the game
+     * @param numberOfPlayers the number of {@link Player}s
+     * @param layout          the {@link BoardLayout} of the board
+     */
+    GameLog(final long seed, final int winPoints, final int numberOfPlayers, final BoardLayout layout) {
+        this(seed, winPoints, numberOfPlayers, layout, new byte[INITIAL_CAPACITY], 0, 0);
+    }
+
+    private GameLog(final long seed, final int winPoints, final int numberOfPlayers, final BoardLayout layout,
+                    final byte[] data, final int size, final int entryCount) {
+        this.seed = seed;
+        this.winPoints = winPoints;
+        this.numberOfPlayers = numberOfPlayers;
+        this.layout = requireNonNull(layout, "layout must not be null");
+        this.data = data;
+        this.size = size;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Returns the seed of the random number generator of the logged game.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of points required to win the logged game.
+     *
+     * @return the number of win points
+     */
+    public int getWinPoints() {
+        return winPoints;
+    }
+
+    /**
+     * Returns the number of {@link Player}s of the logged game.
+     *
+     * @return the number of {@link Player}s
+     */
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    /**
+     * Returns the {@link BoardLayout} of the logged game.
+     *
+     * @return the {@link BoardLayout}
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the number of entries in this log.
+     *
+     * @return the number of entries
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the number of bytes used by the entries of this log.
+     *
+     * @return the number of bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Writes this log to the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put((byte) FORMAT_VERSION);
+        buffer.putLong(seed);
+        buffer.putInt(winPoints);
+        buffer.put((byte) numberOfPlayers);
+        if (layout == BoardLayout.getStandard()) {
+            buffer.put(STANDARD_LAYOUT);
+        } else if (layout.getTopology() == BoardTopology.getStandard()) {
+            buffer.put(CUSTOM_LAYOUT);
+            layout.writeTo(buffer);
+        } else {
+            buffer.put(CUSTOM_TOPOLOGY_LAYOUT);
+            layout.getTopology().writeTo(buffer);
+            layout.writeTo(buffer);
+        }
+        buffer.putInt(entryCount);
+        buffer.putInt(size);
+        buffer.put(data, 0, size);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the number of bytes
+     */
+    public int getSerializedSize() {
+        return 1 + Long.BYTES + Integer.BYTES + 1 + 1
+                + (layout == BoardLayout.getStandard() ? 0 : layout.getSerializedSize())
+                + (layout.getTopology() == BoardTopology.getStandard() ? 0 : layout.getTopology().getSerializedSize())
+                + Integer.BYTES + Integer.BYTES + size;
+    }
+
+    /**
+     * Reads a log previously written with {@link #writeTo(ByteBuffer)} from the given {@link ByteBuffer}. Logs of the
+     * first version, which did not store the layout, are read with the standard {@link BoardLayout}.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the log
+     * @throws IllegalArgumentException if the buffer does not contain a valid log of a supported version
+     */
+    public static GameLog readFrom(final ByteBuffer buffer) {
+        try {
+            final int version = buffer.get();
+            if (version != FORMAT_VERSION && version != STANDARD_LAYOUT_FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported game log version: " + version);
+            }
+            final long seed = buffer.getLong();
+            final int winPoints = buffer.getInt();
+            final int numberOfPlayers = buffer.get();
+            final BoardLayout layout = version == STANDARD_LAYOUT_FORMAT_VERSION ? BoardLayout.getStandard()
+                    : readLayout(buffer);
+            final int entryCount = buffer.getInt();
+            final int size = buffer.getInt();
+            if (size < 0 || size > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid game log size: " + size);
+            }
+            if (entryCount < 0 || entryCount > size) {
+                throw new IllegalArgumentException("Invalid number of game log entries: " + entryCount);
+            }
+            final byte[] data = new byte[Math.max(size, INITIAL_CAPACITY)];
+            buffer.get(data, 0, size);
+            return new GameLog(seed, winPoints, numberOfPlayers, layout, data, size, entryCount);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Game log is truncated", e);
+        }
+    }
+
+    private static BoardLayout readLayout(final ByteBuffer buffer) {
+        final byte kind = buffer.get();
+        if (kind == STANDARD_LAYOUT) {
+            return BoardLayout.getStandard();
+        }
+        if (kind == CUSTOM_LAYOUT) {
+            return BoardLayout.readFrom(buffer, BoardTopology.getStandard());
+        }
+        if (kind != CUSTOM_TOPOLOGY_LAYOUT) {
+            throw new IllegalArgumentException("Invalid board layout kind: " + kind);
+        }
+        return BoardLayout.readFrom(buffer, BoardTopology.readFrom(buffer));
+    }
+
+    /**
+     * Returns a {@link Reader} positioned at the first entry of this log.
+     *
+     * @return the {@link Reader}
+     */
+    public Reader reader() {
+        return new Reader();
+    }
+
+    void logDiceRolled(final int diceValue) {
+        appendType(GameLogEntry.DICE_ROLLED);
+        appendVarInt(diceValue);
+    }
+
+    void logResources(final GameLogEntry type, final Faction faction, final Resource resource, final int amount) {
+        appendType(type);
+        appendVarInt(faction.ordinal());
+        appendVarInt(resource.ordinal());
+        appendVarInt(amount);
+    }
+
+    void logStructure(final GameLogEntry type, final Faction faction, final Point position) {
+        appendType(type);
+        appendVarInt(faction.ordinal());
+        appendVarInt(position.x);
+        appendVarInt(position.y);
+    }
+
+    void logRoad(final GameLogEntry type, final Faction faction, final Point start, final Point end) {
+        appendType(type);
+        appendVarInt(faction.ordinal());
+        appendVarInt(start.x);
+        appendVarInt(start.y);
+        appendVarInt(end.x);
+        appendVarInt(end.y);
+    }
+
+    void logTrade(final Faction faction, final Resource offer, final Resource want) {
+        appendType(GameLogEntry.TRADED);
+        appendVarInt(faction.ordinal());
+        appendVarInt(offer.ordinal());
+        appendVarInt(want.ordinal());
+    }
+
+    void logThiefMoved(final Point fieldPosition) {
+        appendType(GameLogEntry.THIEF_MOVED);
+        appendVarInt(fieldPosition.x);
+        appendVarInt(fieldPosition.y);
+    }
+
+    void logCardStolen(final Faction victim, final Faction thief, final Resource resource) {
+        appendType(GameLogEntry.CARD_STOLEN);
+        appendVarInt(victim.ordinal());
+        appendVarInt(thief.ordinal());
+        appendVarInt(resource.ordinal());
+    }
+
+    void logPlayerSwitched(final int playerIndex) {
+        appendType(GameLogEntry.PLAYER_SWITCHED);
+        appendVarInt(playerIndex);
+    }
+
+    private void appendType(final GameLogEntry type) {
+        ensureCapacity();
+        data[size++] = (byte) type.ordinal();
+        entryCount++;
+    }
+
+    /**
+     * Appends the given value in the encoding of {@link GameSnapshot#putVarInt(ByteBuffer, int)}, but writes directly
+     * into the data array since entries are appended on every change of a game.
+     */
+    private void appendVarInt(final int value) {
+        ensureCapacity();
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            data[size++] = (byte) ((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        data[size++] = (byte) remaining;
+    }
+
+    /**
+     * Makes sure that at least one more entry argument of maximum length fits into the data array.
+     */
+    private void ensureCapacity() {
+        if (size + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+    }
+
+    /**
+     * Reads the entries of a {@link GameLog} one after another. Entries appended after the reader has been created are
+     * visible to the reader as well.
+     */
+    public final class Reader {
+
+        private final int[] arguments = new int[maxNumberOfArguments()];
+        private ByteBuffer entries = ByteBuffer.wrap(data);
+        private int entryIndex;
+
+        private Reader() {
+        }
+
+        /**
+         * Returns whether there are more entries to read.
+         *
+         * @return true if there are more entries, false otherwise
+         */
+        public boolean hasNext() {
+            return entryIndex < entryCount;
+        }
+
+        /**
+         * Returns the index of the entry that is read next.
+         *
+         * @return the index of the next entry
+         */
+        public int getEntryIndex() {
+            return entryIndex;
+        }
+
+        /**
+         * Reads the next entry. Its arguments can be accessed with {@link #getArgument(int)} until the next call.
+         *
+         * @return the type of the entry
+         * @throws NoSuchElementException   if there are no more entries
+         * @throws IllegalArgumentException if the entry is truncated, its type is unknown or it refers to a player or
+         *                                  resource that does not exist
+         */
+        public GameLogEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more game log entries");
+            }
+            final ByteBuffer entries = getEntries().limit(size);
+            try {
+                final GameLogEntry type = GameLogEntry.fromOrdinal(entries.get());
+                for (int i = 0; i < type.getNumberOfArguments(); i++) {
+                    arguments[i] = GameSnapshot.getVarInt(entries);
+                    checkArgument(type, i);
+                }
+                entryIndex++;
+                return type;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Game log entry " + entryIndex + " is truncated", e);
+            }
+        }
+
+        private void checkArgument(final GameLogEntry type, final int index) {
+            final int bound = switch (type.getArgument(index)) {
+                case VALUE -> Integer.MAX_VALUE;
+                case PLAYER -> numberOfPlayers;
+                case RESOURCE -> NUMBER_OF_RESOURCES;
+            };
+            if (arguments[index] < 0 || arguments[index] >= bound) {
+                throw new IllegalArgumentException("Invalid argument " + index + " of game log entry " + entryIndex
+                        + " (" + type + "): " + arguments[index]);
+            }
+        }
+
+        /**
+         * Skips all entries appended so far without reading them.
+         */
+        public void skipToEnd() {
+            getEntries().limit(size).position(size);
+            entryIndex = entryCount;
+        }
+
+        /**
+         * Returns an argument of the entry that has been read last.
+         *
+         * @param index the index of the argument
+         * @return the argument
+         */
+        public int getArgument(final int index) {
+            return arguments[index];
+        }
+
+        /**
+         * Returns the buffer over the entries at the position of this reader, which is wrapped again after the log
+         * has grown its data array.
+         */
+        private ByteBuffer getEntries() {
+            if (entries.array() != data) {
+                entries = ByteBuffer.wrap(data).position(entries.position());
+            }
+            return entries;
+        }
+
+        private int maxNumberOfArguments() {
+            int max = 0;
+            for (GameLogEntry type : GameLogEntry.values()) {
+                max = Math.max(max, type.getNumberOfArguments());
+            }
+            return max;
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package ch.zhaw.catan.game;
+
+import static ch.zhaw.catan.game.GameLogEntry.Argument.PLAYER;
+import static ch.zhaw.catan.game.GameLogEntry.Argument.RESOURCE;
+import static ch.zhaw.catan.game.GameLogEntry.Argument.VALUE;
+
+/**
+ * Represents the types of entries stored in a {@link GameLog}. Each entry is encoded as the ordinal of its type
+ * followed by a fixed number of arguments, whose kinds allow a {@link GameLog.Reader} to validate them.
+ */
+public enum GameLogEntry {
+
+    /**
+     * The dice have been rolled. Argument: dice value.
+     */
+    DICE_ROLLED(VALUE),
+
+    /**
+     * Resource cards have been paid out by the {@link Bank}. Arguments: faction, resource, amount.
+     */
+    RESOURCES_PAID(PLAYER, RESOURCE, VALUE),
+
+    /**
+     * Resource cards have been discarded to the {@link Bank} because of the thief. Arguments: faction, resource, amount.
+     */
+    RESOURCES_DISCARDED(PLAYER, RESOURCE, VALUE),
+
+    /**
+     * A settlement has been placed in the founder's phase. Arguments: faction, x, y.
+     */
+    INITIAL_SETTLEMENT_PLACED(PLAYER, VALUE, VALUE),
+
+    /**
+     * A road has been placed in the founder's phase. Arguments: faction, start x, start y, end x, end y.
+     */
+    INITIAL_ROAD_PLACED(PLAYER, VALUE, VALUE, VALUE, VALUE),
+
+    /**
+     * A settlement has been built and paid. Arguments: faction, x, y.
+     */
+    SETTLEMENT_BUILT(PLAYER, VALUE, VALUE),
+
+    /**
+     * A city has been built and paid. Arguments: faction, x, y.
+     */
+    CITY_BUILT(PLAYER, VALUE, VALUE),
+
+    /**
+     * A road has been built and paid. Arguments: faction, start x, start y, end x, end y.
+     */
+    ROAD_BUILT(PLAYER, VALUE, VALUE, VALUE, VALUE),
+
+    /**
+     * Resource cards have been traded with the {@link Bank}. Arguments: faction, offered resource, wanted resource.
+     */
+    TRADED(PLAYER, RESOURCE, RESOURCE),
+
+    /**
+     * The thief has been moved. Arguments: field x, field y.
+     */
+    THIEF_MOVED(VALUE, VALUE),
+
+    /**
+     * A resource card has been stolen. Arguments: faction of the victim, faction of the thief, resource.
+     */
+    CARD_STOLEN(PLAYER, PLAYER, RESOURCE),
+
+    /**
+     * Another player is now the current player. Argument: index of the new current player.
+     */
+    PLAYER_SWITCHED(PLAYER);
+
+    private static final GameLogEntry[] VALUES = values();
+
+    private final Argument[] arguments;
+
+    GameLogEntry(final Argument... arguments) {
+        this.arguments = arguments;
+    }
+
+    /**
+     * Returns the number of arguments stored with this entry.
+     *
+     * @return the number of arguments
+     */
+    public int getNumberOfArguments() {
+        return arguments.length;
+    }
+
+    /**
+     * Returns the kind of the argument at the given index.
+     *
+     * @param index the index of the argument
+     * @return the kind of the argument
+     */
+    Argument getArgument(final int index) {
+        return arguments[index];
+    }
+
+    /**
+     * Returns the entry type with the given ordinal without allocating a new array.
+     *
+     * @param ordinal the ordinal of the entry type
+     * @return the entry type
+     */
+    static GameLogEntry fromOrdinal(final int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Invalid game log entry type: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Represents the kinds of arguments of an entry.
+     */
+    enum Argument {
+
+        /**
+         * A number without further restrictions, e.g. a dice value, an amount or a coordinate.
+         */
+        VALUE,
+
+        /**
+         * The ordinal of the {@link Config.Faction} of a player, which is also the index of the player in the game.
+         */
+        PLAYER,
+
+        /**
+         * The ordinal of a {@link Config.Resource}.
+         */
+        RESOURCE
+    }
+
+}
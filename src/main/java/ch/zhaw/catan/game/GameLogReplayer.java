@@ -0,0 +1,49 @@
+package ch.zhaw.catan.game;
+
+/**
+ * Rebuilds {@link SiedlerGame}s from a {@link GameLog}.
+ * <p>
+ * The entries of the log are reapplied to a new game created with the seed, win points and number of players stored in
+ * the log. Since the log contains the outcome of every decision, including the dice rolls, discards and steals, no rules
+ * are checked and no random numbers are drawn while replaying.
+ * </p>
+ */
+public final class GameLogReplayer {
+
+    private GameLogReplayer() {
+    }
+
+    /**
+     * Rebuilds the game with all entries of the given log applied.
+     *
+     * @param log the {@link GameLog} to replay
+     * @return the rebuilt {@link SiedlerGame}
+     */
+    public static SiedlerGame replay(final GameLog log) {
+        return replay(log, log.getEntryCount());
+    }
+
+    /**
+     * Rebuilds the game as it was after the first entries of the given log have been applied.
+     *
+     * @param log        the {@link GameLog} to replay
+     * @param entryIndex the number of entries to apply
+     * @return the rebuilt {@link SiedlerGame}
+     * @throws IllegalArgumentException if the index is negative or greater than the number of entries
+     */
+    public static SiedlerGame replay(final GameLog log, final int entryIndex) {
+        if (entryIndex < 0 || entryIndex > log.getEntryCount()) {
+            throw new IllegalArgumentException("Entry index " + entryIndex + " is not within 0 and " + log.getEntryCount());
+        }
+
+        final SiedlerGame game = new SiedlerGame(log.getWinPoints(), log.getNumberOfPlayers(), log.getSeed(),
+                log.getLayout());
+        final GameLog.Reader reader = log.reader();
+        while (reader.getEntryIndex() < entryIndex) {
+            game.applyLogEntry(reader.next(), reader);
+        }
+
+        return game;
+    }
+
+}
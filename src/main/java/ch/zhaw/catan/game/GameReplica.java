@@ -0,0 +1,78 @@
+package ch.zhaw.catan.game;
+
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Client side copy of the state of a {@link SiedlerGame} which is kept up to date with {@link GameDelta}s.
+ * <p>
+ * A replica starts from a {@link GameSnapshot} and the version of the game it was taken at. Every delta must start
+ * at the version the replica is at, so a lost delta is detected instead of silently yielding a wrong state.
+ * </p>
+ */
+public class GameReplica {
+
+    private GameSnapshot snapshot;
+    private int version;
+
+    /**
+     * Constructs a GameReplica from a snapshot of a game.
+     *
+     * @param snapshot the snapshot
+     * @param version  the version of the game the snapshot has been taken at
+     */
+    public GameReplica(final GameSnapshot snapshot, final int version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("version must not be negative");
+        }
+        this.snapshot = requireNonNull(snapshot, "snapshot must not be null");
+        this.version = version;
+    }
+
+    /**
+     * Reads a {@link GameDelta} from the given {@link ByteBuffer} and applies it.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @throws IllegalArgumentException if the buffer does not contain a valid delta
+     * @throws IllegalStateException    if the delta does not start at the version of this replica
+     */
+    public void apply(final ByteBuffer buffer) {
+        apply(GameDelta.readFrom(buffer));
+    }
+
+    /**
+     * Applies the given {@link GameDelta}.
+     *
+     * @param delta the delta
+     * @throws IllegalStateException if the delta does not start at the version of this replica
+     */
+    public void apply(final GameDelta delta) {
+        requireNonNull(delta, "delta must not be null");
+        if (delta.getFromVersion() != version) {
+            throw new IllegalStateException("Delta starts at version " + delta.getFromVersion()
+                    + " but the replica is at version " + version);
+        }
+        snapshot = delta.applyTo(snapshot);
+        version = delta.getToVersion();
+    }
+
+    /**
+     * Returns the current state of the replica.
+     *
+     * @return the snapshot of the current state
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the version of the game the replica is at.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+}
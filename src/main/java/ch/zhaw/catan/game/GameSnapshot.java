@@ -0,0 +1,540 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.structure.City;
+import ch.zhaw.catan.structure.Road;
+import ch.zhaw.catan.structure.Settlement;
+import ch.zhaw.catan.structure.Structure;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.zhaw.catan.game.Config.MIN_NUMBER_OF_PLAYERS;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable copy of the state of a {@link SiedlerGame} which can be written to and read from a compact binary format.
+ * <p>
+ * Corners and edges are identified by their index in the {@link BoardTopology} of the board. Each corner and each edge
+ * is stored as a four bit code, so two of them share one byte. Resource amounts are stored as variable length
+ * integers, which take a single byte as long as an amount is below 128. A snapshot of a standard game therefore takes
+ * less than 256 bytes. The {@link BoardLayout} is only stored if it is not the standard one. The format starts with a
+ * version byte, so older snapshots can be recognized; snapshots of the first version are read with the standard layout.
+ * </p>
+ */
+public final class GameSnapshot {
+
+    static final int FORMAT_VERSION = 2;
+    static final int STANDARD_LAYOUT_FORMAT_VERSION = 1;
+    static final int VARINT_PAYLOAD_BITS = 7;
+    static final int VARINT_PAYLOAD_MASK = 0x7F;
+    static final int VARINT_CONTINUATION_BIT = 0x80;
+
+    private static final int EMPTY = 0;
+    private static final byte STANDARD_LAYOUT = 0;
+    private static final byte CUSTOM_LAYOUT = 1;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+    private static final int NUMBER_OF_FACTIONS = Faction.values().length;
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final BoardTopology topology;
+    private final BoardLayout layout;
+    private final int winPoints;
+    private final int numberOfPlayers;
+    private final int currentPlayerIndex;
+    private final int thiefFieldIndex;
+    private final byte[] cornerCodes;
+    private final byte[] edgeCodes;
+    private final int[][] inventories;
+
+    GameSnapshot(final BoardTopology topology, final BoardLayout layout, final int winPoints,
+                 final int numberOfPlayers, final int currentPlayerIndex, final int thiefFieldIndex,
+                 final byte[] cornerCodes, final byte[] edgeCodes, final int[][] inventories) {
+        this.topology = topology;
+        this.layout = layout;
+        this.winPoints = winPoints;
+        this.numberOfPlayers = numberOfPlayers;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.thiefFieldIndex = thiefFieldIndex;
+        this.cornerCodes = cornerCodes;
+        this.edgeCodes = edgeCodes;
+        this.inventories = inventories;
+    }
+
+    /**
+     * Takes a snapshot of the current state of the given game.
+     *
+     * @param game the game
+     * @return the snapshot
+     */
+    public static GameSnapshot of(final SiedlerGame game) {
+        requireNonNull(game, "game must not be null");
+        final SiedlerBoard board = game.getBoard();
+        final BoardTopology topology = board.getTopology();
+
+        final byte[] cornerCodes = new byte[topology.getCornerCount()];
+        for (int corner = 0; corner < cornerCodes.length; corner++) {
+            cornerCodes[corner] = (byte) encodeCorner(board.getCorner(corner));
+        }
+        final byte[] edgeCodes = new byte[topology.getEdgeCount()];
+        for (int edge = 0; edge < edgeCodes.length; edge++) {
+            final Road road = board.getEdge(edge);
+            edgeCodes[edge] = (byte) (road == null ? EMPTY : road.getFaction().ordinal() + 1);
+        }
+
+        final List<Player> players = game.getCurrentPlayers();
+        final int[][] inventories = new int[players.size() + 1][];
+        for (int i = 0; i < players.size(); i++) {
+            inventories[i] = toAmounts(players.get(i));
+        }
+        inventories[players.size()] = toAmounts(game.getBank());
+
+        return new GameSnapshot(topology, board.getLayout(), game.getWinPoints(), players.size(),
+                game.getCurrentPlayerIndex(),
+                board.getThiefField(),
+                cornerCodes, edgeCodes, inventories);
+    }
+
+    /**
+     * Writes this snapshot to the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put((byte) FORMAT_VERSION);
+        buffer.put((byte) numberOfPlayers);
+        buffer.put((byte) currentPlayerIndex);
+        putVarInt(buffer, winPoints);
+        putVarInt(buffer, topology.getCornerCount());
+        putVarInt(buffer, topology.getEdgeCount());
+        putVarInt(buffer, thiefFieldIndex);
+        if (layout == BoardLayout.getStandard()) {
+            buffer.put(STANDARD_LAYOUT);
+        } else {
+            buffer.put(CUSTOM_LAYOUT);
+            layout.writeTo(buffer);
+        }
+        putNibbles(buffer, cornerCodes);
+        putNibbles(buffer, edgeCodes);
+        for (int[] amounts : inventories) {
+            for (int amount : amounts) {
+                putVarInt(buffer, amount);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the number of bytes
+     */
+    public int getSerializedSize() {
+        int size = 3 + varIntSize(winPoints) + varIntSize(cornerCodes.length) + varIntSize(edgeCodes.length)
+                + varIntSize(thiefFieldIndex) + 1 + (layout == BoardLayout.getStandard() ? 0 : layout.getSerializedSize())
+                + nibblesSize(cornerCodes) + nibblesSize(edgeCodes);
+        for (int[] amounts : inventories) {
+            for (int amount : amounts) {
+                size += varIntSize(amount);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Reads a snapshot of a game on the standard board previously written with {@link #writeTo(ByteBuffer)} from the
+     * given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the snapshot
+     * @throws IllegalArgumentException if the buffer does not contain a valid snapshot of a supported version
+     */
+    public static GameSnapshot readFrom(final ByteBuffer buffer) {
+        return readFrom(buffer, BoardTopology.getStandard());
+    }
+
+    /**
+     * Reads a snapshot previously written with {@link #writeTo(ByteBuffer)} from the given {@link ByteBuffer}.
+     *
+     * @param buffer   the {@link ByteBuffer} to read from
+     * @param topology the {@link BoardTopology} of the board of the game
+     * @return the snapshot
+     * @throws IllegalArgumentException if the buffer does not contain a valid snapshot of a supported version
+     */
+    public static GameSnapshot readFrom(final ByteBuffer buffer, final BoardTopology topology) {
+        requireNonNull(topology, "topology must not be null");
+        try {
+            final int version = buffer.get();
+            if (version != FORMAT_VERSION && version != STANDARD_LAYOUT_FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported game snapshot version: " + version);
+            }
+            final int numberOfPlayers = buffer.get();
+            final int currentPlayerIndex = buffer.get();
+            final int winPoints = getVarInt(buffer);
+            final int cornerCount = getVarInt(buffer);
+            final int edgeCount = getVarInt(buffer);
+            if (numberOfPlayers < MIN_NUMBER_OF_PLAYERS || numberOfPlayers > NUMBER_OF_FACTIONS
+                    || currentPlayerIndex < 0 || currentPlayerIndex >= numberOfPlayers
+                    || cornerCount != topology.getCornerCount() || edgeCount != topology.getEdgeCount()) {
+                throw new IllegalArgumentException("Game snapshot does not match the board");
+            }
+            final int thiefFieldIndex = getVarInt(buffer);
+            if (thiefFieldIndex < 0 || thiefFieldIndex >= topology.getFieldCount()) {
+                throw new IllegalArgumentException("Invalid thief field: " + thiefFieldIndex);
+            }
+            final BoardLayout layout = version == STANDARD_LAYOUT_FORMAT_VERSION ? BoardLayout.getStandard()
+                    : readLayout(buffer, topology);
+            final byte[] cornerCodes = getNibbles(buffer, cornerCount, 2 * NUMBER_OF_FACTIONS);
+            final byte[] edgeCodes = getNibbles(buffer, edgeCount, NUMBER_OF_FACTIONS);
+            checkFactions(cornerCodes, numberOfPlayers);
+            checkFactions(edgeCodes, numberOfPlayers);
+            final int[][] inventories = new int[numberOfPlayers + 1][RESOURCES.length];
+            for (int[] amounts : inventories) {
+                for (int i = 0; i < amounts.length; i++) {
+                    amounts[i] = getVarInt(buffer);
+                }
+            }
+            return new GameSnapshot(topology, layout, winPoints, numberOfPlayers, currentPlayerIndex,
+                    thiefFieldIndex, cornerCodes, edgeCodes, inventories);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Game snapshot is truncated", e);
+        }
+    }
+
+    /**
+     * Creates a new game in the state of this snapshot.
+     * <p>
+     * The snapshot does not contain the state of the random number generator, so the new game uses a new one. Its
+     * {@link GameLog} starts empty.
+     * </p>
+     *
+     * @return the new game
+     */
+    public SiedlerGame toGame() {
+        return toGame(App.RANDOM.nextLong());
+    }
+
+    /**
+     * Creates a new game in the state of this snapshot whose random decisions are derived from the given seed. Its
+     * {@link GameLog} starts empty.
+     *
+     * @param seed the seed of the random number generator of the new game
+     * @return the new game
+     */
+    public SiedlerGame toGame(final long seed) {
+        final SiedlerGame game = new SiedlerGame(winPoints, numberOfPlayers, seed, layout);
+        final SiedlerBoard board = game.getBoard();
+        final List<Player> players = game.getCurrentPlayers();
+
+        for (int corner = 0; corner < cornerCodes.length; corner++) {
+            if (cornerCodes[corner] != EMPTY) {
+                final Structure structure = decodeCorner(cornerCodes[corner]);
+                players.get(structure.getFaction().ordinal()).addStructure(structure);
+                board.setCorner(topology.getCorner(corner), structure);
+            }
+        }
+        for (int edge = 0; edge < edgeCodes.length; edge++) {
+            if (edgeCodes[edge] != EMPTY) {
+                final Road road = Road.of(Faction.values()[edgeCodes[edge] - 1]);
+                players.get(road.getFaction().ordinal()).addStructure(road);
+                board.setEdge(topology.getEdgeStart(edge), topology.getEdgeEnd(edge), road);
+            }
+        }
+        for (int i = 0; i < players.size(); i++) {
+            fillInventory(players.get(i), inventories[i]);
+        }
+        fillInventory(game.getBank(), inventories[players.size()]);
+
+        board.switchThiefPosition(topology.getField(thiefFieldIndex));
+        game.restoreCurrentPlayerIndex(currentPlayerIndex);
+        return game;
+    }
+
+    /**
+     * Returns a copy of this snapshot with the changes of the given {@link GameDelta} applied.
+     *
+     * @param delta the delta
+     * @return the changed snapshot
+     * @throws IllegalArgumentException if the delta refers to corners, edges or owners this snapshot does not have
+     */
+    GameSnapshot withChanges(final GameDelta delta) {
+        final byte[] changedCornerCodes = replaceCodes(cornerCodes, delta.getCornerIndices(), delta.getCornerCodes());
+        final byte[] changedEdgeCodes = replaceCodes(edgeCodes, delta.getEdgeIndices(), delta.getEdgeCodes());
+        final int[][] changedInventories = inventories.clone();
+        final int[] ownerIndices = delta.getOwnerIndices();
+        for (int i = 0; i < ownerIndices.length; i++) {
+            if (ownerIndices[i] < 0 || ownerIndices[i] >= inventories.length) {
+                throw new IllegalArgumentException("Invalid inventory owner: " + ownerIndices[i]);
+            }
+            changedInventories[ownerIndices[i]] = delta.getInventories()[i];
+        }
+
+        final int changedThiefFieldIndex = delta.getThiefFieldIndex() < 0 ? thiefFieldIndex : delta.getThiefFieldIndex();
+        if (changedThiefFieldIndex >= topology.getFieldCount()) {
+            throw new IllegalArgumentException("Invalid thief field: " + changedThiefFieldIndex);
+        }
+        final int changedPlayerIndex = delta.getCurrentPlayerIndex() < 0
+                ? currentPlayerIndex : delta.getCurrentPlayerIndex();
+        if (changedPlayerIndex >= numberOfPlayers) {
+            throw new IllegalArgumentException("Invalid current player: " + changedPlayerIndex);
+        }
+        return new GameSnapshot(topology, layout, winPoints, numberOfPlayers, changedPlayerIndex,
+                changedThiefFieldIndex, changedCornerCodes, changedEdgeCodes, changedInventories);
+    }
+
+    /**
+     * Returns the number of points required to win the game.
+     *
+     * @return the number of points required to win
+     */
+    public int getWinPoints() {
+        return winPoints;
+    }
+
+    /**
+     * Returns the {@link BoardLayout} of the board.
+     *
+     * @return the {@link BoardLayout}
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the number of {@link Player}s.
+     *
+     * @return the number of {@link Player}s
+     */
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    /**
+     * Returns the index of the current {@link Player}.
+     *
+     * @return the index of the current {@link Player}
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Returns the {@link BoardTopology} index of the field the thief is placed on.
+     *
+     * @return the index of the thief field
+     */
+    public int getThiefFieldIndex() {
+        return thiefFieldIndex;
+    }
+
+    /**
+     * Returns the code of the {@link Structure} on a corner as described at {@link #encodeCorner(Structure)}.
+     *
+     * @param corner the {@link BoardTopology} index of the corner
+     * @return the code
+     */
+    int getCornerCode(final int corner) {
+        return cornerCodes[corner];
+    }
+
+    /**
+     * Returns the code of the {@link Road} on an edge: 0 for no {@link Road}, otherwise the ordinal of its
+     * {@link Faction} + 1.
+     *
+     * @param edge the {@link BoardTopology} index of the edge
+     * @return the code
+     */
+    int getEdgeCode(final int edge) {
+        return edgeCodes[edge];
+    }
+
+    /**
+     * Returns the amount of a {@link Resource} owned by a {@link Player} or, for the index
+     * {@link #getNumberOfPlayers()}, by the {@link Bank}.
+     *
+     * @param ownerIndex the index of the {@link Player} or the {@link Bank}
+     * @param resource   the {@link Resource}
+     * @return the amount
+     */
+    public int getAmountOfResource(final int ownerIndex, final Resource resource) {
+        return inventories[ownerIndex][resource.ordinal()];
+    }
+
+    /**
+     * Returns whether the given snapshot describes the same game state.
+     *
+     * @param other the other object
+     * @return true if the states are equal, false otherwise
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameSnapshot snapshot)) {
+            return false;
+        }
+        return winPoints == snapshot.winPoints
+                && numberOfPlayers == snapshot.numberOfPlayers
+                && currentPlayerIndex == snapshot.currentPlayerIndex
+                && thiefFieldIndex == snapshot.thiefFieldIndex
+                && layout.equals(snapshot.layout)
+                && Arrays.equals(cornerCodes, snapshot.cornerCodes)
+                && Arrays.equals(edgeCodes, snapshot.edgeCodes)
+                && Arrays.deepEquals(inventories, snapshot.inventories);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(cornerCodes);
+        result = 31 * result + Arrays.hashCode(edgeCodes);
+        result = 31 * result + Arrays.deepHashCode(inventories);
+        result = 31 * result + thiefFieldIndex;
+        return 31 * result + currentPlayerIndex;
+    }
+
+    /**
+     * Encodes the {@link Structure} on a corner: 0 for no {@link Structure}, 1 to 4 for a {@link Settlement} and
+     * 5 to 8 for a {@link City} of the {@link Faction} with the ordinal code - 1 respectively code - 5.
+     */
+    static int encodeCorner(final Structure structure) {
+        if (structure == null) {
+            return EMPTY;
+        }
+        final int offset = structure.getStructureType() == Config.Structure.CITY ? NUMBER_OF_FACTIONS : 0;
+        return offset + structure.getFaction().ordinal() + 1;
+    }
+
+    static Structure decodeCorner(final int code) {
+        final Faction faction = Faction.values()[(code - 1) % NUMBER_OF_FACTIONS];
+        return code > NUMBER_OF_FACTIONS ? City.of(faction) : Settlement.of(faction);
+    }
+
+    static int[] toAmounts(final InventoryOwner owner) {
+        final int[] amounts = new int[RESOURCES.length];
+        for (Resource resource : RESOURCES) {
+            amounts[resource.ordinal()] = owner.getAmountOfResource(resource);
+        }
+        return amounts;
+    }
+
+    private static void fillInventory(final InventoryOwner owner, final int[] amounts) {
+        for (Resource resource : RESOURCES) {
+            owner.getInventory().put(resource, amounts[resource.ordinal()]);
+        }
+    }
+
+    private static BoardLayout readLayout(final ByteBuffer buffer, final BoardTopology topology) {
+        final byte kind = buffer.get();
+        if (kind == STANDARD_LAYOUT) {
+            return BoardLayout.getStandard();
+        }
+        if (kind != CUSTOM_LAYOUT) {
+            throw new IllegalArgumentException("Invalid board layout kind: " + kind);
+        }
+        return BoardLayout.readFrom(buffer, topology);
+    }
+
+    private static byte[] replaceCodes(final byte[] codes, final int[] indices, final byte[] replacements) {
+        if (indices.length == 0) {
+            return codes;
+        }
+        final byte[] changed = codes.clone();
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= changed.length) {
+                throw new IllegalArgumentException("Invalid index: " + indices[i]);
+            }
+            changed[indices[i]] = replacements[i];
+        }
+        return changed;
+    }
+
+    private static void putNibbles(final ByteBuffer buffer, final byte[] codes) {
+        for (int i = 0; i < codes.length; i += 2) {
+            final int high = i + 1 < codes.length ? codes[i + 1] : EMPTY;
+            buffer.put((byte) (high << NIBBLE_BITS | codes[i]));
+        }
+    }
+
+    private static byte[] getNibbles(final ByteBuffer buffer, final int count, final int maxCode) {
+        final byte[] codes = new byte[count];
+        for (int i = 0; i < count; i += 2) {
+            final int packed = buffer.get();
+            codes[i] = (byte) (packed & NIBBLE_MASK);
+            if (i + 1 < count) {
+                codes[i + 1] = (byte) ((packed >>> NIBBLE_BITS) & NIBBLE_MASK);
+            }
+        }
+        for (byte code : codes) {
+            if (code > maxCode) {
+                throw new IllegalArgumentException("Invalid structure code: " + code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Checks that the structures of the given corner or edge codes belong to one of the players of the game, as
+     * {@link #toGame(long)} assigns them to the player of their {@link Faction}.
+     *
+     * @param codes           the codes to check
+     * @param numberOfPlayers the number of players of the game
+     * @throws IllegalArgumentException if a structure belongs to a {@link Faction} without a player
+     */
+    private static void checkFactions(final byte[] codes, final int numberOfPlayers) {
+        for (byte code : codes) {
+            if (code != EMPTY && (code - 1) % NUMBER_OF_FACTIONS >= numberOfPlayers) {
+                throw new IllegalArgumentException("Structure code " + code + " belongs to no player of "
+                        + numberOfPlayers);
+            }
+        }
+    }
+
+    private static int nibblesSize(final byte[] codes) {
+        return (codes.length + 1) / 2;
+    }
+
+    static void putVarInt(final ByteBuffer buffer, final int value) {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            buffer.put((byte) ((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT));
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    static int getVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (current & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+        } while ((current & VARINT_CONTINUATION_BIT) != 0);
+        return value;
+    }
+
+    static int varIntSize(final int value) {
+        int size = 1;
+        int remaining = value >>> VARINT_PAYLOAD_BITS;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        return size;
+    }
+
+}
@@ -5,10 +5,9 @@ import ch.zhaw.catan.game.Config.Resource;
 import ch.zhaw.catan.structure.Structure;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Random;
 
 import static ch.zhaw.catan.game.App.RANDOM;
 import static ch.zhaw.catan.game.Config.MAX_CARDS_IN_HAND_NO_DROP;
@@ -21,8 +20,13 @@ import static java.util.Objects.requireNonNull;
  */
 public class Player extends InventoryOwner {
 
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final Config.Structure[] STRUCTURE_TYPES = Config.Structure.values();
+
     private final Faction faction;
-    private final List<Structure> structures;
+    private final int[] structureCounts;
+    private final Random random;
+    private int score;
 
     /**
      * Constructor creates new Player Object with the default amount of {@link Resource}s.
@@ -31,9 +35,21 @@ public class Player extends InventoryOwner {
      * @param faction {@link Faction} that the player is assigned for the game.
      */
     public Player(final Faction faction) {
+        this(faction, RANDOM);
+    }
+
+    /**
+     * Constructor creates new Player Object with the default amount of {@link Resource}s and the given {@link Faction},
+     * which uses the given random number generator for the thief and for stealing.
+     *
+     * @param faction {@link Faction} that the player is assigned for the game.
+     * @param random  the random number generator to use
+     */
+    public Player(final Faction faction, final Random random) {
         super();
         this.faction = requireNonNull(faction, "faction must not be null");
-        structures = new ArrayList<>();
+        this.random = requireNonNull(random, "random must not be null");
+        structureCounts = new int[STRUCTURE_TYPES.length];
     }
 
     /**
@@ -46,30 +62,58 @@ public class Player extends InventoryOwner {
     }
 
     /**
-     * Returns a list of all {@link Structure}s in this player's possession.
+     * Returns a list of all {@link Structure}s in this player's possession, ordered by their type. The
+     * {@link Structure}s are the shared instances of this player's {@link Faction}; their positions are stored on
+     * the board.
      *
-     * @return a {@link List} of all {@link Structure}s in this player's possession
+     * @return an unmodifiable {@link List} of all {@link Structure}s in this player's possession
      */
     public List<Structure> getStructures() {
-        return structures;
+        final List<Structure> structures = new ArrayList<>();
+        for (Config.Structure structureType : STRUCTURE_TYPES) {
+            final Structure structure = Structure.of(structureType, faction);
+            for (int i = 0; i < structureCounts[structureType.ordinal()]; i++) {
+                structures.add(structure);
+            }
+        }
+        return Collections.unmodifiableList(structures);
+    }
+
+    /**
+     * Returns the number of {@link Structure}s of the given type in this player's possession.
+     *
+     * @param structureType the type of {@link Structure} to count
+     * @return the number of {@link Structure}s of the type
+     */
+    public int getAmountOfStructures(final Config.Structure structureType) {
+        return structureCounts[structureType.ordinal()];
     }
 
     /**
      * Adds the given {@link Structure} to this player's possession.
      *
      * @param structure the {@link Structure} to add
+     * @throws IllegalArgumentException if the {@link Structure} belongs to another {@link Faction}
      */
     public void addStructure(final Structure structure) {
-        structures.add(structure);
+        if (structure.getFaction() != faction) {
+            throw new IllegalArgumentException("structure must belong to " + faction);
+        }
+        structureCounts[structure.getStructureType().ordinal()]++;
+        score += structure.getScore();
     }
 
     /**
-     * Removes the given {@link Structure} from this player's possession.
+     * Removes the given {@link Structure} from this player's possession. Nothing happens if this player does not
+     * possess such a {@link Structure}.
      *
      * @param structure the {@link Structure} to remove
      */
     public void removeStructure(final Structure structure) {
-        structures.remove(structure);
+        if (structure.getFaction() == faction && structureCounts[structure.getStructureType().ordinal()] > 0) {
+            structureCounts[structure.getStructureType().ordinal()]--;
+            score -= structure.getScore();
+        }
     }
 
     /**
@@ -79,30 +123,29 @@ public class Player extends InventoryOwner {
      * @return true if this player has not reached the maximum stock of the given {@link Structure} type, false otherwise
      */
     public boolean hasNotReachedMaxStockOf(final Config.Structure structureType) {
-        return getCurrentAmountOfStructureType(structureType) < structureType.getStockPerPlayer();
+        return getAmountOfStructures(structureType) < structureType.getStockPerPlayer();
     }
 
     /**
      * Processes a thief's action, which involves stealing half of the total number of {@link Resource}s
-     * from the player's inventory (rounded down).
+     * from the player's inventory (rounded down). Every selection of the stolen cards is equally likely, see
+     * {@link DiscardSampler}.
      *
-     * @return a {@link Map} of {@link Resource}s and their corresponding quantities that were stolen
+     * @return the quantities of the stolen {@link Resource}s, indexed by their ordinal
      */
-    public Map<Resource, Integer> processThief() {
+    public int[] processThief() {
         final int totalResources = getTotalAmountOfResources();
-        final Map<Resource, Integer> stolenResources = new EnumMap<>(Resource.class);
+        final int[] stolenResources = new int[RESOURCES.length];
 
         if (totalResources > MAX_CARDS_IN_HAND_NO_DROP) {
-            final List<Resource> nonZeroResources = getNonZeroResources();
-            int i = 0;
-            while (i < totalResources / 2) {
-                final int resourceIndex = RANDOM.nextInt(nonZeroResources.size());
-                final Entry<Resource, Integer> stolenResource = decreaseInventoryItemIfApplicable(nonZeroResources.get(resourceIndex), 1);
-                if (stolenResource != null) {
-                    stolenResources.merge(stolenResource.getKey(), 1, Integer::sum);
-                    i++;
-                } else {
-                    nonZeroResources.remove(resourceIndex);
+            final int[] hand = new int[RESOURCES.length];
+            for (Resource resource : RESOURCES) {
+                hand[resource.ordinal()] = getAmountOfResource(resource);
+            }
+            DiscardSampler.sample(random, hand, 0, hand.length, totalResources / 2, stolenResources);
+            for (Resource resource : RESOURCES) {
+                if (stolenResources[resource.ordinal()] > 0) {
+                    decreaseInventoryItemIfApplicable(resource, stolenResources[resource.ordinal()]);
                 }
             }
         }
@@ -131,14 +174,24 @@ public class Player extends InventoryOwner {
      */
     public void stealRandomResourceFrom(final List<Player> nearbyPlayersToStealFrom) {
         if (!nearbyPlayersToStealFrom.isEmpty()) {
-            final Player playerToStealFrom = nearbyPlayersToStealFrom.get(RANDOM.nextInt(nearbyPlayersToStealFrom.size()));
-            final List<Resource> resourcesToStealFrom = playerToStealFrom.getNonZeroResources();
-            final Resource resourceToSteal = resourcesToStealFrom.get(RANDOM.nextInt(resourcesToStealFrom.size()));
-            playerToStealFrom.decreaseInventoryItemIfApplicable(resourceToSteal, 1);
-            this.increaseInventoryItem(resourceToSteal, 1);
+            stealRandomResourceFrom(nearbyPlayersToStealFrom.get(random.nextInt(nearbyPlayersToStealFrom.size())));
         }
     }
 
+    /**
+     * Steals a random {@link Resource} from the given player, who must own at least one {@link Resource}.
+     *
+     * @param playerToStealFrom the player to steal from
+     * @return the stolen {@link Resource}
+     */
+    public Resource stealRandomResourceFrom(final Player playerToStealFrom) {
+        final List<Resource> resourcesToStealFrom = playerToStealFrom.getNonZeroResources();
+        final Resource resourceToSteal = resourcesToStealFrom.get(random.nextInt(resourcesToStealFrom.size()));
+        playerToStealFrom.decreaseInventoryItemIfApplicable(resourceToSteal, 1);
+        this.increaseInventoryItem(resourceToSteal, 1);
+        return resourceToSteal;
+    }
+
     /**
      * Gives the amount of all {@link Resource}s which are being held.
      *
@@ -152,36 +205,12 @@ public class Player extends InventoryOwner {
         return sum;
     }
 
-    /**
-     * Returns the current amount of a specific {@link Structure} type owned by the player.
-     *
-     * @param structureType the type of {@link Structure} to check
-     * @return the current amount of the specified {@link Structure} type
-     */
-    private int getCurrentAmountOfStructureType(final Config.Structure structureType) {
-        int amountOfStructure = 0;
-
-        for (Structure existingStructure : getStructures()) {
-            if (existingStructure.getStructureType().equals(structureType)) {
-                amountOfStructure++;
-            }
-        }
-
-        return amountOfStructure;
-    }
-
     /**
      * Returns the current score for this player.
      *
      * @return the current score
      */
     public int getScore() {
-        int score = 0;
-
-        for (final Structure structure : getStructures()) {
-            score += structure.getScore();
-        }
-
         return score;
     }
 
@@ -0,0 +1,189 @@
+package ch.zhaw.catan.game;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * A {@link ConsoleBackend} that reads its input from a script instead of a terminal and captures all output in a buffer.
+ * <p>
+ * A script consists of tokens separated by whitespace or line breaks. Each token answers one prompt: numbers answer
+ * integer prompts (e.g. number of players or coordinates) and names or 1-based indices answer enum prompts
+ * (e.g. an {@link Activity}). Everything after a {@value #COMMENT} up to the end of the line is ignored, e.g.:
+ * </p>
+ * <pre>
+ * 2               # number of players
+ * 5 7   5 7 6 6   # first settlement and road of the first player
+ * DISPLAY_SCORES
+ * QUIT
+ * </pre>
+ * <p>
+ * Invalid tokens are rejected like in an interactive session and the next token is read instead. Since there is no
+ * one watching, animations are skipped. Reading beyond the end of the script throws a {@link NoSuchElementException}.
+ * </p>
+ */
+public class ScriptedConsoleBackend implements ConsoleBackend {
+
+    static final String COMMENT = "#";
+
+    private final List<String> tokens;
+    private final StringBuilder output;
+    private int nextToken;
+    private boolean closed;
+
+    /**
+     * Constructs a new ScriptedConsoleBackend from the given script lines.
+     *
+     * @param scriptLines the lines of the script
+     */
+    public ScriptedConsoleBackend(final List<String> scriptLines) {
+        tokens = tokenize(scriptLines);
+        output = new StringBuilder();
+    }
+
+    /**
+     * Constructs a new ScriptedConsoleBackend from the script stored in the given file.
+     *
+     * @param scriptFile the path of the script file
+     * @return the ScriptedConsoleBackend
+     * @throws IOException if the file cannot be read
+     */
+    public static ScriptedConsoleBackend fromFile(final Path scriptFile) throws IOException {
+        return new ScriptedConsoleBackend(Files.readAllLines(scriptFile));
+    }
+
+    /**
+     * Splits the given script lines into tokens and removes comments.
+     *
+     * @param scriptLines the lines of the script
+     * @return the tokens of the script
+     */
+    private static List<String> tokenize(final List<String> scriptLines) {
+        final List<String> scriptTokens = new ArrayList<>();
+        for (String line : scriptLines) {
+            final int commentStart = line.indexOf(COMMENT);
+            final String content = commentStart < 0 ? line : line.substring(0, commentStart);
+            for (String token : content.trim().split("\\s+")) {
+                if (!token.isEmpty()) {
+                    scriptTokens.add(token);
+                }
+            }
+        }
+        return scriptTokens;
+    }
+
+    @Override
+    public void print(final String message) {
+        output.append(message);
+    }
+
+    @Override
+    public void printLine(final String message) {
+        output.append(message).append(lineSeparator());
+    }
+
+    @Override
+    public Integer readInteger(final String prompt, final int minValue, final int maxValue) {
+        while (true) {
+            final String token = nextToken(prompt);
+            try {
+                final int value = Integer.parseInt(token);
+                if (value >= minValue && value <= maxValue) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // handled below by reading the next token
+            }
+            printLine("Invalid value. Expected an integer value between " + minValue + " and " + maxValue + ".");
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> E readEnum(final String prompt, final Class<E> enumClass) {
+        final E[] constants = enumClass.getEnumConstants();
+        while (true) {
+            final String token = nextToken(prompt);
+            for (int i = 0; i < constants.length; i++) {
+                if (token.equals(String.valueOf(i + 1)) || token.equalsIgnoreCase(constants[i].name())) {
+                    return constants[i];
+                }
+            }
+            printLine("Invalid value. Enter a value between 1 and " + constants.length + " or the name of the option.");
+        }
+    }
+
+    /**
+     * Does nothing, since there is no terminal to colorize.
+     *
+     * @param color the new background color
+     */
+    @Override
+    public void setBackgroundColor(final Color color) {
+        // nothing to colorize
+    }
+
+    /**
+     * Returns false, since animations are skipped for scripts.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isAnimated() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Returns everything that has been printed so far, including the prompts and the tokens answering them.
+     *
+     * @return the captured output
+     */
+    public String getOutput() {
+        return output.toString();
+    }
+
+    /**
+     * Returns whether the backend has been closed.
+     *
+     * @return true if the backend has been closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns whether all tokens of the script have been read.
+     *
+     * @return true if all tokens have been read, false otherwise
+     */
+    public boolean isExhausted() {
+        return nextToken >= tokens.size();
+    }
+
+    /**
+     * Echoes the prompt and returns the next token of the script.
+     *
+     * @param prompt the prompt to echo
+     * @return the next token
+     * @throws NoSuchElementException if the script has no more tokens
+     */
+    private String nextToken(final String prompt) {
+        if (isExhausted()) {
+            throw new NoSuchElementException("Script exhausted while waiting for: " + prompt);
+        }
+        final String token = tokens.get(nextToken++);
+        output.append(prompt).append(": ").append(token).append(lineSeparator());
+        return token;
+    }
+
+}
@@ -1,5 +1,6 @@
 package ch.zhaw.catan.game;
 
+import ch.zhaw.catan.board.BoardLayout;
 import ch.zhaw.catan.board.Field;
 import ch.zhaw.catan.board.SiedlerBoard;
 import ch.zhaw.catan.game.Config.Faction;
@@ -15,12 +16,18 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 
+import static ch.zhaw.catan.game.App.RANDOM;
+import static ch.zhaw.catan.game.Config.MAX_CARDS_IN_HAND_NO_DROP;
 import static ch.zhaw.catan.game.Config.Structure.CITY;
 import static ch.zhaw.catan.game.Config.Structure.ROAD;
 import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
 import static java.util.EnumSet.allOf;
+import static java.util.Objects.requireNonNull;
 
 /**
  * This class performs all actions related to modifying the game state of the Settler of Catan board game.
@@ -28,6 +35,9 @@ import static java.util.EnumSet.allOf;
  * The SiedlerGame class is responsible for maintaining the state of the game, including the {@link Player}s and their inventories,
  * the {@link SiedlerBoard}, and the bank. It provides methods for performing actions such as rolling the dice, building {@link Structure}s,
  * and trading {@link Resource}s.
+ * <p>
+ * Every change of the game state is appended to a {@link GameLog}, which can be used to rebuild the game with a
+ * {@link GameLogReplayer}.
  */
 public class SiedlerGame {
 
@@ -45,8 +55,13 @@ public class SiedlerGame {
     private final SiedlerBoard board;
     private final Bank bank;
     private final int winPoints;
+    private final Random random;
+    private final GameLog log;
+    private final GameEventPublisher events;
 
     private int currentPlayerIndex;
+    private List<GameChangeListener> changeListeners = List.of();
+    private DiscardChooser discardChooser;
 
     /**
      * Constructs a SiedlerGame game state object.
@@ -55,32 +70,157 @@ public class SiedlerGame {
      * @param numberOfPlayers the number of {@link Player}s
      */
     public SiedlerGame(final int winPoints, final int numberOfPlayers) {
+        this(winPoints, numberOfPlayers, RANDOM.nextLong());
+    }
+
+    /**
+     * Constructs a SiedlerGame game state object whose random decisions (thief and stealing) are derived from the
+     * given seed.
+     *
+     * @param winPoints       the number of points required to win the game
+     * @param numberOfPlayers the number of {@link Player}s
+     * @param seed            the seed of the random number generator of the game
+     */
+    public SiedlerGame(final int winPoints, final int numberOfPlayers, final long seed) {
+        this(winPoints, numberOfPlayers, seed, BoardLayout.getStandard());
+    }
+
+    /**
+     * Constructs a SiedlerGame game state object on a board with the given {@link BoardLayout} whose random decisions
+     * (thief and stealing) are derived from the given seed.
+     *
+     * @param winPoints       the number of points required to win the game
+     * @param numberOfPlayers the number of {@link Player}s
+     * @param seed            the seed of the random number generator of the game
+     * @param layout          the {@link BoardLayout} of the board
+     */
+    public SiedlerGame(final int winPoints, final int numberOfPlayers, final long seed, final BoardLayout layout) {
         this.winPoints = winPoints;
+        random = new Random(seed);
+        log = new GameLog(seed, winPoints, numberOfPlayers, layout);
         bank = new Bank();
 
         currentPlayerIndex = 0;
         currentPlayers = new ArrayList<>();
         for (int i = 0; i < numberOfPlayers; i++) {
-            addPlayer(new Player(FACTION_ASSIGNMENTS.get(i)));
+            addPlayer(new Player(FACTION_ASSIGNMENTS.get(i), random));
         }
 
-        board = new SiedlerBoard();
+        board = new SiedlerBoard(layout);
+        events = new GameEventPublisher(this, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+        addChangeListener(events);
     }
 
     /**
      * Switches to the next {@link Player} in the defined sequence of {@link Player}s.
      */
     public void switchToNextPlayer() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % currentPlayers.size();
+        switchToPlayer((currentPlayerIndex + 1) % currentPlayers.size());
     }
 
     /**
      * Switches to the previous {@link Player} in the defined sequence of {@link Player}s.
      */
     public void switchToPreviousPlayer() {
-        currentPlayerIndex = currentPlayerIndex == 0
+        switchToPlayer(currentPlayerIndex == 0
                 ? currentPlayers.size() - 1
-                : currentPlayerIndex - 1;
+                : currentPlayerIndex - 1);
+    }
+
+    /**
+     * Makes the {@link Player} at the given index the current {@link Player}.
+     *
+     * @param playerIndex the index of the new current {@link Player}
+     */
+    private void switchToPlayer(final int playerIndex) {
+        currentPlayerIndex = playerIndex;
+        log.logPlayerSwitched(playerIndex);
+        fireGameChanged();
+    }
+
+    /**
+     * Makes the {@link Player} at the given index the current {@link Player} without appending to the
+     * {@link GameLog}. Used to restore a {@link GameSnapshot}.
+     *
+     * @param playerIndex the index of the new current {@link Player}
+     */
+    void restoreCurrentPlayerIndex(final int playerIndex) {
+        currentPlayerIndex = playerIndex;
+    }
+
+    /**
+     * Returns the index of the current {@link Player} in {@link #getCurrentPlayers()}.
+     *
+     * @return the index of the current {@link Player}
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Returns the number of points required to win the game.
+     *
+     * @return the number of points required to win
+     */
+    public int getWinPoints() {
+        return winPoints;
+    }
+
+    /**
+     * Registers a {@link GameChangeListener} which is notified after every change of the game state.
+     *
+     * @param listener the listener
+     */
+    public void addChangeListener(final GameChangeListener listener) {
+        requireNonNull(listener, "listener must not be null");
+        final List<GameChangeListener> listeners = new ArrayList<>(changeListeners);
+        listeners.add(listener);
+        changeListeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Removes a previously registered {@link GameChangeListener}.
+     *
+     * @param listener the listener
+     */
+    public void removeChangeListener(final GameChangeListener listener) {
+        final List<GameChangeListener> listeners = new ArrayList<>(changeListeners);
+        listeners.remove(listener);
+        changeListeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Lets the {@link Player}s choose the cards they discard when the thief is executed instead of discarding at
+     * random.
+     *
+     * @param discardChooser the {@link DiscardChooser} or null to discard at random
+     */
+    public void setDiscardChooser(final DiscardChooser discardChooser) {
+        this.discardChooser = discardChooser;
+    }
+
+    /**
+     * Returns the {@link Flow.Publisher} of the {@link GameEvent}s of this game.
+     * <p>
+     * Subscribers receive the events of all later changes asynchronously on the common {@link ForkJoinPool}, so they
+     * do not need to poll the {@link Player}s or the {@link Bank}. While nobody is subscribed, no events are created.
+     * The game never waits for a subscriber; events which do not fit into the buffer of a slow subscriber are dropped
+     * for that subscriber. The publisher is created with the game, so any thread may subscribe to it.
+     * </p>
+     *
+     * @return the {@link Flow.Publisher} of the {@link GameEvent}s
+     */
+    public Flow.Publisher<GameEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the {@link GameLog} with all changes of the game state so far.
+     *
+     * @return the {@link GameLog}
+     */
+    public GameLog getLog() {
+        return log;
     }
 
     /**
@@ -144,16 +284,14 @@ public class SiedlerGame {
      */
     public boolean placeInitialSettlement(final Point position, final boolean payout) {
         if (board.canPlaceSettlementOnPosition(position, true, getCurrentPlayerFaction())) {
-            final Structure settlement = new Settlement(getCurrentPlayerFaction());
-            getCurrentPlayer().addStructure(settlement);
-            board.setCorner(position, settlement);
+            placeSettlement(getCurrentPlayer(), position, GameLogEntry.INITIAL_SETTLEMENT_PLACED);
 
             if (payout) {
                 for (Land land : board.getLandsForCorner(position)) {
-                    bank.decreaseInventoryItemIfApplicable(land.getResource(), 1);
-                    getCurrentPlayer().increaseInventoryItem(land.getResource(), 1);
+                    payout(getCurrentPlayer(), land.getResource(), 1);
                 }
             }
+            fireGameChanged();
 
             return true;
         }
@@ -170,9 +308,8 @@ public class SiedlerGame {
      */
     public boolean placeInitialRoad(final Point roadStart, final Point roadEnd) {
         if (board.canPlaceRoadOnPosition(roadStart, roadEnd, getCurrentPlayerFaction())) {
-            final Road road = new Road(getCurrentPlayerFaction());
-            getCurrentPlayer().addStructure(road);
-            board.setEdge(roadStart, roadEnd, road);
+            placeRoad(getCurrentPlayer(), roadStart, roadEnd, GameLogEntry.INITIAL_ROAD_PLACED);
+            fireGameChanged();
 
             return true;
         }
@@ -213,11 +350,12 @@ public class SiedlerGame {
      * the thief has been executed or not.
      */
     public DiceResult processDiceRoll(final int diceRoll) {
-        if (isThiefRolled(diceRoll)) {
-            return new DiceResult(executeThief(), true);
-        } else {
-            return new DiceResult(payoutResources(diceRoll), false);
-        }
+        log.logDiceRolled(diceRoll);
+        final DiceResult result = isThiefRolled(diceRoll)
+                ? new DiceResult(discardResources(), true)
+                : new DiceResult(payoutResources(diceRoll), false);
+        fireGameChanged();
+        return result;
     }
 
     /**
@@ -238,9 +376,8 @@ public class SiedlerGame {
                 && getCurrentPlayer().hasNotReachedMaxStockOf(SETTLEMENT)
                 && getCurrentPlayer().decreaseInventoryIfApplicable(SETTLEMENT.getCostsAsIntegerMap())) {
             bank.increaseInventory(SETTLEMENT.getCostsAsIntegerMap());
-            final Structure settlement = new Settlement(getCurrentPlayerFaction());
-            getCurrentPlayer().addStructure(settlement);
-            board.setCorner(position, settlement);
+            placeSettlement(getCurrentPlayer(), position, GameLogEntry.SETTLEMENT_BUILT);
+            fireGameChanged();
 
             return true;
         }
@@ -266,10 +403,8 @@ public class SiedlerGame {
                 && getCurrentPlayer().hasNotReachedMaxStockOf(CITY)
                 && getCurrentPlayer().decreaseInventoryIfApplicable(CITY.getCostsAsIntegerMap())) {
             bank.increaseInventory(CITY.getCostsAsIntegerMap());
-            final Structure city = new City(getCurrentPlayerFaction());
-            getCurrentPlayer().removeStructure(board.getCorner(position));
-            getCurrentPlayer().addStructure(city);
-            board.setCorner(position, city);
+            placeCity(getCurrentPlayer(), position);
+            fireGameChanged();
 
             return true;
         }
@@ -296,9 +431,8 @@ public class SiedlerGame {
                 && getCurrentPlayer().hasNotReachedMaxStockOf(ROAD)
                 && getCurrentPlayer().decreaseInventoryIfApplicable(ROAD.getCostsAsIntegerMap())) {
             bank.increaseInventory(ROAD.getCostsAsIntegerMap());
-            final Road road = new Road(getCurrentPlayerFaction());
-            getCurrentPlayer().addStructure(road);
-            board.setEdge(roadStart, roadEnd, road);
+            placeRoad(getCurrentPlayer(), roadStart, roadEnd, GameLogEntry.ROAD_BUILT);
+            fireGameChanged();
 
             return true;
         }
@@ -320,10 +454,8 @@ public class SiedlerGame {
     public boolean tradeWithBankFourToOne(final Resource offer, final Resource want) {
         if (FOUR_TO_ONE_TRADE_OFFER <= getCurrentPlayerResourceStock(offer) &&
                 FOUR_TO_ONE_TRADE_WANT <= bank.getAmountOfResource(want)) {
-            getCurrentPlayer().decreaseInventoryItemIfApplicable(offer, FOUR_TO_ONE_TRADE_OFFER);
-            getCurrentPlayer().increaseInventoryItem(want, FOUR_TO_ONE_TRADE_WANT);
-            bank.decreaseInventoryItemIfApplicable(want, FOUR_TO_ONE_TRADE_WANT);
-            bank.increaseInventoryItem(offer, FOUR_TO_ONE_TRADE_OFFER);
+            trade(getCurrentPlayer(), offer, want);
+            fireGameChanged();
 
             return true;
         }
@@ -357,9 +489,16 @@ public class SiedlerGame {
         }
 
         board.switchThiefPosition(fieldPosition);
+        log.logThiefMoved(fieldPosition);
 
         final Set<Faction> otherCornerFactions = board.getOtherFieldCornerFactions(getCurrentPlayerFaction());
-        getCurrentPlayer().stealRandomResourceFrom(getNearbyPlayersToStealFrom(otherCornerFactions));
+        final List<Player> nearbyPlayers = getNearbyPlayersToStealFrom(otherCornerFactions);
+        if (!nearbyPlayers.isEmpty()) {
+            final Player victim = nearbyPlayers.get(random.nextInt(nearbyPlayers.size()));
+            final Resource stolenResource = getCurrentPlayer().stealRandomResourceFrom(victim);
+            log.logCardStolen(victim.getFaction(), getCurrentPlayerFaction(), stolenResource);
+        }
+        fireGameChanged();
         return true;
     }
 
@@ -415,16 +554,98 @@ public class SiedlerGame {
      * @return returns {@link Map} with {@link Faction}s and {@link Resource} and {@link Integer} taken.
      */
     public Map<Faction, Map<Resource, Integer>> executeThief() {
+        final Map<Faction, Map<Resource, Integer>> stolenResourcesPerFaction = discardResources();
+        fireGameChanged();
+        return stolenResourcesPerFaction;
+    }
+
+    /**
+     * Moves half of the {@link Resource}s of every {@link Player} holding too many to the {@link Bank}. The choices of
+     * the {@link DiscardChooser} for all {@link Player}s are checked before any card is removed, so an invalid choice
+     * leaves all inventories unchanged.
+     *
+     * @return returns {@link Map} with {@link Faction}s and {@link Resource} and {@link Integer} taken.
+     * @throws IllegalStateException if the {@link DiscardChooser} chose an invalid discard
+     */
+    private Map<Faction, Map<Resource, Integer>> discardResources() {
+        final int[][] chosenAmounts = new int[currentPlayers.size()][];
+        for (int i = 0; i < currentPlayers.size(); i++) {
+            chosenAmounts[i] = chooseDiscard(i);
+        }
+
         final Map<Faction, Map<Resource, Integer>> stolenResourcesPerFaction = new EnumMap<>(Faction.class);
-        for (Player player : getCurrentPlayers()) {
-            Map<Resource, Integer> resourcesStolen = player.processThief();
+        for (int i = 0; i < currentPlayers.size(); i++) {
+            final Player player = currentPlayers.get(i);
+            final int[] amountsStolen = chosenAmounts[i] == null ? player.processThief() : discard(player, chosenAmounts[i]);
+            final Map<Resource, Integer> resourcesStolen = new EnumMap<>(Resource.class);
+            for (Resource resource : Resource.values()) {
+                final int amount = amountsStolen[resource.ordinal()];
+                if (amount > 0) {
+                    resourcesStolen.put(resource, amount);
+                    bank.increaseInventoryItem(resource, amount);
+                    log.logResources(GameLogEntry.RESOURCES_DISCARDED, player.getFaction(), resource, amount);
+                }
+            }
             stolenResourcesPerFaction.put(player.getFaction(), resourcesStolen);
-            bank.increaseInventory(resourcesStolen);
         }
 
         return stolenResourcesPerFaction;
     }
 
+    /**
+     * Asks the {@link DiscardChooser} for the cards a {@link Player} discards and checks them without changing the
+     * inventory of the {@link Player}.
+     *
+     * @param playerIndex the index of the {@link Player}
+     * @return the number of cards to discard per {@link Resource}, indexed by its ordinal, or null if the
+     * {@link Player} discards at random
+     * @throws IllegalStateException if the choice does not contain an amount per {@link Resource}, an amount is
+     *                               negative or exceeds the cards of the {@link Player}, or the total is not half of
+     *                               the cards
+     */
+    private int[] chooseDiscard(final int playerIndex) {
+        final Player player = currentPlayers.get(playerIndex);
+        final int totalResources = player.getTotalAmountOfResources();
+        final int count = totalResources / 2;
+        final int[] amounts = discardChooser == null || totalResources <= MAX_CARDS_IN_HAND_NO_DROP
+                ? null : discardChooser.chooseDiscard(this, playerIndex, count);
+        if (amounts == null) {
+            return null;
+        }
+        if (amounts.length != Resource.values().length) {
+            throw new IllegalStateException("Discard chooser chose " + amounts.length + " instead of "
+                    + Resource.values().length + " amounts");
+        }
+        int total = 0;
+        for (Resource resource : Resource.values()) {
+            final int amount = amounts[resource.ordinal()];
+            if (amount < 0 || amount > player.getAmountOfResource(resource)) {
+                throw new IllegalStateException("Discard chooser chose more cards than the player holds");
+            }
+            total += amount;
+        }
+        if (total != count) {
+            throw new IllegalStateException("Discard chooser chose " + total + " instead of " + count + " cards");
+        }
+        return amounts;
+    }
+
+    /**
+     * Removes the given checked amounts of cards from the inventory of a {@link Player}.
+     *
+     * @param player  the {@link Player}
+     * @param amounts the number of cards per {@link Resource}, indexed by its ordinal
+     * @return the amounts
+     */
+    private static int[] discard(final Player player, final int[] amounts) {
+        for (Resource resource : Resource.values()) {
+            if (amounts[resource.ordinal()] > 0) {
+                player.decreaseInventoryItemIfApplicable(resource, amounts[resource.ordinal()]);
+            }
+        }
+        return amounts;
+    }
+
     /**
      * Returns the {@link Bank}.
      *
@@ -469,7 +690,7 @@ public class SiedlerGame {
         final Map<Faction, Map<Resource, Integer>> paidOutResources = new EnumMap<>(Faction.class);
 
         for (Field field : board.getFieldsForDiceValue(diceRoll)) {
-            if (!field.isOccupiedByThief()) {
+            if (!board.isOccupiedByThief(field)) {
                 final Resource fieldResource = field.getLand().getResource();
                 final List<Structure> adjacentStructures = board.getCornersOfField(field.getPosition());
 
@@ -498,13 +719,173 @@ public class SiedlerGame {
         final int amountPerResource = structure.getAmountPerResource();
 
         if (playerFromFaction != null) {
-            playerFromFaction.increaseInventoryItem(resource, amountPerResource);
-            bank.decreaseInventoryItemIfApplicable(resource, amountPerResource);
+            payout(playerFromFaction, resource, amountPerResource);
             paidOutResources.computeIfAbsent(faction, SiedlerGame::initializeResourceMap)
                     .merge(resource, amountPerResource, Integer::sum);
         }
     }
 
+    /**
+     * Pays out the given amount of a {@link Resource} from the {@link Bank} to the given {@link Player}.
+     *
+     * @param player   the {@link Player} to pay out to
+     * @param resource the {@link Resource} to pay out
+     * @param amount   the amount to pay out
+     */
+    private void payout(final Player player, final Resource resource, final int amount) {
+        player.increaseInventoryItem(resource, amount);
+        bank.decreaseInventoryItemIfApplicable(resource, amount);
+        log.logResources(GameLogEntry.RESOURCES_PAID, player.getFaction(), resource, amount);
+    }
+
+    /**
+     * Places a {@link Settlement} of the given {@link Player} on the board without checking any rules.
+     *
+     * @param player   the owner of the {@link Settlement}
+     * @param position the position of the {@link Settlement}
+     * @param logEntry the type of the {@link GameLog} entry to append
+     */
+    private void placeSettlement(final Player player, final Point position, final GameLogEntry logEntry) {
+        final Structure settlement = Settlement.of(player.getFaction());
+        player.addStructure(settlement);
+        board.setCorner(position, settlement);
+        log.logStructure(logEntry, player.getFaction(), position);
+    }
+
+    /**
+     * Replaces the {@link Settlement} at the given position by a {@link City} of the given {@link Player} without
+     * checking any rules.
+     *
+     * @param player   the owner of the {@link City}
+     * @param position the position of the {@link City}
+     */
+    private void placeCity(final Player player, final Point position) {
+        final Structure city = City.of(player.getFaction());
+        player.removeStructure(board.getCorner(position));
+        player.addStructure(city);
+        board.setCorner(position, city);
+        log.logStructure(GameLogEntry.CITY_BUILT, player.getFaction(), position);
+    }
+
+    /**
+     * Places a {@link Road} of the given {@link Player} on the board without checking any rules.
+     *
+     * @param player    the owner of the {@link Road}
+     * @param roadStart the position of the start of the {@link Road}
+     * @param roadEnd   the position of the end of the {@link Road}
+     * @param logEntry  the type of the {@link GameLog} entry to append
+     */
+    private void placeRoad(final Player player, final Point roadStart, final Point roadEnd, final GameLogEntry logEntry) {
+        final Road road = Road.of(player.getFaction());
+        player.addStructure(road);
+        board.setEdge(roadStart, roadEnd, road);
+        log.logRoad(logEntry, player.getFaction(), roadStart, roadEnd);
+    }
+
+    /**
+     * Trades {@link #FOUR_TO_ONE_TRADE_OFFER} {@link Resource} cards of the given {@link Player} with the {@link Bank}
+     * without checking whether both own enough {@link Resource} cards.
+     *
+     * @param player the {@link Player} trading
+     * @param offer  offered type
+     * @param want   wanted type
+     */
+    private void trade(final Player player, final Resource offer, final Resource want) {
+        player.decreaseInventoryItemIfApplicable(offer, FOUR_TO_ONE_TRADE_OFFER);
+        player.increaseInventoryItem(want, FOUR_TO_ONE_TRADE_WANT);
+        bank.decreaseInventoryItemIfApplicable(want, FOUR_TO_ONE_TRADE_WANT);
+        bank.increaseInventoryItem(offer, FOUR_TO_ONE_TRADE_OFFER);
+        log.logTrade(player.getFaction(), offer, want);
+    }
+
+    /**
+     * Applies an entry read from a {@link GameLog} to this game without checking any rules. The entry is appended to
+     * the {@link GameLog} of this game as well.
+     *
+     * @param entry  the type of the entry
+     * @param reader the {@link GameLog.Reader} providing the arguments of the entry
+     */
+    void applyLogEntry(final GameLogEntry entry, final GameLog.Reader reader) {
+        switch (entry) {
+            case DICE_ROLLED -> log.logDiceRolled(reader.getArgument(0));
+            case RESOURCES_PAID -> payout(getPlayerArgument(reader, 0), getResourceArgument(reader, 1), reader.getArgument(2));
+            case RESOURCES_DISCARDED -> {
+                final Player player = getPlayerArgument(reader, 0);
+                final Resource resource = getResourceArgument(reader, 1);
+                final int amount = reader.getArgument(2);
+                player.decreaseInventoryItemIfApplicable(resource, amount);
+                bank.increaseInventoryItem(resource, amount);
+                log.logResources(GameLogEntry.RESOURCES_DISCARDED, player.getFaction(), resource, amount);
+            }
+            case INITIAL_SETTLEMENT_PLACED -> placeSettlement(getPlayerArgument(reader, 0), getPointArgument(reader, 1), entry);
+            case SETTLEMENT_BUILT -> {
+                final Player player = getPlayerArgument(reader, 0);
+                payStructure(player, SETTLEMENT);
+                placeSettlement(player, getPointArgument(reader, 1), entry);
+            }
+            case CITY_BUILT -> {
+                final Player player = getPlayerArgument(reader, 0);
+                payStructure(player, CITY);
+                placeCity(player, getPointArgument(reader, 1));
+            }
+            case INITIAL_ROAD_PLACED -> placeRoad(getPlayerArgument(reader, 0), getPointArgument(reader, 1),
+                    getPointArgument(reader, 3), entry);
+            case ROAD_BUILT -> {
+                final Player player = getPlayerArgument(reader, 0);
+                payStructure(player, ROAD);
+                placeRoad(player, getPointArgument(reader, 1), getPointArgument(reader, 3), entry);
+            }
+            case TRADED -> trade(getPlayerArgument(reader, 0), getResourceArgument(reader, 1), getResourceArgument(reader, 2));
+            case THIEF_MOVED -> {
+                final Point fieldPosition = getPointArgument(reader, 0);
+                board.switchThiefPosition(fieldPosition);
+                log.logThiefMoved(fieldPosition);
+            }
+            case CARD_STOLEN -> {
+                final Player victim = getPlayerArgument(reader, 0);
+                final Player thief = getPlayerArgument(reader, 1);
+                final Resource resource = getResourceArgument(reader, 2);
+                victim.decreaseInventoryItemIfApplicable(resource, 1);
+                thief.increaseInventoryItem(resource, 1);
+                log.logCardStolen(victim.getFaction(), thief.getFaction(), resource);
+            }
+            case PLAYER_SWITCHED -> switchToPlayer(reader.getArgument(0));
+        }
+    }
+
+    /**
+     * Notifies the registered {@link GameChangeListener}s.
+     */
+    private void fireGameChanged() {
+        for (GameChangeListener listener : changeListeners) {
+            listener.gameChanged(this);
+        }
+    }
+
+    /**
+     * Moves the costs of the given {@link Config.Structure} type from the given {@link Player} to the {@link Bank}.
+     *
+     * @param player        the {@link Player} paying
+     * @param structureType the type of {@link Structure} to pay
+     */
+    private void payStructure(final Player player, final Config.Structure structureType) {
+        final Map<Resource, Integer> costs = structureType.getCostsAsIntegerMap();
+        player.decreaseInventoryIfApplicable(costs);
+        bank.increaseInventory(costs);
+    }
+
+    private Player getPlayerArgument(final GameLog.Reader reader, final int index) {
+        return getPlayerFromFaction(Faction.values()[reader.getArgument(index)]);
+    }
+
+    private static Resource getResourceArgument(final GameLog.Reader reader, final int index) {
+        return Resource.values()[reader.getArgument(index)];
+    }
+
+    private static Point getPointArgument(final GameLog.Reader reader, final int index) {
+        return new Point(reader.getArgument(index), reader.getArgument(index + 1));
+    }
+
     /**
      * Initializes a {@link Map} of {@link Resource}s for a {@link Player}'s {@link Faction}.
      *
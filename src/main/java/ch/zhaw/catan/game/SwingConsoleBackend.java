@@ -0,0 +1,89 @@
+package ch.zhaw.catan.game;
+
+import org.beryx.textio.TerminalProperties;
+import org.beryx.textio.TextIO;
+import org.beryx.textio.swing.SwingTextTerminal;
+
+import java.awt.Color;
+
+import static ch.zhaw.catan.game.Console.QUIT_SHORTCUT;
+import static java.awt.Color.ORANGE;
+import static java.awt.Color.WHITE;
+
+/**
+ * A {@link ConsoleBackend} that opens a Swing window using a {@link SwingTextTerminal}.
+ */
+public class SwingConsoleBackend implements ConsoleBackend {
+
+    private final TextIO textIO;
+    private final SwingTextTerminal textTerminal;
+
+    /**
+     * Constructs a new SwingConsoleBackend with the given pane title.
+     *
+     * @param paneTitle the title of the terminal pane
+     */
+    public SwingConsoleBackend(final String paneTitle) {
+        textIO = new TextIO(new SwingTextTerminal());
+        textTerminal = (SwingTextTerminal) textIO.getTextTerminal();
+        initProperties(paneTitle);
+    }
+
+    /**
+     * Initializes the properties of the {@link org.beryx.textio.TextTerminal}.
+     *
+     * @param paneTitle the title of the terminal pane
+     */
+    private void initProperties(final String paneTitle) {
+        textTerminal.setUserInterruptKey(QUIT_SHORTCUT);
+        textTerminal.setPaneTitle(paneTitle);
+        final TerminalProperties<SwingTextTerminal> properties = getProperties();
+        properties.setPromptColor(WHITE);
+        properties.setInputBold(true);
+        properties.setInputColor(ORANGE);
+        properties.setPaneDimension(1300, 1000);
+    }
+
+    private TerminalProperties<SwingTextTerminal> getProperties() {
+        return textTerminal.getProperties();
+    }
+
+    @Override
+    public void print(final String message) {
+        textTerminal.print(message);
+    }
+
+    @Override
+    public void printLine(final String message) {
+        textTerminal.println(message);
+    }
+
+    @Override
+    public Integer readInteger(final String prompt, final int minValue, final int maxValue) {
+        return textIO.newIntInputReader()
+                .withMinVal(minValue)
+                .withMaxVal(maxValue)
+                .read(prompt);
+    }
+
+    @Override
+    public <E extends Enum<E>> E readEnum(final String prompt, final Class<E> enumClass) {
+        return textIO.newEnumInputReader(enumClass)
+                .read(prompt);
+    }
+
+    @Override
+    public void setBackgroundColor(final Color color) {
+        getProperties().setPaneBackgroundColor(color);
+    }
+
+    /**
+     * Disposes the {@link TextIO} and {@link org.beryx.textio.TextTerminal} instances.
+     */
+    @Override
+    public void close() {
+        textIO.dispose();
+        textTerminal.dispose();
+    }
+
+}
@@ -0,0 +1,113 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts any number of concurrent {@link SiedlerGame}s in one process.
+ * <p>
+ * Every game is confined to its {@link HostedGame}, which executes the commands of the game one after another on a
+ * small pool of worker threads shared by all games. A game therefore never sees two threads at the same time, while
+ * an idle game does not occupy a thread at all.
+ * </p>
+ */
+public class GameHost implements AutoCloseable {
+
+    static final int DEFAULT_COMMAND_QUEUE_CAPACITY = 64;
+
+    private final ExecutorService workers;
+    private final int commandQueueCapacity;
+    private final Map<Long, HostedGame> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextGameId = new AtomicLong(1);
+
+    /**
+     * Creates a host with one worker thread per available processor.
+     */
+    public GameHost() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_COMMAND_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a host.
+     *
+     * @param workerThreads        the number of worker threads shared by all games
+     * @param commandQueueCapacity the maximum number of pending commands per game
+     */
+    public GameHost(final int workerThreads, final int commandQueueCapacity) {
+        if (workerThreads < 1 || commandQueueCapacity < 1) {
+            throw new IllegalArgumentException("workerThreads and commandQueueCapacity must be positive");
+        }
+        this.commandQueueCapacity = commandQueueCapacity;
+        final AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "catan-game-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates and hosts a new game.
+     *
+     * @param winPoints       the number of points required to win the game
+     * @param numberOfPlayers the number of players
+     * @param seed            the seed of the random decisions and the dice of the game
+     * @return the hosted game
+     */
+    public HostedGame createGame(final int winPoints, final int numberOfPlayers, final long seed) {
+        final long id = nextGameId.getAndIncrement();
+        final Random random = new Random(seed);
+        final HostedGame game = new HostedGame(id, new SiedlerGame(winPoints, numberOfPlayers, random.nextLong()),
+                new Dice(random), workers, commandQueueCapacity);
+        games.put(id, game);
+        return game;
+    }
+
+    /**
+     * Returns the hosted game with the given id.
+     *
+     * @param id the id of the game
+     * @return the game or null if there is no such game
+     */
+    public HostedGame getGame(final long id) {
+        return games.get(id);
+    }
+
+    /**
+     * Returns all hosted games.
+     *
+     * @return the hosted games
+     */
+    public Collection<HostedGame> getGames() {
+        return games.values();
+    }
+
+    /**
+     * Stops hosting the game with the given id. Commands already queued are still executed.
+     *
+     * @param id the id of the game
+     * @return the removed game or null if there was no such game
+     */
+    public HostedGame removeGame(final long id) {
+        return games.remove(id);
+    }
+
+    /**
+     * Stops the worker threads. Pending commands are not executed anymore.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        games.clear();
+    }
+
+}
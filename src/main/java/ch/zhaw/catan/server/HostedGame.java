@@ -0,0 +1,233 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link SiedlerGame} hosted by a {@link GameHost} together with its single-writer command queue.
+ * <p>
+ * Commands are queued in a bounded queue and executed in submission order, one at a time, on one of the worker
+ * threads of the host. A command submitted while the queue is full is rejected immediately instead of blocking the
+ * submitter. To keep games fair among each other, a worker executes at most {@link #MAX_COMMANDS_PER_RUN} commands
+ * of a game before it moves on.
+ * </p>
+ */
+public class HostedGame {
+
+    static final int MAX_COMMANDS_PER_RUN = 16;
+
+    private final long id;
+    private final SiedlerGame game;
+    private final int numberOfPlayers;
+    private final Dice dice;
+    private final Executor workers;
+    private final BlockingQueue<Command<?>> commands;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private SpectatorBroadcaster broadcaster;
+    private ByteBuffer boardRender;
+    private int boardRenderVersion;
+
+    /**
+     * Creates a hosted game.
+     *
+     * @param id                   the id of the game
+     * @param game                 the game, which must not be accessed outside of commands anymore
+     * @param dice                 the {@link Dice} rolled at the start of each turn
+     * @param workers              the worker threads executing the commands
+     * @param commandQueueCapacity the maximum number of pending commands
+     */
+    HostedGame(final long id, final SiedlerGame game, final Dice dice, final Executor workers,
+               final int commandQueueCapacity) {
+        this.id = id;
+        this.game = requireNonNull(game, "game must not be null");
+        numberOfPlayers = game.getCurrentPlayers().size();
+        this.dice = requireNonNull(dice, "dice must not be null");
+        this.workers = requireNonNull(workers, "workers must not be null");
+        commands = new ArrayBlockingQueue<>(commandQueueCapacity);
+    }
+
+    /**
+     * Returns the id of the game.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Creates a session for the player at the given index.
+     *
+     * @param playerIndex the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     * @return the session
+     * @throws IllegalArgumentException if the game has no player with the given index
+     */
+    public PlayerSession createSession(final int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= numberOfPlayers) {
+            throw new IllegalArgumentException("Invalid player index: " + playerIndex);
+        }
+        return new PlayerSession(this, playerIndex);
+    }
+
+    /**
+     * Returns the {@link SpectatorBroadcaster} of the game, which is created with the first call. Its frames are
+     * delivered by the worker threads of the host. Spectators are subscribed with {@link #spectate}.
+     *
+     * @return a {@link CompletableFuture} completed with the broadcaster, or exceptionally like {@link #submit(Function)}
+     */
+    public CompletableFuture<SpectatorBroadcaster> getBroadcaster() {
+        return submit(this::getOrCreateBroadcaster);
+    }
+
+    /**
+     * Subscribes a spectator to the {@link SpectatorBroadcaster} of the game. The subscription is made by a command,
+     * so the snapshot the spectator starts with is taken between two commands.
+     *
+     * @param spectator the spectator
+     * @return a {@link CompletableFuture} completed once the spectator is subscribed, or exceptionally like
+     * {@link #submit(Function)}
+     */
+    public CompletableFuture<Void> spectate(final Flow.Subscriber<? super ByteBuffer> spectator) {
+        requireNonNull(spectator, "spectator must not be null");
+        return submit(game -> {
+            getOrCreateBroadcaster(game).subscribe(spectator);
+            return null;
+        });
+    }
+
+    private SpectatorBroadcaster getOrCreateBroadcaster(final SiedlerGame game) {
+        if (broadcaster == null) {
+            broadcaster = new SpectatorBroadcaster(game, workers);
+        }
+        return broadcaster;
+    }
+
+    /**
+     * Returns the board of the game rendered by the given function. The render is cached until the game changes, so
+     * all clients of the game share the same bytes, and it is dropped together with the game. Must be called inside
+     * a command.
+     *
+     * @param game     the game
+     * @param renderer renders the board of the game
+     * @return a read-only view of the render
+     */
+    ByteBuffer getBoardRender(final SiedlerGame game, final Function<SiedlerGame, ByteBuffer> renderer) {
+        final int version = game.getLog().getEntryCount();
+        if (boardRender == null || boardRenderVersion != version) {
+            boardRender = renderer.apply(game).asReadOnlyBuffer();
+            boardRenderVersion = version;
+        }
+        return boardRender.duplicate();
+    }
+
+    /**
+     * Queues a command for execution on the game.
+     *
+     * @param command the command, which may read and change the game
+     * @param <T>     the type of the result of the command
+     * @return a {@link CompletableFuture} completed with the result of the command, or exceptionally with a
+     * {@link RejectedExecutionException} if the command queue is full or with the exception thrown by the command
+     */
+    public <T> CompletableFuture<T> submit(final Function<SiedlerGame, T> command) {
+        requireNonNull(command, "command must not be null");
+        final Command<T> queued = new Command<>(command);
+        if (!commands.offer(queued)) {
+            queued.result.completeExceptionally(
+                    new RejectedExecutionException("Command queue of game " + id + " is full"));
+            return queued.result;
+        }
+        schedule();
+        return queued.result;
+    }
+
+    /**
+     * Returns the {@link Dice} of the game. It may only be rolled inside commands.
+     *
+     * @return the {@link Dice}
+     */
+    Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Returns the number of commands waiting for execution.
+     *
+     * @return the number of pending commands
+     */
+    public int getPendingCommands() {
+        return commands.size();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                workers.execute(this::runCommands);
+            } catch (RejectedExecutionException e) {
+                Command<?> command;
+                while ((command = commands.poll()) != null) {
+                    command.result.completeExceptionally(e);
+                }
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private void runCommands() {
+        try {
+            for (int i = 0; i < MAX_COMMANDS_PER_RUN; i++) {
+                final Command<?> command = commands.poll();
+                if (command == null) {
+                    break;
+                }
+                command.execute(game);
+            }
+        } finally {
+            scheduled.set(false);
+            if (!commands.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * A queued command together with the {@link CompletableFuture} of its result.
+     *
+     * @param <T> the type of the result
+     */
+    private static final class Command<T> {
+
+        private final Function<SiedlerGame, T> function;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(final Function<SiedlerGame, T> function) {
+            this.function = function;
+        }
+
+        /**
+         * Executes the command and completes its result, exceptionally with anything the command throws, including
+         * an {@link Error}, so that no caller waits forever.
+         */
+        private void execute(final SiedlerGame game) {
+            try {
+                result.complete(function.apply(game));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,256 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.Activity;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.DiceResult;
+import ch.zhaw.catan.game.InventoryOwner;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Interprets the lines sent by the clients of a {@link LineProtocolServer}.
+ * <p>
+ * Every request is one line of tokens separated by spaces. A client first creates a game with {@code NEW <players>}
+ * (answered with {@code GAME <id>}) or joins one with {@code JOIN <id> <player index>} (answered with
+ * {@code JOINED <id> <faction>}). Afterwards it sends the names of the {@link Activity} values, followed by their
+ * arguments: {@code TRADE <offer> <want>}, {@code BUILD_ROAD <x1> <y1> <x2> <y2>}, {@code BUILD_SETTLEMENT <x> <y>}
+ * and {@code BUILD_CITY <x> <y>}. The setup and the thief use {@code INITIAL_SETTLEMENT <x> <y> <payout>},
+ * {@code INITIAL_ROAD <x1> <y1> <x2> <y2>} and {@code THIEF <x> <y>}.
+ * </p>
+ * <p>
+ * Every request is answered with exactly one response. Responses are single lines ({@code OK}, {@code FAILED},
+ * {@code WINNER <faction>}, {@code ERROR <message>}, ...) except the board, which is sent as {@code BOARD <length>}
+ * followed by a line break and the given number of bytes of the rendered board. {@code NEXT_TURN} is answered with the
+ * {@link DiceResult} of the next player as {@code DICE <PAYOUT|THIEF> <faction>:<resource>=<amount>,...;...}.
+ * {@code DISPLAY_BOARD <x1> <y1> <x2> <y2>} only renders the window of the board between the two coordinates, which
+ * lets clients scroll around large boards.
+ * </p>
+ */
+class LineProtocolHandler {
+
+    static final int MAX_LINE_LENGTH = 256;
+    static final int WIN_POINTS = 7;
+    static final String INITIAL_SETTLEMENT = "INITIAL_SETTLEMENT";
+    static final String INITIAL_ROAD = "INITIAL_ROAD";
+    static final String THIEF = "THIEF";
+
+    private static final ByteBuffer OK = encode("OK");
+    private static final ByteBuffer FAILED = encode("FAILED");
+    private static final ByteBuffer BYE = encode("BYE");
+    private static final ByteBuffer STRUCTURE_COSTS = encode(formatStructureCosts());
+
+    private final GameHost host;
+
+    /**
+     * Creates a handler for the games of the given host.
+     *
+     * @param host the {@link GameHost}
+     */
+    LineProtocolHandler(final GameHost host) {
+        this.host = host;
+    }
+
+    /**
+     * Handles a request line. Called on the selector thread of the connection; the request itself is executed as a
+     * command of the game.
+     *
+     * @param connection the connection the line has been received on
+     * @param line       the line without line break
+     */
+    void handle(final LineProtocolServer.Connection connection, final String line) {
+        final String[] tokens = line.split(" +");
+        try {
+            switch (tokens[0]) {
+                case "NEW" -> newGame(connection, tokens);
+                case "JOIN" -> join(connection, tokens);
+                case INITIAL_SETTLEMENT -> reply(connection, act(connection, game ->
+                        game.placeInitialSettlement(point(tokens, 1), Boolean.parseBoolean(token(tokens, 3)))));
+                case INITIAL_ROAD -> reply(connection, act(connection, game ->
+                        game.placeInitialRoad(point(tokens, 1), point(tokens, 3))));
+                case THIEF -> reply(connection, act(connection, game -> game.placeThiefAndStealCard(point(tokens, 1))));
+                default -> handleActivity(connection, Activity.valueOf(tokens[0]), tokens);
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            connection.reply(CompletableFuture.completedFuture(error(e)));
+        }
+    }
+
+    private void handleActivity(final LineProtocolServer.Connection connection, final Activity activity,
+                                final String[] tokens) {
+        switch (activity) {
+            case DISPLAY_BOARD -> {
+                if (tokens.length > 1) {
+                    final Point from = point(tokens, 1);
+                    final Point to = point(tokens, 3);
+                    reply(connection, session(connection).query(game -> encodeBoard(
+                            game.getBoard().getView().toString(from.x, from.y, to.x, to.y))));
+                } else {
+                    final HostedGame hostedGame = session(connection).getGame();
+                    reply(connection, session(connection).query(game -> render(hostedGame, game)));
+                }
+            }
+            case DISPLAY_PLAYER_RESOURCES -> reply(connection, session(connection).query(game ->
+                    encode("RESOURCES " + formatInventory(game.getCurrentPlayers().get(
+                            session(connection).getPlayerIndex())))));
+            case DISPLAY_BANK_RESOURCES -> reply(connection, session(connection).query(game ->
+                    encode("BANK " + formatInventory(game.getBank()))));
+            case DISPLAY_STRUCTURE_COSTS -> connection.reply(CompletableFuture.completedFuture(STRUCTURE_COSTS.duplicate()));
+            case DISPLAY_SCORES -> reply(connection, session(connection).query(game -> encode(formatScores(game))));
+            case TRADE -> reply(connection, act(connection, game -> game.tradeWithBankFourToOne(
+                    Resource.valueOf(token(tokens, 1)), Resource.valueOf(token(tokens, 2)))));
+            case BUILD_ROAD -> reply(connection, act(connection, game ->
+                    game.buildRoad(point(tokens, 1), point(tokens, 3))));
+            case BUILD_SETTLEMENT -> reply(connection, act(connection, game -> game.buildSettlement(point(tokens, 1))));
+            case BUILD_CITY -> reply(connection, act(connection, game -> game.buildCity(point(tokens, 1))));
+            case NEXT_TURN -> reply(connection, session(connection).endTurn()
+                    .thenApply(LineProtocolHandler::formatDiceResult));
+            case QUIT -> connection.replyAndClose(BYE.duplicate());
+        }
+    }
+
+    private void newGame(final LineProtocolServer.Connection connection, final String[] tokens) {
+        final int numberOfPlayers = Integer.parseInt(token(tokens, 1));
+        if (numberOfPlayers < Config.MIN_NUMBER_OF_PLAYERS || numberOfPlayers > Faction.values().length) {
+            throw new IllegalArgumentException("Invalid number of players: " + numberOfPlayers);
+        }
+        final HostedGame game = host.createGame(WIN_POINTS, numberOfPlayers, System.nanoTime());
+        connection.reply(CompletableFuture.completedFuture(encode("GAME " + game.getId())));
+    }
+
+    private void join(final LineProtocolServer.Connection connection, final String[] tokens) {
+        final HostedGame game = host.getGame(Long.parseLong(token(tokens, 1)));
+        if (game == null) {
+            throw new IllegalArgumentException("Unknown game: " + tokens[1]);
+        }
+        final int playerIndex = Integer.parseInt(token(tokens, 2));
+        final PlayerSession session = game.createSession(playerIndex);
+        connection.setSession(session);
+        reply(connection, session.query(siedlerGame ->
+                encode("JOINED " + game.getId() + " " + siedlerGame.getCurrentPlayers().get(playerIndex).getFaction())));
+    }
+
+    /**
+     * Executes a building or trading action and answers with {@code OK}, {@code FAILED} or, if the action made the
+     * player win, {@code WINNER <faction>}.
+     */
+    private CompletableFuture<ByteBuffer> act(final LineProtocolServer.Connection connection,
+                                              final Function<SiedlerGame, Boolean> action) {
+        return session(connection).act(game -> {
+            if (!action.apply(game)) {
+                return FAILED.duplicate();
+            }
+            final Faction winner = game.getWinner();
+            return winner == null ? OK.duplicate() : encode("WINNER " + winner);
+        });
+    }
+
+    /**
+     * Returns the rendered board of the game as a read-only view of a direct buffer, cached by the
+     * {@link HostedGame} until the game changes. Must be called inside a command of the game.
+     */
+    private static ByteBuffer render(final HostedGame hostedGame, final SiedlerGame game) {
+        return hostedGame.getBoardRender(game, siedlerGame -> encodeBoard(siedlerGame.getBoard().getView().toString()));
+    }
+
+    /**
+     * Encodes a rendered board as {@code BOARD <length>} followed by a line break and the bytes of the board.
+     */
+    private static ByteBuffer encodeBoard(final String view) {
+        final byte[] board = view.getBytes(UTF_8);
+        final byte[] header = ("BOARD " + board.length + "\n").getBytes(UTF_8);
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(header.length + board.length);
+        bytes.put(header).put(board).flip();
+        return bytes;
+    }
+
+    private static void reply(final LineProtocolServer.Connection connection,
+                              final CompletableFuture<ByteBuffer> response) {
+        connection.reply(response.handle((bytes, error) -> error == null ? bytes : error(error)));
+    }
+
+    private static PlayerSession session(final LineProtocolServer.Connection connection) {
+        final PlayerSession session = connection.getSession();
+        if (session == null) {
+            throw new IllegalStateException("Join a game first");
+        }
+        return session;
+    }
+
+    private static String token(final String[] tokens, final int index) {
+        if (index >= tokens.length) {
+            throw new IllegalArgumentException("Missing argument " + index);
+        }
+        return tokens[index];
+    }
+
+    private static Point point(final String[] tokens, final int index) {
+        return new Point(Integer.parseInt(token(tokens, index)), Integer.parseInt(token(tokens, index + 1)));
+    }
+
+    private static ByteBuffer error(final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        return encode("ERROR " + cause.getMessage());
+    }
+
+    private static ByteBuffer formatDiceResult(final DiceResult result) {
+        final StringBuilder response = new StringBuilder("DICE ").append(result.isThiefExecuted() ? "THIEF" : "PAYOUT");
+        String separator = " ";
+        for (Map.Entry<Faction, Map<Resource, Integer>> resources : result.getAffectedResources().entrySet()) {
+            if (resources.getValue() != null && !resources.getValue().isEmpty()) {
+                response.append(separator).append(resources.getKey()).append(':')
+                        .append(formatResources(resources.getValue()));
+                separator = ";";
+            }
+        }
+        return encode(response.toString());
+    }
+
+    private static String formatInventory(final InventoryOwner owner) {
+        return formatResources(owner.getInventory());
+    }
+
+    private static String formatResources(final Map<Resource, Integer> resources) {
+        final StringBuilder formatted = new StringBuilder();
+        for (Map.Entry<Resource, Integer> resource : resources.entrySet()) {
+            if (formatted.length() > 0) {
+                formatted.append(',');
+            }
+            formatted.append(resource.getKey()).append('=').append(resource.getValue());
+        }
+        return formatted.toString();
+    }
+
+    private static String formatScores(final SiedlerGame game) {
+        final StringBuilder scores = new StringBuilder("SCORES");
+        for (Player player : game.getCurrentPlayers()) {
+            scores.append(' ').append(player.getFaction()).append('=').append(player.getScore());
+        }
+        return scores.toString();
+    }
+
+    private static String formatStructureCosts() {
+        final StringBuilder costs = new StringBuilder("COSTS");
+        for (Config.Structure structure : Config.Structure.values()) {
+            costs.append(' ').append(structure).append(':').append(formatResources(structure.getCostsAsIntegerMap()));
+        }
+        return costs.toString();
+    }
+
+    private static ByteBuffer encode(final String line) {
+        return ByteBuffer.wrap((line + "\n").getBytes(UTF_8)).asReadOnlyBuffer();
+    }
+
+}
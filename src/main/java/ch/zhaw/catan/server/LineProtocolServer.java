@@ -0,0 +1,336 @@
+package ch.zhaw.catan.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Non-blocking network front-end of a {@link GameHost} speaking the line protocol of {@link LineProtocolHandler}.
+ * <p>
+ * A small fixed number of selector threads serves all connections. The first selector also accepts new connections
+ * and hands them to the selectors in turn. Reads go through a direct buffer per connection and responses are written
+ * without copying them again, which lets many clients share the same cached board render. A connection stops reading
+ * while {@link #MAX_PENDING_RESPONSES} responses are not yet written, so a client which sends requests without reading
+ * the responses cannot make the server queue responses without limit.
+ * </p>
+ */
+public class LineProtocolServer implements AutoCloseable {
+
+    static final int READ_BUFFER_SIZE = 512;
+    static final int DEFAULT_PORT = 7777;
+    static final int MAX_SELECTOR_THREADS = 2;
+    static final int MAX_PENDING_RESPONSES = 32;
+
+    private final ServerSocketChannel serverChannel;
+    private final SelectorLoop[] loops;
+    private final LineProtocolHandler handler;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    /**
+     * Starts a server.
+     *
+     * @param host            the {@link GameHost} hosting the games
+     * @param address         the address to listen on, e.g. the loopback interface with port 0 for any free port
+     * @param selectorThreads the number of selector threads
+     * @throws IOException if the server socket cannot be opened
+     */
+    public LineProtocolServer(final GameHost host, final InetSocketAddress address, final int selectorThreads)
+            throws IOException {
+        requireNonNull(host, "host must not be null");
+        if (selectorThreads < 1) {
+            throw new IllegalArgumentException("selectorThreads must be positive");
+        }
+        handler = new LineProtocolHandler(host);
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address);
+        serverChannel.configureBlocking(false);
+
+        loops = new SelectorLoop[selectorThreads];
+        for (int i = 0; i < selectorThreads; i++) {
+            loops[i] = new SelectorLoop(Selector.open());
+        }
+        serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        for (int i = 0; i < selectorThreads; i++) {
+            final Thread thread = new Thread(loops[i], "catan-selector-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Starts a server for a new {@link GameHost} and serves until the process is stopped.
+     *
+     * @param args optionally the host name or address to listen on (loopback by default) and the port
+     * @throws IOException          if the server socket cannot be opened
+     * @throws InterruptedException if the main thread is interrupted
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final InetAddress address = args.length > 0 ? InetAddress.getByName(args[0]) : InetAddress.getLoopbackAddress();
+        final int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        final int selectorThreads = Math.min(MAX_SELECTOR_THREADS, Runtime.getRuntime().availableProcessors());
+        final LineProtocolServer server = new LineProtocolServer(new GameHost(), new InetSocketAddress(address, port),
+                selectorThreads);
+        System.out.println("Listening on " + server.getAddress());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Returns the address the server listens on.
+     *
+     * @return the address
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the server socket, all connections and the selector threads.
+     */
+    @Override
+    public void close() {
+        closeQuietly(serverChannel);
+        for (SelectorLoop loop : loops) {
+            for (SelectionKey key : loop.selector.keys()) {
+                closeQuietly(key.channel());
+            }
+            closeQuietly(loop.selector);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            final SelectorLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+            loop.newChannels.add(channel);
+            loop.selector.wakeup();
+        }
+    }
+
+    private static void closeQuietly(final java.io.Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // nothing left to do with a channel that cannot be closed
+        }
+    }
+
+    /**
+     * A selector and the thread serving it.
+     */
+    private final class SelectorLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> newChannels = new ConcurrentLinkedQueue<>();
+        private final Queue<Connection> writeRequests = new ConcurrentLinkedQueue<>();
+
+        private SelectorLoop(final Selector selector) {
+            this.selector = selector;
+        }
+
+        /**
+         * Selects and serves ready channels until the selector is closed.
+         */
+        @Override
+        public void run() {
+            try {
+                while (selector.isOpen()) {
+                    selector.select();
+                    registerNewChannels();
+                    enableRequestedWrites();
+                    final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        final SelectionKey key = keys.next();
+                        keys.remove();
+                        serve(key);
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                // the server has been closed
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void registerNewChannels() throws IOException {
+            SocketChannel channel;
+            while ((channel = newChannels.poll()) != null) {
+                final Connection connection = new Connection(channel, this);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            }
+        }
+
+        private void enableRequestedWrites() {
+            Connection connection;
+            while ((connection = writeRequests.poll()) != null) {
+                if (connection.key.isValid()) {
+                    connection.key.interestOps(connection.key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            }
+        }
+
+        private void serve(final SelectionKey key) {
+            try {
+                if (key.isValid() && key.isAcceptable()) {
+                    accept();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    ((Connection) key.attachment()).read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    ((Connection) key.attachment()).write();
+                }
+            } catch (IOException e) {
+                key.cancel();
+                closeQuietly(key.channel());
+            }
+        }
+
+    }
+
+    /**
+     * A client connection: assembles the received bytes to lines and writes queued responses. The responses which are
+     * requested but not yet written are counted on the selector thread; once there are
+     * {@link #MAX_PENDING_RESPONSES} of them, no further lines are handled and reading pauses until writing brings
+     * them below the limit again.
+     */
+    final class Connection {
+
+        private final SocketChannel channel;
+        private final SelectorLoop loop;
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private final StringBuilder line = new StringBuilder();
+        private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+        private volatile boolean closeAfterWrites;
+        private SelectionKey key;
+        private PlayerSession session;
+        private CompletableFuture<Void> replies = CompletableFuture.completedFuture(null);
+        private int pendingResponses;
+
+        private Connection(final SocketChannel channel, final SelectorLoop loop) {
+            this.channel = channel;
+            this.loop = loop;
+        }
+
+        /**
+         * Returns the session the connection has joined.
+         *
+         * @return the session or null
+         */
+        PlayerSession getSession() {
+            return session;
+        }
+
+        /**
+         * Sets the session the connection has joined.
+         *
+         * @param session the session
+         */
+        void setSession(final PlayerSession session) {
+            this.session = session;
+        }
+
+        /**
+         * Queues the response to a request. Responses are written in the order of the requests, even if a later
+         * response is ready earlier. Must be called on the selector thread of the connection.
+         *
+         * @param response the response, which must not be modified afterwards
+         */
+        void reply(final CompletableFuture<ByteBuffer> response) {
+            pendingResponses++;
+            replies = replies.thenCompose(ignored -> response).thenAccept(this::send);
+        }
+
+        /**
+         * Queues the last response and closes the connection once all responses have been written. Must be called on
+         * the selector thread of the connection.
+         *
+         * @param response the last response
+         */
+        void replyAndClose(final ByteBuffer response) {
+            pendingResponses++;
+            replies = replies.thenRun(() -> {
+                closeAfterWrites = true;
+                send(response);
+            });
+        }
+
+        private void send(final ByteBuffer response) {
+            pendingWrites.add(response);
+            loop.writeRequests.add(this);
+            loop.selector.wakeup();
+        }
+
+        private void read() throws IOException {
+            if (channel.read(readBuffer) < 0) {
+                throw new IOException("Connection closed by client");
+            }
+            handleLines();
+        }
+
+        /**
+         * Handles the complete lines in the read buffer until too many responses are pending. The remaining bytes
+         * stay in the buffer and reading pauses until {@link #write()} has written enough responses.
+         */
+        private void handleLines() throws IOException {
+            readBuffer.flip();
+            while (readBuffer.hasRemaining() && pendingResponses < MAX_PENDING_RESPONSES) {
+                final char character = (char) (readBuffer.get() & 0xFF);
+                if (character == '\n') {
+                    handler.handle(this, line.toString().trim());
+                    line.setLength(0);
+                } else if (character != '\r') {
+                    line.append(character);
+                    if (line.length() > LineProtocolHandler.MAX_LINE_LENGTH) {
+                        throw new IOException("Line too long");
+                    }
+                }
+            }
+            readBuffer.compact();
+            if (pendingResponses >= MAX_PENDING_RESPONSES) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+        }
+
+        private void write() throws IOException {
+            ByteBuffer response;
+            while ((response = pendingWrites.peek()) != null) {
+                channel.write(response);
+                if (response.hasRemaining()) {
+                    return;
+                }
+                pendingWrites.poll();
+                pendingResponses--;
+            }
+            if (closeAfterWrites) {
+                key.cancel();
+                channel.close();
+                return;
+            }
+            key.interestOps(pendingResponses < MAX_PENDING_RESPONSES ? SelectionKey.OP_READ : 0);
+            if (pendingResponses < MAX_PENDING_RESPONSES && readBuffer.position() > 0) {
+                handleLines();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.DiceResult;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.awt.Point;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The connection of one player to a {@link HostedGame}. All actions are executed as commands of the game and are
+ * rejected with an {@link IllegalStateException} if it is not the turn of the player.
+ * <p>
+ * A session holds no thread and no state besides the player it represents, so it can be used from any thread.
+ * </p>
+ */
+public class PlayerSession {
+
+    private final HostedGame game;
+    private final int playerIndex;
+
+    /**
+     * Creates a session.
+     *
+     * @param game        the hosted game
+     * @param playerIndex the index of the player in {@link SiedlerGame#getCurrentPlayers()}
+     */
+    PlayerSession(final HostedGame game, final int playerIndex) {
+        this.game = requireNonNull(game, "game must not be null");
+        this.playerIndex = playerIndex;
+    }
+
+    /**
+     * Returns the hosted game.
+     *
+     * @return the hosted game
+     */
+    public HostedGame getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the index of the player.
+     *
+     * @return the index of the player
+     */
+    public int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Reads from the game, regardless of whose turn it is.
+     *
+     * @param query the query, which must not change the game
+     * @param <T>   the type of the result
+     * @return the result
+     */
+    public <T> CompletableFuture<T> query(final Function<SiedlerGame, T> query) {
+        return game.submit(query);
+    }
+
+    /**
+     * Executes an action of the player.
+     *
+     * @param action the action
+     * @param <T>    the type of the result
+     * @return the result, or an {@link IllegalStateException} if it is not the turn of the player
+     */
+    public <T> CompletableFuture<T> act(final Function<SiedlerGame, T> action) {
+        requireNonNull(action, "action must not be null");
+        return game.submit(siedlerGame -> {
+            if (siedlerGame.getCurrentPlayerIndex() != playerIndex) {
+                throw new IllegalStateException("It is not the turn of player " + playerIndex);
+            }
+            return action.apply(siedlerGame);
+        });
+    }
+
+    /**
+     * Builds a settlement, see {@link SiedlerGame#buildSettlement(Point)}.
+     *
+     * @param position the position of the settlement
+     * @return whether the settlement has been built
+     */
+    public CompletableFuture<Boolean> buildSettlement(final Point position) {
+        return act(siedlerGame -> siedlerGame.buildSettlement(position));
+    }
+
+    /**
+     * Builds a city, see {@link SiedlerGame#buildCity(Point)}.
+     *
+     * @param position the position of the city
+     * @return whether the city has been built
+     */
+    public CompletableFuture<Boolean> buildCity(final Point position) {
+        return act(siedlerGame -> siedlerGame.buildCity(position));
+    }
+
+    /**
+     * Builds a road, see {@link SiedlerGame#buildRoad(Point, Point)}.
+     *
+     * @param roadStart the start of the road
+     * @param roadEnd   the end of the road
+     * @return whether the road has been built
+     */
+    public CompletableFuture<Boolean> buildRoad(final Point roadStart, final Point roadEnd) {
+        return act(siedlerGame -> siedlerGame.buildRoad(roadStart, roadEnd));
+    }
+
+    /**
+     * Trades with the bank, see {@link SiedlerGame#tradeWithBankFourToOne(Resource, Resource)}.
+     *
+     * @param offer the offered resource
+     * @param want  the wanted resource
+     * @return whether the trade has been done
+     */
+    public CompletableFuture<Boolean> tradeWithBankFourToOne(final Resource offer, final Resource want) {
+        return act(siedlerGame -> siedlerGame.tradeWithBankFourToOne(offer, want));
+    }
+
+    /**
+     * Moves the thief, see {@link SiedlerGame#placeThiefAndStealCard(Point)}.
+     *
+     * @param fieldPosition the position of the field
+     * @return whether the thief has been moved
+     */
+    public CompletableFuture<Boolean> placeThiefAndStealCard(final Point fieldPosition) {
+        return act(siedlerGame -> siedlerGame.placeThiefAndStealCard(fieldPosition));
+    }
+
+    /**
+     * Ends the turn of the player and rolls the dice for the next player.
+     *
+     * @return the {@link DiceResult} of the roll of the next player
+     */
+    public CompletableFuture<DiceResult> endTurn() {
+        return act(siedlerGame -> {
+            siedlerGame.switchToNextPlayer();
+            return siedlerGame.processDiceRoll(game.getDice().roll());
+        });
+    }
+
+}
@@ -0,0 +1,402 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.GameChangeListener;
+import ch.zhaw.catan.game.GameDelta;
+import ch.zhaw.catan.game.GameDeltaEncoder;
+import ch.zhaw.catan.game.GameReplica;
+import ch.zhaw.catan.game.GameSnapshot;
+import ch.zhaw.catan.game.SiedlerGame;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Streams the state changes of a {@link SiedlerGame} to any number of spectators.
+ * <p>
+ * The broadcaster is registered as {@link GameChangeListener} of the game. Every change is encoded once into a
+ * read-only frame, which is handed to all subscribers as a duplicate of the same buffer. A frame is either a
+ * {@link GameSnapshot} together with the version of the game or a {@link GameDelta}, and can be applied to a
+ * {@link GameReplica} with {@link #applyFrame(ByteBuffer, GameReplica)}. Every subscriber starts with a snapshot
+ * frame, followed by the deltas of all later changes. Snapshot frames are only encoded when a spectator subscribes or
+ * the frames of a slow spectator are coalesced, and are reused until the game changes again, so a change only costs
+ * encoding its delta.
+ * </p>
+ * <p>
+ * Frames are delivered on the given {@link Executor} as requested by the subscribers. A subscriber which does not keep
+ * up has at most {@link #getMaxPendingFrames()} frames queued: when another frame arrives, its queued frames are
+ * coalesced into a single snapshot frame of the current state. A subscriber which has missed more than
+ * {@link #getMaxMissedFrames()} frames this way since it last received a frame is dropped with an
+ * {@link IllegalStateException}.
+ * </p>
+ */
+public class SpectatorBroadcaster implements Flow.Publisher<ByteBuffer>, GameChangeListener, AutoCloseable {
+
+    /**
+     * The default maximum number of frames queued for a subscriber.
+     */
+    public static final int DEFAULT_MAX_PENDING_FRAMES = 16;
+
+    /**
+     * The default maximum number of frames a subscriber may miss before it is dropped.
+     */
+    public static final int DEFAULT_MAX_MISSED_FRAMES = 256;
+
+    static final byte SNAPSHOT_FRAME = 1;
+    static final byte DELTA_FRAME = 2;
+    static final int MAX_FRAMES_PER_RUN = 16;
+
+    private final SiedlerGame game;
+    private final GameDeltaEncoder encoder;
+    private final Executor executor;
+    private final int maxPendingFrames;
+    private final int maxMissedFrames;
+    private final List<SpectatorSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+
+    private ByteBuffer snapshotFrame;
+    private int snapshotVersion = -1;
+    private int encodedSnapshots;
+    private boolean closed;
+
+    /**
+     * Creates a broadcaster with the default limits and registers it with the game. Must be called by the thread that
+     * changes the game or while the game is not changed.
+     *
+     * @param game     the game
+     * @param executor the {@link Executor} delivering the frames
+     */
+    public SpectatorBroadcaster(final SiedlerGame game, final Executor executor) {
+        this(game, executor, DEFAULT_MAX_PENDING_FRAMES, DEFAULT_MAX_MISSED_FRAMES);
+    }
+
+    /**
+     * Creates a broadcaster and registers it with the game. Must be called by the thread that changes the game or
+     * while the game is not changed.
+     *
+     * @param game             the game
+     * @param executor         the {@link Executor} delivering the frames
+     * @param maxPendingFrames the maximum number of frames queued for a subscriber
+     * @param maxMissedFrames  the maximum number of frames a subscriber may miss before it is dropped
+     */
+    public SpectatorBroadcaster(final SiedlerGame game, final Executor executor, final int maxPendingFrames,
+                                final int maxMissedFrames) {
+        if (maxPendingFrames < 1) {
+            throw new IllegalArgumentException("maxPendingFrames must be at least 1");
+        }
+        if (maxMissedFrames < 0) {
+            throw new IllegalArgumentException("maxMissedFrames must not be negative");
+        }
+        this.game = requireNonNull(game, "game must not be null");
+        this.executor = requireNonNull(executor, "executor must not be null");
+        this.maxPendingFrames = maxPendingFrames;
+        this.maxMissedFrames = maxMissedFrames;
+        encoder = new GameDeltaEncoder(game);
+        game.addChangeListener(this);
+    }
+
+    /**
+     * Subscribes a spectator. Its first frame is a snapshot of the current state of the game. Must be called by the
+     * thread that changes the game or while the game is not changed, like {@link HostedGame#spectate} does.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        requireNonNull(subscriber, "subscriber must not be null");
+        final SpectatorSubscription subscription = new SpectatorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        synchronized (lock) {
+            if (closed) {
+                subscription.complete();
+                return;
+            }
+            subscriptions.add(subscription);
+            subscription.offer(getSnapshotFrame());
+        }
+    }
+
+    /**
+     * Encodes the changes of the game and queues them for all subscribers. Called by the game.
+     *
+     * @param changedGame the changed game
+     */
+    @Override
+    public void gameChanged(final SiedlerGame changedGame) {
+        final GameDelta delta = encoder.next();
+        if (delta.getToVersion() == delta.getFromVersion()) {
+            return;
+        }
+        final ByteBuffer deltaFrame = ByteBuffer.allocate(1 + delta.getSerializedSize());
+        deltaFrame.put(DELTA_FRAME);
+        delta.writeTo(deltaFrame);
+        final ByteBuffer frame = deltaFrame.flip().asReadOnlyBuffer();
+
+        synchronized (lock) {
+            for (SpectatorSubscription subscription : subscriptions) {
+                subscription.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of current subscribers.
+     *
+     * @return the number of subscribers
+     */
+    public int getNumberOfSubscribers() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Returns the maximum number of frames queued for a subscriber.
+     *
+     * @return the maximum number of queued frames
+     */
+    public int getMaxPendingFrames() {
+        return maxPendingFrames;
+    }
+
+    /**
+     * Returns the maximum number of frames a subscriber may miss before it is dropped.
+     *
+     * @return the maximum number of missed frames
+     */
+    public int getMaxMissedFrames() {
+        return maxMissedFrames;
+    }
+
+    /**
+     * Unregisters the broadcaster from the game and completes all subscribers after their queued frames. Must be
+     * called by the thread that changes the game or while the game is not changed.
+     */
+    @Override
+    public void close() {
+        game.removeChangeListener(this);
+        synchronized (lock) {
+            closed = true;
+            for (SpectatorSubscription subscription : subscriptions) {
+                subscription.complete();
+            }
+            subscriptions.clear();
+        }
+    }
+
+    /**
+     * Applies a frame received from a broadcaster to a {@link GameReplica}.
+     *
+     * @param frame   the frame
+     * @param replica the replica of the game or null before the first frame
+     * @return the replica, which is a new one for a snapshot frame
+     * @throws IllegalArgumentException if the frame is invalid
+     * @throws IllegalStateException    if a delta frame arrives before a snapshot frame or does not fit the replica
+     */
+    public static GameReplica applyFrame(final ByteBuffer frame, final GameReplica replica) {
+        try {
+            final byte type = frame.get();
+            if (type == SNAPSHOT_FRAME) {
+                final int version = frame.getInt();
+                return new GameReplica(GameSnapshot.readFrom(frame), version);
+            }
+            if (type != DELTA_FRAME) {
+                throw new IllegalArgumentException("Unknown frame type: " + type);
+            }
+            if (replica == null) {
+                throw new IllegalStateException("Delta frame received before a snapshot frame");
+            }
+            replica.apply(frame);
+            return replica;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Frame is truncated", e);
+        }
+    }
+
+    /**
+     * Returns the number of snapshot frames encoded so far.
+     *
+     * @return the number of encoded snapshot frames
+     */
+    int getEncodedSnapshots() {
+        synchronized (lock) {
+            return encodedSnapshots;
+        }
+    }
+
+    /**
+     * Returns the snapshot frame of the current version of the game, which is encoded if the game has changed since
+     * the last one. Must be called by the thread that changes the game or while the game is not changed.
+     */
+    private ByteBuffer getSnapshotFrame() {
+        synchronized (lock) {
+            if (snapshotVersion != encoder.getVersion()) {
+                final GameSnapshot snapshot = GameSnapshot.of(game);
+                final ByteBuffer frame = ByteBuffer.allocate(1 + Integer.BYTES + snapshot.getSerializedSize());
+                frame.put(SNAPSHOT_FRAME);
+                frame.putInt(encoder.getVersion());
+                snapshot.writeTo(frame);
+                snapshotFrame = frame.flip().asReadOnlyBuffer();
+                snapshotVersion = encoder.getVersion();
+                encodedSnapshots++;
+            }
+            return snapshotFrame;
+        }
+    }
+
+    /**
+     * The {@link Flow.Subscription} of a spectator with its bounded queue of frames.
+     * <p>
+     * Frames are delivered by at most one task on the executor at a time, so the subscriber is called serially.
+     * </p>
+     */
+    private final class SpectatorSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private long demand;
+        private int missedFrames;
+        private boolean completed;
+        private boolean terminated;
+        private Throwable error;
+
+        private SpectatorSubscription(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Requested " + n + " frames, but must request at least 1"));
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+                pending.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        /**
+         * Queues a frame. If the queue is full, the queued frames are replaced by the snapshot frame of the current
+         * version, which already contains the given frame. Called while holding the lock of the broadcaster.
+         */
+        private void offer(final ByteBuffer frame) {
+            synchronized (this) {
+                if (terminated || error != null) {
+                    return;
+                }
+                if (pending.size() < maxPendingFrames) {
+                    pending.add(frame);
+                } else {
+                    missedFrames += pending.size();
+                    pending.clear();
+                    if (missedFrames > maxMissedFrames) {
+                        fail(new IllegalStateException("Spectator missed more than " + maxMissedFrames + " frames"));
+                    } else {
+                        pending.add(getSnapshotFrame());
+                    }
+                }
+            }
+            schedule();
+        }
+
+        private void complete() {
+            synchronized (this) {
+                completed = true;
+            }
+            schedule();
+        }
+
+        /**
+         * Drops the queued frames and signals the error with the next delivery.
+         */
+        private void fail(final Throwable cause) {
+            error = cause;
+            pending.clear();
+            subscriptions.remove(this);
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::deliver);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    cancel();
+                }
+            }
+        }
+
+        /**
+         * Delivers queued frames and the final signal. If the subscriber throws from {@code onNext}, its subscription is
+         * cancelled and the exception is passed to its {@code onError}. The delivery is marked as finished even if the
+         * subscriber throws, so that later frames are scheduled again.
+         */
+        private void deliver() {
+            try {
+                for (int i = 0; i < MAX_FRAMES_PER_RUN; i++) {
+                    final ByteBuffer frame;
+                    synchronized (this) {
+                        if (terminated) {
+                            break;
+                        }
+                        if (error != null || (completed && pending.isEmpty())) {
+                            terminated = true;
+                        } else if (demand == 0 || pending.isEmpty()) {
+                            break;
+                        }
+                        frame = terminated ? null : pending.poll();
+                        if (frame != null) {
+                            demand--;
+                            missedFrames = 0;
+                        }
+                    }
+                    if (frame == null) {
+                        if (error != null) {
+                            subscriber.onError(error);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(frame.duplicate());
+                    } catch (Throwable e) {
+                        cancel();
+                        subscriber.onError(e);
+                        break;
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            if (hasDeliverableWork()) {
+                schedule();
+            }
+        }
+
+        private synchronized boolean hasDeliverableWork() {
+            return !terminated && (error != null || completed && pending.isEmpty() || demand > 0 && !pending.isEmpty());
+        }
+
+    }
+
+}
@@ -1,14 +1,14 @@
 package ch.zhaw.catan.structure;
 
-import ch.zhaw.catan.game.Config;
 import ch.zhaw.catan.game.Config.Faction;
 
 import static ch.zhaw.catan.game.Config.Structure.CITY;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class representing a city structure in the siedler game.
  */
-public class City extends Structure {
+public final class City extends Structure {
 
     /**
      * The number of points that this city provides for its {@link Faction}.
@@ -25,53 +25,31 @@ public class City extends Structure {
      */
     static final String IDENTIFIER = "C";
 
-    /**
-     * Creates a new city belonging to the specified {@link Faction}.
-     *
-     * @param faction the {@link Faction} that this city belongs to.
-     */
-    public City(final Faction faction) {
-        super(faction);
-    }
-
-    /**
-     * Returns the type of this {@link Structure}, which is always `CITY`.
-     *
-     * @return the type of this {@link Structure}
-     */
-    @Override
-    public Config.Structure getStructureType() {
-        return CITY;
-    }
+    private static final City[] INSTANCES = new City[Faction.values().length];
 
-    /**
-     * Returns the number of points that this city provides for its {@link Faction}.
-     *
-     * @return the number of points provided by this city
-     */
-    @Override
-    public int getScore() {
-        return SCORE;
+    static {
+        for (Faction faction : Faction.values()) {
+            INSTANCES[faction.ordinal()] = new City(faction);
+        }
     }
 
     /**
-     * Returns the unique identifier for this city.
+     * Creates a new city belonging to the specified {@link Faction}.
      *
-     * @return the unique identifier for this city
+     * @param faction the {@link Faction} that this city belongs to.
      */
-    @Override
-    public String getIdentifier() {
-        return IDENTIFIER;
+    private City(final Faction faction) {
+        super(faction, CITY, SCORE, AMOUNT_PER_RESOURCE, IDENTIFIER);
     }
 
     /**
-     * Returns the number of resources that get paid out for this city.
+     * Returns the shared city belonging to the specified {@link Faction}.
      *
-     * @return the number of resources that get paid out for this city.
+     * @param faction the {@link Faction} that the city belongs to.
+     * @return the city
      */
-    @Override
-    public int getAmountPerResource() {
-        return AMOUNT_PER_RESOURCE;
+    public static City of(final Faction faction) {
+        return INSTANCES[requireNonNull(faction, "faction must not be null").ordinal()];
     }
 
 }
@@ -1,14 +1,14 @@
 package ch.zhaw.catan.structure;
 
-import ch.zhaw.catan.game.Config;
 import ch.zhaw.catan.game.Config.Faction;
 
 import static ch.zhaw.catan.game.Config.Structure.ROAD;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class representing a road structure in the siedler game.
  */
-public class Road extends Structure {
+public final class Road extends Structure {
 
     /**
      * The number of points that this {@link Road} provides for its {@link Faction}.
@@ -25,53 +25,31 @@ public class Road extends Structure {
      */
     static final String IDENTIFIER = "R";
 
-    /**
-     * Creates a new road belonging to the specified {@link Faction}.
-     *
-     * @param faction the {@link Faction} that this road belongs to.
-     */
-    public Road(final Faction faction) {
-        super(faction);
-    }
-
-    /**
-     * Returns the type of this {@link Structure}, which is always `ROAD`.
-     *
-     * @return the type of this {@link Structure}
-     */
-    @Override
-    public Config.Structure getStructureType() {
-        return ROAD;
-    }
+    private static final Road[] INSTANCES = new Road[Faction.values().length];
 
-    /**
-     * Returns the number of points that this road provides for its {@link Faction}.
-     *
-     * @return the number of points provided by this road
-     */
-    @Override
-    public int getScore() {
-        return SCORE;
+    static {
+        for (Faction faction : Faction.values()) {
+            INSTANCES[faction.ordinal()] = new Road(faction);
+        }
     }
 
     /**
-     * Returns the unique identifier for this road.
+     * Creates a new road belonging to the specified {@link Faction}.
      *
-     * @return the unique identifier for this road
+     * @param faction the {@link Faction} that this road belongs to.
      */
-    @Override
-    public String getIdentifier() {
-        return IDENTIFIER;
+    private Road(final Faction faction) {
+        super(faction, ROAD, SCORE, AMOUNT_PER_RESOURCE, IDENTIFIER);
     }
 
     /**
-     * Returns the number of resources that get paid out for this road.
+     * Returns the shared road belonging to the specified {@link Faction}.
      *
-     * @return the number of resources that get paid out for this road.
+     * @param faction the {@link Faction} that the road belongs to.
+     * @return the road
      */
-    @Override
-    public int getAmountPerResource() {
-        return AMOUNT_PER_RESOURCE;
+    public static Road of(final Faction faction) {
+        return INSTANCES[requireNonNull(faction, "faction must not be null").ordinal()];
     }
 
 }
@@ -1,14 +1,14 @@
 package ch.zhaw.catan.structure;
 
-import ch.zhaw.catan.game.Config;
 import ch.zhaw.catan.game.Config.Faction;
 
 import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class representing a settlement structure in the siedler game.
  */
-public class Settlement extends Structure {
+public final class Settlement extends Structure {
 
     /**
      * The number of points that this settlement provides for its {@link Faction}.
@@ -25,53 +25,31 @@ public class Settlement extends Structure {
      */
     static final String IDENTIFIER = "S";
 
-    /**
-     * Creates a new settlement belonging to the specified {@link Faction}.
-     *
-     * @param faction the {@link Faction} that this settlement belongs to.
-     */
-    public Settlement(final Faction faction) {
-        super(faction);
-    }
-
-    /**
-     * Returns the type of this {@link Structure}, which is always `SETTLEMENT`.
-     *
-     * @return the type of this {@link Structure}
-     */
-    @Override
-    public Config.Structure getStructureType() {
-        return SETTLEMENT;
-    }
+    private static final Settlement[] INSTANCES = new Settlement[Faction.values().length];
 
-    /**
-     * Returns the number of points that this settlement provides for its {@link Faction}.
-     *
-     * @return the number of points provided by this settlement
-     */
-    @Override
-    public int getScore() {
-        return SCORE;
+    static {
+        for (Faction faction : Faction.values()) {
+            INSTANCES[faction.ordinal()] = new Settlement(faction);
+        }
     }
 
     /**
-     * Returns the unique identifier for this settlement.
+     * Creates a new settlement belonging to the specified {@link Faction}.
      *
-     * @return the unique identifier for this settlement
+     * @param faction the {@link Faction} that this settlement belongs to.
      */
-    @Override
-    public String getIdentifier() {
-        return IDENTIFIER;
+    private Settlement(final Faction faction) {
+        super(faction, SETTLEMENT, SCORE, AMOUNT_PER_RESOURCE, IDENTIFIER);
     }
 
     /**
-     * Returns the number of resources that get paid out for this settlement.
+     * Returns the shared settlement belonging to the specified {@link Faction}.
      *
-     * @return the number of resources that get paid out for this settlement
+     * @param faction the {@link Faction} that the settlement belongs to.
+     * @return the settlement
      */
-    @Override
-    public int getAmountPerResource() {
-        return AMOUNT_PER_RESOURCE;
+    public static Settlement of(final Faction faction) {
+        return INSTANCES[requireNonNull(faction, "faction must not be null").ordinal()];
     }
 
 }
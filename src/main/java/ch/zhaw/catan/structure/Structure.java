@@ -7,6 +7,12 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * A class representing a structure in the siedler game.
+ * <p>
+ * Structures are immutable and there is exactly one instance per {@link Config.Structure} type and {@link Faction},
+ * which is returned by {@link #of(Config.Structure, Faction)} and the factory methods of the subclasses. Building a
+ * structure therefore does not allocate anything, and the values of a type are read from fields instead of being
+ * computed by overridden methods.
+ * </p>
  */
 public abstract class Structure {
 
@@ -14,14 +20,43 @@ public abstract class Structure {
      * The faction that this structure belongs to.
      */
     private final Faction faction;
+    private final Config.Structure structureType;
+    private final int score;
+    private final int amountPerResource;
+    private final String identifier;
 
     /**
      * Creates a new structure belonging to the specified {@link Faction}.
      *
-     * @param faction the {@link Faction} that this structure belongs to
+     * @param faction           the {@link Faction} that this structure belongs to
+     * @param structureType     the type of this structure
+     * @param score             the score that this structure provides for its {@link Faction}
+     * @param amountPerResource the number of resources that get paid out for this structure
+     * @param identifier        the identifier of the type of this structure
      */
-    protected Structure(final Faction faction) {
+    Structure(final Faction faction, final Config.Structure structureType, final int score,
+              final int amountPerResource, final String identifier) {
         this.faction = requireNonNull(faction, "faction must not be null");
+        this.structureType = structureType;
+        this.score = score;
+        this.amountPerResource = amountPerResource;
+        this.identifier = identifier;
+    }
+
+    /**
+     * Returns the shared structure of the given type belonging to the specified {@link Faction}.
+     *
+     * @param structureType the type of the structure
+     * @param faction       the {@link Faction} that the structure belongs to
+     * @return the structure
+     */
+    public static Structure of(final Config.Structure structureType, final Faction faction) {
+        requireNonNull(structureType, "structureType must not be null");
+        return switch (structureType) {
+            case SETTLEMENT -> Settlement.of(faction);
+            case CITY -> City.of(faction);
+            case ROAD -> Road.of(faction);
+        };
     }
 
     /**
@@ -29,21 +64,27 @@ public abstract class Structure {
      *
      * @return the type of this structure
      */
-    public abstract Config.Structure getStructureType();
+    public final Config.Structure getStructureType() {
+        return structureType;
+    }
 
     /**
      * Returns the score that this structure provides for its {@link Faction}.
      *
      * @return the score provided by this structure
      */
-    public abstract int getScore();
+    public final int getScore() {
+        return score;
+    }
 
     /**
      * Returns a unique identifier for this structure.
      *
      * @return a unique identifier for this structure
      */
-    public abstract String getIdentifier();
+    public final String getIdentifier() {
+        return identifier;
+    }
 
     /**
      * Returns the number of resources that are required to produce this
@@ -51,7 +92,9 @@ public abstract class Structure {
      *
      * @return the number of resources required to produce this structure
      */
-    public abstract int getAmountPerResource();
+    public final int getAmountPerResource() {
+        return amountPerResource;
+    }
 
     /**
      * Returns the {@link Faction} that this structure belongs to.
@@ -63,13 +106,14 @@ public abstract class Structure {
     }
 
     /**
-     * Returns a string representation of this structure.
+     * Returns a string representation of this structure. The representation is cached per type and {@link Faction}
+     * by the {@link StructureLabelProvider}.
      *
      * @return a string representation of this structure
      */
     @Override
     public String toString() {
-        return getFaction().toString().charAt(0) + getIdentifier();
+        return StructureLabelProvider.getRepresentation(getStructureType(), getFaction());
     }
 
 }
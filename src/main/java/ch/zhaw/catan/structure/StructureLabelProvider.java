@@ -0,0 +1,76 @@
+package ch.zhaw.catan.structure;
+
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.hexboard.Label;
+import ch.zhaw.hexboard.LabelProvider;
+
+/**
+ * Provides the {@link Label}s and {@link String} representations of {@link Structure}s.
+ * <p>
+ * Both are created once per combination of {@link Config.Structure} type and {@link Faction} and shared afterwards,
+ * so that rendering the board does not need to build any strings or labels.
+ */
+public class StructureLabelProvider implements LabelProvider<Structure> {
+
+    private static final Label[][] LABELS = new Label[Config.Structure.values().length][Faction.values().length];
+    private static final String[][] REPRESENTATIONS = new String[Config.Structure.values().length][Faction.values().length];
+
+    static {
+        for (Config.Structure structureType : Config.Structure.values()) {
+            for (Faction faction : Faction.values()) {
+                final String representation = faction.toString().charAt(0) + getIdentifier(structureType);
+                REPRESENTATIONS[structureType.ordinal()][faction.ordinal()] = representation;
+                LABELS[structureType.ordinal()][faction.ordinal()] = new Label(representation.charAt(0), representation.charAt(1));
+            }
+        }
+    }
+
+    /**
+     * Returns the cached {@link Label} of the given {@link Structure}.
+     *
+     * @param structure the {@link Structure} to get the {@link Label} for
+     * @return the {@link Label} of the {@link Structure}
+     */
+    @Override
+    public Label getLabel(final Structure structure) {
+        return getLabel(structure.getStructureType(), structure.getFaction());
+    }
+
+    /**
+     * Returns the cached {@link Label} for the given {@link Config.Structure} type and {@link Faction}.
+     *
+     * @param structureType the type of the {@link Structure}
+     * @param faction       the {@link Faction} owning the {@link Structure}
+     * @return the {@link Label} for the type and {@link Faction}
+     */
+    public static Label getLabel(final Config.Structure structureType, final Faction faction) {
+        return LABELS[structureType.ordinal()][faction.ordinal()];
+    }
+
+    /**
+     * Returns the cached {@link String} representation for the given {@link Config.Structure} type and {@link Faction}.
+     *
+     * @param structureType the type of the {@link Structure}
+     * @param faction       the {@link Faction} owning the {@link Structure}
+     * @return the {@link String} representation for the type and {@link Faction}
+     */
+    static String getRepresentation(final Config.Structure structureType, final Faction faction) {
+        return REPRESENTATIONS[structureType.ordinal()][faction.ordinal()];
+    }
+
+    /**
+     * Returns the identifier of the given {@link Config.Structure} type.
+     *
+     * @param structureType the type of the {@link Structure}
+     * @return the identifier of the type
+     */
+    private static String getIdentifier(final Config.Structure structureType) {
+        return switch (structureType) {
+            case SETTLEMENT -> Settlement.IDENTIFIER;
+            case CITY -> City.IDENTIFIER;
+            case ROAD -> Road.IDENTIFIER;
+        };
+    }
+
+}
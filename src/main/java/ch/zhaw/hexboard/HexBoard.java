@@ -87,7 +87,7 @@ import java.util.Set;
  * @author tebe
  *
  */
-public class HexBoard<F, C, E, A> {
+public class HexBoard<F, C, E, A> implements HexBoardView<F, C, E, A> {
     private int maxCoordinateX = 0;
     private int maxCoordinateY = 0;
     private final Map<Point, F> field;
@@ -167,6 +167,7 @@ public class HexBoard<F, C, E, A> {
      * @throws IllegalArgumentException if coordinates are not a field and
      *                                  corresponding corner coordinate
      */
+    @Override
     public A getFieldAnnotation(Point center, Point corner) {
         return annotation.get(new FieldAnnotationPosition(center, corner));
     }
@@ -180,9 +181,13 @@ public class HexBoard<F, C, E, A> {
      */
     public List<A> getFieldAnnotationsForCorner(Point corner) {
         List<A> list = new LinkedList<>();
-        for (Entry<FieldAnnotationPosition, A> entry : annotation.entrySet()) {
-            if (entry.getKey().isCorner(corner) && entry.getValue() != null) {
-                list.add(entry.getValue());
+        if (isCornerCoordinate(corner)) {
+            for (Point center : getAdjacentFields(corner)) {
+                A data = isCorner(center, corner)
+                        ? annotation.get(new FieldAnnotationPosition(center, corner)) : null;
+                if (data != null) {
+                    list.add(data);
+                }
             }
         }
         return list;
@@ -197,9 +202,12 @@ public class HexBoard<F, C, E, A> {
      */
     public List<A> getFieldAnnotationsForField(Point center) {
         List<A> list = new LinkedList<>();
-        for (Entry<FieldAnnotationPosition, A> entry : annotation.entrySet()) {
-            if (entry.getKey().isField(center) && entry.getValue() != null) {
-                list.add(entry.getValue());
+        if (isFieldCoordinate(center)) {
+            for (Point c : getCornerCoordinatesOfField(center)) {
+                A data = annotation.get(new FieldAnnotationPosition(center, c));
+                if (data != null) {
+                    list.add(data);
+                }
             }
         }
         return list;
@@ -211,6 +219,7 @@ public class HexBoard<F, C, E, A> {
      * @param center the field
      * @return false, if the field does not exist or the position is not a field
      */
+    @Override
     public boolean hasField(Point center) {
         if (!HexBoard.isFieldCoordinate(center)) {
             return false;
@@ -325,6 +334,7 @@ public class HexBoard<F, C, E, A> {
      * @return the stored data (or null)
      * @throws IllegalArgumentException if the requested field does not exist
      */
+    @Override
     public F getField(Point center) {
         if (field.containsKey(center)) {
             return field.get(center);
@@ -377,6 +387,7 @@ public class HexBoard<F, C, E, A> {
      * @param p2 second point
      * @return the stored data (or null)
      */
+    @Override
     public E getEdge(Point p1, Point p2) {
         Edge e = new Edge(p1, p2);
         return edge.getOrDefault(e, null);
@@ -407,6 +418,7 @@ public class HexBoard<F, C, E, A> {
      * @return the data stored for this node (or null)
      * @throws IllegalArgumentException if the requested corner does not exist
      */
+    @Override
     public C getCorner(Point location) {
         if (corner.containsKey(location)) {
             return corner.get(location);
@@ -462,7 +474,8 @@ public class HexBoard<F, C, E, A> {
      * to that corner.
      * <p>
      * Each corner has three edges connecting to it, except edges that are located
-     * at the border of the game board.
+     * at the border of the game board. Only the edges to the three adjacent corners
+     * are looked up, so the cost does not depend on the size of the board.
      * </p>
      *
      * @param corner corner for which to get the edges
@@ -471,10 +484,12 @@ public class HexBoard<F, C, E, A> {
      */
     public List<E> getAdjacentEdges(Point corner) {
         List<E> result = new LinkedList<>();
-        for (Entry<Edge, E> e : this.edge.entrySet()) {
-            if (e.getKey().isEdgePoint(corner)
-                    && e.getValue() != null) {
-                result.add(e.getValue());
+        if (isCornerCoordinate(corner)) {
+            for (Point other : getAdjacentCorners(corner)) {
+                E data = edge.get(new Edge(corner, other));
+                if (data != null) {
+                    result.add(data);
+                }
             }
         }
         return result;
@@ -497,11 +512,25 @@ public class HexBoard<F, C, E, A> {
         return result;
     }
 
-    int getMaxCoordinateX() {
+    /**
+     * Returns the largest x-coordinate of a corner of the board, which is 0 for an
+     * empty board.
+     *
+     * @return the largest x-coordinate
+     */
+    @Override
+    public int getMaxCoordinateX() {
         return maxCoordinateX;
     }
 
-    int getMaxCoordinateY() {
+    /**
+     * Returns the largest y-coordinate of a corner of the board, which is 0 for an
+     * empty board.
+     *
+     * @return the largest y-coordinate
+     */
+    @Override
+    public int getMaxCoordinateY() {
         return maxCoordinateY;
     }
 
@@ -511,6 +540,7 @@ public class HexBoard<F, C, E, A> {
      * @param location the location to check
      * @return true, if there is a corner at this location
      */
+    @Override
     public boolean hasCorner(Point location) {
         if (!HexBoard.isCornerCoordinate(location)) {
             return false;
@@ -525,6 +555,7 @@ public class HexBoard<F, C, E, A> {
      * @param p2 second point
      * @return true, if there is an edge between the two points
      */
+    @Override
     public boolean hasEdge(Point p1, Point p2) {
         if (Edge.isEdge(p1, p2)) {
             return edge.containsKey(new Edge(p1, p2));
@@ -533,6 +564,18 @@ public class HexBoard<F, C, E, A> {
         }
     }
 
+    /**
+     * Checks whether the two points span an edge of the grid, independent of
+     * whether a board has this edge.
+     *
+     * @param p1 first point
+     * @param p2 second point
+     * @return true, if the two points span an edge of the grid
+     */
+    public static boolean isEdgeCoordinate(Point p1, Point p2) {
+        return Edge.isEdge(p1, p2);
+    }
+
     static boolean isCorner(Point field, Point corner) {
         return HexBoard.isFieldCoordinate(field)
                 && HexBoard.getCornerCoordinatesOfField(field).contains(corner);
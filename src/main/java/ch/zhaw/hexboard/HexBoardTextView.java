@@ -6,7 +6,7 @@ import java.util.Map;
 
 /**
  * This class can be used to get a textual representation of a hex-grid modeled
- * by {@link ch.zhaw.hexboard.HexBoard}.
+ * by {@link ch.zhaw.hexboard.HexBoard} or another {@link HexBoardView}.
  * <p>
  * It creates a textual representation of the {@link ch.zhaw.hexboard.HexBoard}
  * that includes all defined fields, edges, corners and annotations.
@@ -65,7 +65,9 @@ import java.util.Map;
  * <br>
  * <p>To override the default behavior, which creates a Label using the two first
  * characters of the string returned by the toString() method of the
- * edge/corner/field data object, you might override the respective methods.
+ * edge/corner/field data object, you might override the respective methods or
+ * register a {@link ch.zhaw.hexboard.LabelProvider} for edges, corners or
+ * fields.
  * </p>
  * <br>
  * <p>
@@ -102,19 +104,22 @@ public class HexBoardTextView<F, C, E, A> {
     private static final String SIX_SPACES = "     ";
     private static final String SEVEN_SPACES = "      ";
     private static final String NINE_SPACES = "        ";
-    private final HexBoard<F, C, E, A> board;
+    private final HexBoardView<F, C, E, A> board;
     private final Label emptyLabel = new Label(' ', ' ');
     private final Label defaultDiagonalEdgeDownLabel = new Label('\\', '\\');
     private final Label defaultDiagonalEdgeUpLabel = new Label('/', '/');
     private final Label defaultVerticalEdgeLabel = new Label('|', '|');
     private final Map<Point, Label> fixedLowerFieldLabels;
+    private LabelProvider<? super E> edgeLabelProvider = this::deriveLabelFromToStringRepresentation;
+    private LabelProvider<? super C> cornerLabelProvider = this::deriveLabelFromToStringRepresentation;
+    private LabelProvider<? super F> fieldLabelProvider = this::deriveLabelFromToStringRepresentation;
 
     /**
      * Creates a view for the specified board.
      *
      * @param board the board
      */
-    public HexBoardTextView(HexBoard<F, C, E, A> board) {
+    public HexBoardTextView(HexBoardView<F, C, E, A> board) {
         this.fixedLowerFieldLabels = new HashMap<>();
         this.board = board;
     }
@@ -134,6 +139,45 @@ public class HexBoardTextView<F, C, E, A> {
         fixedLowerFieldLabels.put(field, label);
     }
 
+    /**
+     * Sets the provider used to determine the labels of edges with data.
+     *
+     * @param edgeLabelProvider the label provider
+     * @throws IllegalArgumentException if the provider is null
+     */
+    public void setEdgeLabelProvider(LabelProvider<? super E> edgeLabelProvider) {
+        if (edgeLabelProvider == null) {
+            throw new IllegalArgumentException("Label provider must not be null.");
+        }
+        this.edgeLabelProvider = edgeLabelProvider;
+    }
+
+    /**
+     * Sets the provider used to determine the labels of corners with data.
+     *
+     * @param cornerLabelProvider the label provider
+     * @throws IllegalArgumentException if the provider is null
+     */
+    public void setCornerLabelProvider(LabelProvider<? super C> cornerLabelProvider) {
+        if (cornerLabelProvider == null) {
+            throw new IllegalArgumentException("Label provider must not be null.");
+        }
+        this.cornerLabelProvider = cornerLabelProvider;
+    }
+
+    /**
+     * Sets the provider used to determine the upper labels of fields with data.
+     *
+     * @param fieldLabelProvider the label provider
+     * @throws IllegalArgumentException if the provider is null
+     */
+    public void setFieldLabelProvider(LabelProvider<? super F> fieldLabelProvider) {
+        if (fieldLabelProvider == null) {
+            throw new IllegalArgumentException("Label provider must not be null.");
+        }
+        this.fieldLabelProvider = fieldLabelProvider;
+    }
+
     /**
      * Returns a label to be used as label for the edge. This method is called to
      * determine the label for this edge.
@@ -142,7 +186,7 @@ public class HexBoardTextView<F, C, E, A> {
      * @return the label
      */
     protected Label getEdgeLabel(E e) {
-        return deriveLabelFromToStringRepresentation(e);
+        return edgeLabelProvider.getLabel(e);
     }
 
     /**
@@ -153,7 +197,7 @@ public class HexBoardTextView<F, C, E, A> {
      * @return the label
      */
     protected Label getCornerLabel(C c) {
-        return deriveLabelFromToStringRepresentation(c);
+        return cornerLabelProvider.getLabel(c);
     }
 
     /**
@@ -164,7 +208,7 @@ public class HexBoardTextView<F, C, E, A> {
      * @return the label
      */
     protected Label getFieldLabelUpper(F f) {
-        return deriveLabelFromToStringRepresentation(f);
+        return fieldLabelProvider.getLabel(f);
     }
 
     /**
@@ -182,8 +226,8 @@ public class HexBoardTextView<F, C, E, A> {
 
     private Label deriveLabelFromToStringRepresentation(Object o) {
         Label label = emptyLabel;
-        if (o.toString().length() > 0) {
-            String s = o.toString();
+        String s = o.toString();
+        if (s.length() > 0) {
             if (s.length() > 1) {
                 return new Label(s.charAt(0), s.charAt(1));
             } else {
@@ -206,14 +250,14 @@ public class HexBoardTextView<F, C, E, A> {
      * Corners/labels that do not exist are replaced by spaces.
      * </p>
      */
-    private String printCornerLine(int y) {
+    private String printCornerLine(int y, int minX, int maxX) {
         StringBuilder cornerLine = new StringBuilder();
         int offset = 0;
         if (y % 2 != 0) {
             cornerLine.append(NINE_SPACES);
             offset = 1;
         }
-        for (int x = offset; x <= board.getMaxCoordinateX(); x = x + 2) {
+        for (int x = minX + offset; x <= maxX; x = x + 2) {
             Point p = new Point(x, y);
             Label cornerLabel;
 
@@ -260,13 +304,13 @@ public class HexBoardTextView<F, C, E, A> {
         }
     }
 
-    private String printMiddlePartOfField(int y) {
+    private String printMiddlePartOfField(int y, int minX, int maxX) {
         boolean isOffsetRow = (y - 2) % 6 == 0;
         StringBuilder lower = new StringBuilder(isOffsetRow ? NINE_SPACES : "");
         StringBuilder upper = new StringBuilder(isOffsetRow ? NINE_SPACES : "");
-        int xstart = isOffsetRow ? 2 : 1;
+        int xstart = minX + (isOffsetRow ? 2 : 1);
 
-        for (int x = xstart; x <= board.getMaxCoordinateX() + 1; x = x + 2) {
+        for (int x = xstart; x <= maxX + 1; x = x + 2) {
             Point edgeStart = new Point(x - 1, y - 1);
             Point edgeEnd = new Point(x - 1, y + 1);
             Label l = this.emptyLabel;
@@ -292,7 +336,7 @@ public class HexBoardTextView<F, C, E, A> {
         return upper + System.lineSeparator() + lower;
     }
 
-    private String printDiagonalEdges(int y) {
+    private String printDiagonalEdges(int y, int minX, int maxX) {
         StringBuilder builder = new StringBuilder();
         Point edgeStart;
         Point edgeEnd;
@@ -301,7 +345,7 @@ public class HexBoardTextView<F, C, E, A> {
         boolean isDown = y % 6 == 0;
 
         builder.append("   ");
-        for (int x = 0; x <= board.getMaxCoordinateX(); x = x + 1) {
+        for (int x = minX; x <= maxX; x = x + 1) {
             if (isDown) {
                 edgeStart = new Point(x, y);
                 edgeEnd = new Point(x + 1, y + 1);
@@ -346,19 +390,75 @@ public class HexBoardTextView<F, C, E, A> {
      */
     @Override
     public String toString() {
+        return toString(0, 0, board.getMaxCoordinateX(), board.getMaxCoordinateY());
+    }
+
+    /**
+     * Returns the representation of a rectangular window of the board, e.g. to
+     * scroll around a board too large to be shown at once. Only the corners,
+     * edges and fields within the window are looked up, so the cost depends on
+     * the size of the window and not on the size of the board.
+     * <p>
+     * The window is widened to the left to an even x-coordinate and upwards to a
+     * y-coordinate divisible by three, so that it starts with a corner line like
+     * the whole board. It is narrowed to the coordinates of the board. The
+     * representation of the whole board is the one of the window from (0, 0) to
+     * ({@link HexBoardView#getMaxCoordinateX()}, {@link HexBoardView#getMaxCoordinateY()}).
+     * </p>
+     *
+     * @param minX the smallest x-coordinate of the window
+     * @param minY the smallest y-coordinate of the window
+     * @param maxX the largest x-coordinate of the window
+     * @param maxY the largest y-coordinate of the window
+     * @return the string representation of the window
+     * @throws IllegalArgumentException if a smallest coordinate is larger than
+     *                                  the respective largest coordinate
+     */
+    public String toString(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Empty viewport: (" + minX + ", " + minY + ") to ("
+                    + maxX + ", " + maxY + ")");
+        }
+        int startX = getViewportStartX(minX);
+        int endX = Math.min(maxX, board.getMaxCoordinateX());
+        int endY = Math.min(maxY, board.getMaxCoordinateY());
         StringBuilder sb = new StringBuilder();
-        for (int y = 0; y <= board.getMaxCoordinateY(); y = y + 3) {
-            sb.append(printCornerLine(y));
+        for (int y = getViewportStartY(minY); y <= endY; y = y + 3) {
+            sb.append(printCornerLine(y, startX, endX));
             sb.append(System.lineSeparator());
-            sb.append(printDiagonalEdges(y));
+            sb.append(printDiagonalEdges(y, startX, endX));
             sb.append(System.lineSeparator());
-            sb.append(printCornerLine(y + 1));
+            sb.append(printCornerLine(y + 1, startX, endX));
             sb.append(System.lineSeparator());
-            sb.append(printMiddlePartOfField(y + 2));
+            sb.append(printMiddlePartOfField(y + 2, startX, endX));
             sb.append(System.lineSeparator());
 
         }
         return sb.toString();
     }
 
+    /**
+     * Returns the x-coordinate at which the representation of a window starting
+     * at the given x-coordinate starts.
+     *
+     * @param minX the smallest x-coordinate of the window
+     * @return the first x-coordinate of the representation
+     */
+    protected static int getViewportStartX(int minX) {
+        int x = Math.max(0, minX);
+        return x - x % 2;
+    }
+
+    /**
+     * Returns the y-coordinate at which the representation of a window starting
+     * at the given y-coordinate starts.
+     *
+     * @param minY the smallest y-coordinate of the window
+     * @return the first y-coordinate of the representation
+     */
+    protected static int getViewportStartY(int minY) {
+        int y = Math.max(0, minY);
+        return y - y % 3;
+    }
+
 }
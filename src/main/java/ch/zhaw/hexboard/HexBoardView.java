@@ -0,0 +1,96 @@
+package ch.zhaw.hexboard;
+
+import java.awt.Point;
+
+/**
+ * Read access to a hexagonal game board with the coordinate system of
+ * {@link HexBoard}, as needed by a {@link HexBoardTextView}.
+ * <p>
+ * {@link HexBoard} implements it with maps, other boards may implement it
+ * with their own representation of the fields, corners and edges.
+ * </p>
+ *
+ * @param <F> Data type for the field data objects
+ * @param <C> Data type for the corner data objects
+ * @param <E> Data type for the edge data objects
+ * @param <A> Data type for the annotation data objects
+ */
+public interface HexBoardView<F, C, E, A> {
+
+    /**
+     * Determines whether the field at the specified position exists.
+     *
+     * @param center the field
+     * @return false, if the field does not exist or the position is not a field
+     */
+    boolean hasField(Point center);
+
+    /**
+     * Returns the data for the field denoted by the point.
+     *
+     * @param center the location of the field
+     * @return the stored data (or null)
+     * @throws IllegalArgumentException if the requested field does not exist
+     */
+    F getField(Point center);
+
+    /**
+     * Checks whether there is a corner at that specified location.
+     *
+     * @param location the location to check
+     * @return true, if there is a corner at this location
+     */
+    boolean hasCorner(Point location);
+
+    /**
+     * Returns the data for the corner denoted by the point.
+     *
+     * @param location the location of the corner
+     * @return the data stored for this node (or null)
+     * @throws IllegalArgumentException if the requested corner does not exist
+     */
+    C getCorner(Point location);
+
+    /**
+     * Checks whether there is an edge between the two points.
+     *
+     * @param p1 first point
+     * @param p2 second point
+     * @return true, if there is an edge between the two points
+     */
+    boolean hasEdge(Point p1, Point p2);
+
+    /**
+     * Returns the data for the edge denoted by the two points.
+     *
+     * @param p1 first point
+     * @param p2 second point
+     * @return the stored data (or null)
+     */
+    E getEdge(Point p1, Point p2);
+
+    /**
+     * Get an annotation for the specified field and corner.
+     *
+     * @param center the center of the field
+     * @param corner the corner of the field
+     * @return the annotation (or null)
+     */
+    A getFieldAnnotation(Point center, Point corner);
+
+    /**
+     * Returns the largest x-coordinate of a corner of the board, which is 0 for an
+     * empty board.
+     *
+     * @return the largest x-coordinate
+     */
+    int getMaxCoordinateX();
+
+    /**
+     * Returns the largest y-coordinate of a corner of the board, which is 0 for an
+     * empty board.
+     *
+     * @return the largest y-coordinate
+     */
+    int getMaxCoordinateY();
+}
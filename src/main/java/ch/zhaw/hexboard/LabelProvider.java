@@ -0,0 +1,27 @@
+package ch.zhaw.hexboard;
+
+/**
+ * This interface defines how a data object stored on a
+ * {@link ch.zhaw.hexboard.HexBoard} is turned into a {@link Label}.
+ * <p>
+ * Implementations can be registered on a {@link HexBoardTextView} to replace
+ * the default behavior, which derives the label from the first two characters
+ * of the string returned by the toString() method of the data object. This
+ * allows implementations to return cached labels instead of building a new
+ * string and label on every rendering of the board.
+ * </p>
+ *
+ * @param <T> Data type of the objects to label
+ */
+@FunctionalInterface
+public interface LabelProvider<T> {
+
+    /**
+     * Returns the label for the specified (non-null) data object.
+     *
+     * @param data the data object
+     * @return the label
+     */
+    Label getLabel(T data);
+
+}
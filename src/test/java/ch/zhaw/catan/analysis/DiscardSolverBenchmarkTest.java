@@ -0,0 +1,40 @@
+package ch.zhaw.catan.analysis;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class measures the speed of {@link DiscardSolver}. It depends on the machine and is therefore only run with the
+ * benchmark profile.
+ */
+@Tag("benchmark")
+class DiscardSolverBenchmarkTest {
+
+    private static final int[] INCOME = {5, 4, 6, 3, 2};
+    private static final int SOLVES = 100_000;
+    private static final int ATTEMPTS = 3;
+    private static final long MAX_NANOS_PER_SOLVE = 50_000;
+
+    /**
+     * Tests that solving the discard of a large hand takes microseconds.
+     */
+    @Test
+    void solvesInMicroseconds() {
+        final DiscardSolver solver = new DiscardSolver();
+        solver.setIncome(INCOME);
+        final int[] hand = {4, 3, 4, 3, 4};
+        final int[] discard = new int[5];
+        long nanos = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < SOLVES; i++) {
+                solver.solve(hand, 9, discard);
+            }
+            nanos = Math.min(nanos, (System.nanoTime() - start) / SOLVES);
+        }
+        assertTrue(nanos < MAX_NANOS_PER_SOLVE, nanos + " ns");
+    }
+
+}
@@ -0,0 +1,111 @@
+package ch.zhaw.catan.analysis;
+
+import ch.zhaw.catan.game.Config;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link DiscardSolver}. Hands and incomes are indexed by the ordinal of
+ * {@link Config.Resource}: grain, wool, lumber, ore and brick.
+ */
+class DiscardSolverTest {
+
+    private static final int[] INCOME = {5, 4, 6, 3, 2};
+    private static final double DELTA = 1e-9;
+    private static final int RANDOM_HANDS = 300;
+
+    /**
+     * Tests the expected number of rolls until the cheapest available structure is affordable.
+     */
+    @Test
+    void estimatesRollsUntilAffordable() {
+        final DiscardSolver solver = new DiscardSolver();
+        assertEquals(Double.POSITIVE_INFINITY, solver.getExpectedRolls(new int[5]));
+
+        solver.setIncome(INCOME);
+        assertEquals(18, solver.getExpectedRolls(new int[5]), DELTA);
+        assertEquals(6, solver.getExpectedRolls(new int[]{0, 0, 0, 0, 1}), DELTA);
+        assertEquals(0, solver.getExpectedRolls(new int[]{2, 0, 0, 3, 0}), DELTA);
+
+        solver.setAvailable(Config.Structure.ROAD, false);
+        assertEquals(9, solver.getExpectedRolls(new int[]{1, 0, 0, 0, 1}), DELTA);
+        solver.setAvailable(Config.Structure.SETTLEMENT, false);
+        assertEquals(24, solver.getExpectedRolls(new int[]{1, 0, 0, 1, 1}), DELTA);
+    }
+
+    /**
+     * Tests that the solver keeps a city and discards the cards it does not need.
+     */
+    @Test
+    void keepsAffordableCity() {
+        final DiscardSolver solver = new DiscardSolver();
+        solver.setIncome(INCOME);
+        final int[] discard = new int[5];
+
+        solver.solve(new int[]{2, 5, 0, 3, 0}, 5, discard);
+
+        assertArrayEquals(new int[]{0, 5, 0, 0, 0}, discard);
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new int[]{2, 5, 0, 3, 0}, 11, discard));
+    }
+
+    /**
+     * Tests that the solver finds an optimal discard by comparing it with all discards of random hands.
+     */
+    @Test
+    void findsOptimalDiscard() {
+        final SplittableRandom random = new SplittableRandom(6);
+        final DiscardSolver solver = new DiscardSolver();
+        final int[] hand = new int[5];
+        final int[] discard = new int[5];
+        for (int i = 0; i < RANDOM_HANDS; i++) {
+            final int[] income = new int[5];
+            int total = 0;
+            for (int resource = 0; resource < hand.length; resource++) {
+                hand[resource] = random.nextInt(6);
+                income[resource] = random.nextInt(12);
+                total += hand[resource];
+            }
+            if (total <= Config.MAX_CARDS_IN_HAND_NO_DROP) {
+                continue;
+            }
+            solver.setIncome(income);
+            solver.setAvailable(Config.Structure.SETTLEMENT, random.nextBoolean());
+            solver.solve(hand, total / 2, discard);
+
+            final int[] kept = new int[5];
+            int discarded = 0;
+            for (int resource = 0; resource < hand.length; resource++) {
+                assertTrue(discard[resource] >= 0 && discard[resource] <= hand[resource]);
+                kept[resource] = hand[resource] - discard[resource];
+                discarded += discard[resource];
+            }
+            assertEquals(total / 2, discarded);
+            assertEquals(getBestRolls(solver, hand, total - total / 2), solver.getExpectedRolls(kept), DELTA);
+        }
+    }
+
+    private static double getBestRolls(final DiscardSolver solver, final int[] hand, final int keep) {
+        double best = Double.POSITIVE_INFINITY;
+        final int[] kept = new int[5];
+        for (kept[0] = 0; kept[0] <= hand[0]; kept[0]++) {
+            for (kept[1] = 0; kept[1] <= hand[1]; kept[1]++) {
+                for (kept[2] = 0; kept[2] <= hand[2]; kept[2]++) {
+                    for (kept[3] = 0; kept[3] <= hand[3]; kept[3]++) {
+                        kept[4] = keep - kept[0] - kept[1] - kept[2] - kept[3];
+                        if (kept[4] >= 0 && kept[4] <= hand[4]) {
+                            best = Math.min(best, solver.getExpectedRolls(kept));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,165 @@
+package ch.zhaw.catan.analysis;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.board.Field;
+import ch.zhaw.catan.board.SiedlerBoard;
+import ch.zhaw.catan.bot.BotGameDriver;
+import ch.zhaw.catan.bot.GreedyBuildPolicy;
+import ch.zhaw.catan.bot.PipPlacementPolicy;
+import ch.zhaw.catan.bot.PlayerPolicy;
+import ch.zhaw.catan.bot.RandomPolicy;
+import ch.zhaw.catan.bot.ThiefTargetsLeaderPolicy;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Resource;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.SiedlerGame;
+import ch.zhaw.catan.structure.Structure;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link IncomeTable} and {@link IncomeTracker}.
+ */
+class IncomeTrackerTest {
+
+    private static final int WIN_POINTS = 7;
+    private static final int NUMBER_OF_PLAYERS = 4;
+    private static final int MAX_TURNS = 300;
+    private static final double DELTA = 1e-12;
+
+    /**
+     * Tests the pips of the dice numbers and of some fields and corners of the standard board.
+     */
+    @Test
+    void computesPipsOfStandardBoard() {
+        assertEquals(1, IncomeTable.getPips(2));
+        assertEquals(5, IncomeTable.getPips(8));
+        assertEquals(0, IncomeTable.getPips(7));
+        assertThrows(IllegalArgumentException.class, () -> IncomeTable.getPips(13));
+
+        final IncomeTable table = IncomeTable.getStandard();
+        final BoardTopology topology = table.getTopology();
+        int total = 0;
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            total += table.getFieldPips(field);
+        }
+        assertEquals(58, total);
+        final int desert = topology.getFieldIndex(Config.INITIAL_THIEF_POSITION);
+        assertEquals(0, table.getFieldPips(desert));
+        assertEquals(null, table.getFieldResource(desert));
+        final int corner = topology.getCornerIndex(new Point(5, 7));
+        assertEquals(expectedCornerPips(new SiedlerBoard(), new Point(5, 7)), table.getCornerPips(corner));
+    }
+
+    /**
+     * Tests that the tracked income matches a recomputation from the board after every change of a bot game,
+     * including thief moves and cities.
+     */
+    @Test
+    void tracksIncomeDuringBotGame() {
+        final Random random = new Random(5);
+        final List<PlayerPolicy> policies = List.of(
+                new ThiefTargetsLeaderPolicy(new PipPlacementPolicy(new GreedyBuildPolicy(random))),
+                new PipPlacementPolicy(new GreedyBuildPolicy(random)),
+                new ThiefTargetsLeaderPolicy(new RandomPolicy(random)),
+                new RandomPolicy(random));
+        final SiedlerGame game = new SiedlerGame(WIN_POINTS, NUMBER_OF_PLAYERS, 5);
+        final IncomeTracker tracker = new IncomeTracker(game, IncomeTable.getStandard());
+        final int[] checks = new int[1];
+        game.addChangeListener(changed -> {
+            if (checks[0]++ % 3 == 0) {
+                assertMatchesBoard(changed, tracker);
+            }
+        });
+
+        BotGameDriver.playGame(game, policies, new Dice(random), MAX_TURNS);
+
+        assertMatchesBoard(game, tracker);
+        assertMatchesBoard(game, new IncomeTracker(game));
+        assertTrue(checks[0] > 100);
+    }
+
+    /**
+     * Tests that the thief blocks the income of the structures on its field and that a city doubles the income.
+     */
+    @Test
+    void thiefAndCityChangeIncome() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final IncomeTracker tracker = new IncomeTracker(game);
+        final int before = tracker.getTotalIncomePips(0);
+
+        game.getCurrentPlayer().increaseInventory(Config.Structure.CITY.getCostsAsIntegerMap());
+        assertTrue(game.buildCity(new Point(5, 7)));
+        final int city = expectedCornerPips(game.getBoard(), new Point(5, 7));
+        assertEquals(before + city, tracker.getTotalIncomePips(0));
+
+        assertTrue(game.placeThiefAndStealCard(new Point(6, 8)));
+        assertMatchesBoard(game, tracker);
+        assertTrue(tracker.getTotalIncomePips(0) < before + city);
+        assertEquals(tracker.getIncomePips(0, Resource.WOOL) / 36.0, tracker.getExpectedIncome(0, Resource.WOOL),
+                DELTA);
+        assertEquals(tracker.getExpectedIncome(0, Resource.GRAIN),
+                tracker.getExpectedIncome(0)[Resource.GRAIN.ordinal()], DELTA);
+    }
+
+    private static void assertMatchesBoard(final SiedlerGame game, final IncomeTracker tracker) {
+        final int[][] expected = expectedIncomePips(game);
+        for (int player = 0; player < expected.length; player++) {
+            final int[] actual = new int[Resource.values().length];
+            for (Resource resource : Resource.values()) {
+                actual[resource.ordinal()] = tracker.getIncomePips(player, resource);
+            }
+            assertArrayEquals(expected[player], actual, "player " + player);
+        }
+    }
+
+    /**
+     * Computes the income by enumerating all outcomes of two dice and paying out like {@link SiedlerGame} without
+     * bank limits.
+     */
+    private static int[][] expectedIncomePips(final SiedlerGame game) {
+        final SiedlerBoard board = game.getBoard();
+        final int[][] pips = new int[game.getCurrentPlayers().size()][Resource.values().length];
+        for (int first = 1; first <= 6; first++) {
+            for (int second = 1; second <= 6; second++) {
+                for (Field field : board.getFieldsForDiceValue(first + second)) {
+                    if (field == board.getCurrentThiefField() || field.getLand().getResource() == null) {
+                        continue;
+                    }
+                    for (Structure structure : board.getCornersOfField(field.getPosition())) {
+                        pips[structure.getFaction().ordinal()][field.getLand().getResource().ordinal()] +=
+                                structure.getAmountPerResource();
+                    }
+                }
+            }
+        }
+        return pips;
+    }
+
+    private static int expectedCornerPips(final SiedlerBoard board, final Point corner) {
+        int pips = 0;
+        for (int first = 1; first <= 6; first++) {
+            for (int second = 1; second <= 6; second++) {
+                if (first + second == 7) {
+                    continue;
+                }
+                for (Field field : board.getFieldsForDiceValue(first + second)) {
+                    if (field.getLand().getResource() != null && board.getFields(corner).contains(field)) {
+                        pips++;
+                    }
+                }
+            }
+        }
+        return pips;
+    }
+
+}
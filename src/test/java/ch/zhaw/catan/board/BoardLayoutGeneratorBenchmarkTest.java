@@ -0,0 +1,37 @@
+package ch.zhaw.catan.board;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class measures the throughput of {@link BoardLayoutGenerator}. It depends on the machine and is therefore only
+ * run with the benchmark profile.
+ */
+@Tag("benchmark")
+class BoardLayoutGeneratorBenchmarkTest {
+
+    private static final int LAYOUTS = 100_000;
+    private static final int ATTEMPTS = 3;
+    private static final int MIN_LAYOUTS_PER_SECOND = 100_000;
+
+    /**
+     * Tests that a generator produces more than 100'000 layouts per second.
+     */
+    @Test
+    void generatesManyLayoutsPerSecond() {
+        final BoardLayoutGenerator generator = new BoardLayoutGenerator(11);
+        long nanos = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < LAYOUTS; i++) {
+                generator.next();
+            }
+            nanos = Math.min(nanos, System.nanoTime() - start);
+        }
+        final long layoutsPerSecond = LAYOUTS * 1_000_000_000L / nanos;
+        assertTrue(layoutsPerSecond > MIN_LAYOUTS_PER_SECOND, layoutsPerSecond + " layouts per second");
+    }
+
+}
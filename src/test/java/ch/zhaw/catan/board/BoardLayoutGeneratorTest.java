@@ -0,0 +1,178 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.game.Config.Land;
+import ch.zhaw.catan.game.Config.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link BoardLayoutGenerator} and {@link BoardLayout}.
+ */
+class BoardLayoutGeneratorTest {
+
+    private static final int CHECKED_LAYOUTS = 2_000;
+
+    private final BoardLayout standard = BoardLayout.getStandard();
+    private final BoardTopology topology = BoardTopology.getStandard();
+
+    /**
+     * Tests that generated layouts shuffle the standard lands and numbers, keep the thief number on the desert, never
+     * place a 6 or an 8 next to another one and give every resource its fair share of pips.
+     */
+    @Test
+    void generatesFairLayouts() {
+        final BoardLayoutGenerator generator = new BoardLayoutGenerator(1);
+        for (int i = 0; i < CHECKED_LAYOUTS; i++) {
+            final BoardLayout layout = generator.next();
+
+            assertEquals(sortedLands(standard), sortedLands(layout));
+            assertEquals(sortedNumbers(standard), sortedNumbers(layout));
+            assertEquals(Land.DESERT, layout.getLand(layout.getThiefField()));
+            assertEquals(BoardLayout.THIEF_DICE_NUMBER, layout.getDiceNumber(layout.getThiefField()));
+            for (int first = 0; first < topology.getFieldCount(); first++) {
+                for (int second = first + 1; second < topology.getFieldCount(); second++) {
+                    assertFalse(isMostFrequent(layout, first) && isMostFrequent(layout, second)
+                            && sharedCorners(first, second) == 2);
+                }
+            }
+            final IncomeTable table = IncomeTable.of(new SiedlerBoard(layout));
+            final int[] pips = new int[Resource.values().length];
+            final int[] fields = new int[Resource.values().length];
+            for (int field = 0; field < topology.getFieldCount(); field++) {
+                final Resource resource = table.getFieldResource(field);
+                if (resource != null) {
+                    pips[resource.ordinal()] += table.getFieldPips(field);
+                    fields[resource.ordinal()]++;
+                }
+            }
+            for (Resource resource : Resource.values()) {
+                final double fairShare = fields[resource.ordinal()] * 58.0 / 18;
+                assertTrue(Math.abs(pips[resource.ordinal()] - fairShare)
+                        <= BoardLayoutGenerator.DEFAULT_MAX_PIP_DEVIATION, resource + ": " + pips[resource.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Tests that the sequence of layouts only depends on the seed.
+     */
+    @Test
+    void isDeterministicPerSeed() {
+        final BoardLayoutGenerator first = new BoardLayoutGenerator(7);
+        final BoardLayoutGenerator second = new BoardLayoutGenerator(7);
+        final BoardLayoutGenerator other = new BoardLayoutGenerator(8);
+        for (int i = 0; i < 100; i++) {
+            final BoardLayout layout = first.next();
+            assertEquals(layout, second.next());
+            assertNotEquals(layout, other.next());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BoardLayoutGenerator(standard, 1, -1));
+    }
+
+    /**
+     * Tests that a generator gives up with an exception instead of shuffling forever if a template cannot satisfy a
+     * constraint: three pairwise adjacent fields always place the 6 next to the 8, and two fields with 5 and 1 pips
+     * never give both resources the same number of pips.
+     */
+    @Test
+    void rejectsUnsatisfiableConstraints() {
+        final BoardLayout adjacent = new BoardLayout(
+                Map.of(new Point(4, 8), Land.DESERT, new Point(6, 8), Land.HILLS, new Point(5, 5), Land.FOREST),
+                Map.of(new Point(4, 8), 7, new Point(6, 8), 6, new Point(5, 5), 8));
+        assertThrows(IllegalStateException.class, () -> new BoardLayoutGenerator(adjacent, 1, 2).next());
+
+        final BoardLayout unbalanced = new BoardLayout(
+                Map.of(new Point(4, 8), Land.DESERT, new Point(8, 8), Land.HILLS, new Point(12, 8), Land.FOREST),
+                Map.of(new Point(4, 8), 7, new Point(8, 8), 6, new Point(12, 8), 2));
+        assertThrows(IllegalStateException.class, () -> new BoardLayoutGenerator(unbalanced, 1, 0).next());
+        assertEquals(unbalanced.getTopology().getFieldCount(),
+                new BoardLayoutGenerator(unbalanced, 1, 2).next().getTopology().getFieldCount());
+    }
+
+    /**
+     * Tests that a board built from a layout has its lands and numbers and the thief on the desert.
+     */
+    @Test
+    void boardUsesLayout() {
+        final BoardLayout layout = new BoardLayoutGenerator(3).next();
+        final SiedlerBoard board = new SiedlerBoard(layout);
+
+        assertSame(layout, board.getLayout());
+        assertEquals(topology.getField(layout.getThiefField()), board.getCurrentThiefField().getPosition());
+        assertEquals(layout.getThiefField(), board.getThiefField());
+        assertTrue(board.isOccupiedByThief(board.getCurrentThiefField()));
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            final Field boardField = board.getField(topology.getField(field));
+            assertEquals(layout.getLand(field), boardField.getLand());
+            if (layout.getDiceNumber(field) != 0) {
+                assertTrue(board.getFieldsForDiceValue(layout.getDiceNumber(field)).contains(boardField));
+            }
+        }
+        assertEquals(layout, new BoardLayout(layout.getLandPlacement(), layout.getDiceNumberPlacement()));
+    }
+
+    /**
+     * Tests that a layout survives a round trip through a {@link ByteBuffer} of one byte per field and that the
+     * standard layout is read as the shared instance.
+     */
+    @Test
+    void roundTripThroughBuffer() {
+        final BoardLayout layout = new BoardLayoutGenerator(5).next();
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * layout.getSerializedSize());
+        layout.writeTo(buffer);
+        standard.writeTo(buffer);
+
+        assertEquals(2 * topology.getFieldCount(), buffer.position());
+        buffer.flip();
+        assertEquals(layout, BoardLayout.readFrom(buffer, topology));
+        assertSame(standard, BoardLayout.readFrom(buffer, topology));
+        assertThrows(IllegalArgumentException.class, () -> BoardLayout.readFrom(buffer, topology));
+    }
+
+    private boolean isMostFrequent(final BoardLayout layout, final int field) {
+        return layout.getDiceNumber(field) == 6 || layout.getDiceNumber(field) == 8;
+    }
+
+    private int sharedCorners(final int first, final int second) {
+        int shared = 0;
+        for (int firstCorner : topology.getCornersOfField(first)) {
+            for (int secondCorner : topology.getCornersOfField(second)) {
+                shared += firstCorner == secondCorner ? 1 : 0;
+            }
+        }
+        return shared;
+    }
+
+    private List<Land> sortedLands(final BoardLayout layout) {
+        final List<Land> lands = new ArrayList<>();
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            lands.add(layout.getLand(field));
+        }
+        Collections.sort(lands);
+        return lands;
+    }
+
+    private List<Integer> sortedNumbers(final BoardLayout layout) {
+        final List<Integer> numbers = new ArrayList<>();
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            numbers.add(layout.getDiceNumber(field));
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+}
@@ -0,0 +1,91 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.hexboard.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link BoardTopology}.
+ */
+class BoardTopologyTest {
+
+    private final BoardTopology topology = BoardTopology.getStandard();
+    private final HexBoard<Point, Object, Object, Object> board = new HexBoard<>();
+
+    /**
+     * Builds a plain {@link HexBoard} with the fields of the standard board.
+     */
+    BoardTopologyTest() {
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            board.addField(topology.getField(field), topology.getField(field));
+        }
+    }
+
+    /**
+     * Tests that the topology indexes exactly the fields, corners and edges of the standard board.
+     */
+    @Test
+    void matchesStandardBoard() {
+        assertEquals(board.getFields().size(), topology.getFieldCount());
+        assertEquals(board.getMaxCoordinateX(), topology.getMaxCoordinateX());
+        assertEquals(board.getMaxCoordinateY(), topology.getMaxCoordinateY());
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            assertTrue(board.hasField(topology.getField(field)));
+            assertEquals(field, topology.getFieldIndex(topology.getField(field)));
+        }
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            assertTrue(board.hasCorner(topology.getCorner(corner)));
+            assertEquals(corner, topology.getCornerIndex(topology.getCorner(corner)));
+            final Point[] fields = Arrays.stream(topology.getFieldsOfCorner(corner))
+                    .mapToObj(topology::getField).toArray(Point[]::new);
+            assertArrayEquals(board.getFields(topology.getCorner(corner)).toArray(), fields);
+        }
+        for (int edge = 0; edge < topology.getEdgeCount(); edge++) {
+            final Point start = topology.getEdgeStart(edge);
+            final Point end = topology.getEdgeEnd(edge);
+            assertTrue(board.hasEdge(start, end));
+            assertEquals(edge, topology.getEdgeIndex(start, end));
+            assertEquals(edge, topology.getEdgeIndex(end, start));
+            assertEquals(-1, topology.getEdgeIndex(start, start));
+        }
+    }
+
+    /**
+     * Tests that every corner has two or three edges and that the edges of a field form a ring.
+     */
+    @Test
+    void connectsCornersAndEdges() {
+        for (int corner = 0; corner < topology.getCornerCount(); corner++) {
+            final int edges = topology.getEdgesOfCorner(corner).length;
+            assertTrue(edges == 2 || edges == 3);
+        }
+        final int[] corners = topology.getCornersOfField(topology.getFieldIndex(new Point(7, 11)));
+        assertEquals(6, corners.length);
+        assertTrue(topology.getEdgeIndex(topology.getCorner(corners[0]), topology.getCorner(corners[1])) >= 0);
+        assertEquals(-1, topology.getEdgeIndex(topology.getCorner(corners[0]), topology.getCorner(corners[3])));
+        assertEquals(-1, topology.getCornerIndex(new Point(-1, -1)));
+    }
+
+    /**
+     * Tests that boards of the same layout share the topology and the dice number index.
+     */
+    @Test
+    void isSharedByBoards() {
+        final SiedlerBoard first = new SiedlerBoard();
+        final SiedlerBoard second = new SiedlerBoard();
+        assertSame(first.getTopology(), second.getTopology());
+        assertSame(first.getFields(), second.getFields());
+        assertSame(BoardLayout.getStandard().getFieldsWithDiceNumber(8),
+                BoardLayout.getStandard().getFieldsWithDiceNumber(8));
+        assertEquals(first.getFieldsForDiceValue(8).size(), BoardLayout.getStandard().getFieldsWithDiceNumber(8).length);
+        assertEquals(0, BoardLayout.getStandard().getFieldsWithDiceNumber(13).length);
+    }
+
+}
@@ -5,10 +5,12 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.Point;
 
-import static ch.zhaw.catan.board.Field.THIEF_IDENTIFIER;
 import static ch.zhaw.catan.game.Config.Land.HILLS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FieldTest {
 
@@ -20,15 +22,43 @@ class FieldTest {
     }
 
     @Test
-    void testUnoccupiedByThief() {
-        assertFalse(field.isOccupiedByThief());
+    void testToString() {
         assertEquals(HILLS.getResource().toString(), field.toString());
     }
 
     @Test
-    void testOccupiedByThief() {
-        field.setOccupiedByThief(true);
-        assertEquals(THIEF_IDENTIFIER, field.toString());
+    void testPositionIsCopied() {
+        final Point position = new Point(3, 4);
+        final Field copied = new Field(HILLS, position);
+        position.translate(1, 1);
+        assertEquals(new Point(3, 4), copied.getPosition());
+    }
+
+    @Test
+    void testFieldsAreSharedByBoards() {
+        final SiedlerBoard first = new SiedlerBoard();
+        final SiedlerBoard second = new SiedlerBoard();
+        final Point position = first.getFields().get(10);
+        assertSame(first.getField(position), second.getField(position));
+        assertSame(first.getFieldsForDiceValue(6), second.getFieldsForDiceValue(6));
+        assertNotSame(first.getView(), second.getView());
+    }
+
+    @Test
+    void testThiefBelongsToBoard() {
+        final SiedlerBoard first = new SiedlerBoard();
+        final SiedlerBoard second = new SiedlerBoard();
+        final Point initial = first.getCurrentThiefField().getPosition();
+        final Point position = new Point(4, 8);
+        first.switchThiefPosition(position);
+
+        assertTrue(first.isOccupiedByThief(position));
+        assertTrue(first.isOccupiedByThief(first.getField(position)));
+        assertTrue(first.isOccupiedByThief(new Field(first.getField(position).getLand(), position)));
+        assertFalse(first.isOccupiedByThief(initial));
+        assertFalse(second.isOccupiedByThief(position));
+        assertTrue(second.isOccupiedByThief(initial));
+        assertTrue(first.getView().toString().contains(FieldLabelProvider.THIEF_IDENTIFIER));
     }
 
 }
@@ -0,0 +1,79 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config.Faction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class measures queries on boards generated with {@link BoardLayoutGenerator#generateMap(int, int, long)}. It
+ * depends on the machine and is therefore only run with the benchmark profile.
+ */
+@Tag("benchmark")
+class LargeBoardBenchmarkTest {
+
+    private static final int[] SIDES = {10, 32, 100};
+    private static final int QUERIES = 200_000;
+    private static final int ATTEMPTS = 3;
+    private static final double MAX_QUERY_SLOWDOWN = 8;
+    private static final int VIEWPORT_SIZE = 20;
+
+    /**
+     * Measures the rule checks and the rendering of a viewport of boards with 100, about 1'000 and 10'000 fields and
+     * tests that both take at most {@value #MAX_QUERY_SLOWDOWN} times as long on the largest board as on the smallest
+     * one.
+     */
+    @Test
+    void queriesDoNotDependOnBoardSize() {
+        final double[] nanosPerQuery = new double[SIDES.length];
+        final long[] viewportNanos = new long[SIDES.length];
+        for (int i = 0; i < SIDES.length; i++) {
+            final SiedlerBoard board = new SiedlerBoard(BoardLayoutGenerator.generateMap(SIDES[i], SIDES[i], i));
+            long queryNanos = Long.MAX_VALUE;
+            viewportNanos[i] = Long.MAX_VALUE;
+            for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                long start = System.nanoTime();
+                final int allowed = query(board);
+                queryNanos = Math.min(queryNanos, System.nanoTime() - start);
+                assertTrue(allowed > 0);
+
+                start = System.nanoTime();
+                final int viewportLength = board.getView().toString(0, 0, VIEWPORT_SIZE, VIEWPORT_SIZE).length();
+                viewportNanos[i] = Math.min(viewportNanos[i], System.nanoTime() - start);
+                assertTrue(viewportLength > 0);
+            }
+            nanosPerQuery[i] = (double) queryNanos / QUERIES;
+        }
+        final double slowdown = nanosPerQuery[SIDES.length - 1] / nanosPerQuery[0];
+        assertTrue(slowdown <= MAX_QUERY_SLOWDOWN, "Rule checks are " + slowdown + " times slower");
+        final double viewportSlowdown = (double) viewportNanos[SIDES.length - 1] / viewportNanos[0];
+        assertTrue(viewportSlowdown <= MAX_QUERY_SLOWDOWN, "Viewports are " + viewportSlowdown + " times slower");
+    }
+
+    /**
+     * Runs the settlement, road and adjacent edge checks for random corners of the board.
+     *
+     * @return the number of allowed placements, to keep the checks from being optimised away
+     */
+    private static int query(final SiedlerBoard board) {
+        final BoardTopology topology = board.getTopology();
+        final SplittableRandom random = new SplittableRandom(QUERIES);
+        final Faction faction = Faction.values()[0];
+        int allowed = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            final int corner = random.nextInt(topology.getCornerCount());
+            final int edge = topology.getEdgesOfCorner(corner)[0];
+            final Point position = topology.getCorner(corner);
+            allowed += board.canPlaceSettlementOnPosition(position, true, faction) ? 1 : 0;
+            allowed += board.canPlaceRoadOnPosition(topology.getEdgeStart(edge), topology.getEdgeEnd(edge), faction)
+                    ? 1 : 0;
+            allowed += board.getAdjacentEdges(position).size();
+        }
+        return allowed;
+    }
+
+}
@@ -0,0 +1,74 @@
+package ch.zhaw.catan.board;
+
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Config.Land;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for boards generated with
+ * {@link BoardLayoutGenerator#generateMap(int, int, long)}, which are much larger than the standard board.
+ */
+class LargeBoardTest {
+
+    private static final int VIEWPORT_SIZE = 20;
+
+    /**
+     * Tests that a generated map has the requested fields, water on the border and a single desert in its centre.
+     */
+    @Test
+    void generatesMap() {
+        final BoardLayout layout = BoardLayoutGenerator.generateMap(5, 7, 1);
+        final BoardTopology topology = layout.getTopology();
+        assertEquals(35, topology.getFieldCount());
+        assertEquals(Land.DESERT, layout.getLand(layout.getThiefField()));
+        assertEquals(new Point(8, 8), topology.getField(layout.getThiefField()));
+        assertEquals(Land.WATER, layout.getLand(topology.getFieldIndex(new Point(2, 2))));
+        assertEquals(Land.WATER, layout.getLand(topology.getFieldIndex(new Point(14, 14))));
+        for (int field = 0; field < topology.getFieldCount(); field++) {
+            if (layout.getLand(field) != Land.WATER && field != layout.getThiefField()) {
+                assertTrue(layout.getDiceNumber(field) >= 2 && layout.getDiceNumber(field) <= 12);
+            }
+        }
+        assertEquals(layout, BoardLayoutGenerator.generateMap(5, 7, 1));
+        assertThrows(IllegalArgumentException.class, () -> BoardLayoutGenerator.generateMap(2, 7, 1));
+    }
+
+    /**
+     * Tests that a board reports the coordinates of a map and that its view shows all of them.
+     */
+    @Test
+    void boardUsesMapCoordinates() {
+        final SiedlerBoard board = new SiedlerBoard(BoardLayoutGenerator.generateMap(20, 30, 2));
+        assertEquals(61, board.getMaxCoordinateX());
+        assertEquals(61, board.getMaxCoordinateY());
+        assertEquals(600, board.getFields().size());
+        assertTrue(board.canPlaceSettlementOnPosition(new Point(30, 30), true, Faction.values()[0]));
+        final String view = board.getView().toString();
+        assertTrue(view.contains("61"), view);
+    }
+
+    /**
+     * Tests that the viewport of a large board shows the same window as the viewport of a small board, so that its
+     * size only depends on the window.
+     */
+    @Test
+    void viewportOnlyShowsWindow() {
+        final SiedlerBoard small = new SiedlerBoard(BoardLayoutGenerator.generateMap(10, 10, 0));
+        final SiedlerBoard large = new SiedlerBoard(BoardLayoutGenerator.generateMap(100, 100, 2));
+        final String[] smallLines = small.getView().toString(0, 0, VIEWPORT_SIZE, VIEWPORT_SIZE)
+                .split(System.lineSeparator());
+        final String[] largeLines = large.getView().toString(0, 0, VIEWPORT_SIZE, VIEWPORT_SIZE)
+                .split(System.lineSeparator());
+
+        assertEquals(smallLines.length, largeLines.length);
+        assertEquals(smallLines[1], largeLines[1]);
+        assertEquals(smallLines[smallLines.length - 1].length(), largeLines[largeLines.length - 1].length());
+    }
+
+}
@@ -0,0 +1,70 @@
+package ch.zhaw.catan.board;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class performs tests for the class {@link LayoutCatalog}.
+ */
+class LayoutCatalogTest {
+
+    private static final int LAYOUTS = 1_000;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that every layout written to a catalog is read back by its index and that boards can be built from it.
+     */
+    @Test
+    void readsLayoutsByIndex() throws IOException {
+        final BoardLayoutGenerator generator = new BoardLayoutGenerator(4);
+        final List<BoardLayout> layouts = new ArrayList<>();
+        for (int i = 0; i < LAYOUTS; i++) {
+            layouts.add(generator.next());
+        }
+        layouts.add(BoardLayout.getStandard());
+        final Path path = directory.resolve("layouts.catalog");
+        LayoutCatalog.write(path, layouts);
+
+        assertEquals(LayoutCatalog.HEADER_SIZE + layouts.size() * BoardTopology.getStandard().getFieldCount(),
+                Files.size(path));
+        try (LayoutCatalog catalog = LayoutCatalog.open(path)) {
+            assertEquals(layouts.size(), catalog.size());
+            for (int index = layouts.size() - 1; index >= 0; index--) {
+                assertEquals(layouts.get(index), catalog.getLayout(index));
+            }
+            assertSame(BoardLayout.getStandard(), catalog.getLayout(LAYOUTS));
+            assertEquals(layouts.get(7), new SiedlerBoard(catalog, 7).getLayout());
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.getLayout(layouts.size()));
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.getLayout(-1));
+        }
+    }
+
+    /**
+     * Tests that files which are not catalogs or which are truncated are rejected.
+     */
+    @Test
+    void rejectsInvalidFiles() throws IOException {
+        final Path path = directory.resolve("invalid.catalog");
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> LayoutCatalog.open(path));
+
+        LayoutCatalog.write(path, List.of(BoardLayout.getStandard(), BoardLayout.getStandard()));
+        final byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> LayoutCatalog.open(path));
+    }
+
+}
@@ -1,8 +1,16 @@
 package ch.zhaw.catan.board;
 
+import ch.zhaw.catan.structure.Settlement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.awt.Point;
+import java.util.List;
+
+import static ch.zhaw.catan.game.Config.Faction.BLUE;
+import static ch.zhaw.catan.game.Config.Faction.GREEN;
+import static ch.zhaw.catan.game.Config.Faction.RED;
+import static ch.zhaw.catan.game.Config.Faction.YELLOW;
 import static org.junit.jupiter.api.Assertions.*;
 
 class SiedlerBoardTest {
@@ -38,4 +46,58 @@ class SiedlerBoardTest {
         assertEquals(firstLine.toString(), boardView[1]);
         assertEquals(whiteSpace.repeat(131).length(), boardView[42].length());
     }
-}
\ No newline at end of file
+
+    /**
+     * This test renders a window around the desert and checks that the coordinate system starts at the first
+     * coordinates of the window and that the desert with the thief and its dice number is shown.
+     */
+    @Test
+    void getBoardViewport() {
+        String viewport = siedlerBoard.getView().toString(6, 8, 9, 14);
+        String[] lines = viewport.split(System.lineSeparator());
+
+        assertEquals("     6       7       8       9", lines[1]);
+        assertTrue(lines[3].startsWith(" 6 "));
+        assertEquals(3 + 3 * 5, lines.length);
+        assertTrue(viewport.contains("XX"));
+        assertTrue(viewport.contains("07"));
+        assertEquals(siedlerBoard.getView().toString(), siedlerBoard.getView().toString(0, 0, 14, 22));
+    }
+
+    /**
+     * This test places settlements of several factions around a field with the thief and checks that the other
+     * factions are returned in the order of the factions, independent of the order of the corners.
+     */
+    @Test
+    void getOtherFieldCornerFactions() {
+        siedlerBoard.switchThiefPosition(new Point(4, 8));
+        siedlerBoard.setCorner(new Point(4, 6), Settlement.of(YELLOW));
+        siedlerBoard.setCorner(new Point(5, 9), Settlement.of(RED));
+        siedlerBoard.setCorner(new Point(3, 9), Settlement.of(GREEN));
+        siedlerBoard.setCorner(new Point(4, 10), Settlement.of(BLUE));
+
+        assertEquals(List.of(BLUE, GREEN, YELLOW), List.copyOf(siedlerBoard.getOtherFieldCornerFactions(RED)));
+    }
+
+    /**
+     * This test adds annotations to the corners of a field and checks that they are returned and shown, and that
+     * annotations cannot be added twice or to a corner of another field.
+     */
+    @Test
+    void fieldAnnotations() {
+        Point field = new Point(6, 8);
+        assertNull(siedlerBoard.getFieldAnnotation(field, new Point(6, 6)));
+
+        siedlerBoard.addFieldAnnotation(field, new Point(6, 6), "N ");
+        siedlerBoard.addFieldAnnotation(field, new Point(5, 9), "SE");
+
+        assertEquals("N ", siedlerBoard.getFieldAnnotation(field, new Point(6, 6)));
+        assertEquals("SE", siedlerBoard.getFieldAnnotation(field, new Point(5, 9)));
+        assertNull(siedlerBoard.getFieldAnnotation(new Point(8, 8), new Point(7, 9)));
+        assertTrue(siedlerBoard.getView().toString().contains("N "));
+        assertThrows(IllegalArgumentException.class,
+                () -> siedlerBoard.addFieldAnnotation(field, new Point(6, 6), "N2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> siedlerBoard.addFieldAnnotation(field, new Point(9, 9), "X "));
+    }
+}
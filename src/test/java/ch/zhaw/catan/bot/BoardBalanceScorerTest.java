@@ -0,0 +1,131 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardLayoutGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link BoardBalanceScorer} and {@link LayoutScore}.
+ */
+class BoardBalanceScorerTest {
+
+    private static final int WIN_POINTS = 5;
+    private static final int MAX_TURNS = 500;
+    private static final int LAYOUTS = 6;
+    private static final int GAMES = 20;
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests that every layout is reported once, in order, with all its games.
+     */
+    @Test
+    void scoresLayoutsInOrder() throws Exception {
+        final List<BoardLayout> layouts = generate(LAYOUTS);
+        final List<LayoutScore> scores = score(layouts, 4);
+
+        assertEquals(LAYOUTS, scores.size());
+        for (int i = 0; i < LAYOUTS; i++) {
+            final LayoutScore score = scores.get(i);
+            assertEquals(i, score.getIndex());
+            assertSame(layouts.get(i), score.getLayout());
+            assertEquals(GAMES, score.getGames());
+            assertTrue(score.getDecidedGames() > 0 && score.getDecidedGames() <= GAMES);
+            double rates = 0;
+            for (int seat = 0; seat < score.getNumberOfSeats(); seat++) {
+                rates += score.getWinRate(seat);
+            }
+            assertEquals(1, rates, DELTA);
+            assertTrue(score.getSeatImbalance() >= 0 && score.getSeatImbalance() <= 2.0 / 3);
+        }
+    }
+
+    /**
+     * Tests that the scores do not depend on the number of workers.
+     */
+    @Test
+    void scoresDoNotDependOnWorkers() throws Exception {
+        final List<BoardLayout> layouts = generate(LAYOUTS);
+        final List<LayoutScore> sequential = score(layouts, 1);
+        final List<LayoutScore> parallel = score(layouts, 8);
+        for (int i = 0; i < LAYOUTS; i++) {
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(sequential.get(i).getWins(seat), parallel.get(i).getWins(seat));
+            }
+        }
+    }
+
+    /**
+     * Tests that a failing game is reported and that the games still in flight are cancelled: the only game that may
+     * have started after the failure is interrupted, and no further game starts.
+     */
+    @Test
+    void cancelsRemainingGamesOnFailure() throws Exception {
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger interrupted = new AtomicInteger();
+        try (BoardBalanceScorer scorer = new BoardBalanceScorer(seed -> {
+            if (started.incrementAndGet() == 1) {
+                throw new IllegalStateException("Policy failed");
+            }
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+            throw new IllegalStateException("Game cancelled");
+        }, 3, GAMES, WIN_POINTS, MAX_TURNS, 1)) {
+            final IllegalStateException failure = assertThrows(IllegalStateException.class,
+                    () -> scorer.scoreAll(generate(LAYOUTS).iterator(), 5, score -> { }));
+            assertEquals("Policy failed", failure.getCause().getMessage());
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (interrupted.get() < started.get() - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(started.get() - 1, interrupted.get());
+            assertTrue(started.get() <= 2, "started games " + started.get());
+        }
+    }
+
+    /**
+     * Tests the seat imbalance of extreme results.
+     */
+    @Test
+    void measuresSeatImbalance() {
+        final BoardLayout layout = BoardLayout.getStandard();
+        assertEquals(0, new LayoutScore(0, layout, new int[]{5, 5, 5, 5}, 20).getSeatImbalance(), DELTA);
+        assertEquals(0.75, new LayoutScore(0, layout, new int[]{0, 8, 0, 0}, 10).getSeatImbalance(), DELTA);
+        assertEquals(1, new LayoutScore(0, layout, new int[3], 10).getSeatImbalance(), DELTA);
+        assertTrue(BoardBalanceScorer.BY_BALANCE.compare(new LayoutScore(1, layout, new int[]{3, 3}, 6),
+                new LayoutScore(0, layout, new int[]{4, 2}, 6)) < 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardBalanceScorer(seed -> new RandomPolicy(new Random(seed)), 3, 0));
+    }
+
+    private static List<BoardLayout> generate(final int count) {
+        final BoardLayoutGenerator generator = new BoardLayoutGenerator(12);
+        return Stream.generate(generator::next).limit(count).toList();
+    }
+
+    private static List<LayoutScore> score(final List<BoardLayout> layouts, final int workers) throws Exception {
+        final List<LayoutScore> scores = new ArrayList<>();
+        try (BoardBalanceScorer scorer = new BoardBalanceScorer(
+                seed -> new PipPlacementPolicy(new GreedyBuildPolicy(new Random(seed))), 3, GAMES, WIN_POINTS,
+                MAX_TURNS, workers)) {
+            scorer.scoreAll(layouts.iterator(), 5, scores::add);
+        }
+        return scores;
+    }
+
+}
@@ -0,0 +1,138 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.analysis.IncomeTable;
+import ch.zhaw.catan.board.BoardLayoutGenerator;
+import ch.zhaw.catan.board.BoardTopology;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Config.Faction;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+import ch.zhaw.catan.structure.Structure;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the heuristic {@link PlayerPolicy}s and {@link BotGameDriver#playGame}.
+ */
+class HeuristicPolicyTest {
+
+    private static final int WIN_POINTS = 7;
+    private static final int MAX_TURNS = 2_000;
+    private static final int NUMBER_OF_PLAYERS = 4;
+
+    /**
+     * Tests that a full game of combined heuristic policies ends with a winner.
+     */
+    @Test
+    void heuristicPoliciesFinishGame() {
+        final Random random = new Random(3);
+        final List<PlayerPolicy> policies = List.of(
+                new ThiefTargetsLeaderPolicy(new PipPlacementPolicy(new GreedyBuildPolicy(random))),
+                new PipPlacementPolicy(new GreedyBuildPolicy(random)),
+                new ThiefTargetsLeaderPolicy(new RandomPolicy(random)),
+                new RandomPolicy(random));
+        final SiedlerGame game = new SiedlerGame(WIN_POINTS, NUMBER_OF_PLAYERS, 3);
+
+        final Faction winner = BotGameDriver.playGame(game, policies, new Dice(random), MAX_TURNS);
+
+        assertNotNull(winner);
+        for (Player player : game.getCurrentPlayers()) {
+            assertTrue(player.getStructures().size() >= 4);
+        }
+    }
+
+    /**
+     * Tests that a game lets {@link DiscardSolverPolicy}s choose their discards when the thief is executed.
+     */
+    @Test
+    void discardSolverPoliciesChooseDiscards() {
+        final Random random = new Random(7);
+        final int[] discards = new int[1];
+        final List<PlayerPolicy> policies = List.of(
+                new DiscardSolverPolicy(new PipPlacementPolicy(new RandomPolicy(random))) {
+                    @Override
+                    public int[] chooseDiscard(final SiedlerGame game, final int playerIndex, final int count) {
+                        discards[0]++;
+                        return super.chooseDiscard(game, playerIndex, count);
+                    }
+                },
+                new PipPlacementPolicy(new GreedyBuildPolicy(random)),
+                new RandomPolicy(random));
+        final SiedlerGame game = new SiedlerGame(WIN_POINTS, 3, 7);
+
+        BotGameDriver.playGame(game, policies, new Dice(random), MAX_TURNS);
+
+        assertTrue(discards[0] > 0);
+    }
+
+    /**
+     * Tests that the first settlement is placed on the corner with the most pips of a generated board and the road
+     * next to it.
+     */
+    @Test
+    void placesFirstSettlementOnMostPips() {
+        final SiedlerGame game = new SiedlerGame(WIN_POINTS, NUMBER_OF_PLAYERS, 4, new BoardLayoutGenerator(4).next());
+        final BoardTopology topology = game.getBoard().getTopology();
+        final PipPlacementPolicy policy = new PipPlacementPolicy(new RandomPolicy(new Random(4)));
+        final IncomeTable pips = IncomeTable.of(game.getBoard());
+
+        final int corner = policy.chooseInitialSettlement(game);
+        assertSame(game.getBoard().getLayout(), PipTable.of(game.getBoard()).getLayout());
+        for (int other = 0; other < topology.getCornerCount(); other++) {
+            assertTrue(pips.getCornerPips(other) <= pips.getCornerPips(corner));
+        }
+        assertTrue(game.placeInitialSettlement(topology.getCorner(corner), false));
+        final int edge = policy.chooseInitialRoad(game, corner);
+        assertTrue(game.placeInitialRoad(topology.getEdgeStart(edge), topology.getEdgeEnd(edge)));
+    }
+
+    /**
+     * Tests that the thief is moved next to the leader and away from own structures.
+     */
+    @Test
+    void thiefTargetsLeader() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final Faction leader = game.getCurrentPlayers().get(1).getFaction();
+        final Point leaderSettlement = ThreePlayerStandard.INITIAL_SETTLEMENT_POSITIONS.get(leader).first;
+        game.switchToNextPlayer();
+        game.getCurrentPlayer().increaseInventory(Config.Structure.CITY.getCostsAsIntegerMap());
+        assertTrue(game.buildCity(leaderSettlement));
+        game.switchToPreviousPlayer();
+
+        final BoardTopology topology = game.getBoard().getTopology();
+        final int field = new ThiefTargetsLeaderPolicy(new RandomPolicy(new Random(5))).chooseThiefField(game);
+        boolean touchesLeader = false;
+        for (int corner : topology.getCornersOfField(field)) {
+            final Structure structure = game.getBoard().getCorner(corner);
+            touchesLeader |= structure != null && structure.getFaction() == leader;
+            assertTrue(structure == null || structure.getFaction() != game.getCurrentPlayerFaction());
+        }
+        assertTrue(touchesLeader);
+        assertTrue(IncomeTable.getStandard().getFieldPips(field) > 0);
+    }
+
+    /**
+     * Tests that the greedy policy builds a city when it can afford one.
+     */
+    @Test
+    void greedyPolicyBuildsCity() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        game.getCurrentPlayer().increaseInventory(Config.Structure.CITY.getCostsAsIntegerMap());
+        final int score = game.getCurrentPlayer().getScore();
+
+        new GreedyBuildPolicy(new Random(6)).playTurn(game);
+
+        assertEquals(score + 1, game.getCurrentPlayer().getScore());
+    }
+
+}
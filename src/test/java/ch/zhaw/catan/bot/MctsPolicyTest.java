@@ -0,0 +1,104 @@
+package ch.zhaw.catan.bot;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.game.Config;
+import ch.zhaw.catan.game.Dice;
+import ch.zhaw.catan.game.GameSnapshot;
+import ch.zhaw.catan.game.Player;
+import ch.zhaw.catan.game.SiedlerGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static ch.zhaw.catan.game.Config.Resource.ORE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link MctsPolicy}, {@link Moves}, {@link RandomPolicy} and
+ * {@link BotGameDriver}.
+ */
+class MctsPolicyTest {
+
+    private static final int WIN_POINTS = 5;
+    private static final int ITERATIONS = 200;
+    private static final int WINNING_SETTLEMENTS = 5;
+    private static final int OPPONENT_CARDS_PER_RESOURCE = 20;
+
+    /**
+     * Tests that every generated move can be applied to the game.
+     */
+    @Test
+    void generatedMovesAreLegal() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        game.getCurrentPlayer().increaseInventory(Config.Structure.CITY.getCostsAsIntegerMap());
+        game.getCurrentPlayer().increaseInventory(Config.Structure.SETTLEMENT.getCostsAsIntegerMap());
+        game.getCurrentPlayer().increaseInventoryItem(ORE, 4);
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+
+        final int[] moves = new int[Moves.MAX_MOVES];
+        final int count = Moves.generate(game, moves);
+        assertTrue(count > 1);
+        for (int i = 0; i < count; i++) {
+            assertTrue(Moves.apply(snapshot.toGame(), moves[i]), "move " + moves[i]);
+        }
+    }
+
+    /**
+     * Tests that random policies play a full game to the end.
+     */
+    @Test
+    void randomPoliciesFinishGame() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final Random random = new Random(1);
+        final List<RandomPolicy> policies = List.of(new RandomPolicy(random), new RandomPolicy(random),
+                new RandomPolicy(random));
+
+        assertNotNull(BotGameDriver.playTurns(game, policies, new Dice(random), 10_000));
+    }
+
+    /**
+     * Tests that the policy builds within its iteration budget when building the fifth settlement wins the game at
+     * once while ending the turn lets opponents with plenty of cards catch up, and that it reports its playouts. A
+     * single thread keeps the seeded search reproducible.
+     */
+    @Test
+    void playsTurnWithinBudget() {
+        final SiedlerGame game = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(WINNING_SETTLEMENTS);
+        final Player player = game.getCurrentPlayer();
+        for (Player opponent : game.getCurrentPlayers()) {
+            if (opponent != player) {
+                for (Config.Resource resource : Config.Resource.values()) {
+                    opponent.increaseInventoryItem(resource, OPPONENT_CARDS_PER_RESOURCE);
+                }
+            }
+        }
+        final int structures = player.getStructures().size();
+        assertEquals(WINNING_SETTLEMENTS - 1, player.getScore());
+
+        try (MctsPolicy policy = new MctsPolicy(MctsPolicy.Budget.iterations(ITERATIONS), 1, 1)) {
+            policy.playTurn(game);
+
+            assertEquals(player, game.getCurrentPlayer());
+            assertTrue(player.getStructures().size() > structures);
+            assertEquals(player.getFaction(), game.getWinner());
+            assertTrue(policy.getLastStatistics().getPlayouts() >= ITERATIONS);
+            assertTrue(policy.getTotalStatistics().getSearches() >= 1);
+            assertTrue(policy.getTotalStatistics().getPlayoutsPerSecond() > 0);
+        }
+    }
+
+    /**
+     * Tests that the policy moves the thief to a field where it can be placed.
+     */
+    @Test
+    void choosesValidThiefField() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        try (MctsPolicy policy = new MctsPolicy(MctsPolicy.Budget.of(ITERATIONS, 1000), 2, 2)) {
+            BotGameDriver.moveThief(game, policy);
+        }
+    }
+
+}
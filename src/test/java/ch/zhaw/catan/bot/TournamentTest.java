@@ -0,0 +1,107 @@
+package ch.zhaw.catan.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link Tournament}, {@link EloRatings} and {@link MatchResult}.
+ */
+class TournamentTest {
+
+    private static final int WIN_POINTS = 5;
+    private static final int MAX_TURNS = 500;
+    private static final int ROUNDS = 4;
+    private static final double DELTA = 1e-6;
+
+    private static final List<Tournament.Entrant> ENTRANTS = List.of(
+            new Tournament.Entrant("random", seed -> new RandomPolicy(new Random(seed))),
+            new Tournament.Entrant("greedy", seed -> new GreedyBuildPolicy(new Random(seed))),
+            new Tournament.Entrant("pip-greedy", seed -> new PipPlacementPolicy(new GreedyBuildPolicy(new Random(seed)))));
+
+    /**
+     * Tests that a round robin tournament plays every combination in every seat rotation and rates the entrants.
+     */
+    @Test
+    void roundRobinPlaysAllRotations() throws Exception {
+        final StringWriter results = new StringWriter();
+        try (Tournament tournament = new Tournament(ENTRANTS, 2, WIN_POINTS, MAX_TURNS, 4)) {
+            final EloRatings ratings = tournament.run(Tournament.Format.ROUND_ROBIN, ROUNDS, 1, results);
+
+            final String[] lines = results.toString().split("\n");
+            assertEquals("match,round,seed,seat1,seat2,winner,turns", lines[0]);
+            assertEquals(3 * 2 * ROUNDS, lines.length - 1);
+            double sum = 0;
+            for (int entrant = 0; entrant < ENTRANTS.size(); entrant++) {
+                assertEquals(2 * 2 * ROUNDS, ratings.getGames(entrant));
+                sum += ratings.getRating(entrant);
+            }
+            assertEquals(ENTRANTS.size() * EloRatings.INITIAL_RATING, sum, DELTA);
+            assertTrue(ratings.getRating(1) > ratings.getRating(0));
+        }
+    }
+
+    /**
+     * Tests that the results do not depend on the number of workers.
+     */
+    @Test
+    void resultsDoNotDependOnWorkers() throws Exception {
+        final StringWriter sequential = new StringWriter();
+        final StringWriter parallel = new StringWriter();
+        try (Tournament one = new Tournament(ENTRANTS, 3, WIN_POINTS, MAX_TURNS, 1);
+             Tournament many = new Tournament(ENTRANTS, 3, WIN_POINTS, MAX_TURNS, 8)) {
+            one.run(Tournament.Format.ROUND_ROBIN, ROUNDS, 7, sequential);
+            many.run(Tournament.Format.ROUND_ROBIN, ROUNDS, 7, parallel);
+        }
+        assertEquals(sequential.toString(), parallel.toString());
+    }
+
+    /**
+     * Tests that a swiss tournament groups the entrants and leaves one out if they cannot be grouped evenly.
+     */
+    @Test
+    void swissGroupsEntrants() throws Exception {
+        try (Tournament tournament = new Tournament(ENTRANTS, 2, WIN_POINTS, MAX_TURNS, 2)) {
+            final EloRatings ratings = tournament.run(Tournament.Format.SWISS, ROUNDS, 3, null);
+            long games = 0;
+            for (int entrant = 0; entrant < ENTRANTS.size(); entrant++) {
+                games += ratings.getGames(entrant);
+            }
+            assertEquals(2 * 2 * ROUNDS, games);
+        }
+    }
+
+    /**
+     * Tests the combinations of a round robin tournament.
+     */
+    @Test
+    void generatesAllCombinations() {
+        try (Tournament tournament = new Tournament(ENTRANTS, 2, WIN_POINTS, MAX_TURNS, 1)) {
+            final List<int[]> combinations = tournament.getCombinations();
+            assertEquals(3, combinations.size());
+            assertEquals(List.of(0, 1), List.of(combinations.get(0)[0], combinations.get(0)[1]));
+            assertEquals(List.of(1, 2), List.of(combinations.get(2)[0], combinations.get(2)[1]));
+        }
+    }
+
+    /**
+     * Tests the rating update of a multiplayer match.
+     */
+    @Test
+    void updatesRatings() {
+        final EloRatings ratings = new EloRatings(List.of("a", "b", "c"));
+        ratings.update(new MatchResult(0, 0, 0, new int[]{2, 0, 1}, 0, 10));
+
+        assertEquals(EloRatings.INITIAL_RATING + EloRatings.DEFAULT_K_FACTOR / 2, ratings.getRating(2), DELTA);
+        assertEquals(EloRatings.INITIAL_RATING - EloRatings.DEFAULT_K_FACTOR / 4, ratings.getRating(0), DELTA);
+        assertEquals(1, ratings.getWins(2));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(ENTRANTS, 4));
+    }
+
+}
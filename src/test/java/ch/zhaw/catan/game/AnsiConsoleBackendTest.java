@@ -0,0 +1,62 @@
+package ch.zhaw.catan.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static ch.zhaw.catan.game.Activity.BUILD_ROAD;
+import static ch.zhaw.catan.game.Activity.DISPLAY_BOARD;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link AnsiConsoleBackend}.
+ */
+class AnsiConsoleBackendTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private AnsiConsoleBackend createBackend(final String... inputLines) {
+        final String input = String.join(lineSeparator(), inputLines) + lineSeparator();
+        return new AnsiConsoleBackend(new ByteArrayInputStream(input.getBytes(UTF_8)), output);
+    }
+
+    /**
+     * Tests that invalid integers are rejected until a value within the bounds is entered.
+     */
+    @Test
+    void readIntegerRepeatsPromptOnInvalidInput() {
+        final AnsiConsoleBackend backend = createBackend("abc", "9", "3");
+
+        assertEquals(3, backend.readInteger("Number", 2, 4));
+        assertTrue(output.toString(UTF_8).contains("between 2 and 4"));
+    }
+
+    /**
+     * Tests that enum constants can be chosen by their index or their name.
+     */
+    @Test
+    void readEnumAcceptsIndexAndName() {
+        final AnsiConsoleBackend backend = createBackend("1", "build_road");
+
+        assertEquals(DISPLAY_BOARD, backend.readEnum("Activity", Activity.class));
+        assertEquals(BUILD_ROAD, backend.readEnum("Activity", Activity.class));
+    }
+
+    /**
+     * Tests that output is buffered until the backend is closed.
+     */
+    @Test
+    void outputIsBufferedUntilClose() {
+        final AnsiConsoleBackend backend = createBackend();
+
+        backend.printLine("Welcome");
+        assertEquals(0, output.size());
+        backend.close();
+        assertTrue(output.toString(UTF_8).startsWith("Welcome" + lineSeparator()));
+    }
+
+}
@@ -33,8 +33,8 @@ class BankTest {
     void init() {
         bank = new Bank();
         structures = new ArrayList<>();
-        structures.add(new City(GREEN));
-        structures.add(new Settlement(RED));
+        structures.add(City.of(GREEN));
+        structures.add(Settlement.of(RED));
     }
 
     /**
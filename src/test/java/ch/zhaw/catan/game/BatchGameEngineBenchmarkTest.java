@@ -0,0 +1,106 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.board.SiedlerBoard;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class compares the throughput of {@link BatchGameEngine} and {@link SiedlerGame}. It depends on the machine
+ * and is therefore only run with the benchmark profile.
+ * <p>
+ * Both engines process the same dice rolls for the same number of games. Each round loads all games from the same
+ * snapshot and is timed without the loading. The first rounds only warm up the just-in-time compiler, and the median
+ * of the measured rounds is compared, so that a round disturbed by compilation or garbage collection does not decide
+ * the result. The measured times and their ratio are printed, as the benchmark profile is run to see them.
+ * </p>
+ */
+@Tag("benchmark")
+class BatchGameEngineBenchmarkTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int GAMES = 1_000;
+    private static final int ROLLS = 200;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 15;
+    private static final double MIN_SPEEDUP = 10;
+
+    /**
+     * Compares the throughput of payout rolls of the batch engine and the object based engine. The batch engine has
+     * to be at least ten times faster per game and roll.
+     */
+    @Test
+    void isTenTimesFasterThanSiedlerGame() {
+        final GameSnapshot snapshot = GameSnapshot.of(ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE));
+        final BatchGameEngine engine = new BatchGameEngine(new SiedlerBoard(), GAMES, NUMBER_OF_PLAYERS,
+                REQUIRED_WINNING_SCORE, 5);
+        final SplittableRandom random = new SplittableRandom(4);
+        final int[][] diceValues = new int[ROLLS][GAMES];
+        for (int[] roll : diceValues) {
+            for (int i = 0; i < roll.length; i++) {
+                do {
+                    roll[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+                } while (roll[i] == THIEF_DICE_NUMBER);
+            }
+        }
+
+        final long[] objectNanos = new long[MEASURED_ROUNDS];
+        final long[] batchNanos = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            final long object = timeObjectEngine(snapshot, diceValues);
+            final long batch = timeBatchEngine(engine, snapshot, diceValues);
+            if (round >= WARMUP_ROUNDS) {
+                objectNanos[round - WARMUP_ROUNDS] = object;
+                batchNanos[round - WARMUP_ROUNDS] = batch;
+            }
+        }
+
+        final double objectNanosPerRoll = (double) median(objectNanos) / (GAMES * ROLLS);
+        final double batchNanosPerRoll = (double) median(batchNanos) / (GAMES * ROLLS);
+        final double speedup = objectNanosPerRoll / batchNanosPerRoll;
+        System.out.printf("Payout roll per game: SiedlerGame %.1f ns, BatchGameEngine %.1f ns, speedup %.1f%n",
+                objectNanosPerRoll, batchNanosPerRoll, speedup);
+        assertTrue(speedup >= MIN_SPEEDUP, String.format("%.1f ns vs %.1f ns, speedup %.1f", objectNanosPerRoll,
+                batchNanosPerRoll, speedup));
+    }
+
+    private static long timeObjectEngine(final GameSnapshot snapshot, final int[][] diceValues) {
+        final SiedlerGame[] games = new SiedlerGame[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            games[i] = snapshot.toGame(i);
+        }
+        final long start = System.nanoTime();
+        for (int[] roll : diceValues) {
+            for (int i = 0; i < GAMES; i++) {
+                games[i].processDiceRoll(roll[i]);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long timeBatchEngine(final BatchGameEngine engine, final GameSnapshot snapshot,
+                                        final int[][] diceValues) {
+        for (int i = 0; i < GAMES; i++) {
+            engine.load(i, snapshot);
+        }
+        final long start = System.nanoTime();
+        for (int[] roll : diceValues) {
+            engine.processDiceRolls(roll);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long median(final long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+}
@@ -0,0 +1,118 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.board.SiedlerBoard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.Config.MAX_CARDS_IN_HAND_NO_DROP;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs differential tests of the class {@link BatchGameEngine} against {@link SiedlerGame}.
+ */
+class BatchGameEngineTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int ROLLS = 300;
+
+    /**
+     * Tests that payouts of the batch engine match the object based engine roll by roll, including fields blocked by
+     * the thief and an almost empty {@link Bank}.
+     */
+    @Test
+    void payoutsMatchSiedlerGame() {
+        final List<SiedlerGame> games = createGames();
+        final BatchGameEngine engine = new BatchGameEngine(new SiedlerBoard(), games.size(), NUMBER_OF_PLAYERS,
+                REQUIRED_WINNING_SCORE, 1);
+        for (int i = 0; i < games.size(); i++) {
+            engine.load(i, GameSnapshot.of(games.get(i)));
+        }
+
+        final SplittableRandom random = new SplittableRandom(2);
+        final int[] diceValues = new int[games.size()];
+        for (int roll = 0; roll < ROLLS; roll++) {
+            for (int i = 0; i < games.size(); i++) {
+                do {
+                    diceValues[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+                } while (diceValues[i] == THIEF_DICE_NUMBER);
+                games.get(i).processDiceRoll(diceValues[i]);
+            }
+            engine.processDiceRolls(diceValues);
+
+            for (int i = 0; i < games.size(); i++) {
+                assertEquals(GameSnapshot.of(games.get(i)), engine.toSnapshot(i), "game " + i + " roll " + roll);
+            }
+        }
+    }
+
+    /**
+     * Tests that a thief roll lets the same players discard the same number of cards as the object based engine.
+     */
+    @Test
+    void discardsMatchSiedlerGame() {
+        final List<SiedlerGame> games = createGames();
+        final BatchGameEngine engine = new BatchGameEngine(new SiedlerBoard(), games.size(), NUMBER_OF_PLAYERS,
+                REQUIRED_WINNING_SCORE, 3);
+        for (int i = 0; i < games.size(); i++) {
+            final SiedlerGame game = games.get(i);
+            game.getCurrentPlayers().get(i % NUMBER_OF_PLAYERS).increaseInventory(
+                    Config.Structure.CITY.getCostsAsIntegerMap());
+            game.getCurrentPlayers().get(i % NUMBER_OF_PLAYERS).increaseInventoryItem(Config.Resource.WOOL, i);
+            engine.load(i, GameSnapshot.of(game));
+        }
+
+        final int[] diceValues = new int[games.size()];
+        Arrays.fill(diceValues, THIEF_DICE_NUMBER);
+        engine.processDiceRolls(diceValues);
+
+        for (int i = 0; i < games.size(); i++) {
+            final SiedlerGame game = games.get(i);
+            final List<Integer> totalsBefore = new ArrayList<>();
+            for (Player player : game.getCurrentPlayers()) {
+                totalsBefore.add(player.getTotalAmountOfResources());
+            }
+            game.processDiceRoll(THIEF_DICE_NUMBER);
+            for (int player = 0; player < NUMBER_OF_PLAYERS; player++) {
+                final int expected = game.getCurrentPlayers().get(player).getTotalAmountOfResources();
+                assertEquals(expected, getTotal(engine, i, player), "game " + i + " player " + player);
+                final int before = totalsBefore.get(player);
+                assertEquals(before > MAX_CARDS_IN_HAND_NO_DROP ? before - before / 2 : before, expected);
+            }
+            assertEquals(game.getBank().getTotalAmountOfResources(), getTotal(engine, i, NUMBER_OF_PLAYERS));
+        }
+    }
+
+    private static List<SiedlerGame> createGames() {
+        final List<SiedlerGame> games = new ArrayList<>();
+        games.add(ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE));
+        games.add(ThreePlayerStandard.getAfterSetupPhaseAlmostEmptyBank(REQUIRED_WINNING_SCORE));
+        games.add(ThreePlayerStandard.getAfterSetupPhaseSomeRoads(REQUIRED_WINNING_SCORE));
+        games.add(ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(REQUIRED_WINNING_SCORE));
+        final SiedlerGame withThief = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        assertTrue(withThief.placeThiefAndStealCard(new Point(8, 8)));
+        games.add(withThief);
+        final SiedlerGame withCity = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        withCity.getCurrentPlayer().increaseInventory(Config.Structure.CITY.getCostsAsIntegerMap());
+        assertTrue(withCity.buildCity(new Point(5, 7)));
+        games.add(withCity);
+        return games;
+    }
+
+    private static int getTotal(final BatchGameEngine engine, final int game, final int owner) {
+        int total = 0;
+        for (Config.Resource resource : Config.Resource.values()) {
+            total += engine.getAmountOfResource(game, owner, resource);
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,92 @@
+package ch.zhaw.catan.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link DiscardSampler}.
+ */
+class DiscardSamplerTest {
+
+    private static final int SAMPLES = 60_000;
+    private static final double TOLERANCE = 0.01;
+
+    /**
+     * Tests that every selection of cards of a small hand is equally likely.
+     */
+    @Test
+    void selectionsAreEquallyLikely() {
+        final SplittableRandom random = new SplittableRandom(1);
+        final int[] hand = {0, 2, 1, 0, 1};
+        final int[] drawn = new int[hand.length];
+        final Map<List<Integer>, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            DiscardSampler.sample(random, hand, 0, hand.length, 2, drawn);
+            counts.merge(List.of(drawn[0], drawn[1], drawn[2], drawn[3], drawn[4]), 1, Integer::sum);
+        }
+
+        assertEquals(4, counts.size());
+        assertFrequency(1.0 / 6, counts.get(List.of(0, 2, 0, 0, 0)));
+        assertFrequency(2.0 / 6, counts.get(List.of(0, 1, 1, 0, 0)));
+        assertFrequency(2.0 / 6, counts.get(List.of(0, 1, 0, 0, 1)));
+        assertFrequency(1.0 / 6, counts.get(List.of(0, 0, 1, 0, 1)));
+    }
+
+    /**
+     * Tests that the hypergeometric distribution has the expected mean, including the symmetric cases and the
+     * fallback for very large populations.
+     */
+    @Test
+    void hypergeometricHasExpectedMean() {
+        final SplittableRandom random = new SplittableRandom(2);
+        final int[][] cases = {{20, 5, 10}, {20, 15, 4}, {20, 8, 16}, {95, 19, 47}, {4_000, 2_000, 2_000}};
+        for (int[] parameters : cases) {
+            final int samples = parameters[0] > 1_000 ? 500 : SAMPLES;
+            long sum = 0;
+            for (int i = 0; i < samples; i++) {
+                final int successes = DiscardSampler.hypergeometric(random, parameters[0], parameters[1],
+                        parameters[2]);
+                assertTrue(successes >= Math.max(0, parameters[2] - parameters[0] + parameters[1])
+                        && successes <= Math.min(parameters[1], parameters[2]));
+                sum += successes;
+            }
+            final double mean = (double) parameters[1] * parameters[2] / parameters[0];
+            assertEquals(mean, (double) sum / samples, mean * 0.02, "parameters " + List.of(parameters[0],
+                    parameters[1], parameters[2]));
+        }
+    }
+
+    /**
+     * Tests the discard of a whole hand stored at an offset and invalid numbers of draws.
+     */
+    @Test
+    void drawsFromOffset() {
+        final SplittableRandom random = new SplittableRandom(3);
+        final int[] hands = {9, 9, 9, 3, 0, 4, 7, 9};
+        final int[] drawn = new int[5];
+        DiscardSampler.sample(random, hands, 3, 5, 23, drawn);
+        assertEquals(List.of(3, 0, 4, 7, 9), List.of(drawn[0], drawn[1], drawn[2], drawn[3], drawn[4]));
+
+        DiscardSampler.sample(random, hands, 3, 5, 11, drawn);
+        int total = 0;
+        for (int type = 0; type < drawn.length; type++) {
+            assertTrue(drawn[type] <= hands[3 + type]);
+            total += drawn[type];
+        }
+        assertEquals(11, total);
+        assertThrows(IllegalArgumentException.class, () -> DiscardSampler.sample(random, hands, 3, 5, 24, drawn));
+    }
+
+    private static void assertFrequency(final double expected, final Integer count) {
+        assertEquals(expected, (double) count / SAMPLES, TOLERANCE);
+    }
+
+}
@@ -0,0 +1,45 @@
+package ch.zhaw.catan.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * This class performs tests for the class {@link FrameScheduler}.
+ */
+class FrameSchedulerTest {
+
+    /**
+     * Tests that all frames are played in order and that the caller is not blocked while they are played.
+     */
+    @Test
+    void playFramesPlaysAllFramesInOrder() throws Exception {
+        final List<Integer> playedFrames = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> animation = FrameScheduler.playFrames(
+                List.of(() -> playedFrames.add(1), () -> playedFrames.add(2), () -> playedFrames.add(3)), 50);
+
+        assertFalse(animation.isDone());
+        animation.get(5, SECONDS);
+        assertEquals(List.of(1, 2, 3), playedFrames);
+    }
+
+    /**
+     * Tests that delayed actions are run without blocking the caller.
+     */
+    @Test
+    void runAfterRunsActionAfterDelay() throws Exception {
+        final List<String> actions = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> delayed = FrameScheduler.runAfter(() -> actions.add("closed"), 100);
+
+        assertFalse(delayed.isDone());
+        delayed.get(5, SECONDS);
+        assertEquals(List.of("closed"), actions);
+    }
+
+}
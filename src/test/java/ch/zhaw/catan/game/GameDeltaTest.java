@@ -0,0 +1,137 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.Config.Resource.GRAIN;
+import static ch.zhaw.catan.game.Config.Resource.WOOL;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link GameDelta}, {@link GameDeltaEncoder} and {@link GameReplica}.
+ */
+class GameDeltaTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int BUFFER_SIZE = 1024;
+    private static final int MAX_ROAD_DELTA_SIZE = 24;
+
+    /**
+     * Tests that a replica of an empty game follows the founder's phase with a single delta.
+     */
+    @Test
+    void replicaFollowsSetupPhase() {
+        final GameReplica replica = new GameReplica(
+                GameSnapshot.of(new SiedlerGame(REQUIRED_WINNING_SCORE, NUMBER_OF_PLAYERS)), 0);
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+
+        replica.apply(roundTrip(GameDelta.between(game, 0)));
+
+        assertEquals(GameSnapshot.of(game), replica.getSnapshot());
+        assertEquals(game.getLog().getEntryCount(), replica.getVersion());
+    }
+
+    /**
+     * Tests that consecutive deltas of payouts, a thief, a trade, a city, a road and a player switch keep a replica in
+     * the same state as the game.
+     */
+    @Test
+    void replicaFollowsConsecutiveDeltas() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final GameDeltaEncoder encoder = new GameDeltaEncoder(game);
+        final GameReplica replica = new GameReplica(GameSnapshot.of(game), encoder.getVersion());
+
+        for (int round = 0; round < 4; round++) {
+            for (int diceValue = 2; diceValue <= 12; diceValue++) {
+                if (diceValue != THIEF_DICE_NUMBER) {
+                    game.processDiceRoll(diceValue);
+                    replica.apply(roundTrip(encoder.next()));
+                }
+            }
+        }
+        assertTrue(game.placeThiefAndStealCard(new Point(8, 8)));
+        replica.apply(roundTrip(encoder.next()));
+        game.tradeWithBankFourToOne(WOOL, GRAIN);
+        game.buildCity(new Point(5, 7));
+        replica.apply(roundTrip(encoder.next()));
+        game.switchToNextPlayer();
+        replica.apply(roundTrip(encoder.next()));
+
+        assertEquals(GameSnapshot.of(game), replica.getSnapshot());
+        assertEquals(GameSnapshot.of(game), GameDelta.between(game, 0).applyTo(
+                GameSnapshot.of(new SiedlerGame(REQUIRED_WINNING_SCORE, NUMBER_OF_PLAYERS))));
+    }
+
+    /**
+     * Tests that the delta of a single road only contains the road and the two changed inventories.
+     */
+    @Test
+    void deltaSizeDependsOnChanges() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final GameDeltaEncoder encoder = new GameDeltaEncoder(game);
+        assertTrue(encoder.next().isEmpty());
+
+        game.getCurrentPlayer().increaseInventory(Config.Structure.ROAD.getCostsAsIntegerMap());
+        final GameSnapshot before = GameSnapshot.of(game);
+        assertTrue(game.buildRoad(new Point(6, 6), new Point(6, 4)));
+        final GameDelta delta = encoder.next();
+
+        assertFalse(delta.isEmpty());
+        assertTrue(delta.getSerializedSize() <= MAX_ROAD_DELTA_SIZE, "size " + delta.getSerializedSize());
+        assertEquals(GameSnapshot.of(game), delta.applyTo(before));
+    }
+
+    /**
+     * Tests that a replica rejects a delta which does not start at its version.
+     */
+    @Test
+    void rejectsDeltaWithGap() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final GameReplica replica = new GameReplica(GameSnapshot.of(game), game.getLog().getEntryCount());
+        final int version = game.getLog().getEntryCount();
+        game.processDiceRoll(8);
+        final int nextVersion = game.getLog().getEntryCount();
+        game.processDiceRoll(6);
+
+        assertThrows(IllegalStateException.class, () -> replica.apply(GameDelta.between(game, nextVersion)));
+        replica.apply(GameDelta.between(game, version));
+        assertEquals(GameSnapshot.of(game), replica.getSnapshot());
+    }
+
+    /**
+     * Tests that invalid deltas are rejected.
+     */
+    @Test
+    void rejectsInvalidDeltas() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        assertThrows(IllegalArgumentException.class, () -> GameDelta.between(game, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameDelta.between(game, game.getLog().getEntryCount() + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameDelta.readFrom(ByteBuffer.wrap(new byte[]{GameDelta.FORMAT_VERSION + 1})));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        GameDelta.between(game, 0).writeTo(buffer);
+        buffer.flip().limit(buffer.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> GameDelta.readFrom(buffer));
+    }
+
+    private static GameDelta roundTrip(final GameDelta delta) {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        delta.writeTo(buffer);
+        assertEquals(delta.getSerializedSize(), buffer.position());
+        buffer.flip();
+        final GameDelta read = GameDelta.readFrom(buffer);
+        assertFalse(buffer.hasRemaining());
+        return read;
+    }
+
+}
@@ -0,0 +1,172 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.Config.Resource.GRAIN;
+import static ch.zhaw.catan.game.Config.Resource.WOOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link GameEvent} and {@link GameEventPublisher}.
+ */
+class GameEventTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    /**
+     * Tests that subscribers receive the events of the changes in order.
+     */
+    @Test
+    void publishesEventsInOrder() throws InterruptedException {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final EventCollector collector = new EventCollector(GameEventType.TURN_SWITCHED);
+        game.getEvents().subscribe(collector);
+        collector.awaitSubscription();
+
+        game.processDiceRoll(8);
+        assertTrue(game.placeThiefAndStealCard(new Point(8, 8)));
+        game.getCurrentPlayer().increaseInventoryItem(WOOL, SiedlerGame.FOUR_TO_ONE_TRADE_OFFER);
+        assertTrue(game.tradeWithBankFourToOne(WOOL, GRAIN));
+        game.getCurrentPlayer().increaseInventory(Config.Structure.ROAD.getCostsAsIntegerMap());
+        assertTrue(game.buildRoad(new Point(6, 6), new Point(6, 4)));
+        game.switchToNextPlayer();
+
+        final List<GameEventType> types = new ArrayList<>();
+        for (GameEvent event : collector.await()) {
+            if (event.getType() != GameEventType.RESOURCES_PAID && event.getType() != GameEventType.CARD_STOLEN) {
+                types.add(event.getType());
+            }
+        }
+        assertEquals(List.of(GameEventType.DICE_ROLLED, GameEventType.THIEF_MOVED, GameEventType.TRADE_DONE,
+                GameEventType.STRUCTURE_BUILT, GameEventType.TURN_SWITCHED), types);
+
+        final GameEvent road = collector.events.stream()
+                .filter(event -> event.getType() == GameEventType.STRUCTURE_BUILT).findFirst().orElseThrow();
+        assertEquals(Config.Structure.ROAD, road.getStructure());
+        assertEquals(new Point(6, 6), road.getPosition());
+        assertEquals(new Point(6, 4), road.getEndPosition());
+    }
+
+    /**
+     * Tests that the thief execution and the winner are published.
+     */
+    @Test
+    void publishesThiefAndWinner() throws InterruptedException {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(2);
+        final EventCollector collector = new EventCollector(GameEventType.TURN_SWITCHED);
+        game.getEvents().subscribe(collector);
+        collector.awaitSubscription();
+
+        game.processDiceRoll(SiedlerGame.THIEF_DICE_NUMBER);
+        game.processDiceRoll(SiedlerGame.THIEF_DICE_NUMBER);
+        game.switchToNextPlayer();
+
+        final List<GameEvent> events = collector.await();
+        assertEquals(1, events.stream().filter(event -> event.getType() == GameEventType.WINNER).count());
+        assertEquals(2, events.stream().filter(event -> event.getType() == GameEventType.THIEF_EXECUTED).count());
+    }
+
+    /**
+     * Tests that changes made while nobody is subscribed are not published later.
+     */
+    @Test
+    void skipsChangesWithoutSubscribers() throws InterruptedException {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final Flow.Publisher<GameEvent> events = game.getEvents();
+        assertSame(events, game.getEvents());
+        game.processDiceRoll(8);
+        game.switchToNextPlayer();
+
+        final EventCollector collector = new EventCollector(GameEventType.TURN_SWITCHED);
+        events.subscribe(collector);
+        collector.awaitSubscription();
+        game.switchToNextPlayer();
+
+        final List<GameEvent> received = collector.await();
+        assertEquals(1, received.size());
+        assertEquals(2, received.get(0).getAmount());
+    }
+
+    /**
+     * Tests that a subscriber can subscribe from another thread than the one changing the game.
+     */
+    @Test
+    void subscribesFromOtherThread() throws InterruptedException {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final EventCollector collector = new EventCollector(GameEventType.TURN_SWITCHED);
+        final Thread spectator = new Thread(() -> game.getEvents().subscribe(collector));
+        spectator.start();
+        spectator.join();
+        collector.awaitSubscription();
+
+        game.switchToNextPlayer();
+
+        assertEquals(List.of(GameEventType.TURN_SWITCHED),
+                collector.await().stream().map(GameEvent::getType).toList());
+    }
+
+    /**
+     * Collects events until an event of a given type arrives.
+     */
+    private static final class EventCollector implements Flow.Subscriber<GameEvent> {
+
+        private final GameEventType lastType;
+        private final List<GameEvent> events = new ArrayList<>();
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private EventCollector(final GameEventType lastType) {
+            this.lastType = lastType;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(final GameEvent event) {
+            synchronized (events) {
+                events.add(event);
+            }
+            if (event.getType() == lastType) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        private void awaitSubscription() throws InterruptedException {
+            assertTrue(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        private List<GameEvent> await() throws InterruptedException {
+            assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+    }
+
+}
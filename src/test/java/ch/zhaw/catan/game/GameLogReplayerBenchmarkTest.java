@@ -0,0 +1,65 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class measures how many {@link GameLog} entries {@link GameLogReplayer} applies per second. It depends on the
+ * machine and is therefore only run with the benchmark profile.
+ * <p>
+ * The log of a game with many turns of payouts is replayed repeatedly. The first rounds only warm up the just-in-time
+ * compiler and the median of the measured rounds is reported, including the creation of the replayed game.
+ * </p>
+ */
+@Tag("benchmark")
+class GameLogReplayerBenchmarkTest {
+
+    private static final int TURNS = 20_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 15;
+    private static final double MIN_ENTRIES_PER_SECOND = 1_000_000;
+
+    /**
+     * Tests that a log is replayed with more than a million entries per second.
+     */
+    @Test
+    void replaysMillionEntriesPerSecond() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final SplittableRandom random = new SplittableRandom(3);
+        for (int turn = 0; turn < TURNS; turn++) {
+            final int diceValue = random.nextInt(1, 7) + random.nextInt(1, 7);
+            if (diceValue != THIEF_DICE_NUMBER) {
+                game.processDiceRoll(diceValue);
+            }
+            game.switchToNextPlayer();
+        }
+        final GameLog log = game.getLog();
+
+        final long[] nanos = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            final long start = System.nanoTime();
+            final SiedlerGame replayed = GameLogReplayer.replay(log);
+            final long elapsed = System.nanoTime() - start;
+            assertEquals(log.getSize(), replayed.getLog().getSize());
+            if (round >= WARMUP_ROUNDS) {
+                nanos[round - WARMUP_ROUNDS] = elapsed;
+            }
+        }
+
+        Arrays.sort(nanos);
+        final double entriesPerSecond = log.getEntryCount() * 1e9 / nanos[nanos.length / 2];
+        System.out.printf("Replay of %d entries: %.2f ms, %.0f entries per second%n", log.getEntryCount(),
+                nanos[nanos.length / 2] / 1e6, entriesPerSecond);
+        assertTrue(entriesPerSecond > MIN_ENTRIES_PER_SECOND, String.format("%.0f entries per second", entriesPerSecond));
+    }
+
+}
@@ -0,0 +1,235 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardLayoutGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.Config.Resource.GRAIN;
+import static ch.zhaw.catan.game.Config.Resource.WOOL;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link GameLog} and {@link GameLogReplayer}.
+ */
+class GameLogReplayerTest {
+
+    private SiedlerGame game;
+
+    /**
+     * Plays a game with payouts, a thief, a steal, a trade and builds.
+     */
+    @BeforeEach
+    void playGame() {
+        game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        for (int round = 0; round < 4; round++) {
+            for (int diceValue = 2; diceValue <= 12; diceValue++) {
+                if (diceValue != THIEF_DICE_NUMBER) {
+                    game.processDiceRoll(diceValue);
+                }
+            }
+        }
+        game.processDiceRoll(THIEF_DICE_NUMBER);
+        assertTrue(game.placeThiefAndStealCard(new Point(8, 8)));
+        game.tradeWithBankFourToOne(WOOL, GRAIN);
+        game.buildRoad(new Point(6, 6), new Point(6, 4));
+        game.switchToNextPlayer();
+        game.buildRoad(new Point(12, 12), new Point(12, 10));
+    }
+
+    /**
+     * Tests that replaying the whole log rebuilds the same game state.
+     */
+    @Test
+    void replayRebuildsGame() {
+        assertSameState(game, GameLogReplayer.replay(game.getLog()));
+    }
+
+    /**
+     * Tests that the log survives a round trip through a {@link ByteBuffer} and that the replayed game logs the same
+     * entries again.
+     */
+    @Test
+    void serializedLogRebuildsGame() {
+        final ByteBuffer buffer = ByteBuffer.allocate(game.getLog().getSerializedSize());
+        game.getLog().writeTo(buffer);
+        buffer.flip();
+
+        final GameLog readLog = GameLog.readFrom(buffer);
+        final SiedlerGame replayed = GameLogReplayer.replay(readLog);
+
+        assertEquals(game.getLog().getEntryCount(), replayed.getLog().getEntryCount());
+        assertEquals(game.getLog().getSize(), replayed.getLog().getSize());
+        assertSameState(game, replayed);
+    }
+
+    /**
+     * Tests that the log keeps a generated {@link BoardLayout} and that replaying it rebuilds the board.
+     */
+    @Test
+    void serializedLogKeepsLayout() {
+        final BoardLayout layout = new BoardLayoutGenerator(2).next();
+        final SiedlerGame generated = new SiedlerGame(REQUIRED_WINNING_SCORE, 3, 2, layout);
+        generated.processDiceRoll(6);
+        final ByteBuffer buffer = ByteBuffer.allocate(generated.getLog().getSerializedSize());
+        generated.getLog().writeTo(buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+
+        final SiedlerGame replayed = GameLogReplayer.replay(GameLog.readFrom(buffer));
+
+        assertEquals(layout, replayed.getBoard().getLayout());
+        assertEquals(GameSnapshot.of(generated), GameSnapshot.of(replayed));
+    }
+
+    /**
+     * Tests that the log keeps the fields of a board larger than the standard board.
+     */
+    @Test
+    void serializedLogKeepsMap() {
+        final BoardLayout layout = BoardLayoutGenerator.generateMap(12, 15, 4);
+        final SiedlerGame generated = new SiedlerGame(REQUIRED_WINNING_SCORE, 3, 4, layout);
+        generated.processDiceRoll(8);
+        final ByteBuffer buffer = ByteBuffer.allocate(generated.getLog().getSerializedSize());
+        generated.getLog().writeTo(buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+
+        final SiedlerGame replayed = GameLogReplayer.replay(GameLog.readFrom(buffer));
+
+        assertEquals(layout, replayed.getBoard().getLayout());
+        assertEquals(layout.getTopology().getFieldCount(), replayed.getBoard().getFields().size());
+        assertEquals(GameSnapshot.of(generated), GameSnapshot.of(replayed));
+    }
+
+    /**
+     * Tests that a log of the first version, which did not store the layout, is read with the standard layout.
+     */
+    @Test
+    void readsFirstVersionWithStandardLayout() {
+        final ByteBuffer buffer = ByteBuffer.allocate(game.getLog().getSerializedSize());
+        game.getLog().writeTo(buffer);
+        final byte[] current = buffer.array();
+        final int layoutOffset = 1 + Long.BYTES + Integer.BYTES + 1;
+        final ByteBuffer firstVersion = ByteBuffer.allocate(current.length - 1);
+        firstVersion.put((byte) GameLog.STANDARD_LAYOUT_FORMAT_VERSION);
+        firstVersion.put(current, 1, layoutOffset - 1);
+        firstVersion.put(current, layoutOffset + 1, current.length - layoutOffset - 1);
+        firstVersion.flip();
+
+        final GameLog readLog = GameLog.readFrom(firstVersion);
+
+        assertSame(BoardLayout.getStandard(), readLog.getLayout());
+        assertSameState(game, GameLogReplayer.replay(readLog));
+    }
+
+    /**
+     * Tests that a log whose size or number of entries does not match its data is rejected.
+     */
+    @Test
+    void rejectsInvalidSize() {
+        final ByteBuffer buffer = ByteBuffer.allocate(game.getLog().getSerializedSize());
+        game.getLog().writeTo(buffer);
+        final int entryCountOffset = 1 + Long.BYTES + Integer.BYTES + 1 + 1;
+        final int sizeOffset = entryCountOffset + Integer.BYTES;
+
+        for (int size : new int[]{-1, game.getLog().getSize() + 1, Integer.MAX_VALUE}) {
+            final ByteBuffer corrupt = ByteBuffer.wrap(buffer.array().clone()).putInt(sizeOffset, size);
+            assertThrows(IllegalArgumentException.class, () -> GameLog.readFrom(corrupt));
+        }
+        for (int entryCount : new int[]{-1, game.getLog().getSize() + 1}) {
+            final ByteBuffer corrupt = ByteBuffer.wrap(buffer.array().clone()).putInt(entryCountOffset, entryCount);
+            assertThrows(IllegalArgumentException.class, () -> GameLog.readFrom(corrupt));
+        }
+    }
+
+    /**
+     * Tests that reading an entry of an unknown type or with a player or resource that does not exist fails with an
+     * {@link IllegalArgumentException} instead of an index out of bounds.
+     */
+    @Test
+    void rejectsInvalidEntries() {
+        final GameLog unknownPlayer = new GameLog(1, REQUIRED_WINNING_SCORE, 2, BoardLayout.getStandard());
+        unknownPlayer.logResources(GameLogEntry.RESOURCES_PAID, Config.Faction.GREEN, GRAIN, 1);
+        assertThrows(IllegalArgumentException.class, () -> unknownPlayer.reader().next());
+        assertThrows(IllegalArgumentException.class, () -> GameLogReplayer.replay(unknownPlayer));
+
+        final GameLog unknownPlayerIndex = new GameLog(1, REQUIRED_WINNING_SCORE, 2, BoardLayout.getStandard());
+        unknownPlayerIndex.logPlayerSwitched(2);
+        assertThrows(IllegalArgumentException.class, () -> unknownPlayerIndex.reader().next());
+
+        final GameLog log = new GameLog(1, REQUIRED_WINNING_SCORE, 2, BoardLayout.getStandard());
+        log.logCardStolen(Config.Faction.RED, Config.Faction.BLUE, WOOL);
+        final ByteBuffer buffer = ByteBuffer.allocate(log.getSerializedSize());
+        log.writeTo(buffer);
+        final byte[] unknownType = buffer.array().clone();
+        unknownType[unknownType.length - log.getSize()] = (byte) GameLogEntry.values().length;
+        assertThrows(IllegalArgumentException.class,
+                () -> GameLog.readFrom(ByteBuffer.wrap(unknownType)).reader().next());
+        final byte[] unknownResource = buffer.array().clone();
+        unknownResource[unknownResource.length - 1] = (byte) Config.Resource.values().length;
+        assertThrows(IllegalArgumentException.class,
+                () -> GameLog.readFrom(ByteBuffer.wrap(unknownResource)).reader().next());
+
+        final GameLog.Reader reader = log.reader();
+        assertEquals(GameLogEntry.CARD_STOLEN, reader.next());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    /**
+     * Tests that a game can be rebuilt up to an intermediate entry.
+     */
+    @Test
+    void replayToEntryIndex() {
+        final SiedlerGame setup = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        final SiedlerGame replayed = GameLogReplayer.replay(game.getLog(), setup.getLog().getEntryCount());
+
+        for (Config.Faction faction : setup.getPlayerFactions()) {
+            assertEquals(getPlayer(setup, faction).getInventory(), getPlayer(replayed, faction).getInventory());
+        }
+        assertEquals(setup.getBank().getInventory(), replayed.getBank().getInventory());
+        assertThrows(IllegalArgumentException.class, () -> GameLogReplayer.replay(game.getLog(), game.getLog().getEntryCount() + 1));
+    }
+
+    /**
+     * Tests that the log is stored compactly.
+     */
+    @Test
+    void logIsCompact() {
+        assertTrue(game.getLog().getSize() < game.getLog().getEntryCount() * 7);
+        assertTrue(game.getLog().getEntryCount() > 0);
+    }
+
+    private static void assertSameState(final SiedlerGame expected, final SiedlerGame actual) {
+        assertEquals(expected.getCurrentPlayerFaction(), actual.getCurrentPlayerFaction());
+        assertEquals(expected.getBank().getInventory(), actual.getBank().getInventory());
+        for (Config.Faction faction : expected.getPlayerFactions()) {
+            assertEquals(getPlayer(expected, faction).getInventory(), getPlayer(actual, faction).getInventory());
+            assertEquals(getPlayer(expected, faction).getScore(), getPlayer(actual, faction).getScore());
+            assertEquals(getPlayer(expected, faction).getStructures().size(), getPlayer(actual, faction).getStructures().size());
+        }
+        assertEquals(expected.getBoard().getCurrentThiefField().getPosition(), actual.getBoard().getCurrentThiefField().getPosition());
+        assertEquals(expected.getBoard().getView().toString(), actual.getBoard().getView().toString());
+    }
+
+    private static Player getPlayer(final SiedlerGame game, final Config.Faction faction) {
+        for (Player player : game.getCurrentPlayers()) {
+            if (player.getFaction() == faction) {
+                return player;
+            }
+        }
+        throw new IllegalArgumentException("No player of faction " + faction);
+    }
+
+}
@@ -0,0 +1,180 @@
+package ch.zhaw.catan.game;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.board.BoardLayout;
+import ch.zhaw.catan.board.BoardLayoutGenerator;
+import ch.zhaw.catan.board.BoardTopology;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
+import static ch.zhaw.catan.game.Config.Resource.GRAIN;
+import static ch.zhaw.catan.game.Config.Resource.WOOL;
+import static ch.zhaw.catan.game.SiedlerGame.THIEF_DICE_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link GameSnapshot}.
+ */
+class GameSnapshotTest {
+
+    private static final int MAX_SNAPSHOT_SIZE = 256;
+
+    private SiedlerGame game;
+
+    /**
+     * Plays a game with payouts, a thief, a trade, a city and roads.
+     */
+    @BeforeEach
+    void playGame() {
+        game = ThreePlayerStandard.getAfterSetupPhase(REQUIRED_WINNING_SCORE);
+        for (int round = 0; round < 4; round++) {
+            for (int diceValue = 2; diceValue <= 12; diceValue++) {
+                if (diceValue != THIEF_DICE_NUMBER) {
+                    game.processDiceRoll(diceValue);
+                }
+            }
+        }
+        assertTrue(game.placeThiefAndStealCard(new Point(8, 8)));
+        game.tradeWithBankFourToOne(WOOL, GRAIN);
+        game.buildRoad(new Point(6, 6), new Point(6, 4));
+        game.buildCity(new Point(5, 7));
+        game.switchToNextPlayer();
+    }
+
+    /**
+     * Tests that a snapshot survives a round trip through a {@link ByteBuffer} and stays below 256 bytes.
+     */
+    @Test
+    void roundTripThroughBuffer() {
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_SNAPSHOT_SIZE);
+        snapshot.writeTo(buffer);
+
+        assertEquals(snapshot.getSerializedSize(), buffer.position());
+        assertTrue(buffer.position() < MAX_SNAPSHOT_SIZE);
+        buffer.flip();
+        final GameSnapshot read = GameSnapshot.readFrom(buffer);
+        assertEquals(snapshot, read);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * Tests that a snapshot of a game on a generated board keeps the {@link BoardLayout} through a round trip and
+     * restores the board.
+     */
+    @Test
+    void roundTripKeepsLayout() {
+        final BoardLayout layout = new BoardLayoutGenerator(9).next();
+        final GameSnapshot snapshot = GameSnapshot.of(new SiedlerGame(REQUIRED_WINNING_SCORE, 3, 9, layout));
+        final ByteBuffer buffer = ByteBuffer.allocate(snapshot.getSerializedSize());
+        snapshot.writeTo(buffer);
+        buffer.flip();
+
+        final GameSnapshot read = GameSnapshot.readFrom(buffer);
+
+        assertEquals(snapshot, read);
+        assertEquals(layout, read.getLayout());
+        assertEquals(layout, read.toGame(9).getBoard().getLayout());
+        assertNotEquals(GameSnapshot.of(new SiedlerGame(REQUIRED_WINNING_SCORE, 3, 9)), snapshot);
+    }
+
+    /**
+     * Tests that a game restored from a snapshot is in the same state as the original game.
+     */
+    @Test
+    void restoredGameHasSameState() {
+        final SiedlerGame restored = GameSnapshot.of(game).toGame();
+
+        assertEquals(game.getBoard().getView().toString(), restored.getBoard().getView().toString());
+        assertEquals(game.getCurrentPlayerFaction(), restored.getCurrentPlayerFaction());
+        assertEquals(game.getWinPoints(), restored.getWinPoints());
+        assertEquals(game.getBank().getInventory(), restored.getBank().getInventory());
+        for (int i = 0; i < game.getCurrentPlayers().size(); i++) {
+            final Player expected = game.getCurrentPlayers().get(i);
+            final Player actual = restored.getCurrentPlayers().get(i);
+            assertEquals(expected.getInventory(), actual.getInventory());
+            assertEquals(expected.getScore(), actual.getScore());
+            assertEquals(expected.getStructures().size(), actual.getStructures().size());
+        }
+        assertEquals(GameSnapshot.of(game), GameSnapshot.of(restored));
+    }
+
+    /**
+     * Tests that the restored game can be played on.
+     */
+    @Test
+    void restoredGameCanBePlayed() {
+        final SiedlerGame restored = GameSnapshot.of(game).toGame();
+        final Player current = restored.getCurrentPlayer();
+        final int structures = current.getStructures().size();
+
+        current.increaseInventory(Config.Structure.ROAD.getCostsAsIntegerMap());
+        assertTrue(restored.buildRoad(new Point(12, 12), new Point(12, 10)));
+        assertEquals(structures + 1, current.getStructures().size());
+    }
+
+    /**
+     * Tests that snapshots of an unsupported version and truncated snapshots are rejected.
+     */
+    @Test
+    void rejectsInvalidSnapshots() {
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_SNAPSHOT_SIZE);
+        GameSnapshot.of(game).writeTo(buffer);
+        buffer.flip();
+
+        final ByteBuffer truncated = buffer.duplicate().limit(buffer.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(truncated));
+
+        buffer.put(0, (byte) (GameSnapshot.FORMAT_VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(buffer));
+    }
+
+    /**
+     * Tests that corrupt snapshots are rejected: too few players, a negative thief field and corners or edges with a
+     * structure of a faction that has no player in the game.
+     */
+    @Test
+    void rejectsCorruptSnapshots() {
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_SNAPSHOT_SIZE);
+        GameSnapshot.of(game).writeTo(buffer);
+        final byte[] valid = Arrays.copyOf(buffer.array(), buffer.position());
+        final int thiefOffset = 6;
+        final int cornerOffset = thiefOffset + 2;
+        final int edgeOffset = cornerOffset + (BoardTopology.getStandard().getCornerCount() + 1) / 2;
+        final byte yellow = (byte) (Config.Faction.YELLOW.ordinal() + 1);
+        assertEquals(valid.length, GameSnapshot.readFrom(ByteBuffer.wrap(valid)).getSerializedSize());
+
+        final byte[] onePlayer = valid.clone();
+        onePlayer[1] = 1;
+        onePlayer[2] = 0;
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(ByteBuffer.wrap(onePlayer)));
+
+        final ByteBuffer negativeThief = ByteBuffer.allocate(valid.length + 4);
+        negativeThief.put(valid, 0, thiefOffset);
+        GameSnapshot.putVarInt(negativeThief, -1);
+        negativeThief.put(valid, thiefOffset + 1, valid.length - thiefOffset - 1).flip();
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(negativeThief));
+
+        final byte[] yellowSettlement = valid.clone();
+        yellowSettlement[cornerOffset] = (byte) (yellowSettlement[cornerOffset] & 0xF0 | yellow);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(ByteBuffer.wrap(yellowSettlement)));
+
+        final byte[] yellowCity = valid.clone();
+        yellowCity[cornerOffset] = (byte) (yellowCity[cornerOffset] & 0xF0 | yellow + Config.Faction.values().length);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(ByteBuffer.wrap(yellowCity)));
+
+        final byte[] yellowRoad = valid.clone();
+        yellowRoad[edgeOffset] = (byte) (yellowRoad[edgeOffset] & 0xF0 | yellow);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(ByteBuffer.wrap(yellowRoad)));
+    }
+
+}
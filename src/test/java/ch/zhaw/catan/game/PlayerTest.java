@@ -21,10 +21,13 @@ import static ch.zhaw.catan.game.Config.Resource.LUMBER;
 import static ch.zhaw.catan.game.Config.Resource.ORE;
 import static ch.zhaw.catan.game.Config.Resource.WOOL;
 import static ch.zhaw.catan.game.Config.Structure.CITY;
+import static ch.zhaw.catan.game.Config.Structure.ROAD;
+import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -176,10 +179,10 @@ class PlayerTest {
      */
     @Test
     void addStructureTest() {
-        Settlement settlement1 = new Settlement(RED);
-        Settlement settlement2 = new Settlement(RED);
-        City city = new City(RED);
-        Road road = new Road(RED);
+        Settlement settlement1 = Settlement.of(RED);
+        Settlement settlement2 = Settlement.of(RED);
+        City city = City.of(RED);
+        Road road = Road.of(RED);
         player1.addStructure(settlement1);
         player1.addStructure(settlement2);
         player1.addStructure(city);
@@ -199,9 +202,9 @@ class PlayerTest {
      */
     @Test
     void removeStructureTest() {
-        final Settlement settlement = new Settlement(RED);
+        final Settlement settlement = Settlement.of(RED);
 
-        player1.addStructure(new Settlement(RED));
+        player1.addStructure(Settlement.of(RED));
         player1.addStructure(settlement);
         assertEquals(2, player1.getStructures().size());
 
@@ -209,6 +212,26 @@ class PlayerTest {
         assertEquals(1, player1.getStructures().size());
     }
 
+    /**
+     * Tests that the structures of a player are counted per type and that structures of other factions are rejected.
+     */
+    @Test
+    void getAmountOfStructuresTest() {
+        player1.addStructure(Settlement.of(RED));
+        player1.addStructure(Settlement.of(RED));
+        player1.removeStructure(Settlement.of(RED));
+        player1.addStructure(City.of(RED));
+        player1.removeStructure(Road.of(RED));
+        assertEquals(1, player1.getAmountOfStructures(SETTLEMENT));
+        assertEquals(1, player1.getAmountOfStructures(CITY));
+        assertEquals(0, player1.getAmountOfStructures(ROAD));
+        assertEquals(3, player1.getScore());
+
+        assertThrows(IllegalArgumentException.class, () -> player1.addStructure(Road.of(BLUE)));
+        player1.removeStructure(City.of(BLUE));
+        assertEquals(1, player1.getAmountOfStructures(CITY));
+    }
+
     /**
      * Tests if the method hasNotReachedMaxedStock returns the correct boolean.
      * 1. Tests if the initial return value is false
@@ -219,12 +242,12 @@ class PlayerTest {
     void hasNotReachedMaxedStock() {
         assertTrue(player1.hasNotReachedMaxStockOf(CITY));
 
-        player1.addStructure(new City(RED));
-        player1.addStructure(new City(RED));
-        player1.addStructure(new City(RED));
+        player1.addStructure(City.of(RED));
+        player1.addStructure(City.of(RED));
+        player1.addStructure(City.of(RED));
         assertTrue(player1.hasNotReachedMaxStockOf(CITY));
 
-        player1.addStructure(new City(RED));
+        player1.addStructure(City.of(RED));
         assertFalse(player1.hasNotReachedMaxStockOf(CITY));
     }
 
@@ -252,8 +275,13 @@ class PlayerTest {
         assertEquals(6, player1.getTotalAmountOfResources());
 
         player1.increaseInventoryItem(BRICK, 2);
-        player1.processThief();
+        final int[] stolen = player1.processThief();
         assertEquals(4, player1.getTotalAmountOfResources());
+        int totalStolen = 0;
+        for (int amount : stolen) {
+            totalStolen += amount;
+        }
+        assertEquals(4, totalStolen);
     }
 
     /**
@@ -283,10 +311,10 @@ class PlayerTest {
     void getScoreTest() {
         assertEquals(0, player1.getScore());
 
-        player1.addStructure(new Settlement(RED));
-        player1.addStructure(new Settlement(RED));
-        player1.addStructure(new City(RED));
-        player1.addStructure(new Road(RED));
+        player1.addStructure(Settlement.of(RED));
+        player1.addStructure(Settlement.of(RED));
+        player1.addStructure(City.of(RED));
+        player1.addStructure(Road.of(RED));
         assertEquals(4, player1.getScore());
     }
 }
@@ -0,0 +1,109 @@
+package ch.zhaw.catan.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link ScriptedConsoleBackend}.
+ */
+class ScriptedConsoleBackendTest {
+
+    private static final List<String> SETUP_SCRIPT = List.of(
+            "2                 # number of players",
+            "5 7   5 7 6 6     # rr: first settlement and road",
+            "11 13 11 13 12 12 # bb: first settlement and road",
+            "8 4   8 4 8 6     # bb: second settlement and road",
+            "10 16 10 16 9 15  # rr: second settlement and road");
+
+    private static final long THIEF_SEED = 8;
+
+    /**
+     * A {@link Dice} that always rolls a six, so that the thief is never rolled.
+     */
+    private static final Dice ALWAYS_SIX = new Dice() {
+        @Override
+        public int roll() {
+            return 6;
+        }
+    };
+
+    /**
+     * Tests that a complete interactive game can be replayed from a script and that its output is captured.
+     */
+    @Test
+    void replaysGameFromScript() {
+        final ScriptedConsoleBackend backend = new ScriptedConsoleBackend(concat(SETUP_SCRIPT,
+                List.of("DISPLAY_SCORES", "nonsense", "10   # next turn by index", "QUIT")));
+
+        new App(new Console(backend), ALWAYS_SIX).runGame();
+
+        final String output = backend.getOutput();
+        assertTrue(output.contains("Initiation phase ended. Let the game begin!"));
+        assertTrue(output.contains("rr with 2 points"));
+        assertTrue(output.contains("bb rolled 6"));
+        assertTrue(output.contains("Thanks for playing, see you next game!"));
+        assertTrue(backend.isClosed());
+        assertTrue(backend.isExhausted());
+    }
+
+    /**
+     * Tests that a script run with the same seed plays the same game: with seed {@value #THIEF_SEED} the first roll
+     * is a 7, so the thief is placed next to the settlement of bb, and the resources of rr show the result of the
+     * random steal.
+     */
+    @Test
+    void replaysThiefWithSeed() {
+        final List<String> script = concat(SETUP_SCRIPT, List.of("11 11   # thief", "DISPLAY_PLAYER_RESOURCES", "QUIT"));
+        final ScriptedConsoleBackend backend = new ScriptedConsoleBackend(script);
+        final ScriptedConsoleBackend replayBackend = new ScriptedConsoleBackend(script);
+
+        new App(new Console(backend), THIEF_SEED).runGame();
+        new App(new Console(replayBackend), THIEF_SEED).runGame();
+
+        final String output = backend.getOutput();
+        assertTrue(output.contains("rr rolled 7"));
+        assertTrue(output.contains("Thief has been placed."));
+        assertTrue(output.contains("rr possesses: "));
+        assertTrue(backend.isExhausted());
+        assertEquals(output, replayBackend.getOutput());
+    }
+
+    /**
+     * Tests that invalid placements are re-prompted and consume the following tokens.
+     */
+    @Test
+    void invalidPlacementsAreRetried() {
+        final ScriptedConsoleBackend backend = new ScriptedConsoleBackend(List.of("2", "0 0", "99", "5 7", "5 7 6 6"));
+        final Console console = new Console(backend);
+
+        assertEquals(2, console.readInteger("players", 2, 4));
+        assertEquals(0, console.readInteger("x", 0, 14));
+        assertEquals(0, console.readInteger("y", 0, 22));
+        assertEquals(5, console.readInteger("x", 0, 14));
+        assertTrue(backend.getOutput().contains("Expected an integer value between 0 and 14"));
+    }
+
+    /**
+     * Tests that reading beyond the end of the script fails.
+     */
+    @Test
+    void exhaustedScriptThrows() {
+        final ScriptedConsoleBackend backend = new ScriptedConsoleBackend(List.of("# only a comment"));
+
+        assertThrows(NoSuchElementException.class, () -> backend.readEnum("Activity", Activity.class));
+    }
+
+    private static List<String> concat(final List<String> first, final List<String> second) {
+        final List<String> lines = new ArrayList<>(first);
+        lines.addAll(second);
+        return lines;
+    }
+
+}
@@ -9,8 +9,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Point;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static ch.zhaw.catan.game.App.REQUIRED_WINNING_SCORE;
 import static ch.zhaw.catan.game.Config.INITIAL_RESOURCE_CARDS_BANK;
@@ -392,13 +394,13 @@ class SiedlerGameTest {
         assertNull(siedlerGame.getWinner());
 
         for (int i = 0; i < 3; i++) {
-            siedlerGame.getCurrentPlayer().addStructure(new City(siedlerGame.getCurrentPlayerFaction()));
-            siedlerGame.getCurrentPlayer().addStructure(new Road(siedlerGame.getCurrentPlayerFaction()));
+            siedlerGame.getCurrentPlayer().addStructure(City.of(siedlerGame.getCurrentPlayerFaction()));
+            siedlerGame.getCurrentPlayer().addStructure(Road.of(siedlerGame.getCurrentPlayerFaction()));
         }
 
         assertNull(siedlerGame.getWinner());
 
-        siedlerGame.getCurrentPlayer().addStructure(new Settlement(siedlerGame.getCurrentPlayerFaction()));
+        siedlerGame.getCurrentPlayer().addStructure(Settlement.of(siedlerGame.getCurrentPlayerFaction()));
 
         assertEquals(siedlerGame.getCurrentPlayerFaction(), siedlerGame.getWinner());
 
@@ -515,13 +517,13 @@ class SiedlerGameTest {
     void placeThiefAndStealCard() {
         buildInitialSettlements();
 
-        assertFalse(siedlerGame.getBoard().getField(firstField).isOccupiedByThief());
+        assertFalse(siedlerGame.getBoard().isOccupiedByThief(firstField));
 
         assertFalse(siedlerGame.placeThiefAndStealCard(waterField));
         assertTrue(siedlerGame.placeThiefAndStealCard(emptyField));
         siedlerGame.placeThiefAndStealCard(firstField);
 
-        assertTrue(siedlerGame.getBoard().getField(firstField).isOccupiedByThief());
+        assertTrue(siedlerGame.getBoard().isOccupiedByThief(firstField));
         assertEquals(4, siedlerGame.getCurrentPlayer().getTotalAmountOfResources());
         assertEquals(2, siedlerGame.getCurrentPlayers().get(1).getTotalAmountOfResources());
     }
@@ -555,6 +557,70 @@ class SiedlerGameTest {
         assertEquals(INITIAL_RESOURCE_CARDS_BANK, siedlerGame.getBank().getInventory());
     }
 
+    /**
+     * Tests that a {@link DiscardChooser} decides which cards are discarded, that the discard is logged and given to
+     * the bank and that invalid choices are rejected.
+     */
+    @Test
+    void discardChooserDecidesDiscard() {
+        final Player player = siedlerGame.getCurrentPlayers().get(1);
+        player.increaseInventoryItem(Config.Resource.ORE, 6);
+        player.increaseInventoryItem(Config.Resource.WOOL, 3);
+        final int bankWool = siedlerGame.getBank().getAmountOfResource(Config.Resource.WOOL);
+        siedlerGame.setDiscardChooser((game, playerIndex, count) -> {
+            assertEquals(1, playerIndex);
+            assertEquals(4, count);
+            return new int[]{0, 3, 0, 1, 0};
+        });
+
+        assertTrue(siedlerGame.processDiceRoll(THIEF_DICE_NUMBER).isThiefExecuted());
+        assertEquals(5, player.getAmountOfResource(Config.Resource.ORE));
+        assertEquals(0, player.getAmountOfResource(Config.Resource.WOOL));
+        assertEquals(bankWool + 3, siedlerGame.getBank().getAmountOfResource(Config.Resource.WOOL));
+        assertEquals(List.of(Config.Resource.WOOL, Config.Resource.ORE), discardedResources(siedlerGame));
+
+        player.increaseInventoryItem(Config.Resource.WOOL, 4);
+        siedlerGame.setDiscardChooser((game, playerIndex, count) -> new int[]{0, 0, 5, 0, 0});
+        assertThrows(IllegalStateException.class, () -> siedlerGame.processDiceRoll(THIEF_DICE_NUMBER));
+    }
+
+    /**
+     * Tests that the choices of a {@link DiscardChooser} for all players are checked before any card is removed, so an
+     * invalid choice for a later player, including one with too few amounts, leaves all inventories unchanged.
+     */
+    @Test
+    void invalidDiscardChangesNoInventory() {
+        final Player first = siedlerGame.getCurrentPlayers().get(0);
+        final Player second = siedlerGame.getCurrentPlayers().get(1);
+        first.increaseInventoryItem(Config.Resource.ORE, 10);
+        second.increaseInventoryItem(Config.Resource.ORE, 10);
+        final Map<Config.Resource, Integer> firstInventory = Map.copyOf(first.getInventory());
+        final Map<Config.Resource, Integer> secondInventory = Map.copyOf(second.getInventory());
+        final Map<Config.Resource, Integer> bankInventory = Map.copyOf(siedlerGame.getBank().getInventory());
+
+        for (int[] invalid : new int[][]{{0, 0, 0, 0, 0}, {0, 0, 0}}) {
+            siedlerGame.setDiscardChooser((game, playerIndex, count) ->
+                    playerIndex == 0 ? new int[]{0, 0, 0, count, 0} : invalid);
+            assertThrows(IllegalStateException.class, () -> siedlerGame.processDiceRoll(THIEF_DICE_NUMBER));
+
+            assertEquals(firstInventory, first.getInventory());
+            assertEquals(secondInventory, second.getInventory());
+            assertEquals(bankInventory, siedlerGame.getBank().getInventory());
+            assertEquals(List.of(), discardedResources(siedlerGame));
+        }
+    }
+
+    private static List<Config.Resource> discardedResources(final SiedlerGame game) {
+        final List<Config.Resource> resources = new ArrayList<>();
+        final GameLog.Reader reader = game.getLog().reader();
+        while (reader.hasNext()) {
+            if (reader.next() == GameLogEntry.RESOURCES_DISCARDED) {
+                resources.add(Config.Resource.values()[reader.getArgument(1)]);
+            }
+        }
+        return resources;
+    }
+
     private void buildInitialSettlements() {
         siedlerGame.placeInitialSettlement(validSettlementPoints.get(0), true);
         siedlerGame.placeInitialSettlement(validSettlementPoints.get(1), false);
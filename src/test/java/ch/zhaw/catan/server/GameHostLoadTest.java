@@ -0,0 +1,84 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.DiceResult;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Local load test of {@link GameHost}: measures the memory of idle games and the latency of commands while all games
+ * are played concurrently.
+ * <p>
+ * The results depend on the machine, so the test is only run with the benchmark profile. The number of games is read
+ * from the system property {@code catan.loadtest.games} and is small by default. Run it with
+ * {@code -Dcatan.loadtest.games=10000} to measure 10k games.
+ * </p>
+ */
+@Tag("benchmark")
+class GameHostLoadTest {
+
+    private static final int GAMES = Integer.getInteger("catan.loadtest.games", 500);
+    private static final int TURNS_PER_GAME = 20;
+    private static final int WIN_POINTS = 7;
+    private static final int NUMBER_OF_PLAYERS = 4;
+    private static final double PERCENTILE = 0.99;
+    private static final long MAX_BYTES_PER_IDLE_GAME = 8 * 1024;
+    private static final long MAX_P99_LATENCY_MILLIS = 2_000;
+
+    /**
+     * Hosts the configured number of games, ends turns in all of them concurrently, prints the memory per idle game
+     * and the p99 command latency and checks them against their budgets.
+     */
+    @Test
+    void hostsManyConcurrentGames() throws Exception {
+        try (GameHost host = new GameHost()) {
+            final long memoryBefore = usedMemory();
+            final List<HostedGame> games = new ArrayList<>();
+            for (int i = 0; i < GAMES; i++) {
+                games.add(host.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, i));
+            }
+            final long bytesPerGame = (usedMemory() - memoryBefore) / GAMES;
+
+            final long[] latencies = new long[GAMES * TURNS_PER_GAME];
+            final AtomicInteger completed = new AtomicInteger();
+            final List<CompletableFuture<DiceResult>> playedGames = new ArrayList<>();
+            for (HostedGame game : games) {
+                CompletableFuture<DiceResult> turns = CompletableFuture.completedFuture(null);
+                for (int turn = 0; turn < TURNS_PER_GAME; turn++) {
+                    final PlayerSession session = game.createSession(turn % NUMBER_OF_PLAYERS);
+                    turns = turns.thenCompose(previous -> {
+                        final long start = System.nanoTime();
+                        return session.endTurn().whenComplete((result, error) ->
+                                latencies[completed.getAndIncrement()] = System.nanoTime() - start);
+                    });
+                }
+                playedGames.add(turns);
+            }
+            CompletableFuture.allOf(playedGames.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.MINUTES);
+
+            assertEquals(latencies.length, completed.get());
+            Arrays.sort(latencies);
+            final long p99Millis = TimeUnit.NANOSECONDS.toMillis(latencies[(int) (latencies.length * PERCENTILE)]);
+            System.out.printf("%d games: %d bytes per idle game, p99 command latency %d ms%n", GAMES, bytesPerGame,
+                    p99Millis);
+            assertTrue(bytesPerGame <= MAX_BYTES_PER_IDLE_GAME, "bytes per idle game " + bytesPerGame);
+            assertTrue(p99Millis <= MAX_P99_LATENCY_MILLIS, "p99 command latency " + p99Millis + " ms");
+        }
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
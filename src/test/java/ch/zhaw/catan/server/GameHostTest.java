@@ -0,0 +1,151 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.game.SiedlerGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link GameHost}, {@link HostedGame} and {@link PlayerSession}.
+ */
+class GameHostTest {
+
+    private static final int WIN_POINTS = 7;
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int COMMANDS = 1_000;
+
+    private final GameHost host = new GameHost(4, COMMANDS);
+
+    @AfterEach
+    void closeHost() {
+        host.close();
+    }
+
+    /**
+     * Tests that the commands of a game are executed in submission order and never concurrently.
+     */
+    @Test
+    void executesCommandsOneAfterAnother() throws Exception {
+        final HostedGame game = host.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, 1);
+        final AtomicInteger running = new AtomicInteger();
+        final List<Integer> order = new ArrayList<>();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < COMMANDS; i++) {
+            final int command = i;
+            results.add(game.submit(siedlerGame -> {
+                assertEquals(1, running.incrementAndGet());
+                order.add(command);
+                running.decrementAndGet();
+                return command;
+            }));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            assertEquals(i, order.get(i));
+            assertEquals(i, results.get(i).get());
+        }
+    }
+
+    /**
+     * Tests that a command is rejected while the command queue of the game is full.
+     */
+    @Test
+    void rejectsCommandsWhenQueueIsFull() throws Exception {
+        try (GameHost smallHost = new GameHost(1, 1)) {
+            final HostedGame game = smallHost.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, 2);
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CompletableFuture<Boolean> blocking = game.submit(siedlerGame -> {
+                blocked.countDown();
+                await(release);
+                return true;
+            });
+            blocked.await();
+
+            final CompletableFuture<Boolean> queued = game.submit(siedlerGame -> true);
+            final CompletableFuture<Boolean> rejected = game.submit(siedlerGame -> true);
+            final ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+
+            release.countDown();
+            assertTrue(blocking.get(10, TimeUnit.SECONDS));
+            assertTrue(queued.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests that a command throwing an {@link Error} completes its result exceptionally and does not stop the
+     * execution of later commands.
+     */
+    @Test
+    void continuesAfterError() throws Exception {
+        try (GameHost smallHost = new GameHost(1, 2)) {
+            final HostedGame game = smallHost.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, 5);
+            final CompletableFuture<Boolean> failing = game.submit(siedlerGame -> {
+                throw new AssertionError("command failed");
+            });
+
+            final ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> failing.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, exception.getCause());
+            assertTrue(game.submit(siedlerGame -> true).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests that actions are only executed on the turn of the player.
+     */
+    @Test
+    void rejectsActionsOutOfTurn() throws Exception {
+        final HostedGame game = host.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, 3);
+        final PlayerSession first = game.createSession(0);
+        final PlayerSession second = game.createSession(1);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> second.endTurn().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+
+        assertNotNull(first.endTurn().get(10, TimeUnit.SECONDS));
+        assertEquals(1, second.query(SiedlerGame::getCurrentPlayerIndex).get(10, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> game.createSession(NUMBER_OF_PLAYERS));
+        assertThrows(IllegalArgumentException.class, () -> game.createSession(-1));
+    }
+
+    /**
+     * Tests that games can be looked up and removed.
+     */
+    @Test
+    void managesGames() {
+        final HostedGame game = host.createGame(WIN_POINTS, NUMBER_OF_PLAYERS, 4);
+
+        assertEquals(game, host.getGame(game.getId()));
+        assertEquals(game, host.removeGame(game.getId()));
+        assertNull(host.getGame(game.getId()));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
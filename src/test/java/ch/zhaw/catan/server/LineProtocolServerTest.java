@@ -0,0 +1,200 @@
+package ch.zhaw.catan.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the classes {@link LineProtocolServer} and {@link LineProtocolHandler} over loopback
+ * connections.
+ * <p>
+ * The number of concurrent connections of {@link #servesManyConnections()} is read from the system property
+ * {@code catan.loadtest.connections} and is small by default. Run it with {@code -Dcatan.loadtest.connections=5000}
+ * to open thousands of connections.
+ * </p>
+ */
+class LineProtocolServerTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("catan.loadtest.connections", 200);
+    private static final int CONNECTIONS_PER_GAME = 4;
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    private GameHost host;
+    private LineProtocolServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        host = new GameHost(2, GameHost.DEFAULT_COMMAND_QUEUE_CAPACITY);
+        server = new LineProtocolServer(host, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        host.close();
+    }
+
+    /**
+     * Tests the requests of the protocol from creating a game to quitting.
+     */
+    @Test
+    void playsOverProtocol() throws IOException {
+        try (LineClient first = new LineClient(); LineClient second = new LineClient()) {
+            final String game = first.request("NEW 2").substring("GAME ".length());
+            assertEquals("ERROR Invalid player index: 2", first.request("JOIN " + game + " 2"));
+            assertEquals("ERROR Join a game first", first.request("DISPLAY_SCORES"));
+            assertEquals("JOINED " + game + " rr", first.request("JOIN " + game + " 0"));
+            assertEquals("JOINED " + game + " bb", second.request("JOIN " + game + " 1"));
+
+            assertEquals("OK", first.request("INITIAL_SETTLEMENT 5 7 false"));
+            assertEquals("OK", first.request("INITIAL_ROAD 5 7 6 6"));
+            assertEquals("FAILED", first.request("INITIAL_SETTLEMENT 5 7 false"));
+            assertTrue(second.request("BUILD_CITY 5 7").startsWith("ERROR It is not the turn"));
+            assertTrue(first.request("UNKNOWN").startsWith("ERROR"));
+
+            final String board = second.requestBoard();
+            assertTrue(board.contains("rS"));
+            second.send("DISPLAY_BOARD 4 6 6 8");
+            final String viewport = second.readBoard();
+            assertTrue(viewport.contains("rS"));
+            assertTrue(viewport.length() < board.length());
+            assertTrue(first.request("DISPLAY_STRUCTURE_COSTS").startsWith("COSTS SETTLEMENT:"));
+            assertTrue(first.request("DISPLAY_PLAYER_RESOURCES").startsWith("RESOURCES "));
+            assertEquals("SCORES rr=1 bb=0", second.request("DISPLAY_SCORES"));
+            assertTrue(first.request("NEXT_TURN").startsWith("DICE "));
+            assertTrue(second.request("TRADE GRAIN ORE").equals("FAILED"));
+
+            assertEquals("BYE", first.request("QUIT"));
+            assertEquals(-1, first.input.read());
+        }
+    }
+
+    /**
+     * Tests that many concurrent connections are served and receive the same board render.
+     */
+    @Test
+    void servesManyConnections() throws IOException {
+        final List<LineClient> clients = new ArrayList<>();
+        try {
+            String game = null;
+            for (int i = 0; i < CONNECTIONS; i++) {
+                final LineClient client = new LineClient();
+                clients.add(client);
+                if (i % CONNECTIONS_PER_GAME == 0) {
+                    game = client.request("NEW " + CONNECTIONS_PER_GAME).substring("GAME ".length());
+                }
+                client.send("JOIN " + game + " " + i % CONNECTIONS_PER_GAME);
+                client.send("DISPLAY_BOARD");
+            }
+
+            final String expectedBoard = clients.get(0).readJoinedBoard();
+            for (LineClient client : clients.subList(1, clients.size())) {
+                assertEquals(expectedBoard, client.readJoinedBoard());
+            }
+        } finally {
+            for (LineClient client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * Tests that a client which sends many more requests than {@link LineProtocolServer#MAX_PENDING_RESPONSES} before
+     * reading still receives all responses in order once it reads them.
+     */
+    @Test
+    void servesPipelinedRequests() throws IOException {
+        try (LineClient client = new LineClient()) {
+            final String game = client.request("NEW 2").substring("GAME ".length());
+            client.send("JOIN " + game + " 0");
+            final int requests = 4 * LineProtocolServer.MAX_PENDING_RESPONSES;
+            for (int i = 0; i < requests; i++) {
+                client.send("DISPLAY_BOARD");
+            }
+
+            final String expectedBoard = client.readJoinedBoard();
+            for (int i = 1; i < requests; i++) {
+                assertEquals(expectedBoard, client.readBoard());
+            }
+            assertEquals("BYE", client.request("QUIT"));
+        }
+    }
+
+    /**
+     * Blocking test client.
+     */
+    private final class LineClient implements AutoCloseable {
+
+        private final Socket socket;
+        private final InputStream input;
+        private final OutputStream output;
+
+        private LineClient() throws IOException {
+            socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort());
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            input = new BufferedInputStream(socket.getInputStream());
+            output = socket.getOutputStream();
+        }
+
+        private void send(final String line) throws IOException {
+            output.write((line + "\n").getBytes(UTF_8));
+            output.flush();
+        }
+
+        private String request(final String line) throws IOException {
+            send(line);
+            return readLine();
+        }
+
+        private String requestBoard() throws IOException {
+            send("DISPLAY_BOARD");
+            return readBoard();
+        }
+
+        private String readJoinedBoard() throws IOException {
+            assertTrue(readLine().startsWith("JOINED "));
+            return readBoard();
+        }
+
+        private String readBoard() throws IOException {
+            final String header = readLine();
+            assertTrue(header.startsWith("BOARD "), header);
+            final byte[] board = input.readNBytes(Integer.parseInt(header.substring("BOARD ".length())));
+            return new String(board, UTF_8);
+        }
+
+        private String readLine() throws IOException {
+            final ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int next;
+            while ((next = input.read()) != '\n') {
+                if (next < 0) {
+                    throw new IOException("Connection closed");
+                }
+                line.write(next);
+            }
+            return line.toString(UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package ch.zhaw.catan.server;
+
+import ch.zhaw.catan.ThreePlayerStandard;
+import ch.zhaw.catan.game.GameReplica;
+import ch.zhaw.catan.game.GameSnapshot;
+import ch.zhaw.catan.game.SiedlerGame;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class performs tests for the class {@link SpectatorBroadcaster}.
+ */
+class SpectatorBroadcasterTest {
+
+    private static final int WIN_POINTS = 7;
+    private static final int SPECTATORS = 200;
+    private static final int MAX_PENDING_FRAMES = 4;
+    private static final int MAX_MISSED_FRAMES = 8;
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * Tests that many spectators follow all changes of the game.
+     */
+    @Test
+    void spectatorsFollowGame() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT);
+        final List<Spectator> spectators = new ArrayList<>();
+        for (int i = 0; i < SPECTATORS; i++) {
+            final Spectator spectator = new Spectator(Long.MAX_VALUE);
+            broadcaster.subscribe(spectator);
+            spectators.add(spectator);
+        }
+
+        playRounds(game, 2);
+
+        assertEquals(SPECTATORS, broadcaster.getNumberOfSubscribers());
+        for (Spectator spectator : spectators) {
+            assertEquals(GameSnapshot.of(game), spectator.replica.getSnapshot());
+            assertEquals(game.getLog().getEntryCount(), spectator.replica.getVersion());
+            assertNull(spectator.error);
+        }
+    }
+
+    /**
+     * Tests that snapshots are only encoded for subscribing spectators and reused while the game does not change.
+     */
+    @Test
+    void encodesSnapshotsOnlyWhenNeeded() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT);
+        playRounds(game, 2);
+        assertEquals(0, broadcaster.getEncodedSnapshots());
+
+        final Spectator first = new Spectator(Long.MAX_VALUE);
+        final Spectator second = new Spectator(Long.MAX_VALUE);
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+        playRounds(game, 2);
+
+        assertEquals(1, broadcaster.getEncodedSnapshots());
+        assertEquals(GameSnapshot.of(game), first.replica.getSnapshot());
+        assertEquals(GameSnapshot.of(game), second.replica.getSnapshot());
+    }
+
+    /**
+     * Tests that the frames of a slow spectator are coalesced into a snapshot instead of queued without limit.
+     */
+    @Test
+    void coalescesFramesOfSlowSpectator() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT, MAX_PENDING_FRAMES,
+                MAX_MISSED_FRAMES);
+        final Spectator spectator = new Spectator(1);
+        broadcaster.subscribe(spectator);
+
+        for (int diceValue = 2; diceValue <= 6; diceValue++) {
+            game.processDiceRoll(diceValue);
+        }
+        spectator.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(GameSnapshot.of(game), spectator.replica.getSnapshot());
+        assertTrue(spectator.frames <= 1 + MAX_PENDING_FRAMES, "frames " + spectator.frames);
+        assertNull(spectator.error);
+    }
+
+    /**
+     * Tests that a spectator which falls too far behind is dropped.
+     */
+    @Test
+    void dropsSpectatorFallingBehind() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT, MAX_PENDING_FRAMES,
+                MAX_MISSED_FRAMES);
+        final Spectator slow = new Spectator(0);
+        final Spectator fast = new Spectator(Long.MAX_VALUE);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+
+        playRounds(game, 2);
+
+        assertInstanceOf(IllegalStateException.class, slow.error);
+        assertEquals(1, broadcaster.getNumberOfSubscribers());
+        assertEquals(GameSnapshot.of(game), fast.replica.getSnapshot());
+    }
+
+    /**
+     * Tests that a spectator throwing from {@code onNext} is cancelled and receives the exception, while the other
+     * spectators keep following the game.
+     */
+    @Test
+    void cancelsThrowingSpectator() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT);
+        final IllegalStateException failure = new IllegalStateException("Spectator failed");
+        final Spectator throwing = new Spectator(Long.MAX_VALUE) {
+            @Override
+            public synchronized void onNext(final ByteBuffer frame) {
+                super.onNext(frame);
+                throw failure;
+            }
+        };
+        final Spectator spectator = new Spectator(Long.MAX_VALUE);
+        broadcaster.subscribe(throwing);
+        broadcaster.subscribe(spectator);
+
+        playRounds(game, 1);
+
+        assertSame(failure, throwing.error);
+        assertEquals(1, throwing.frames);
+        assertEquals(1, broadcaster.getNumberOfSubscribers());
+        assertEquals(GameSnapshot.of(game), spectator.replica.getSnapshot());
+        assertNull(spectator.error);
+    }
+
+    /**
+     * Tests that closing the broadcaster completes its spectators and stops listening to the game.
+     */
+    @Test
+    void closeCompletesSpectators() {
+        final SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        final SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(game, DIRECT);
+        final Spectator spectator = new Spectator(Long.MAX_VALUE);
+        broadcaster.subscribe(spectator);
+
+        broadcaster.close();
+        game.processDiceRoll(8);
+
+        assertTrue(spectator.completed);
+        assertEquals(1, spectator.frames);
+        assertEquals(0, broadcaster.getNumberOfSubscribers());
+    }
+
+    /**
+     * Tests that a hosted game streams the changes made through a {@link PlayerSession} to its spectators.
+     */
+    @Test
+    void hostedGameStreamsChanges() throws Exception {
+        try (GameHost host = new GameHost(2, 16)) {
+            final HostedGame hostedGame = host.createGame(WIN_POINTS, 2, 1);
+            final SpectatorBroadcaster broadcaster = hostedGame.getBroadcaster().get(10, TimeUnit.SECONDS);
+            assertSame(broadcaster, hostedGame.getBroadcaster().get(10, TimeUnit.SECONDS));
+            final Spectator spectator = new Spectator(Long.MAX_VALUE);
+            hostedGame.spectate(spectator).get(10, TimeUnit.SECONDS);
+            assertEquals(1, broadcaster.getNumberOfSubscribers());
+
+            hostedGame.createSession(0).endTurn().get(10, TimeUnit.SECONDS);
+            final GameSnapshot expected = hostedGame.submit(GameSnapshot::of).get(10, TimeUnit.SECONDS);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            synchronized (spectator) {
+                while (!expected.equals(spectator.getSnapshot()) && System.nanoTime() < deadline) {
+                    spectator.wait(10);
+                }
+            }
+            assertEquals(expected, spectator.getSnapshot());
+        }
+    }
+
+    private static void playRounds(final SiedlerGame game, final int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            for (int diceValue = 2; diceValue <= 12; diceValue++) {
+                if (diceValue != 7) {
+                    game.processDiceRoll(diceValue);
+                    game.switchToNextPlayer();
+                }
+            }
+        }
+    }
+
+    /**
+     * A spectator applying all frames to a {@link GameReplica}.
+     */
+    private static class Spectator implements Flow.Subscriber<ByteBuffer> {
+
+        private final long initialDemand;
+        private Flow.Subscription subscription;
+        private GameReplica replica;
+        private int frames;
+        private boolean completed;
+        private Throwable error;
+
+        private Spectator(final long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public synchronized void onNext(final ByteBuffer frame) {
+            replica = SpectatorBroadcaster.applyFrame(frame, replica);
+            frames++;
+            notifyAll();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private synchronized GameSnapshot getSnapshot() {
+            return replica == null ? null : replica.getSnapshot();
+        }
+
+    }
+
+}
@@ -19,11 +19,11 @@ class CityTest {
     private City city;
 
     /**
-     * Sets up the test fixture by creating a new City object.
+     * Sets up the test fixture by getting the yellow City.
      */
     @BeforeEach
     void setup() {
-        city = new City(YELLOW);
+        city = City.of(YELLOW);
     }
 
     /**
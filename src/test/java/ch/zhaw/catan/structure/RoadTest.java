@@ -19,11 +19,11 @@ class RoadTest {
     private Road road;
 
     /**
-     * Sets up the test fixture by creating a new Road object.
+     * Sets up the test fixture by getting the yellow Road.
      */
     @BeforeEach
     void setup() {
-        road = new Road(YELLOW);
+        road = Road.of(YELLOW);
     }
 
     /**
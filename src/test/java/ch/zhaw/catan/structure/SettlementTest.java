@@ -8,7 +8,10 @@ import static ch.zhaw.catan.game.Config.Structure.SETTLEMENT;
 import static ch.zhaw.catan.structure.Settlement.AMOUNT_PER_RESOURCE;
 import static ch.zhaw.catan.structure.Settlement.IDENTIFIER;
 import static ch.zhaw.catan.structure.Settlement.SCORE;
+import static ch.zhaw.catan.game.Config.Faction.RED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test class for the {@link Settlement} class.
@@ -19,11 +22,11 @@ class SettlementTest {
     private Settlement settlement;
 
     /**
-     * Sets up the test fixture by creating a new Settlement object.
+     * Sets up the test fixture by getting the yellow Settlement.
      */
     @BeforeEach
     void setup() {
-        settlement = new Settlement(YELLOW);
+        settlement = Settlement.of(YELLOW);
     }
 
     /**
@@ -66,4 +69,15 @@ class SettlementTest {
         assertEquals("y" + IDENTIFIER, settlement.toString());
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests that {@link Settlement#of(ch.zhaw.catan.game.Config.Faction)} returns one shared instance per faction.
+     */
+    @Test
+    void testOf() {
+        assertSame(settlement, Settlement.of(YELLOW));
+        assertSame(settlement, Structure.of(SETTLEMENT, YELLOW));
+        assertNotSame(settlement, Settlement.of(RED));
+        assertEquals(RED, Settlement.of(RED).getFaction());
+    }
+
+}
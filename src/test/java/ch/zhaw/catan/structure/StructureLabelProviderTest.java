@@ -0,0 +1,47 @@
+package ch.zhaw.catan.structure;
+
+import ch.zhaw.hexboard.Label;
+import org.junit.jupiter.api.Test;
+
+import static ch.zhaw.catan.game.Config.Faction.BLUE;
+import static ch.zhaw.catan.game.Config.Faction.RED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for the {@link StructureLabelProvider} class.
+ */
+class StructureLabelProviderTest {
+
+    private final StructureLabelProvider labelProvider = new StructureLabelProvider();
+
+    /**
+     * Tests that the same cached {@link Label} is returned for structures of the same type and faction.
+     */
+    @Test
+    void testLabelIsCachedPerTypeAndFaction() {
+        assertSame(labelProvider.getLabel(Settlement.of(RED)), labelProvider.getLabel(Settlement.of(RED)));
+        assertNotSame(labelProvider.getLabel(Settlement.of(RED)), labelProvider.getLabel(City.of(RED)));
+        assertNotSame(labelProvider.getLabel(Road.of(RED)), labelProvider.getLabel(Road.of(BLUE)));
+    }
+
+    /**
+     * Tests that the cached {@link Label} matches the string representation of the structure.
+     */
+    @Test
+    void testLabelMatchesToString() {
+        for (Structure structure : new Structure[]{Settlement.of(BLUE), City.of(RED), Road.of(BLUE)}) {
+            assertEquals(structure.toString(), labelProvider.getLabel(structure).toString());
+        }
+    }
+
+    /**
+     * Tests that the string representation is cached per type and faction.
+     */
+    @Test
+    void testToStringIsCached() {
+        assertSame(City.of(BLUE).toString(), City.of(BLUE).toString());
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Point;
+import java.util.List;
 
 /***
  * <p>
@@ -71,6 +72,31 @@ class HexBoardTest {
                 () -> board.getEdge(new Point(0, 2), new Point(3, 1)));
     }
 
+    @Test
+    void adjacentEdgesTest() {
+        board.setEdge(corner[0], corner[1], "01");
+        board.setEdge(corner[5], corner[0], "50");
+        board.setEdge(corner[2], corner[3], "23");
+        Assertions.assertEquals(2, board.getAdjacentEdges(corner[0]).size());
+        Assertions.assertTrue(board.getAdjacentEdges(corner[0]).containsAll(List.of("01", "50")));
+        Assertions.assertEquals(List.of("23"), board.getAdjacentEdges(corner[3]));
+        Assertions.assertTrue(board.getAdjacentEdges(new Point(2, 2)).isEmpty());
+    }
+
+    // Annotation retrieval
+    @Test
+    void fieldAnnotationTest() {
+        Point field = new Point(7, 5);
+        board.addField(new Point(9, 5), "95");
+        board.addFieldAnnotation(field, corner[1], "A1");
+        board.addFieldAnnotation(field, corner[2], "A2");
+        board.addFieldAnnotation(new Point(9, 5), corner[1], "B1");
+        Assertions.assertEquals(2, board.getFieldAnnotationsForField(field).size());
+        Assertions.assertTrue(board.getFieldAnnotationsForCorner(corner[1]).containsAll(List.of("A1", "B1")));
+        Assertions.assertEquals(List.of("A2"), board.getFieldAnnotationsForCorner(corner[2]));
+        Assertions.assertTrue(board.getFieldAnnotationsForCorner(new Point(7, 1)).isEmpty());
+    }
+
     // Corner retrieval
     @Test
     void cornerTest() {
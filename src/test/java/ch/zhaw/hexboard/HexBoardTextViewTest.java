@@ -0,0 +1,61 @@
+package ch.zhaw.hexboard;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+/***
+ * <p>
+ * Tests for the class {@link HexBoardTextView}.
+ * </p>
+ */
+class HexBoardTextViewTest {
+    private HexBoard<String, String, String, String> board;
+    private HexBoardTextView<String, String, String, String> view;
+
+    /**
+     * Setup for a test - Instantiates a board with the fields AA at (3,5) and
+     * BB at (11,5).
+     */
+    @BeforeEach
+    void setUp() {
+        board = new HexBoard<>();
+        board.addField(new Point(3, 5), "AA");
+        board.addField(new Point(11, 5), "BB");
+        view = new HexBoardTextView<>(board);
+    }
+
+    @Test
+    void wholeWindowTest() {
+        Assertions.assertEquals(view.toString(),
+                view.toString(0, 0, board.getMaxCoordinateX(), board.getMaxCoordinateY()));
+        Assertions.assertEquals(view.toString(), view.toString(-5, -5, 100, 100));
+    }
+
+    @Test
+    void windowShowsOnlyItsFieldsTest() {
+        String window = view.toString(9, 0, 14, 8);
+        Assertions.assertTrue(window.contains("BB"));
+        Assertions.assertFalse(window.contains("AA"));
+        Assertions.assertEquals(3 * 5, window.split(System.lineSeparator()).length);
+
+        window = view.toString(0, 0, 5, 8);
+        Assertions.assertTrue(window.contains("AA"));
+        Assertions.assertFalse(window.contains("BB"));
+    }
+
+    @Test
+    void windowStartsWithCornerLineTest() {
+        String[] window = view.toString(1, 4, 14, 8).split(System.lineSeparator());
+        String[] whole = view.toString(0, 3, 14, 8).split(System.lineSeparator());
+        Assertions.assertArrayEquals(whole, window);
+    }
+
+    @Test
+    void emptyWindowTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.toString(5, 0, 4, 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.toString(0, 8, 4, 7));
+    }
+}